@@ -0,0 +1,51 @@
+plugins {
+    java
+    id("me.champeau.jmh") version "0.7.3"
+}
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    jmh(platform("org.springframework.boot:spring-boot-dependencies:3.5.8"))
+    jmh(project(":product"))
+    jmh(project(":inventory"))
+    jmh("org.springframework.boot:spring-boot")
+    jmh("org.springframework.data:spring-data-jpa")
+    jmh("jakarta.persistence:jakarta.persistence-api")
+    jmh("org.springframework:spring-web")
+    jmh("org.springframework:spring-test")
+    jmh("org.apache.tomcat.embed:tomcat-embed-core") {
+        exclude(group = "org.apache.tomcat", module = "tomcat-annotations-api")
+    }
+    jmh("io.micrometer:micrometer-core")
+    jmh("com.fasterxml.jackson.core:jackson-databind")
+    jmh("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor")
+    jmh("org.mapstruct:mapstruct:1.6.3")
+    jmh("ch.qos.logback:logback-classic")
+    jmh("com.h2database:h2")
+    jmh("org.openjdk.jol:jol-core:0.17")
+}
+
+jmh {
+    jmhVersion = "1.37"
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("results/jmh/results.json")
+
+    val filter = findProperty("jmhIncludes") as String?
+    if (filter != null) {
+        includes = listOf(filter)
+    }
+}
+
+tasks.register<JavaExec>("catalogFootprint") {
+    description = "Prints the heap retained per product by the catalog replica, measured with JOL"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass = "com.link.benchmarks.product.CatalogFootprint"
+    jvmArgs("-Djdk.attach.allowAttachSelf=true", "-Xmx4g")
+}
@@ -0,0 +1,112 @@
+package com.link.benchmarks.inventory;
+
+import com.link.benchmarks.inventory.support.SlowProductClientPort;
+import com.link.inventory.InventoryApplication;
+import com.link.inventory.domain.api.LowStockAlertServicePort;
+import com.link.inventory.domain.model.Inventory;
+import com.link.inventory.domain.spi.IdempotencyPersistencePort;
+import com.link.inventory.domain.spi.InventoryPersistencePort;
+import com.link.inventory.domain.spi.ProductClientPort;
+import com.link.inventory.domain.spi.TransactionPort;
+import com.link.inventory.domain.usecase.InventoryUseCase;
+import com.link.inventory.infrastructure.out.jpa.entity.InventoryEntity;
+import com.link.inventory.infrastructure.out.jpa.repository.InventoryRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class InventoryContentionBenchmark {
+
+    private static final int INITIAL_QUANTITY = 1_000_000;
+
+    @Param({"legacy", "split"})
+    public String flow;
+
+    @Param({"1", "4"})
+    public int hotRows;
+
+    @Param({"20"})
+    public long productLatencyMillis;
+
+    private ConfigurableApplicationContext context;
+    private InventoryPersistencePort persistencePort;
+    private TransactionPort transactionPort;
+    private ProductClientPort productClientPort;
+    private InventoryUseCase inventoryUseCase;
+    private long[] inventoryIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(InventoryApplication.class)
+                .logStartupInfo(false)
+                .run("--spring.config.location=classpath:/benchmarks/inventory.properties");
+
+        persistencePort = context.getBean(InventoryPersistencePort.class);
+        transactionPort = context.getBean(TransactionPort.class);
+        productClientPort = new SlowProductClientPort(productLatencyMillis);
+        inventoryUseCase = new InventoryUseCase(
+                persistencePort,
+                productClientPort,
+                transactionPort,
+                context.getBean(LowStockAlertServicePort.class),
+                context.getBean(IdempotencyPersistencePort.class)
+        );
+
+        List<InventoryEntity> seed = new ArrayList<>(hotRows);
+        for (long productId = 1; productId <= hotRows; productId++) {
+            seed.add(new InventoryEntity(null, productId, INITIAL_QUANTITY, "Warehouse A", Instant.now()));
+        }
+        inventoryIds = context.getBean(InventoryRepository.class).saveAll(seed).stream()
+                .mapToLong(InventoryEntity::getId)
+                .toArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Inventory updateQuantity() {
+        long inventoryId = inventoryIds[ThreadLocalRandom.current().nextInt(inventoryIds.length)];
+        int change = ThreadLocalRandom.current().nextBoolean() ? 1 : -1;
+
+        return "legacy".equals(flow)
+                ? legacyUpdateQuantity(inventoryId, change)
+                : inventoryUseCase.updateQuantity(inventoryId, change, "BENCHMARK", null);
+    }
+
+    // Previous flow as it was: plain read, save and product lookup inside the handler's transaction, so the
+    // connection was held across the HTTP call. Nothing locked the row, so concurrent changes could be lost
+    private Inventory legacyUpdateQuantity(long inventoryId, int change) {
+        return transactionPort.inTransaction(() -> {
+            Inventory inventory = persistencePort.findById(inventoryId).orElseThrow();
+            inventory.setQuantity(inventory.getQuantity() + change);
+            inventory.setLastUpdated(Instant.now());
+            Inventory updated = persistencePort.save(inventory);
+            updated.setProductName(productClientPort.getProductById(updated.getProductId()).getProductName());
+            return updated;
+        });
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.link.benchmarks.inventory;
+
+import com.link.inventory.application.dto.InventoryResponse;
+import com.link.inventory.application.mappers.InventoryResponseMapper;
+import com.link.inventory.domain.model.Inventory;
+import com.link.inventory.infrastructure.out.jpa.entity.InventoryEntity;
+import com.link.inventory.infrastructure.out.jpa.mapper.InventoryEntityMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InventoryMapperBenchmark {
+
+    private InventoryEntityMapper inventoryEntityMapper;
+    private InventoryResponseMapper inventoryResponseMapper;
+
+    private Inventory inventory;
+    private InventoryEntity inventoryEntity;
+
+    @Setup
+    public void setUp() {
+        inventoryEntityMapper = Mappers.getMapper(InventoryEntityMapper.class);
+        inventoryResponseMapper = Mappers.getMapper(InventoryResponseMapper.class);
+
+        Instant now = Instant.now();
+        inventory = new Inventory(1L, 5L, "iPhone 15 Pro", 100, "Warehouse A - Section 3", now);
+        inventoryEntity = new InventoryEntity(1L, 5L, 100, "Warehouse A - Section 3", now);
+    }
+
+    @Benchmark
+    public Inventory entityToDomain() {
+        return inventoryEntityMapper.toDomain(inventoryEntity);
+    }
+
+    @Benchmark
+    public InventoryEntity domainToEntity() {
+        return inventoryEntityMapper.toEntity(inventory);
+    }
+
+    @Benchmark
+    public InventoryResponse domainToResponse() {
+        return inventoryResponseMapper.toResponse(inventory);
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.link.benchmarks.inventory;
+
+import com.link.benchmarks.inventory.support.DirectTransactionPort;
+import com.link.benchmarks.inventory.support.InMemoryInventoryPersistencePort;
+import com.link.benchmarks.inventory.support.InMemoryReorderThresholdPersistencePort;
+import com.link.benchmarks.inventory.support.NoOpIdempotencyPersistencePort;
+import com.link.benchmarks.inventory.support.StubProductClientPort;
+import com.link.inventory.domain.model.IdempotencyKey;
+import com.link.inventory.domain.model.Inventory;
+import com.link.inventory.domain.usecase.InventoryUseCase;
+import com.link.inventory.domain.usecase.LowStockAlertUseCase;
+import com.link.inventory.infrastructure.out.alert.BatchingLowStockAlertPublisher;
+import com.link.inventory.infrastructure.out.alert.InMemoryLowStockAlertNotifier;
+import com.link.inventory.infrastructure.out.idempotency.CachingIdempotencyPersistenceAdapter;
+import com.link.inventory.infrastructure.out.idempotency.IdempotencyCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InventoryUseCaseBenchmark {
+
+    private static final int INVENTORY_SIZE = 1_000;
+    private static final int INITIAL_QUANTITY = 1_000_000;
+
+    private static final int IDEMPOTENCY_CACHE_SIZE = 100_000;
+    private static final String CLIENT = "benchmark";
+    private static final String ROUTE = "PUT /inventory/{id}/quantity";
+
+    private final AtomicLong idempotencyKeys = new AtomicLong();
+
+    private InventoryUseCase inventoryUseCase;
+
+    @Setup
+    public void setUp() {
+        InMemoryInventoryPersistencePort persistencePort = new InMemoryInventoryPersistencePort();
+        for (long productId = 1; productId <= INVENTORY_SIZE; productId++) {
+            persistencePort.save(new Inventory(
+                    null, productId, null, INITIAL_QUANTITY, "Warehouse A", Instant.now()
+            ));
+        }
+        LowStockAlertUseCase lowStockAlertUseCase = new LowStockAlertUseCase(
+                new InMemoryReorderThresholdPersistencePort(),
+                persistencePort,
+                new BatchingLowStockAlertPublisher(new InMemoryLowStockAlertNotifier(), 1_000, 100, new SimpleMeterRegistry())
+        );
+        inventoryUseCase = new InventoryUseCase(
+                persistencePort,
+                new StubProductClientPort(),
+                new DirectTransactionPort(),
+                lowStockAlertUseCase,
+                new CachingIdempotencyPersistenceAdapter(
+                        new NoOpIdempotencyPersistencePort(),
+                        new IdempotencyCache(IDEMPOTENCY_CACHE_SIZE, Duration.ofHours(24)),
+                        new SimpleMeterRegistry()
+                )
+        );
+    }
+
+    @Benchmark
+    public Inventory getInventoryByProductId() {
+        long productId = ThreadLocalRandom.current().nextLong(1, INVENTORY_SIZE + 1);
+        return inventoryUseCase.getInventoryByProductId(productId);
+    }
+
+    @Benchmark
+    public Inventory updateQuantity() {
+        long inventoryId = ThreadLocalRandom.current().nextLong(1, INVENTORY_SIZE + 1);
+        int change = ThreadLocalRandom.current().nextBoolean() ? 1 : -1;
+        return inventoryUseCase.updateQuantity(inventoryId, change, "BENCHMARK", null);
+    }
+
+    // Fresh key on every call: miss in the dedup cache, record saved and cached after the change. Built per call
+    // as the controller does, so the scoping digest is included
+    @Benchmark
+    public Inventory updateQuantityWithIdempotencyKey() {
+        long inventoryId = ThreadLocalRandom.current().nextLong(1, INVENTORY_SIZE + 1);
+        int change = ThreadLocalRandom.current().nextBoolean() ? 1 : -1;
+        IdempotencyKey key = new IdempotencyKey(CLIENT, ROUTE, "bench-" + idempotencyKeys.incrementAndGet());
+        return inventoryUseCase.updateQuantity(inventoryId, change, "BENCHMARK", key);
+    }
+
+}
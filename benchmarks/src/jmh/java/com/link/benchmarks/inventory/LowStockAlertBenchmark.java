@@ -0,0 +1,90 @@
+package com.link.benchmarks.inventory;
+
+import com.link.benchmarks.inventory.support.InMemoryInventoryPersistencePort;
+import com.link.benchmarks.inventory.support.InMemoryReorderThresholdPersistencePort;
+import com.link.inventory.domain.model.Inventory;
+import com.link.inventory.domain.model.LowStockAlert;
+import com.link.inventory.domain.model.ReorderThreshold;
+import com.link.inventory.domain.usecase.LowStockAlertUseCase;
+import com.link.inventory.infrastructure.out.alert.BatchingLowStockAlertPublisher;
+import com.link.inventory.infrastructure.out.alert.InMemoryLowStockAlertNotifier;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// Cost added to updateQuantity by the threshold check, per outcome, against an in-memory threshold store:
+// the database round trips (one primary-key read, plus a conditional UPDATE on a crossing) are not included
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LowStockAlertBenchmark {
+
+    private static final int THRESHOLDS = 10_000;
+    private static final int FLUSH_EVERY = 512;
+
+    private LowStockAlertUseCase lowStockAlertUseCase;
+    private BatchingLowStockAlertPublisher publisher;
+
+    private Inventory withoutThreshold;
+    private Inventory aboveThreshold;
+    private Inventory belowThreshold;
+    private Inventory crossing;
+    private int crossings;
+
+    @Setup
+    public void setUp() {
+        InMemoryInventoryPersistencePort inventoryPersistencePort = new InMemoryInventoryPersistencePort();
+        InMemoryReorderThresholdPersistencePort thresholdPersistencePort = new InMemoryReorderThresholdPersistencePort();
+        for (long productId = 1; productId <= THRESHOLDS; productId++) {
+            inventoryPersistencePort.save(new Inventory(null, productId, null, 100, "Warehouse A", Instant.now()));
+            thresholdPersistencePort.save(ReorderThreshold.unalerted(productId, 10, 0));
+        }
+
+        publisher = new BatchingLowStockAlertPublisher(
+                new InMemoryLowStockAlertNotifier(), FLUSH_EVERY * 2, 100, new SimpleMeterRegistry()
+        );
+        lowStockAlertUseCase = new LowStockAlertUseCase(thresholdPersistencePort, inventoryPersistencePort, publisher);
+
+        withoutThreshold = new Inventory(1L, THRESHOLDS + 1L, null, 0, "Warehouse A", Instant.now());
+        aboveThreshold = new Inventory(2L, 2L, null, 100, "Warehouse A", Instant.now());
+        belowThreshold = new Inventory(3L, 3L, null, 5, "Warehouse A", Instant.now());
+        crossing = new Inventory(4L, 4L, null, 100, "Warehouse A", Instant.now());
+
+        lowStockAlertUseCase.onQuantityChanged(belowThreshold);
+    }
+
+    @Benchmark
+    public Optional<LowStockAlert> noThreshold() {
+        return lowStockAlertUseCase.onQuantityChanged(withoutThreshold);
+    }
+
+    @Benchmark
+    public Optional<LowStockAlert> aboveThreshold() {
+        return lowStockAlertUseCase.onQuantityChanged(aboveThreshold);
+    }
+
+    @Benchmark
+    public Optional<LowStockAlert> alreadyAlerted() {
+        return lowStockAlertUseCase.onQuantityChanged(belowThreshold);
+    }
+
+    // Every other call raises an alert; includes the amortized cost of draining the queue on this thread
+    @Benchmark
+    public void crossingThreshold() {
+        crossing.setQuantity(crossing.getQuantity() == 5 ? 100 : 5);
+        lowStockAlertUseCase.onQuantityChanged(crossing).ifPresent(lowStockAlertUseCase::publish);
+        if (++crossings % FLUSH_EVERY == 0) {
+            publisher.flush();
+        }
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.link.benchmarks.inventory;
+
+import com.link.benchmarks.inventory.support.SlowProductClientPort;
+import com.link.inventory.domain.model.Product;
+import com.link.inventory.domain.spi.ProductClientPort;
+import com.link.inventory.infrastructure.out.coalescing.CoalescingProductClientAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 8 threads looking up products over a 5 ms link; fewer hot products means more calls to collapse
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class ProductClientCoalescingBenchmark {
+
+    @Param({"direct", "coalesced"})
+    public String client;
+
+    @Param({"1", "8", "1000"})
+    public int hotProducts;
+
+    @Param({"5"})
+    public long productLatencyMillis;
+
+    private ProductClientPort productClientPort;
+
+    @Setup
+    public void setUp() {
+        ProductClientPort slowClient = new SlowProductClientPort(productLatencyMillis);
+        productClientPort = "coalesced".equals(client)
+                ? new CoalescingProductClientAdapter(slowClient, new SimpleMeterRegistry())
+                : slowClient;
+    }
+
+    @Benchmark
+    public Product getProductById() {
+        long productId = ThreadLocalRandom.current().nextLong(hotProducts) + 1;
+        return productClientPort.getProductById(productId);
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.link.benchmarks.inventory.support;
+
+import com.link.inventory.domain.spi.TransactionPort;
+
+import java.util.function.Supplier;
+
+public class DirectTransactionPort implements TransactionPort {
+
+    @Override
+    public <T> T inTransaction(Supplier<T> work) {
+        return work.get();
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.link.benchmarks.inventory.support;
+
+import com.link.inventory.domain.model.Inventory;
+import com.link.inventory.domain.model.InventoryCursor;
+import com.link.inventory.domain.model.InventoryFilter;
+import com.link.inventory.domain.model.InventorySort;
+import com.link.inventory.domain.spi.InventoryPersistencePort;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class InMemoryInventoryPersistencePort implements InventoryPersistencePort {
+
+    private final Map<Long, Inventory> inventoriesById = new ConcurrentHashMap<>();
+    private final Map<Long, Long> idsByProductId = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Override
+    public Optional<Inventory> findByProductId(Long productId) {
+        Long id = idsByProductId.get(productId);
+        return id == null ? Optional.empty() : findById(id);
+    }
+
+    @Override
+    public Optional<Inventory> findById(Long id) {
+        Inventory inventory = inventoriesById.get(id);
+        return inventory == null ? Optional.empty() : Optional.of(copyOf(inventory.getId(), inventory));
+    }
+
+    @Override
+    public Optional<Inventory> findByIdForUpdate(Long id) {
+        return findById(id);
+    }
+
+    @Override
+    public Inventory save(Inventory inventory) {
+        long id = inventory.getId() != null ? inventory.getId() : sequence.incrementAndGet();
+        Inventory saved = copyOf(id, inventory);
+        inventoriesById.put(id, saved);
+        idsByProductId.put(saved.getProductId(), id);
+        return copyOf(id, saved);
+    }
+
+    @Override
+    public boolean existsByProductId(Long productId) {
+        return idsByProductId.containsKey(productId);
+    }
+
+    @Override
+    public List<Inventory> findInventories(InventoryFilter filter, InventorySort sort, InventoryCursor after, int limit) {
+        Comparator<Inventory> order = comparator(sort);
+        Inventory last = after == null ? null
+                : new Inventory(after.getId(), null, null, after.getQuantity(), null, after.getLastUpdated());
+        return inventoriesById.values().stream()
+                .filter(inventory -> matches(filter, inventory))
+                .filter(inventory -> last == null || order.compare(inventory, last) > 0)
+                .sorted(order)
+                .limit(limit)
+                .map(inventory -> copyOf(inventory.getId(), inventory))
+                .toList();
+    }
+
+    private static boolean matches(InventoryFilter filter, Inventory inventory) {
+        return (filter.getLocation() == null || filter.getLocation().equals(inventory.getLocation()))
+                && (filter.getMinQuantity() == null || inventory.getQuantity() >= filter.getMinQuantity())
+                && (filter.getMaxQuantity() == null || inventory.getQuantity() <= filter.getMaxQuantity())
+                && (filter.getUpdatedAfter() == null || !inventory.getLastUpdated().isBefore(filter.getUpdatedAfter()))
+                && (filter.getUpdatedBefore() == null || inventory.getLastUpdated().isBefore(filter.getUpdatedBefore()));
+    }
+
+    private static Comparator<Inventory> comparator(InventorySort sort) {
+        Comparator<Inventory> byId = Comparator.comparing(Inventory::getId);
+        return switch (sort) {
+            case ID -> byId;
+            case QUANTITY -> Comparator.comparing(Inventory::getQuantity).thenComparing(byId);
+            case LAST_UPDATED -> Comparator.comparing(Inventory::getLastUpdated).thenComparing(byId);
+        };
+    }
+
+    private Inventory copyOf(Long id, Inventory inventory) {
+        return new Inventory(
+                id,
+                inventory.getProductId(),
+                null,
+                inventory.getQuantity(),
+                inventory.getLocation(),
+                inventory.getLastUpdated()
+        );
+    }
+
+}
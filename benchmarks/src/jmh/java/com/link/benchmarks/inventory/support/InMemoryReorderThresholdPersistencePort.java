@@ -0,0 +1,46 @@
+package com.link.benchmarks.inventory.support;
+
+import com.link.inventory.domain.model.ReorderThreshold;
+import com.link.inventory.domain.spi.ReorderThresholdPersistencePort;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class InMemoryReorderThresholdPersistencePort implements ReorderThresholdPersistencePort {
+
+    private final Map<Long, ReorderThreshold> thresholdsByProductId = new ConcurrentHashMap<>();
+
+    @Override
+    public ReorderThreshold save(ReorderThreshold reorderThreshold) {
+        thresholdsByProductId.put(reorderThreshold.getProductId(), reorderThreshold);
+        return reorderThreshold;
+    }
+
+    @Override
+    public Optional<ReorderThreshold> findByProductId(Long productId) {
+        return Optional.ofNullable(thresholdsByProductId.get(productId));
+    }
+
+    // Same compare-and-set as the conditional UPDATE in the JPA adapter
+    @Override
+    public boolean markAlerted(Long productId) {
+        AtomicBoolean changed = new AtomicBoolean();
+        thresholdsByProductId.computeIfPresent(productId, (id, threshold) -> {
+            if (threshold.isAlerted()) {
+                return threshold;
+            }
+            changed.set(true);
+            return new ReorderThreshold(id, threshold.getThreshold(), threshold.getHysteresis(), true);
+        });
+        return changed.get();
+    }
+
+    @Override
+    public void clearAlert(Long productId) {
+        thresholdsByProductId.computeIfPresent(productId, (id, threshold) ->
+                new ReorderThreshold(id, threshold.getThreshold(), threshold.getHysteresis(), false));
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.link.benchmarks.inventory.support;
+
+import com.link.inventory.domain.model.IdempotencyRecord;
+import com.link.inventory.domain.spi.IdempotencyPersistencePort;
+
+import java.util.Optional;
+
+// Stands in for the table behind the idempotency cache; nothing is kept, so memory stays flat over long runs
+public class NoOpIdempotencyPersistencePort implements IdempotencyPersistencePort {
+
+    @Override
+    public Optional<IdempotencyRecord> findByKey(String key) {
+        return Optional.empty();
+    }
+
+    @Override
+    public void save(IdempotencyRecord record) {
+    }
+
+}
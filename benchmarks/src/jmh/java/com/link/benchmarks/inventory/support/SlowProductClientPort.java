@@ -0,0 +1,46 @@
+package com.link.benchmarks.inventory.support;
+
+import com.link.inventory.domain.model.Product;
+import com.link.inventory.domain.spi.ProductClientPort;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+public class SlowProductClientPort implements ProductClientPort {
+
+    private final long latencyMillis;
+
+    public SlowProductClientPort(long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    @Override
+    public Product getProductById(Long productId) {
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return new Product(productId, "Product " + productId);
+    }
+
+    @Override
+    public Map<Long, Product> getProductsByIds(Collection<Long> productIds) {
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        Map<Long, Product> products = new HashMap<>(productIds.size());
+        for (Long productId : productIds) {
+            products.put(productId, new Product(productId, "Product " + productId));
+        }
+        return products;
+    }
+
+    @Override
+    public void evictProduct(Long productId) {
+    }
+
+}
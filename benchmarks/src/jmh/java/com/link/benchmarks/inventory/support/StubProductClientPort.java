@@ -0,0 +1,30 @@
+package com.link.benchmarks.inventory.support;
+
+import com.link.inventory.domain.model.Product;
+import com.link.inventory.domain.spi.ProductClientPort;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+public class StubProductClientPort implements ProductClientPort {
+
+    @Override
+    public Product getProductById(Long productId) {
+        return new Product(productId, "Product " + productId);
+    }
+
+    @Override
+    public Map<Long, Product> getProductsByIds(Collection<Long> productIds) {
+        Map<Long, Product> products = new HashMap<>(productIds.size());
+        for (Long productId : productIds) {
+            products.put(productId, new Product(productId, "Product " + productId));
+        }
+        return products;
+    }
+
+    @Override
+    public void evictProduct(Long productId) {
+    }
+
+}
@@ -0,0 +1,125 @@
+package com.link.benchmarks.product;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.link.product.domain.utils.Constants;
+import com.link.product.infrastructure.configuration.security.ApiKeyAuthFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ApiKeyAuthFilterBenchmark {
+
+    private static final String API_KEY = "mi-clave-secreta-2025";
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    @Param({"valid", "invalid"})
+    public String key;
+
+    private OncePerRequestFilter legacyFilter;
+    private OncePerRequestFilter filter;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+
+        ((Logger) LoggerFactory.getLogger(ApiKeyAuthFilter.class)).setLevel(Level.OFF);
+
+        legacyFilter = new LegacyApiKeyAuthFilter(API_KEY);
+        filter = new ApiKeyAuthFilter(API_KEY, List.of("rotated-key-1", "rotated-key-2"));
+
+        request = new MockHttpServletRequest("GET", "/product/42");
+        request.addHeader(Constants.HEADER_X_API_KEY, "valid".equals(key) ? API_KEY : "mi-clave-secreta-2024");
+    }
+
+    @Benchmark
+    public MockHttpServletResponse legacyFilter() throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        legacyFilter.doFilter(request, response, NO_OP_CHAIN);
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse precomputedFilter() throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, NO_OP_CHAIN);
+        return response;
+    }
+
+    // Copy of the filter before the precomputed path, kept as the baseline.
+    static class LegacyApiKeyAuthFilter extends OncePerRequestFilter {
+
+        private final String validApiKey;
+
+        LegacyApiKeyAuthFilter(String validApiKey) {
+            this.validApiKey = validApiKey;
+        }
+
+        @Override
+        protected boolean shouldNotFilter(HttpServletRequest request) {
+            String path = request.getRequestURI();
+            return path.startsWith("/swagger-ui") ||
+                    path.startsWith("/v3/api-docs") ||
+                    path.equals("/swagger-ui.html") ||
+                    path.startsWith("/actuator/health");
+        }
+
+        @Override
+        protected void doFilterInternal(
+                HttpServletRequest request,
+                HttpServletResponse response,
+                FilterChain filterChain
+        ) throws ServletException, IOException {
+
+            if ("OPTIONS".equalsIgnoreCase(request.getMethod())) {
+                response.setStatus(HttpServletResponse.SC_OK);
+                return;
+            }
+
+            String apiKey = request.getHeader(Constants.HEADER_X_API_KEY);
+
+            if (!validApiKey.equals(apiKey)) {
+                response.setStatus(HttpStatus.UNAUTHORIZED.value());
+                response.setContentType(Constants.JSON_API_MEDIA_TYPE);
+                response.getWriter().write(String.format("""
+                    {
+                        "errors": [{
+                            "status": "%s",
+                            "title": "%s",
+                            "detail": "%s"
+                        }]
+                    }
+                    """,
+                        Constants.STATUS_401,
+                        Constants.UNAUTHORIZED_TITLE,
+                        Constants.INVALID_API_KEY_DETAIL
+                ));
+                return;
+            }
+
+            filterChain.doFilter(request, response);
+        }
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.link.benchmarks.product;
+
+import com.link.product.domain.model.Product;
+import com.link.product.domain.model.ProductChange;
+import com.link.product.infrastructure.out.replica.CatalogSnapshot;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+// Heap retained per product, measured with JOL: the catalog as Product rows (each row brings its own strings,
+// as rows read through JDBC do) against the replica snapshot built from the same rows. The snapshot figure also
+// pays for its five sorted orderings and the id index. Run with ./gradlew :benchmarks:catalogFootprint
+public final class CatalogFootprint {
+
+    private static final int[] CATALOG_SIZES = {100_000, 300_000};
+    private static final int CATEGORIES = 20;
+    private static final int BRANDS = 50;
+    private static final int DESCRIPTION_LENGTH = 500;
+
+    private CatalogFootprint() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static void main(String[] args) {
+
+        for (int catalogSize : CATALOG_SIZES) {
+
+            List<Product> rows = rows(catalogSize);
+            GraphLayout domain = GraphLayout.parseInstance((Object) rows.toArray());
+
+            List<ProductChange> changes = new ArrayList<>(catalogSize);
+            for (Product row : rows) {
+                changes.add(new ProductChange(row.getId(), row.getId(), Instant.EPOCH, false, row));
+            }
+            CatalogSnapshot snapshot = CatalogSnapshot.EMPTY.apply(changes, catalogSize);
+            GraphLayout replica = GraphLayout.parseInstance(snapshot);
+
+            System.out.printf("%n%,d products%n", catalogSize);
+            System.out.printf("  Product rows:     %,d bytes/product%n", domain.totalSize() / catalogSize);
+            System.out.printf("  Replica snapshot: %,d bytes/product%n", replica.totalSize() / catalogSize);
+            System.out.println(domain.toFootprint());
+            System.out.println(replica.toFootprint());
+        }
+
+    }
+
+    private static List<Product> rows(int catalogSize) {
+
+        String text = "Portátil profesional con pantalla OLED de 15,6 pulgadas, 32 GB de RAM y 1 TB de SSD. ";
+        List<Product> rows = new ArrayList<>(catalogSize);
+
+        for (long id = 1; id <= catalogSize; id++) {
+            String description = (id + " " + text.repeat(DESCRIPTION_LENGTH / text.length() + 1))
+                    .substring(0, DESCRIPTION_LENGTH);
+            rows.add(new Product(
+                    id,
+                    "Laptop Dell XPS 15 #" + id,
+                    description,
+                    (double) (1_000_000 + id * 100),
+                    "Category " + id % CATEGORIES,
+                    "Brand " + id % BRANDS,
+                    "https://example.com/images/" + id + ".jpg"
+            ));
+        }
+
+        return rows;
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.link.benchmarks.product;
+
+import com.link.benchmarks.product.support.ProductFixtures;
+import com.link.product.domain.model.Product;
+import com.link.product.domain.model.ProductChange;
+import com.link.product.domain.model.ProductField;
+import com.link.product.infrastructure.out.replica.CatalogSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Reads served by the replica snapshot, and the cost of one refresh that carries a handful of updated products
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CatalogReplicaBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int UPDATES_PER_REFRESH = 10;
+    private static final Set<ProductField> SUMMARY_FIELDS = EnumSet.of(ProductField.PRODUCT_NAME, ProductField.PRICE);
+
+    @Param({"100000", "300000"})
+    public int catalogSize;
+
+    private CatalogSnapshot snapshot;
+
+    @Setup
+    public void setUp() {
+        List<ProductChange> changes = new ArrayList<>(catalogSize);
+        for (long id = 1; id <= catalogSize; id++) {
+            changes.add(new ProductChange(id, id, Instant.EPOCH, false, ProductFixtures.product(id)));
+        }
+        snapshot = CatalogSnapshot.EMPTY.apply(changes, catalogSize);
+    }
+
+    @Benchmark
+    public Product getById() {
+        return snapshot.get(ThreadLocalRandom.current().nextLong(1, catalogSize + 1));
+    }
+
+    // A fieldset without the description never decodes its bytes
+    @Benchmark
+    public Product getByIdProjected() {
+        return snapshot.get(ThreadLocalRandom.current().nextLong(1, catalogSize + 1), SUMMARY_FIELDS);
+    }
+
+    @Benchmark
+    public List<Product> pageByPriceDescending() {
+        int page = ThreadLocalRandom.current().nextInt(catalogSize / PAGE_SIZE);
+        return snapshot.page(ProductField.PRICE.getFieldName(), true, page, PAGE_SIZE);
+    }
+
+    // The base snapshot is left untouched, so every invocation applies the same-sized batch to the full catalog
+    @Benchmark
+    public CatalogSnapshot applyUpdates() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<ProductChange> changes = new ArrayList<>(UPDATES_PER_REFRESH);
+        long sequence = snapshot.changeSeq();
+        for (int i = 0; i < UPDATES_PER_REFRESH; i++) {
+            Product product = ProductFixtures.product(random.nextLong(1, catalogSize + 1));
+            product.setPrice(random.nextDouble(1, 10_000_000));
+            changes.add(new ProductChange(product.getId(), ++sequence, Instant.EPOCH, false, product));
+        }
+        return snapshot.apply(changes, sequence);
+    }
+
+}
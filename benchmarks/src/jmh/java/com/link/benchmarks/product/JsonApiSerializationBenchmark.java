@@ -0,0 +1,155 @@
+package com.link.benchmarks.product;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.link.benchmarks.product.support.ProductFixtures;
+import com.link.product.application.dto.JsonApiPageResponse;
+import com.link.product.application.dto.JsonApiResponse;
+import com.link.product.application.dto.PageLinkTemplate;
+import com.link.product.application.dto.PageResponse;
+import com.link.product.application.dto.ProductResponse;
+import com.link.product.application.mappers.ProductResponseMapper;
+import com.link.product.domain.model.ProductField;
+import com.link.product.domain.utils.Constants;
+import com.link.product.infrastructure.configuration.jsonapi.JsonApiConfig;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonApiSerializationBenchmark {
+
+    private static final String BASE_URL = "http://localhost:8081/product/";
+    private static final String LEGACY_PAGE_URL_TEMPLATE = "%s?page=%d&size=%d&sortBy=%s&sortDirection=%s";
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private ObjectMapper cborMapper;
+    private ProductResponse sparseProductResponse;
+    private ProductResponse productResponse;
+    private PageResponse<ProductResponse> pageResponse;
+    private PageLinkTemplate pageLinkTemplate;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(new JsonApiConfig().jsonApiModule())
+                .build();
+
+        ProductResponseMapper productResponseMapper = Mappers.getMapper(ProductResponseMapper.class);
+        List<ProductResponse> content = ProductFixtures.products(pageSize).stream()
+                .map(productResponseMapper::toResponse)
+                .toList();
+
+        cborMapper = Jackson2ObjectMapperBuilder.json()
+                .factory(new CBORFactory())
+                .build();
+
+        productResponse = content.get(0);
+        sparseProductResponse = productResponseMapper.toResponse(
+                ProductFixtures.product(1L),
+                ProductField.parseFieldset("productName")
+        );
+        pageResponse = new PageResponse<>(content, 1, pageSize, 50L * pageSize, 50, false);
+        pageLinkTemplate = new PageLinkTemplate(
+                BASE_URL,
+                pageSize,
+                Constants.SORT_BY_DEFAULT,
+                Constants.SORT_DIRECTION_ASC,
+                ProductField.all()
+        );
+    }
+
+    @Benchmark
+    public byte[] singleResource() throws JsonProcessingException {
+
+        JsonApiResponse<ProductResponse> response = new JsonApiResponse<>(productResponse);
+
+        Map<String, String> links = new HashMap<>();
+        links.put(Constants.LINK_SELF, BASE_URL + productResponse.getId());
+        response.setLinks(links);
+
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] singleResourceCbor() throws JsonProcessingException {
+
+        JsonApiResponse<ProductResponse> response = new JsonApiResponse<>(productResponse);
+        response.setLinks(Map.of(Constants.LINK_SELF, BASE_URL + productResponse.getId()));
+
+        return cborMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] sparseResourceCbor() throws JsonProcessingException {
+
+        JsonApiResponse<ProductResponse> response = new JsonApiResponse<>(sparseProductResponse);
+        response.setLinks(Map.of(Constants.LINK_SELF, BASE_URL + sparseProductResponse.getId()));
+
+        return cborMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] pagedDocument() throws JsonProcessingException {
+
+        JsonApiResponse<List<ProductResponse>> response = new JsonApiResponse<>(pageResponse.getContent());
+
+        int page = pageResponse.getPageNumber();
+        Map<String, String> links = new HashMap<>();
+        links.put(Constants.LINK_SELF, pageUrl(page));
+        links.put(Constants.LINK_FIRST, pageUrl(Constants.FIRST_PAGE));
+        links.put(Constants.LINK_LAST, pageUrl(pageResponse.getTotalPages() - Constants.PAGE_INCREMENT));
+        links.put(Constants.LINK_NEXT, pageUrl(page + Constants.PAGE_INCREMENT));
+        links.put(Constants.LINK_PREV, pageUrl(page - Constants.PAGE_INCREMENT));
+        response.setLinks(links);
+
+        Map<String, Object> meta = new HashMap<>();
+        meta.put(Constants.META_TOTAL_PAGES, pageResponse.getTotalPages());
+        meta.put(Constants.META_TOTAL_ELEMENTS, pageResponse.getTotalElements());
+        meta.put(Constants.META_CURRENT_PAGE, pageResponse.getPageNumber());
+        meta.put(Constants.META_PAGE_SIZE, pageResponse.getPageSize());
+        response.setMeta(meta);
+
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] streamedPagedDocument() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(new JsonApiPageResponse<>(pageResponse, pageLinkTemplate));
+    }
+
+    @Benchmark
+    public byte[] pageResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(pageResponse);
+    }
+
+    private String pageUrl(int page) {
+        return String.format(
+                LEGACY_PAGE_URL_TEMPLATE,
+                BASE_URL,
+                page,
+                pageSize,
+                Constants.SORT_BY_DEFAULT,
+                Constants.SORT_DIRECTION_ASC
+        );
+    }
+
+}
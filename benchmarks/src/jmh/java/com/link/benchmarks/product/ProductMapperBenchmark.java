@@ -0,0 +1,59 @@
+package com.link.benchmarks.product;
+
+import com.link.benchmarks.product.support.ProductFixtures;
+import com.link.product.application.dto.ProductResponse;
+import com.link.product.application.mappers.ProductResponseMapper;
+import com.link.product.domain.model.Product;
+import com.link.product.infrastructure.out.jpa.entity.ProductEntity;
+import com.link.product.infrastructure.out.jpa.mapper.ProductEntityMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProductMapperBenchmark {
+
+    private ProductEntityMapper productEntityMapper;
+    private ProductResponseMapper productResponseMapper;
+
+    private Product product;
+    private ProductEntity productEntity;
+
+    @Setup
+    public void setUp() {
+        productEntityMapper = Mappers.getMapper(ProductEntityMapper.class);
+        productResponseMapper = Mappers.getMapper(ProductResponseMapper.class);
+        product = ProductFixtures.product(42L);
+        productEntity = ProductFixtures.entity(42L);
+    }
+
+    @Benchmark
+    public Product entityToDomain() {
+        return productEntityMapper.toDomain(productEntity);
+    }
+
+    @Benchmark
+    public ProductEntity domainToEntity() {
+        return productEntityMapper.toEntity(product);
+    }
+
+    @Benchmark
+    public ProductResponse domainToResponse() {
+        return productResponseMapper.toResponse(product);
+    }
+
+    @Benchmark
+    public ProductResponse entityToResponse() {
+        return productResponseMapper.toResponse(productEntityMapper.toDomain(productEntity));
+    }
+
+}
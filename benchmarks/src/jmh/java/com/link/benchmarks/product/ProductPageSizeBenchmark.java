@@ -0,0 +1,111 @@
+package com.link.benchmarks.product;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.link.benchmarks.product.support.ProductCatalogContext;
+import com.link.product.application.dto.JsonApiPageResponse;
+import com.link.product.application.dto.PageLinkTemplate;
+import com.link.product.application.dto.PageResponse;
+import com.link.product.application.dto.ProductResponse;
+import com.link.product.application.handler.ProductHandler;
+import com.link.product.domain.model.ProductField;
+import com.link.product.domain.utils.Constants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductPageSizeBenchmark {
+
+    private static final String BASE_URL = "http://localhost:8081/product/";
+
+    @Param({"10", "50", "100", "200"})
+    public int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private ProductHandler productHandler;
+    private ObjectMapper objectMapper;
+    private PageLinkTemplate pageLinkTemplate;
+    private int pages;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = ProductCatalogContext.start();
+        productHandler = context.getBean(ProductHandler.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+        pageLinkTemplate = new PageLinkTemplate(
+                BASE_URL,
+                pageSize,
+                Constants.SORT_BY_DEFAULT,
+                Constants.SORT_DIRECTION_ASC,
+                ProductField.all()
+        );
+        pages = ProductCatalogContext.CATALOG_SIZE / pageSize;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public long renderPage() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        objectMapper.writeValue(out, nextPage());
+        return out.count;
+    }
+
+    @Benchmark
+    public long renderPageGzip() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            objectMapper.writeValue(gzip, nextPage());
+        }
+        return out.count;
+    }
+
+    private JsonApiPageResponse<ProductResponse> nextPage() {
+
+        PageResponse<ProductResponse> page = productHandler.getAllProducts(
+                ThreadLocalRandom.current().nextInt(pages),
+                pageSize,
+                Constants.SORT_BY_DEFAULT,
+                Constants.SORT_DIRECTION_ASC,
+                ProductField.all()
+        );
+
+        return new JsonApiPageResponse<>(page, pageLinkTemplate);
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.link.benchmarks.product;
+
+import com.link.benchmarks.product.support.ProductCatalogContext;
+import com.link.product.application.dto.PageResponse;
+import com.link.product.application.dto.ProductResponse;
+import com.link.product.application.handler.ProductHandler;
+import com.link.product.domain.model.ProductField;
+import com.link.product.domain.utils.Constants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductProjectionBenchmark {
+
+    @Param({"", "productName,price"})
+    public String fields;
+
+    @Param({"100"})
+    public int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private ProductHandler productHandler;
+    private Set<ProductField> fieldset;
+    private int pages;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = ProductCatalogContext.start();
+        productHandler = context.getBean(ProductHandler.class);
+        fieldset = ProductField.parseFieldset(fields);
+        pages = ProductCatalogContext.CATALOG_SIZE / pageSize;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public PageResponse<ProductResponse> getAllProducts() {
+        return productHandler.getAllProducts(
+                ThreadLocalRandom.current().nextInt(pages),
+                pageSize,
+                Constants.SORT_BY_DEFAULT,
+                Constants.SORT_DIRECTION_ASC,
+                fieldset
+        );
+    }
+
+    @Benchmark
+    public ProductResponse getProductById() {
+        return productHandler.getProductById(
+                ThreadLocalRandom.current().nextLong(1, ProductCatalogContext.CATALOG_SIZE + 1),
+                fieldset
+        );
+    }
+
+}
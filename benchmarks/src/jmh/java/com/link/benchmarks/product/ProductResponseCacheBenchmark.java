@@ -0,0 +1,109 @@
+package com.link.benchmarks.product;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.link.benchmarks.product.support.ProductCatalogContext;
+import com.link.product.application.dto.JsonApiResponse;
+import com.link.product.application.dto.ProductResponse;
+import com.link.product.application.handler.ProductHandler;
+import com.link.product.domain.model.ProductField;
+import com.link.product.domain.utils.Constants;
+import com.link.product.infrastructure.input.cache.ProductResponseCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// GET /product/{id} for a hot set of products, from lookup to bytes on the response stream: rendered from
+// scratch, serialized from a cached response object, and copied from the response cache
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductResponseCacheBenchmark {
+
+    private static final int HOT_PRODUCTS = 1_000;
+    private static final String BASE_URL = "http://localhost:8081/product/";
+    private static final MediaType JSON_API = MediaType.parseMediaType(Constants.JSON_API_MEDIA_TYPE);
+
+    private final OutputStream responseStream = OutputStream.nullOutputStream();
+
+    private ConfigurableApplicationContext context;
+    private ProductHandler productHandler;
+    private ObjectMapper objectMapper;
+    private Set<ProductField> fieldset;
+    private Map<Long, JsonApiResponse<ProductResponse>> responses;
+    private ProductResponseCache responseCache;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = ProductCatalogContext.start();
+        productHandler = context.getBean(ProductHandler.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+        fieldset = ProductField.all();
+
+        responses = new HashMap<>();
+        responseCache = new ProductResponseCache(
+                Map.of(JSON_API, objectMapper),
+                HOT_PRODUCTS,
+                Duration.ofHours(1),
+                new SimpleMeterRegistry()
+        );
+        for (long id = 1; id <= HOT_PRODUCTS; id++) {
+            JsonApiResponse<ProductResponse> response = response(id);
+            responses.put(id, response);
+            responseCache.render(id, representation(), () -> response);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void cold() throws IOException {
+        objectMapper.writeValue(responseStream, response(hotProduct()));
+    }
+
+    @Benchmark
+    public void dtoCached() throws IOException {
+        objectMapper.writeValue(responseStream, responses.get(hotProduct()));
+    }
+
+    @Benchmark
+    public void byteCached() throws IOException {
+        responseStream.write(responseCache.get(hotProduct(), representation()));
+    }
+
+    private JsonApiResponse<ProductResponse> response(long id) {
+        JsonApiResponse<ProductResponse> response = new JsonApiResponse<>(productHandler.getProductById(id, fieldset));
+        response.setLinks(Map.of(Constants.LINK_SELF, BASE_URL + id));
+        return response;
+    }
+
+    // Built per request, as the controller does
+    private ProductResponseCache.Representation representation() {
+        return new ProductResponseCache.Representation(fieldset, JSON_API);
+    }
+
+    private static long hotProduct() {
+        return ThreadLocalRandom.current().nextLong(1, HOT_PRODUCTS + 1);
+    }
+
+}
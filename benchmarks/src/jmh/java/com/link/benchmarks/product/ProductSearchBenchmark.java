@@ -0,0 +1,74 @@
+package com.link.benchmarks.product;
+
+import com.link.product.infrastructure.out.search.ProductSearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Ranked search over a synthetic catalog; names and descriptions mix words so terms have varied document frequency
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductSearchBenchmark {
+
+    private static final String[] BRANDS = {"Dell", "Apple", "Samsung", "Lenovo", "Sony", "Asus", "Xiaomi", "LG"};
+    private static final String[] KINDS = {"laptop", "phone", "tablet", "monitor", "headphones", "camera", "watch"};
+    private static final String[] TRAITS = {
+            "wireless", "oled", "gaming", "professional", "portable", "bluetooth", "waterproof", "ultralight",
+            "4k", "noise", "cancelling", "fast", "charging", "stereo", "curved", "touchscreen"
+    };
+    private static final String[] QUERIES = {
+            "laptop", "gaming laptop", "samsung phone", "wireless noise cancelling headphones", "oled 4k monitor"
+    };
+
+    @Param({"10000", "100000"})
+    public int catalogSize;
+
+    @Param({"20"})
+    public int pageSize;
+
+    private ProductSearchIndex index;
+
+    @Setup
+    public void setUp() {
+        index = new ProductSearchIndex(2.0);
+        for (long id = 1; id <= catalogSize; id++) {
+            index.put(id, name(id), description(id));
+        }
+    }
+
+    @Benchmark
+    public ProductSearchIndex.Hits search() {
+        String query = QUERIES[ThreadLocalRandom.current().nextInt(QUERIES.length)];
+        return index.search(query, 0, pageSize);
+    }
+
+    @Benchmark
+    public void reindexProduct() {
+        long id = ThreadLocalRandom.current().nextLong(1, catalogSize + 1);
+        index.put(id, name(id), description(id));
+    }
+
+    private static String name(long id) {
+        return BRANDS[(int) (id % BRANDS.length)] + " "
+                + TRAITS[(int) (id % TRAITS.length)] + " "
+                + KINDS[(int) (id % KINDS.length)] + " " + id;
+    }
+
+    private static String description(long id) {
+        StringBuilder description = new StringBuilder();
+        for (int i = 0; i < 6; i++) {
+            description.append(TRAITS[(int) ((id * 31 + i * 7) % TRAITS.length)]).append(' ');
+        }
+        return description.append(KINDS[(int) ((id / 3) % KINDS.length)]).toString();
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.link.benchmarks.product;
+
+import com.link.product.infrastructure.out.search.ProductSuggestIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Autocomplete lookups per keystroke (1 to 3 characters typed) and the cost of the writes that keep the trie current
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProductSuggestBenchmark {
+
+    private static final String[] BRANDS = {"Dell", "Apple", "Samsung", "Lenovo", "Sony", "Asus", "Xiaomi", "LG"};
+    private static final String[] KINDS = {"laptop", "phone", "tablet", "monitor", "headphones", "camera", "watch"};
+    private static final String[] MODELS = {"Pro", "Max", "Air", "Ultra", "Mini", "Plus", "Lite", "Neo"};
+    private static final String[] PREFIXES = {"s", "sa", "sam", "l", "la", "lap", "p", "pr", "pro", "samsung l"};
+
+    @Param({"100000", "300000"})
+    public int catalogSize;
+
+    @Param({"5"})
+    public int limit;
+
+    private ProductSuggestIndex index;
+
+    @Setup
+    public void setUp() {
+        index = new ProductSuggestIndex(10);
+        Map<Long, Long> views = new HashMap<>();
+        for (long id = 1; id <= catalogSize; id++) {
+            index.put(id, name(id));
+            views.put(id, id % 97);
+        }
+        index.addScores(views);
+    }
+
+    @Benchmark
+    public List<ProductSuggestIndex.Suggestion> suggest() {
+        String prefix = PREFIXES[ThreadLocalRandom.current().nextInt(PREFIXES.length)];
+        return index.suggest(prefix, limit);
+    }
+
+    @Benchmark
+    public void renameProduct() {
+        long id = ThreadLocalRandom.current().nextLong(1, catalogSize + 1);
+        index.put(id, name(id));
+    }
+
+    @Benchmark
+    public void applyViews() {
+        long id = ThreadLocalRandom.current().nextLong(1, catalogSize + 1);
+        index.addScores(Map.of(id, 1L));
+    }
+
+    private static String name(long id) {
+        return BRANDS[(int) (id % BRANDS.length)] + " "
+                + KINDS[(int) ((id / BRANDS.length) % KINDS.length)] + " "
+                + MODELS[(int) ((id / 7) % MODELS.length)] + " " + id;
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.link.benchmarks.product;
+
+import com.link.benchmarks.product.support.InMemoryProductPersistencePort;
+import com.link.benchmarks.product.support.ProductFixtures;
+import com.link.product.domain.model.PageDomain;
+import com.link.product.domain.model.Product;
+import com.link.product.domain.model.ProductField;
+import com.link.product.domain.spi.ProductSearchPort;
+import com.link.product.domain.usecase.ProductUseCase;
+import com.link.product.infrastructure.out.event.NoOpProductEventPublisher;
+import com.link.product.infrastructure.out.search.ProductSuggestAdapter;
+import com.link.product.infrastructure.out.search.ProductSuggestIndex;
+import com.link.product.domain.utils.Constants;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProductUseCaseBenchmark {
+
+    private static final int CATALOG_SIZE = 1_000;
+
+    private ProductUseCase productUseCase;
+
+    @Setup
+    public void setUp() {
+        InMemoryProductPersistencePort persistencePort = new InMemoryProductPersistencePort();
+        ProductFixtures.products(CATALOG_SIZE).forEach(persistencePort::saveProduct);
+        productUseCase = new ProductUseCase(
+                persistencePort,
+                new NoOpProductEventPublisher(),
+                new FollowerOnlySearch(),
+                new ProductSuggestAdapter(new ProductSuggestIndex(Constants.SUGGEST_MAX_LIMIT), new SimpleMeterRegistry())
+        );
+    }
+
+    @Benchmark
+    public Product getProductById() {
+        long id = ThreadLocalRandom.current().nextLong(1, CATALOG_SIZE + 1);
+        return productUseCase.getProductById(id, ProductField.all());
+    }
+
+    @Benchmark
+    public Product updateProductById() {
+        long id = ThreadLocalRandom.current().nextLong(1, CATALOG_SIZE + 1);
+        return productUseCase.updateProductById(id, ProductFixtures.product(id));
+    }
+
+    @Benchmark
+    public PageDomain<Product> getAllProducts() {
+        return productUseCase.getAllProducts(
+                Constants.FIRST_PAGE,
+                Integer.parseInt(Constants.SIZE_DEFAULT_VALUE),
+                Constants.SORT_BY_DEFAULT,
+                Constants.SORT_DIRECTION_ASC,
+                ProductField.all()
+        );
+    }
+
+    // The indexes are written by ProductSearchIndexFollower from the change feed, not on the use case's path
+    private static final class FollowerOnlySearch implements ProductSearchPort {
+
+        @Override
+        public void index(Product product) {
+        }
+
+        @Override
+        public void remove(Long id) {
+        }
+
+        @Override
+        public PageDomain<Long> search(String query, int page, int size) {
+            return new PageDomain<>(List.of(), page, size, 0, 0, true);
+        }
+
+    }
+
+}
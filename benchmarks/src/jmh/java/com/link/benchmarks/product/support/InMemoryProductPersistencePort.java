@@ -0,0 +1,154 @@
+package com.link.benchmarks.product.support;
+
+import com.link.product.domain.model.PageDomain;
+import com.link.product.domain.model.Product;
+import com.link.product.domain.model.ProductChange;
+import com.link.product.domain.model.ProductChangePage;
+import com.link.product.domain.model.ProductFacets;
+import com.link.product.domain.model.ProductField;
+import com.link.product.domain.spi.ProductPersistencePort;
+import com.link.product.infrastructure.out.jpa.facet.FacetCounts;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class InMemoryProductPersistencePort implements ProductPersistencePort {
+
+    private final ConcurrentNavigableMap<Long, Product> productsById = new ConcurrentSkipListMap<>();
+    private final Map<String, Long> idsByName = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong changeSequence = new AtomicLong();
+    private final ConcurrentNavigableMap<Long, ProductChange> changesBySequence = new ConcurrentSkipListMap<>();
+    private final Map<Long, Long> lastChangeById = new ConcurrentHashMap<>();
+    private final FacetCounts facetCounts = new FacetCounts(new double[]{500_000, 1_000_000, 2_500_000, 5_000_000});
+
+    @Override
+    public Product saveProduct(Product product) {
+        long id = product.getId() != null ? product.getId() : sequence.incrementAndGet();
+        Product saved = copyOf(id, product);
+        Product previous = productsById.put(id, saved);
+        idsByName.put(saved.getProductName(), id);
+        if (previous != null) {
+            facetCounts.replace(previous, saved);
+        } else {
+            facetCounts.add(saved);
+        }
+        recordChange(id, saved);
+        return saved;
+    }
+
+    @Override
+    public Boolean checkIfProductExists(String productName) {
+        return idsByName.containsKey(productName);
+    }
+
+    @Override
+    public Optional<Product> getProductById(Long id, Set<ProductField> fields) {
+        return Optional.ofNullable(productsById.get(id));
+    }
+
+    @Override
+    public Optional<Product> updateProductById(Long id, Product product) {
+        Product existing = productsById.get(id);
+        if (existing == null) {
+            return Optional.empty();
+        }
+        idsByName.remove(existing.getProductName());
+        return Optional.of(saveProduct(copyOf(id, product)));
+    }
+
+    @Override
+    public void deleteProductById(Long id) {
+        Product removed = productsById.remove(id);
+        if (removed != null) {
+            idsByName.remove(removed.getProductName());
+            facetCounts.remove(removed);
+            recordChange(id, null);
+        }
+    }
+
+    @Override
+    public PageDomain<Product> getAllProducts(
+            int page,
+            int size,
+            String sortBy,
+            String sortDirection,
+            Set<ProductField> fields
+    ) {
+
+        List<Product> all = new ArrayList<>(productsById.values());
+        int from = Math.min(page * size, all.size());
+        int to = Math.min(from + size, all.size());
+        int totalPages = size == 0 ? 0 : (all.size() + size - 1) / size;
+
+        return new PageDomain<>(
+                all.subList(from, to),
+                page,
+                size,
+                all.size(),
+                totalPages,
+                page >= totalPages - 1
+        );
+
+    }
+
+    @Override
+    public List<Product> getProductsByIds(Collection<Long> ids, Set<ProductField> fields) {
+        List<Product> products = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Product product = productsById.get(id);
+            if (product != null) {
+                products.add(product);
+            }
+        }
+        return products;
+    }
+
+    @Override
+    public ProductFacets getProductFacets() {
+        return facetCounts.snapshot();
+    }
+
+    @Override
+    public ProductChangePage getChangesSince(long since, int limit) {
+        List<ProductChange> changes = changesBySequence.tailMap(since, false).values().stream()
+                .limit(limit + 1L)
+                .toList();
+        boolean hasMore = changes.size() > limit;
+        List<ProductChange> page = hasMore ? changes.subList(0, limit) : changes;
+        long nextSince = page.isEmpty() ? since : page.get(page.size() - 1).getSequence();
+        return new ProductChangePage(page, nextSince, hasMore);
+    }
+
+    // Keeps only the latest change of each product, as the products and tombstones tables do
+    private void recordChange(long id, Product product) {
+        long changeSeq = changeSequence.incrementAndGet();
+        changesBySequence.put(changeSeq, new ProductChange(id, changeSeq, Instant.now(), product == null, product));
+        Long previous = lastChangeById.put(id, changeSeq);
+        if (previous != null) {
+            changesBySequence.remove(previous);
+        }
+    }
+
+    private Product copyOf(long id, Product product) {
+        return new Product(
+                id,
+                product.getProductName(),
+                product.getDescription(),
+                product.getPrice(),
+                product.getCategory(),
+                product.getBrand(),
+                product.getImageUrl()
+        );
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.link.benchmarks.product.support;
+
+import com.link.product.ProductApplication;
+import com.link.product.infrastructure.out.jpa.entity.ProductEntity;
+import com.link.product.infrastructure.out.jpa.repository.ProductRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class ProductCatalogContext {
+
+    public static final int CATALOG_SIZE = 50_000;
+
+    private static final int SEED_BATCH_SIZE = 1_000;
+    private static final int DESCRIPTION_LENGTH = 500;
+
+    private ProductCatalogContext() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static ConfigurableApplicationContext start() {
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(ProductApplication.class)
+                .logStartupInfo(false)
+                .run("--spring.config.location=classpath:/benchmarks/product.properties");
+
+        seed(context.getBean(ProductRepository.class));
+
+        return context;
+    }
+
+    private static void seed(ProductRepository repository) {
+
+        List<ProductEntity> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        String description = ProductFixtures.product(1L).getDescription().repeat(10).substring(0, DESCRIPTION_LENGTH);
+
+        for (long id = 1; id <= CATALOG_SIZE; id++) {
+            ProductEntity entity = ProductFixtures.entity(id);
+            entity.setId(null);
+            entity.setDescription(description);
+            batch.add(entity);
+            if (batch.size() == SEED_BATCH_SIZE) {
+                repository.saveAll(batch);
+                batch.clear();
+            }
+        }
+        repository.saveAll(batch);
+    }
+
+}
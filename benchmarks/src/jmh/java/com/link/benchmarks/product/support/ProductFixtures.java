@@ -0,0 +1,48 @@
+package com.link.benchmarks.product.support;
+
+import com.link.product.domain.model.Product;
+import com.link.product.infrastructure.out.jpa.entity.ProductEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class ProductFixtures {
+
+    private ProductFixtures() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static Product product(long id) {
+        return new Product(
+                id,
+                "Laptop Dell XPS 15 #" + id,
+                "High-end professional laptop with 32GB RAM, 1TB SSD and a 15.6 inch OLED display",
+                5500000.0 + id,
+                "Electronics",
+                "Dell",
+                "https://example.com/images/" + id + ".jpg"
+        );
+    }
+
+    public static ProductEntity entity(long id) {
+        Product product = product(id);
+        return new ProductEntity(
+                product.getId(),
+                product.getProductName(),
+                product.getDescription(),
+                product.getPrice(),
+                product.getCategory(),
+                product.getBrand(),
+                product.getImageUrl()
+        );
+    }
+
+    public static List<Product> products(int count) {
+        List<Product> products = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            products.add(product(id));
+        }
+        return products;
+    }
+
+}
@@ -21,6 +21,19 @@ subprojects {
         mavenCentral()
     }
 
+    tasks.withType<JavaCompile> {
+        options.encoding = "UTF-8"
+    }
+
+    tasks.withType<Test> {
+        useJUnitPlatform()
+    }
+}
+
+// The services' shared stack. benchmarks and loadtest only drive the services in-process, so they reach
+// this through their project dependencies and declare the few libraries they compile against themselves
+configure(listOf(project(":product"), project(":inventory"))) {
+
     dependencies {
 
         //Security
@@ -31,6 +44,7 @@ subprojects {
 
         //Web
         implementation("org.springframework.boot:spring-boot-starter-web")
+        implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor")
 
         // BOM Spring Boot compartido
         implementation(platform("org.springframework.boot:spring-boot-dependencies:3.5.8"))
@@ -58,6 +72,14 @@ subprojects {
         // Resilience4j
         implementation("io.github.resilience4j:resilience4j-spring-boot3:2.2.0")
         implementation("io.github.resilience4j:resilience4j-reactor:2.2.0")
+        implementation("io.github.resilience4j:resilience4j-micrometer:2.2.0")
+
+        // Observability
+        implementation("org.springframework.boot:spring-boot-starter-actuator")
+        implementation("org.springframework.boot:spring-boot-starter-aop")
+        runtimeOnly("io.micrometer:micrometer-registry-prometheus")
+        implementation("io.micrometer:micrometer-tracing-bridge-otel")
+        implementation("io.opentelemetry:opentelemetry-exporter-otlp")
 
         // Testing
         testImplementation("org.springframework.boot:spring-boot-starter-test")
@@ -74,8 +96,4 @@ subprojects {
         testImplementation("com.h2database:h2")
 
     }
-
-    tasks.withType<Test> {
-        useJUnitPlatform()
-    }
 }
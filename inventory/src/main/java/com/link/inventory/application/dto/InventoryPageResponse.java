@@ -0,0 +1,20 @@
+package com.link.inventory.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventoryPageResponse {
+
+    private List<InventoryResponse> content;
+    private int size;
+    private String nextCursor;
+
+}
@@ -0,0 +1,24 @@
+package com.link.inventory.application.dto;
+
+import com.link.inventory.domain.utils.Constants;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReorderThresholdRequest {
+
+    @NotNull(message = Constants.REORDER_THRESHOLD_REQUIRED)
+    @Min(value = 0, message = Constants.REORDER_THRESHOLD_MIN)
+    private Integer threshold;
+
+    @Min(value = 0, message = Constants.REORDER_HYSTERESIS_MIN)
+    private Integer hysteresis;
+
+}
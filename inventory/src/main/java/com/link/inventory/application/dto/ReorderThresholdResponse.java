@@ -0,0 +1,18 @@
+package com.link.inventory.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReorderThresholdResponse {
+
+    private Long productId;
+    private Integer threshold;
+    private Integer hysteresis;
+
+}
@@ -1,8 +1,13 @@
 package com.link.inventory.application.handler;
 
+import com.link.inventory.application.dto.InventoryPageResponse;
 import com.link.inventory.application.dto.InventoryRequest;
 import com.link.inventory.application.dto.InventoryResponse;
+import com.link.inventory.application.dto.ReorderThresholdRequest;
+import com.link.inventory.application.dto.ReorderThresholdResponse;
 import com.link.inventory.application.dto.UpdateQuantityRequest;
+import com.link.inventory.domain.model.IdempotencyKey;
+import com.link.inventory.domain.model.InventoryFilter;
 
 public interface InventoryHandler {
 
@@ -10,6 +15,14 @@ public interface InventoryHandler {
 
     InventoryResponse createInventory(InventoryRequest request);
 
-    InventoryResponse updateQuantity(Long inventoryId, UpdateQuantityRequest request);
+    InventoryResponse updateQuantity(Long inventoryId, UpdateQuantityRequest request, IdempotencyKey idempotencyKey);
+
+    InventoryPageResponse searchInventories(InventoryFilter filter, String sortBy, String afterCursor, int size);
+
+    ReorderThresholdResponse setReorderThreshold(Long productId, ReorderThresholdRequest request);
+
+    ReorderThresholdResponse getReorderThreshold(Long productId);
+
+    void onProductCreated(Long productId);
 
 }
@@ -1,24 +1,38 @@
 package com.link.inventory.application.handler;
 
+import com.link.inventory.application.dto.InventoryPageResponse;
 import com.link.inventory.application.dto.InventoryRequest;
 import com.link.inventory.application.dto.InventoryResponse;
+import com.link.inventory.application.dto.ReorderThresholdRequest;
+import com.link.inventory.application.dto.ReorderThresholdResponse;
 import com.link.inventory.application.dto.UpdateQuantityRequest;
+import com.link.inventory.application.mappers.InventoryCursorCodec;
 import com.link.inventory.application.mappers.InventoryRequestMapper;
 import com.link.inventory.application.mappers.InventoryResponseMapper;
 import com.link.inventory.domain.api.InventoryServicePort;
+import com.link.inventory.domain.api.LowStockAlertServicePort;
+import com.link.inventory.domain.model.IdempotencyKey;
 import com.link.inventory.domain.model.Inventory;
+import com.link.inventory.domain.model.InventoryFilter;
+import com.link.inventory.domain.model.InventoryPage;
+import com.link.inventory.domain.model.InventorySort;
+import com.link.inventory.domain.model.ReorderThreshold;
+import com.link.inventory.domain.utils.Constants;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
+// Not transactional: the use case and the JPA adapter open short transactions around the database work only,
+// so the remote product lookups never hold a connection or a row lock
 @Service
-@Transactional
 @RequiredArgsConstructor
 public class InventoryHandlerImpl implements InventoryHandler {
 
     private final InventoryServicePort inventoryServicePort;
     private final InventoryResponseMapper inventoryResponseMapper;
     private final InventoryRequestMapper inventoryRequestMapper;
+    private final LowStockAlertServicePort lowStockAlertServicePort;
 
     @Override
     public InventoryResponse getInventoryByProductId(Long productId) {
@@ -38,15 +52,70 @@ public class InventoryHandlerImpl implements InventoryHandler {
     }
 
     @Override
-    public InventoryResponse updateQuantity(Long inventoryId, UpdateQuantityRequest request) {
+    public InventoryResponse updateQuantity(
+            Long inventoryId,
+            UpdateQuantityRequest request,
+            IdempotencyKey idempotencyKey
+    ) {
 
         Inventory updatedInventory = inventoryServicePort.updateQuantity(
                 inventoryId,
                 request.getQuantityChange(),
-                request.getReason()
+                request.getReason(),
+                idempotencyKey
         );
         return inventoryResponseMapper.toResponse(updatedInventory);
 
     }
 
+    @Override
+    public InventoryPageResponse searchInventories(InventoryFilter filter, String sortBy, String afterCursor, int size) {
+
+        InventoryPage page = inventoryServicePort.searchInventories(
+                filter,
+                InventorySort.fromFieldName(sortBy),
+                InventoryCursorCodec.decode(afterCursor),
+                size
+        );
+
+        List<InventoryResponse> content = page.getContent().stream()
+                .map(inventoryResponseMapper::toResponse)
+                .toList();
+
+        return new InventoryPageResponse(content, page.getSize(), InventoryCursorCodec.encode(page.getNextCursor()));
+
+    }
+
+    @Override
+    public ReorderThresholdResponse setReorderThreshold(Long productId, ReorderThresholdRequest request) {
+
+        ReorderThreshold saved = lowStockAlertServicePort.setReorderThreshold(ReorderThreshold.unalerted(
+                productId,
+                request.getThreshold(),
+                request.getHysteresis() != null ? request.getHysteresis() : Constants.REORDER_HYSTERESIS_DEFAULT
+        ));
+        return toResponse(saved);
+
+    }
+
+    @Override
+    public ReorderThresholdResponse getReorderThreshold(Long productId) {
+
+        return toResponse(lowStockAlertServicePort.getReorderThreshold(productId));
+
+    }
+
+    @Override
+    public void onProductCreated(Long productId) {
+        inventoryServicePort.onProductCreated(productId);
+    }
+
+    private static ReorderThresholdResponse toResponse(ReorderThreshold reorderThreshold) {
+        return new ReorderThresholdResponse(
+                reorderThreshold.getProductId(),
+                reorderThreshold.getThreshold(),
+                reorderThreshold.getHysteresis()
+        );
+    }
+
 }
@@ -0,0 +1,63 @@
+package com.link.inventory.application.mappers;
+
+import com.link.inventory.domain.exceptions.InvalidInventoryQueryException;
+import com.link.inventory.domain.model.InventoryCursor;
+import com.link.inventory.domain.model.InventorySort;
+import com.link.inventory.domain.utils.Constants;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+public final class InventoryCursorCodec {
+
+    private static final String SEPARATOR = "|";
+    private static final String SEPARATOR_PATTERN = "\\|";
+    private static final int PARTS = 5;
+
+    private InventoryCursorCodec() {
+        throw new IllegalStateException(Constants.UTILITY_CLASS);
+    }
+
+    public static String encode(InventoryCursor cursor) {
+
+        if (cursor == null) {
+            return null;
+        }
+
+        String raw = cursor.getSort().name()
+                + SEPARATOR + cursor.getId()
+                + SEPARATOR + cursor.getQuantity()
+                + SEPARATOR + cursor.getLastUpdated().getEpochSecond()
+                + SEPARATOR + cursor.getLastUpdated().getNano();
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static InventoryCursor decode(String token) {
+
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR_PATTERN);
+
+            if (parts.length != PARTS) {
+                throw new InvalidInventoryQueryException(Constants.INVALID_CURSOR_MESSAGE);
+            }
+
+            return new InventoryCursor(
+                    InventorySort.valueOf(parts[0]),
+                    Long.parseLong(parts[1]),
+                    Integer.parseInt(parts[2]),
+                    Instant.ofEpochSecond(Long.parseLong(parts[3]), Long.parseLong(parts[4]))
+            );
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new InvalidInventoryQueryException(Constants.INVALID_CURSOR_MESSAGE);
+        }
+    }
+
+}
@@ -1,6 +1,11 @@
 package com.link.inventory.domain.api;
 
+import com.link.inventory.domain.model.IdempotencyKey;
 import com.link.inventory.domain.model.Inventory;
+import com.link.inventory.domain.model.InventoryCursor;
+import com.link.inventory.domain.model.InventoryFilter;
+import com.link.inventory.domain.model.InventoryPage;
+import com.link.inventory.domain.model.InventorySort;
 
 public interface InventoryServicePort {
 
@@ -8,6 +13,10 @@ public interface InventoryServicePort {
 
     Inventory createInventory(Inventory inventory);
 
-    Inventory updateQuantity(Long inventoryId, Integer quantityChange, String reason);
+    Inventory updateQuantity(Long inventoryId, Integer quantityChange, String reason, IdempotencyKey idempotencyKey);
+
+    InventoryPage searchInventories(InventoryFilter filter, InventorySort sort, InventoryCursor after, int size);
+
+    void onProductCreated(Long productId);
 
 }
@@ -0,0 +1,19 @@
+package com.link.inventory.domain.api;
+
+import com.link.inventory.domain.model.Inventory;
+import com.link.inventory.domain.model.LowStockAlert;
+import com.link.inventory.domain.model.ReorderThreshold;
+
+import java.util.Optional;
+
+public interface LowStockAlertServicePort {
+
+    ReorderThreshold setReorderThreshold(ReorderThreshold reorderThreshold);
+
+    ReorderThreshold getReorderThreshold(Long productId);
+
+    Optional<LowStockAlert> onQuantityChanged(Inventory inventory);
+
+    void publish(LowStockAlert lowStockAlert);
+
+}
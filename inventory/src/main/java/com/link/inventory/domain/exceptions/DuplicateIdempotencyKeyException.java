@@ -0,0 +1,16 @@
+package com.link.inventory.domain.exceptions;
+
+import com.link.inventory.domain.utils.Constants;
+import lombok.Getter;
+
+// Another request stored the same key first; its transaction has committed by the time this is thrown
+@Getter
+public class DuplicateIdempotencyKeyException extends RuntimeException {
+
+    private final String idempotencyKey;
+
+    public DuplicateIdempotencyKeyException(String idempotencyKey, Throwable cause) {
+        super(Constants.DUPLICATE_IDEMPOTENCY_KEY_MESSAGE + idempotencyKey, cause);
+        this.idempotencyKey = idempotencyKey;
+    }
+}
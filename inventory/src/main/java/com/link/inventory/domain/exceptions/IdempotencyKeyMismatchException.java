@@ -0,0 +1,15 @@
+package com.link.inventory.domain.exceptions;
+
+import com.link.inventory.domain.utils.Constants;
+import lombok.Getter;
+
+@Getter
+public class IdempotencyKeyMismatchException extends RuntimeException {
+
+    private final String idempotencyKey;
+
+    public IdempotencyKeyMismatchException(String idempotencyKey) {
+        super(Constants.IDEMPOTENCY_KEY_MISMATCH_MESSAGE + idempotencyKey);
+        this.idempotencyKey = idempotencyKey;
+    }
+}
@@ -0,0 +1,8 @@
+package com.link.inventory.domain.exceptions;
+
+public class InvalidInventoryQueryException extends RuntimeException {
+
+    public InvalidInventoryQueryException(String message) {
+        super(message);
+    }
+}
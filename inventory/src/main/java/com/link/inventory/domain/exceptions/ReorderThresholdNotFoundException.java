@@ -0,0 +1,15 @@
+package com.link.inventory.domain.exceptions;
+
+import com.link.inventory.domain.utils.Constants;
+import lombok.Getter;
+
+@Getter
+public class ReorderThresholdNotFoundException extends RuntimeException {
+
+    private final Long productId;
+
+    public ReorderThresholdNotFoundException(Long productId) {
+        super(Constants.REORDER_THRESHOLD_NOT_FOUND_MESSAGE + productId);
+        this.productId = productId;
+    }
+}
@@ -0,0 +1,42 @@
+package com.link.inventory.domain.model;
+
+import com.link.inventory.domain.utils.Constants;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+// A client's key only means something for that client and route: the same value sent by another API key,
+// or to another endpoint, is a different request
+@Getter
+@EqualsAndHashCode
+public class IdempotencyKey {
+
+    private final String client;
+    private final String route;
+    private final String key;
+
+    // Stored and cached under a digest of all three parts, which fits the key column whatever the header length
+    @EqualsAndHashCode.Exclude
+    private final String scoped;
+
+    public IdempotencyKey(String client, String route, String key) {
+        this.client = client;
+        this.route = route;
+        this.key = key;
+        this.scoped = digest(String.join(Constants.IDEMPOTENCY_SCOPE_SEPARATOR, String.valueOf(client), route, key));
+    }
+
+    private static String digest(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance(Constants.IDEMPOTENCY_KEY_DIGEST);
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.link.inventory.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@AllArgsConstructor
+public class IdempotencyRecord {
+
+    private String key;
+    private Long inventoryId;
+    private Integer quantityChange;
+    private Long productId;
+    private String productName;
+    private Integer quantity;
+    private String location;
+    private Instant lastUpdated;
+    private Instant createdAt;
+
+    public static IdempotencyRecord of(String key, Integer quantityChange, Inventory result) {
+        return new IdempotencyRecord(
+                key,
+                result.getId(),
+                quantityChange,
+                result.getProductId(),
+                result.getProductName(),
+                result.getQuantity(),
+                result.getLocation(),
+                result.getLastUpdated(),
+                Instant.now()
+        );
+    }
+
+    public boolean matches(Long inventoryId, Integer quantityChange) {
+        return this.inventoryId.equals(inventoryId) && this.quantityChange.equals(quantityChange);
+    }
+
+    public Inventory toInventory() {
+        return new Inventory(inventoryId, productId, productName, quantity, location, lastUpdated);
+    }
+
+}
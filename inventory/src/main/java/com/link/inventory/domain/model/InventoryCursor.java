@@ -0,0 +1,21 @@
+package com.link.inventory.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@AllArgsConstructor
+public class InventoryCursor {
+
+    private InventorySort sort;
+    private Long id;
+    private Integer quantity;
+    private Instant lastUpdated;
+
+    public static InventoryCursor after(Inventory inventory, InventorySort sort) {
+        return new InventoryCursor(sort, inventory.getId(), inventory.getQuantity(), inventory.getLastUpdated());
+    }
+
+}
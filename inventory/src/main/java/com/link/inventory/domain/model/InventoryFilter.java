@@ -0,0 +1,18 @@
+package com.link.inventory.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@AllArgsConstructor
+public class InventoryFilter {
+
+    private String location;
+    private Integer minQuantity;
+    private Integer maxQuantity;
+    private Instant updatedAfter;
+    private Instant updatedBefore;
+
+}
@@ -0,0 +1,20 @@
+package com.link.inventory.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class InventoryPage {
+
+    private List<Inventory> content;
+    private int size;
+    private InventoryCursor nextCursor;
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+}
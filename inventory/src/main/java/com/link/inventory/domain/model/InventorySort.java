@@ -0,0 +1,29 @@
+package com.link.inventory.domain.model;
+
+import com.link.inventory.domain.exceptions.InvalidInventoryQueryException;
+import com.link.inventory.domain.utils.Constants;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum InventorySort {
+
+    ID("id"),
+    QUANTITY("quantity"),
+    LAST_UPDATED("lastUpdated");
+
+    private final String fieldName;
+
+    public static InventorySort fromFieldName(String fieldName) {
+
+        for (InventorySort sort : values()) {
+            if (sort.fieldName.equals(fieldName)) {
+                return sort;
+            }
+        }
+
+        throw new InvalidInventoryQueryException(Constants.INVALID_SORT_MESSAGE + fieldName);
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.link.inventory.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@AllArgsConstructor
+public class LowStockAlert {
+
+    private Long inventoryId;
+    private Long productId;
+    private String location;
+    private Integer quantity;
+    private Integer threshold;
+    private Instant triggeredAt;
+
+}
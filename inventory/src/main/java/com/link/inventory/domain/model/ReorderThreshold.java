@@ -0,0 +1,29 @@
+package com.link.inventory.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ReorderThreshold {
+
+    private Long productId;
+    private Integer threshold;
+    private Integer hysteresis;
+    private boolean alerted;
+
+    // A new or changed threshold starts armed
+    public static ReorderThreshold unalerted(Long productId, Integer threshold, Integer hysteresis) {
+        return new ReorderThreshold(productId, threshold, hysteresis, false);
+    }
+
+    public boolean isBreachedBy(int quantity) {
+        return quantity <= threshold;
+    }
+
+    // Re-arm only once stock is clearly back above the threshold, so small oscillations around it don't re-alert
+    public boolean isClearedBy(int quantity) {
+        return quantity > threshold + hysteresis;
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.link.inventory.domain.spi;
+
+import com.link.inventory.domain.model.IdempotencyRecord;
+
+import java.util.Optional;
+
+public interface IdempotencyPersistencePort {
+
+    // Expired records are not returned
+    Optional<IdempotencyRecord> findByKey(String key);
+
+    void save(IdempotencyRecord record);
+
+}
@@ -2,7 +2,11 @@ package com.link.inventory.domain.spi;
 
 
 import com.link.inventory.domain.model.Inventory;
+import com.link.inventory.domain.model.InventoryCursor;
+import com.link.inventory.domain.model.InventoryFilter;
+import com.link.inventory.domain.model.InventorySort;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface InventoryPersistencePort {
@@ -11,8 +15,12 @@ public interface InventoryPersistencePort {
 
     Optional<Inventory> findById(Long id);
 
+    Optional<Inventory> findByIdForUpdate(Long id);
+
     Inventory save(Inventory inventory);
 
     boolean existsByProductId(Long productId);
 
+    List<Inventory> findInventories(InventoryFilter filter, InventorySort sort, InventoryCursor after, int limit);
+
 }
@@ -0,0 +1,10 @@
+package com.link.inventory.domain.spi;
+
+import com.link.inventory.domain.model.LowStockAlert;
+
+public interface LowStockAlertPublisherPort {
+
+    // Must not block: called on the updateQuantity path after commit
+    void publish(LowStockAlert alert);
+
+}
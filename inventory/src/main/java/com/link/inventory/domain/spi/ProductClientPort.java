@@ -2,8 +2,15 @@ package com.link.inventory.domain.spi;
 
 import com.link.inventory.domain.model.Product;
 
+import java.util.Collection;
+import java.util.Map;
+
 public interface ProductClientPort {
 
     Product getProductById(Long productId);
 
+    Map<Long, Product> getProductsByIds(Collection<Long> productIds);
+
+    void evictProduct(Long productId);
+
 }
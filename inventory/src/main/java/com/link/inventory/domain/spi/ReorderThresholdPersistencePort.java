@@ -0,0 +1,18 @@
+package com.link.inventory.domain.spi;
+
+import com.link.inventory.domain.model.ReorderThreshold;
+
+import java.util.Optional;
+
+public interface ReorderThresholdPersistencePort {
+
+    ReorderThreshold save(ReorderThreshold reorderThreshold);
+
+    Optional<ReorderThreshold> findByProductId(Long productId);
+
+    // True only for the caller that moved the product from armed to alerted
+    boolean markAlerted(Long productId);
+
+    void clearAlert(Long productId);
+
+}
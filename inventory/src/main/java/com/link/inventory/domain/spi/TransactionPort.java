@@ -0,0 +1,9 @@
+package com.link.inventory.domain.spi;
+
+import java.util.function.Supplier;
+
+public interface TransactionPort {
+
+    <T> T inTransaction(Supplier<T> work);
+
+}
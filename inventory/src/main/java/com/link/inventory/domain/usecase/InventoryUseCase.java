@@ -1,25 +1,46 @@
 package com.link.inventory.domain.usecase;
 
+import com.link.inventory.domain.exceptions.DuplicateIdempotencyKeyException;
+import com.link.inventory.domain.exceptions.IdempotencyKeyMismatchException;
 import com.link.inventory.domain.exceptions.InsufficientStockException;
+import com.link.inventory.domain.exceptions.InvalidInventoryQueryException;
 import com.link.inventory.domain.exceptions.InventoryAlreadyExistsException;
 import com.link.inventory.domain.exceptions.InventoryNotFoundException;
+import com.link.inventory.domain.model.IdempotencyKey;
+import com.link.inventory.domain.model.IdempotencyRecord;
 import com.link.inventory.domain.model.Inventory;
+import com.link.inventory.domain.model.InventoryCursor;
+import com.link.inventory.domain.model.InventoryFilter;
+import com.link.inventory.domain.model.InventoryPage;
+import com.link.inventory.domain.model.InventorySort;
+import com.link.inventory.domain.model.LowStockAlert;
 import com.link.inventory.domain.model.Product;
 import com.link.inventory.domain.api.InventoryServicePort;
+import com.link.inventory.domain.api.LowStockAlertServicePort;
+import com.link.inventory.domain.spi.IdempotencyPersistencePort;
 import com.link.inventory.domain.spi.InventoryPersistencePort;
 import com.link.inventory.domain.spi.ProductClientPort;
+import com.link.inventory.domain.spi.TransactionPort;
 import com.link.inventory.domain.utils.Constants;
 import lombok.AllArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 @AllArgsConstructor
 public class InventoryUseCase implements InventoryServicePort {
 
     private final InventoryPersistencePort inventoryPersistencePort;
     private final ProductClientPort productClientPort;
+    private final TransactionPort transactionPort;
+    private final LowStockAlertServicePort lowStockAlertServicePort;
+    private final IdempotencyPersistencePort idempotencyPersistencePort;
 
     private static final Logger log = LoggerFactory.getLogger(InventoryUseCase.class);
 
@@ -42,13 +63,16 @@ public class InventoryUseCase implements InventoryServicePort {
 
         Product product = productClientPort.getProductById(inventory.getProductId());
 
-        if (inventoryPersistencePort.existsByProductId(inventory.getProductId())) {
-            throw new InventoryAlreadyExistsException(inventory.getProductId());
-        }
+        Inventory savedInventory = transactionPort.inTransaction(() -> {
+
+            if (inventoryPersistencePort.existsByProductId(inventory.getProductId())) {
+                throw new InventoryAlreadyExistsException(inventory.getProductId());
+            }
 
-        inventory.setLastUpdated(Instant.now());
+            inventory.setLastUpdated(Instant.now());
 
-        Inventory savedInventory = inventoryPersistencePort.save(inventory);
+            return inventoryPersistencePort.save(inventory);
+        });
 
         savedInventory.setProductName(product.getProductName());
 
@@ -56,24 +80,89 @@ public class InventoryUseCase implements InventoryServicePort {
 
     }
 
-
     @Override
-    public Inventory updateQuantity(Long inventoryId, Integer quantityChange, String reason) {
+    public Inventory updateQuantity(
+            Long inventoryId,
+            Integer quantityChange,
+            String reason,
+            IdempotencyKey idempotencyKey
+    ) {
+
+        String scopedKey = idempotencyKey != null ? idempotencyKey.getScoped() : null;
 
-        Inventory inventory = inventoryPersistencePort.findById(inventoryId)
+        // A retried request is answered from the dedup store before any remote call or lock
+        if (scopedKey != null) {
+            Optional<IdempotencyRecord> previous = idempotencyPersistencePort.findByKey(scopedKey);
+            if (previous.isPresent()) {
+                return replay(previous.get(), idempotencyKey, inventoryId, quantityChange);
+            }
+        }
+
+        // Pre-fetch: resolve the product before any lock is taken, so the remote call never runs inside the transaction
+        Long productId = inventoryPersistencePort.findById(inventoryId)
+                .map(Inventory::getProductId)
                 .orElseThrow(() -> new InventoryNotFoundException(inventoryId));
 
-        int oldQuantity = inventory.getQuantity();
-        int newQuantity = oldQuantity + quantityChange;
+        Product product = productClientPort.getProductById(productId);
+
+        QuantityUpdate update;
+
+        try {
+            // Critical section: row lock and connection are held only for the read-modify-write
+            update = transactionPort.inTransaction(() -> {
+
+                Inventory inventory = inventoryPersistencePort.findByIdForUpdate(inventoryId)
+                        .orElseThrow(() -> new InventoryNotFoundException(inventoryId));
+
+                // Checked again under the row lock: a concurrent retry may have committed since the first lookup
+                if (scopedKey != null) {
+                    Optional<IdempotencyRecord> previous = idempotencyPersistencePort.findByKey(scopedKey);
+                    if (previous.isPresent()) {
+                        Inventory replayed = replay(previous.get(), idempotencyKey, inventoryId, quantityChange);
+                        return new QuantityUpdate(replayed, true);
+                    }
+                }
+
+                int oldQuantity = inventory.getQuantity();
+                int newQuantity = oldQuantity + quantityChange;
+
+                if (newQuantity < Constants.ZERO) {
+                    throw new InsufficientStockException(inventoryId, oldQuantity, Math.abs(quantityChange));
+                }
+
+                inventory.setQuantity(newQuantity);
+                inventory.setLastUpdated(Instant.now());
+
+                Inventory saved = inventoryPersistencePort.save(inventory);
+                saved.setProductName(product.getProductName());
+
+                // Same transaction as the stock change, so the key is recorded if and only if the delta was applied
+                if (scopedKey != null) {
+                    idempotencyPersistencePort.save(IdempotencyRecord.of(scopedKey, quantityChange, saved));
+                }
 
-        if (newQuantity < Constants.ZERO) {
-            throw new InsufficientStockException(inventoryId, oldQuantity, Math.abs(quantityChange));
+                return new QuantityUpdate(saved, false);
+            });
+        } catch (DuplicateIdempotencyKeyException e) {
+            // The same key sent for another inventory holds a different row lock, so only the insert catches it.
+            // That request committed first and this one rolled back; answer it like any other retry
+            IdempotencyRecord previous = idempotencyPersistencePort.findByKey(scopedKey).orElseThrow(() -> e);
+            return replay(previous, idempotencyKey, inventoryId, quantityChange);
         }
 
-        inventory.setQuantity(newQuantity);
-        inventory.setLastUpdated(Instant.now());
+        Inventory updatedInventory = update.inventory();
 
-        Inventory updatedInventory = inventoryPersistencePort.save(inventory);
+        if (update.replayed()) {
+            return updatedInventory;
+        }
+
+        // Post-commit: the low-stock check runs in its own short transaction, so its threshold read and conditional
+        // update never extend the row lock. A raised alert is queued; delivery happens off this thread
+        checkLowStock(updatedInventory);
+
+        // Post-commit logging
+        int newQuantity = updatedInventory.getQuantity();
+        int oldQuantity = newQuantity - quantityChange;
 
         String operation = quantityChange > Constants.ZERO
                 ? Constants.INVENTORY_OPERATION_ADDED
@@ -90,10 +179,100 @@ public class InventoryUseCase implements InventoryServicePort {
                 reason != null ? reason : Constants.NOT_SPECIFIED_REASON
         );
 
-        Product product = productClientPort.getProductById(updatedInventory.getProductId());
-        updatedInventory.setProductName(product.getProductName());
-
         return updatedInventory;
 
     }
+
+    @Override
+    public InventoryPage searchInventories(InventoryFilter filter, InventorySort sort, InventoryCursor after, int size) {
+
+        validate(filter, sort, after);
+
+        // One extra row tells whether another page exists without a COUNT query
+        List<Inventory> rows = inventoryPersistencePort.findInventories(filter, sort, after, size + 1);
+
+        boolean hasNext = rows.size() > size;
+        List<Inventory> content = hasNext ? rows.subList(0, size) : rows;
+
+        Set<Long> productIds = new HashSet<>(content.size());
+        for (Inventory inventory : content) {
+            productIds.add(inventory.getProductId());
+        }
+
+        if (!productIds.isEmpty()) {
+            Map<Long, Product> products = productClientPort.getProductsByIds(productIds);
+            for (Inventory inventory : content) {
+                Product product = products.get(inventory.getProductId());
+                if (product != null) {
+                    inventory.setProductName(product.getProductName());
+                }
+            }
+        }
+
+        InventoryCursor nextCursor = hasNext ? InventoryCursor.after(content.get(size - 1), sort) : null;
+
+        return new InventoryPage(content, size, nextCursor);
+
+    }
+
+    // The product may have been looked up, and remembered as missing, before it existed
+    @Override
+    public void onProductCreated(Long productId) {
+        productClientPort.evictProduct(productId);
+    }
+
+    private Inventory replay(
+            IdempotencyRecord record,
+            IdempotencyKey idempotencyKey,
+            Long inventoryId,
+            Integer quantityChange
+    ) {
+
+        if (!record.matches(inventoryId, quantityChange)) {
+            throw new IdempotencyKeyMismatchException(idempotencyKey.getKey());
+        }
+
+        log.info(Constants.LOG_IDEMPOTENT_REPLAY, idempotencyKey.getKey(), inventoryId);
+
+        return record.toInventory();
+
+    }
+
+    private record QuantityUpdate(Inventory inventory, boolean replayed) {
+    }
+
+    // The stock change is already committed, so a failed check is logged rather than failing the request;
+    // the next change to the product evaluates it again
+    private void checkLowStock(Inventory inventory) {
+
+        Optional<LowStockAlert> alert;
+
+        try {
+            alert = transactionPort.inTransaction(() -> lowStockAlertServicePort.onQuantityChanged(inventory));
+        } catch (RuntimeException e) {
+            log.warn(Constants.LOG_LOW_STOCK_CHECK_FAILED, inventory.getProductId(), e.getMessage());
+            return;
+        }
+
+        alert.ifPresent(lowStockAlertServicePort::publish);
+
+    }
+
+    private void validate(InventoryFilter filter, InventorySort sort, InventoryCursor after) {
+
+        if (filter.getMinQuantity() != null && filter.getMaxQuantity() != null
+                && filter.getMinQuantity() > filter.getMaxQuantity()) {
+            throw new InvalidInventoryQueryException(Constants.INVALID_QUANTITY_RANGE_MESSAGE);
+        }
+
+        if (filter.getUpdatedAfter() != null && filter.getUpdatedBefore() != null
+                && !filter.getUpdatedAfter().isBefore(filter.getUpdatedBefore())) {
+            throw new InvalidInventoryQueryException(Constants.INVALID_UPDATED_RANGE_MESSAGE);
+        }
+
+        if (after != null && after.getSort() != sort) {
+            throw new InvalidInventoryQueryException(Constants.INVALID_CURSOR_MESSAGE);
+        }
+
+    }
 }
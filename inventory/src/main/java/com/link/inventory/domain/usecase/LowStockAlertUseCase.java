@@ -0,0 +1,83 @@
+package com.link.inventory.domain.usecase;
+
+import com.link.inventory.domain.api.LowStockAlertServicePort;
+import com.link.inventory.domain.exceptions.InventoryNotFoundException;
+import com.link.inventory.domain.exceptions.ReorderThresholdNotFoundException;
+import com.link.inventory.domain.model.Inventory;
+import com.link.inventory.domain.model.LowStockAlert;
+import com.link.inventory.domain.model.ReorderThreshold;
+import com.link.inventory.domain.spi.InventoryPersistencePort;
+import com.link.inventory.domain.spi.LowStockAlertPublisherPort;
+import com.link.inventory.domain.spi.ReorderThresholdPersistencePort;
+import lombok.AllArgsConstructor;
+
+import java.time.Instant;
+import java.util.Optional;
+
+@AllArgsConstructor
+public class LowStockAlertUseCase implements LowStockAlertServicePort {
+
+    private final ReorderThresholdPersistencePort reorderThresholdPersistencePort;
+    private final InventoryPersistencePort inventoryPersistencePort;
+    private final LowStockAlertPublisherPort lowStockAlertPublisherPort;
+
+    // Saving re-arms the product, so a changed threshold is evaluated from scratch
+    @Override
+    public ReorderThreshold setReorderThreshold(ReorderThreshold reorderThreshold) {
+
+        if (!inventoryPersistencePort.existsByProductId(reorderThreshold.getProductId())) {
+            throw new InventoryNotFoundException(reorderThreshold.getProductId());
+        }
+
+        return reorderThresholdPersistencePort.save(reorderThreshold);
+
+    }
+
+    @Override
+    public ReorderThreshold getReorderThreshold(Long productId) {
+        return reorderThresholdPersistencePort.findByProductId(productId)
+                .orElseThrow(() -> new ReorderThresholdNotFoundException(productId));
+    }
+
+    // Runs after the quantity change commits, in its own transaction and without the inventory row lock. Checks
+    // for one product can finish out of commit order, so the conditional updates re-check the stock committed at
+    // that moment: a stale check changes nothing, and the check after the last change leaves the state it implies
+    @Override
+    public Optional<LowStockAlert> onQuantityChanged(Inventory inventory) {
+
+        Optional<ReorderThreshold> found = reorderThresholdPersistencePort.findByProductId(inventory.getProductId());
+
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+
+        ReorderThreshold reorderThreshold = found.get();
+        int quantity = inventory.getQuantity();
+
+        if (reorderThreshold.isBreachedBy(quantity)) {
+            // The conditional update decides, not the flag read above: only one change can move it to alerted
+            if (reorderThresholdPersistencePort.markAlerted(inventory.getProductId())) {
+                return Optional.of(new LowStockAlert(
+                        inventory.getId(),
+                        inventory.getProductId(),
+                        inventory.getLocation(),
+                        quantity,
+                        reorderThreshold.getThreshold(),
+                        Instant.now()
+                ));
+            }
+        } else if (reorderThreshold.isClearedBy(quantity)) {
+            // Not gated on the flag read above: an alert marked by an older change after that read is cleared too
+            reorderThresholdPersistencePort.clearAlert(inventory.getProductId());
+        }
+
+        return Optional.empty();
+
+    }
+
+    @Override
+    public void publish(LowStockAlert lowStockAlert) {
+        lowStockAlertPublisherPort.publish(lowStockAlert);
+    }
+
+}
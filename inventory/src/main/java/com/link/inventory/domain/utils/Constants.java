@@ -18,11 +18,35 @@ public class Constants {
     // ========================================================================
     public static final String JSON_API_MEDIA_TYPE = "application/vnd.api+json";
     public static final String LINK_SELF = "self";
+    public static final String LINK_NEXT = "next";
+    public static final String META_PAGE_SIZE = "pageSize";
+
+    // ========================================================================
+    // INVENTORY LISTING
+    // ========================================================================
+    public static final String FIELD_ID = "id";
+    public static final String FIELD_LOCATION = "location";
+    public static final String FIELD_QUANTITY = "quantity";
+    public static final String FIELD_LAST_UPDATED = "lastUpdated";
+
+    public static final String PAGE_SIZE_PARAM = "page[size]";
+    public static final String PAGE_AFTER_PARAM = "page[after]";
+    public static final String SORT_PARAM = "sort";
+    public static final String SORT_DEFAULT = "id";
+    public static final String LIST_PAGE_SIZE_DEFAULT = "50";
+    public static final int MIN_PAGE_SIZE = 1;
+    public static final int MAX_PAGE_SIZE = 200;
+    public static final String LOW_STOCK_THRESHOLD_DEFAULT = "10";
 
     // ========================================================================
     // HTTP & WEBCLIENT
     // ========================================================================
     public static final String URI_PRODUCT_ID = "/product/{id}";
+    public static final String URI_PRODUCT_BATCH = "/product/batch";
+    public static final String FILTER_ID_PARAM = "filter[id]";
+    public static final String ID_SEPARATOR = ",";
+    public static final String FIELDS_PRODUCT_PARAM = "fields[product]";
+    public static final String PRODUCT_CLIENT_FIELDSET = "productName";
 
     // TIMEOUTS
     public static final int WEBCLIENT_RESPONSE_TIMEOUT_SECONDS = 3;
@@ -34,17 +58,54 @@ public class Constants {
     public static final String CIRCUIT_BREAKER_NAME = "productService";
     public static final String RETRY_NAME = "productCall";
     public static final String FALLBACK_METHOD_NAME = "getProductByIdFallback";
+    public static final String BATCH_FALLBACK_METHOD_NAME = "getProductsByIdsFallback";
 
     // LOG MESSAGES
     public static final String LOG_CALLING_PRODUCT_SERVICE = "🔄 Calling product-service for productId: {}";
+    public static final String LOG_CALLING_PRODUCT_SERVICE_BATCH = "🔄 Calling product-service for {} productIds";
+    public static final String LOG_PRODUCT_BATCH_FALLBACK = "Product names unavailable for {} products, returning listing without them: {}";
     public static final String LOG_CIRCUIT_BREAKER_OPEN = "🔴 CIRCUIT BREAKER OPEN - Product service unavailable for: {}";
 
+    // ========================================================================
+    // OBSERVABILITY
+    // ========================================================================
+    public static final String METRIC_INVENTORY_PERSISTENCE = "inventory.persistence";
+    public static final String METRIC_PRODUCT_CLIENT = "inventory.product.client";
+    public static final String METRIC_INVENTORY_USE_CASE = "inventory.usecase";
+    public static final String INVENTORY_USE_CASE_SPAN_PREFIX = "inventory-usecase ";
+    public static final String TAG_METHOD = "method";
+    public static final String METRIC_REPLICA_LAG = "inventory.datasource.replica.lag";
+    public static final String METRIC_IDEMPOTENCY_LOOKUPS = "inventory.idempotency.lookups";
+    public static final String METRIC_IDEMPOTENCY_CACHE_SIZE = "inventory.idempotency.cache.size";
+    public static final String TAG_RESULT = "result";
+    public static final String RESULT_CACHE_HIT = "cache";
+    public static final String RESULT_STORE_HIT = "store";
+    public static final String RESULT_MISS = "miss";
+    public static final String METRIC_LOW_STOCK_ALERTS = "inventory.alerts.low.stock";
+    public static final String TAG_OUTCOME = "outcome";
+    public static final String OUTCOME_QUEUED = "queued";
+    public static final String OUTCOME_DROPPED = "dropped";
+    public static final String OUTCOME_DELIVERED = "delivered";
+    public static final String OUTCOME_FAILED = "failed";
+    public static final String METRIC_SINGLE_FLIGHT = "inventory.singleflight.calls";
+    public static final String SINGLE_FLIGHT_PRODUCT_CLIENT = "inventory.product.client.getProductById";
+    public static final String TAG_NAME = "name";
+    public static final String RESULT_EXECUTED = "executed";
+    public static final String RESULT_COLLAPSED = "collapsed";
+    public static final String METRIC_MISSING_PRODUCT_CACHE = "inventory.product.missing.cache";
+    public static final String METRIC_MISSING_PRODUCT_CACHE_SIZE = "inventory.product.missing.cache.size";
+    public static final String OUTCOME_REJECTED = "rejected";
+    public static final String OUTCOME_STORED = "stored";
+    public static final String OUTCOME_EVICTED = "evicted";
+
     // ========================================================================
     // SECURITY
     // ========================================================================
     public static final String HEADER_X_API_KEY = "X-API-Key";
     public static final String HEADER_AUTHORIZATION = "Authorization";
     public static final String API_KEY_PREFIX = "ApiKey ";
+    public static final String HEADER_IDEMPOTENCY_KEY = "Idempotency-Key";
+    public static final String ATTRIBUTE_API_CLIENT = "com.link.inventory.apiClient";
 
     public static final String UNAUTHORIZED_TITLE = "Unauthorized";
     public static final String INVALID_API_KEY_DETAIL = "Invalid or missing API key";
@@ -57,13 +118,27 @@ public class Constants {
     // ========================================================================
     public static final String GET_INVENTORY_BY_PRODUCT_SUMMARY = "Get inventory by product ID";
     public static final String CREATE_INVENTORY_SUMMARY = "Create new inventory record";
+    public static final String LIST_INVENTORIES_SUMMARY = "List inventory filtered by location, quantity and last update";
+    public static final String SET_REORDER_THRESHOLD_SUMMARY = "Set the reorder threshold that raises low-stock alerts for a product";
+    public static final String GET_REORDER_THRESHOLD_SUMMARY = "Get the reorder threshold of a product";
+    public static final String PRODUCT_CREATED_SUMMARY = "Notify that a product was created, so lookups stop treating it as missing";
+    public static final String LOW_STOCK_SUMMARY = "List inventory at or below a quantity threshold, lowest first";
+    public static final String SORT_PARAM_DESCRIPTION = "Sort field, ascending: id, quantity or lastUpdated";
+    public static final String PAGE_SIZE_PARAM_DESCRIPTION = "Page size, between 1 and 200";
+    public static final String PAGE_AFTER_PARAM_DESCRIPTION = "Opaque cursor from links.next of the previous page";
 
     // Responses
     public static final String INVENTORY_FOUND = "Inventory found successfully";
+    public static final String INVENTORIES_FOUND = "Inventory page retrieved successfully";
     public static final String INVENTORY_ALREADY_EXISTS_DESCRIPTION = "Inventory already exists";
     public static final String INVENTORY_CREATED_DESCRIPTION = "Inventory created successfully";
     public static final String INVENTORY_UPDATED_DESCRIPTION = "Inventory quantity updated successfully";
 
+    public static final String REORDER_THRESHOLD_SAVED_DESCRIPTION = "Reorder threshold saved successfully";
+    public static final String REORDER_THRESHOLD_FOUND = "Reorder threshold found successfully";
+    public static final String REORDER_THRESHOLD_NOT_FOUND_DESCRIPTION = "No reorder threshold set for the given product ID";
+    public static final String PRODUCT_CREATED_DESCRIPTION = "Notification accepted";
+
     public static final String INVENTORY_NOT_FOUND = "Inventory not found for this product";
     public static final String INVENTORY_NOT_FOUND_DESCRIPTION = "Inventory not found for the given product ID";
 
@@ -80,6 +155,16 @@ public class Constants {
     public static final String INVENTORY_QUANTITY_REQUIRED = "Quantity is required";
     public static final String INVENTORY_QUANTITY_MIN = "Quantity cannot be negative";
 
+    public static final int REORDER_HYSTERESIS_DEFAULT = 0;
+    public static final int IDEMPOTENCY_KEY_MAX_LENGTH = 255;
+    public static final String IDEMPOTENCY_KEY_DIGEST = "SHA-256";
+    public static final String IDEMPOTENCY_SCOPE_SEPARATOR = "\n";
+    public static final String IDEMPOTENCY_KEY_MAX_EXCEEDED = "Idempotency-Key cannot exceed 255 characters";
+
+    public static final String REORDER_THRESHOLD_REQUIRED = "Threshold is required";
+    public static final String REORDER_THRESHOLD_MIN = "Threshold cannot be negative";
+    public static final String REORDER_HYSTERESIS_MIN = "Hysteresis cannot be negative";
+
     public static final String INVENTORY_LOCATION_REQUIRED = "Location is required";
     public static final int INVENTORY_LOCATION_MAX_LENGTH = 80;
     public static final String INVENTORY_LOCATION_MAX_EXCEEDED = "Location cannot exceed maximum length";
@@ -91,6 +176,13 @@ public class Constants {
     public static final String INVENTORY_OPERATION_REMOVED = "REMOVED";
     public static final String NOT_SPECIFIED_REASON = "NOT_SPECIFIED";
 
+    public static final String LOG_IDEMPOTENT_REPLAY = "Replaying stored response for Idempotency-Key {} on inventory {}";
+    public static final String LOG_IDEMPOTENCY_PURGED = "Purged {} expired idempotency keys";
+    public static final String LOG_LOW_STOCK_ALERT =
+            "LOW STOCK - InventoryId: {}, ProductId: {}, Location: {}, Quantity: {}, Threshold: {}, TriggeredAt: {}";
+    public static final String LOG_LOW_STOCK_CHECK_FAILED = "Low-stock check for product {} skipped after its stock change committed: {}";
+    public static final String LOG_LOW_STOCK_DELIVERY_FAILED = "Low-stock alert batch of {} could not be delivered: {}";
+
     public static final String INVENTORY_CHANGED_LOG_MESSAGE =
             "INVENTORY CHANGED - InventoryId: {}, ProductId: {}, Operation: {}, QuantityChange: {}, OldQuantity: {}, NewQuantity: {}, Reason: {}";
 
@@ -101,6 +193,8 @@ public class Constants {
     public static final String INVENTORY_NOT_FOUND_TITLE = "Inventory Not Found";
     public static final String PRODUCT_NOT_FOUND_TITLE = "Product Not Found";
     public static final String INSUFFICIENT_STOCK_TITLE = "Insufficient Stock";
+    public static final String IDEMPOTENCY_KEY_MISMATCH_TITLE = "Idempotency Key Reused";
+    public static final String REORDER_THRESHOLD_NOT_FOUND_TITLE = "Reorder Threshold Not Found";
 
     public static final String PRODUCT_SERVICE_ERROR_TITLE = "Product Service Error";
     public static final String SERVICE_UNAVAILABLE_TITLE = "Service Unavailable";
@@ -111,20 +205,34 @@ public class Constants {
     public static final String BAD_REQUEST_TITLE = "Bad Request";
     public static final String VALIDATION_ERROR_TITLE = "Validation Error";
     public static final String CONSTRAINT_VIOLATION_TITLE = "Constraint Violation";
+    public static final String INVALID_INVENTORY_QUERY_TITLE = "Invalid Query";
 
     // ========================================================================
     // EXCEPTION MESSAGES
     // ========================================================================
     public static final String INVENTORY_NOT_FOUND_MESSAGE = "Inventory not found for product ID: ";
+    public static final String IDEMPOTENCY_KEY_MISMATCH_MESSAGE =
+            "Idempotency-Key was already used with a different inventory or quantity change: ";
+    public static final String DUPLICATE_IDEMPOTENCY_KEY_MESSAGE = "Idempotency key already stored: ";
+    public static final String REORDER_THRESHOLD_NOT_FOUND_MESSAGE = "No reorder threshold set for product ID: ";
     public static final String PRODUCT_NOT_VALID_MESSAGE = "Product with ID does not exist: ";
 
     public static final String PRODUCT_SERVICE_ERROR_MESSAGE = "Error communicating with product service";
     public static final String PRODUCT_SERVICE_UNAVAILABLE_MESSAGE = "Cannot connect to product service";
     public static final String PRODUCT_SERVICE_DOWN_MESSAGE = "Product service is not available";
+    public static final String PRODUCT_SERVICE_REJECTED_MESSAGE = "Product service rejected the request with status ";
 
     public static final String CIRCUIT_BREAKER_OPEN_MESSAGE = "Product service temporarily unavailable";
     public static final String TIMEOUT_MESSAGE = "Service response timeout exceeded";
 
+    public static final String INVALID_SORT_MESSAGE = "Unknown sort field: ";
+    public static final String INVALID_QUANTITY_RANGE_MESSAGE = "minQuantity must not be greater than maxQuantity";
+    public static final String INVALID_UPDATED_RANGE_MESSAGE = "updatedAfter must be before updatedBefore";
+    public static final String INVALID_CURSOR_MESSAGE = "page[after] is not a cursor issued for this sort order";
+
     public static final String QUANTITY_IS_REQUIRED = "Quantity change is required";
+    public static final String IDEMPOTENCY_KEY_MISMATCH_DESCRIPTION = "Idempotency-Key was already used for a different request";
+    public static final String IDEMPOTENCY_KEY_DESCRIPTION =
+            "Client-generated key; retries with the same key return the original response instead of applying the change again";
     public static final String INSUFFICIENT_STOCK_DESCRIPTION = "Insufficient stock for the requested operation";
 }
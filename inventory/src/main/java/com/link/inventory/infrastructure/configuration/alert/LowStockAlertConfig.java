@@ -0,0 +1,55 @@
+package com.link.inventory.infrastructure.configuration.alert;
+
+import com.link.inventory.domain.spi.LowStockAlertPublisherPort;
+import com.link.inventory.infrastructure.out.alert.BatchingLowStockAlertPublisher;
+import com.link.inventory.infrastructure.out.alert.InMemoryLowStockAlertNotifier;
+import com.link.inventory.infrastructure.out.alert.LoggingLowStockAlertNotifier;
+import com.link.inventory.infrastructure.out.alert.LowStockAlertNotifier;
+import com.link.inventory.infrastructure.out.alert.WebhookLowStockAlertNotifier;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+
+@Configuration
+@EnableScheduling
+public class LowStockAlertConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.alerts.low-stock", name = "notifier", havingValue = "log", matchIfMissing = true)
+    public LowStockAlertNotifier loggingLowStockAlertNotifier() {
+        return new LoggingLowStockAlertNotifier();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.alerts.low-stock", name = "notifier", havingValue = "webhook")
+    public LowStockAlertNotifier webhookLowStockAlertNotifier(
+            WebClient.Builder webClientBuilder,
+            @Value("${app.alerts.low-stock.webhook.url}") String url,
+            @Value("${app.alerts.low-stock.webhook.timeout}") Duration timeout
+    ) {
+        return new WebhookLowStockAlertNotifier(webClientBuilder.baseUrl(url).build(), timeout);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.alerts.low-stock", name = "notifier", havingValue = "memory")
+    public LowStockAlertNotifier inMemoryLowStockAlertNotifier() {
+        return new InMemoryLowStockAlertNotifier();
+    }
+
+    @Bean
+    public LowStockAlertPublisherPort lowStockAlertPublisherPort(
+            LowStockAlertNotifier lowStockAlertNotifier,
+            @Value("${app.alerts.low-stock.queue-capacity}") int capacity,
+            @Value("${app.alerts.low-stock.batch-size}") int batchSize,
+            MeterRegistry meterRegistry
+    ) {
+        return new BatchingLowStockAlertPublisher(lowStockAlertNotifier, capacity, batchSize, meterRegistry);
+    }
+
+}
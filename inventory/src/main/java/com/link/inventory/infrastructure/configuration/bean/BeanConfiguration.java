@@ -1,17 +1,34 @@
 package com.link.inventory.infrastructure.configuration.bean;
 
 import com.link.inventory.domain.api.InventoryServicePort;
+import com.link.inventory.domain.api.LowStockAlertServicePort;
+import com.link.inventory.domain.spi.IdempotencyPersistencePort;
 import com.link.inventory.domain.spi.InventoryPersistencePort;
+import com.link.inventory.domain.spi.LowStockAlertPublisherPort;
 import com.link.inventory.domain.spi.ProductClientPort;
+import com.link.inventory.domain.spi.ReorderThresholdPersistencePort;
+import com.link.inventory.domain.spi.TransactionPort;
 import com.link.inventory.domain.usecase.InventoryUseCase;
+import com.link.inventory.domain.usecase.LowStockAlertUseCase;
+import com.link.inventory.infrastructure.out.coalescing.CoalescingProductClientAdapter;
 import com.link.inventory.infrastructure.out.jpa.adapter.InventoryJpaAdapter;
+import com.link.inventory.infrastructure.out.jpa.adapter.JpaTransactionAdapter;
+import com.link.inventory.infrastructure.out.jpa.adapter.ReorderThresholdJpaAdapter;
 import com.link.inventory.infrastructure.out.jpa.mapper.InventoryEntityMapper;
+import com.link.inventory.infrastructure.out.jpa.mapper.ReorderThresholdEntityMapper;
 import com.link.inventory.infrastructure.out.jpa.repository.InventoryRepository;
+import com.link.inventory.infrastructure.out.jpa.repository.ReorderThresholdRepository;
+import com.link.inventory.infrastructure.out.negativecache.MissingProductCache;
+import com.link.inventory.infrastructure.out.negativecache.NegativeCachingProductClientAdapter;
 import com.link.inventory.infrastructure.out.webclient.ProductWebClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.web.reactive.function.client.WebClient;
 
 @Configuration
@@ -20,23 +37,65 @@ public class BeanConfiguration {
 
     private final InventoryRepository inventoryRepository;
     private final InventoryEntityMapper inventoryEntityMapper;
+    private final ReorderThresholdRepository reorderThresholdRepository;
+    private final ReorderThresholdEntityMapper reorderThresholdEntityMapper;
+    private final LowStockAlertPublisherPort lowStockAlertPublisherPort;
+    private final IdempotencyPersistencePort idempotencyPersistencePort;
+    private final MissingProductCache missingProductCache;
     private final @Qualifier("productWebClient") WebClient productWebClient;
+    private final PlatformTransactionManager transactionManager;
+    private final EntityManager entityManager;
+    private final MeterRegistry meterRegistry;
 
     @Bean
     public InventoryPersistencePort inventoryPersistencePort() {
-        return new InventoryJpaAdapter(inventoryRepository, inventoryEntityMapper);
+        return new InventoryJpaAdapter(inventoryRepository, inventoryEntityMapper, entityManager);
     }
 
+    // Its own bean so the circuit breaker and retry proxies still apply underneath the coalescing layer
     @Bean
-    public ProductClientPort productClientPort() {
+    public ProductWebClient productServiceClient() {
         return new ProductWebClient(productWebClient);
     }
 
+    // Known-missing ids are rejected first, then concurrent lookups of the same id share one call
+    @Bean
+    @Primary
+    public ProductClientPort productClientPort() {
+        return new NegativeCachingProductClientAdapter(
+                new CoalescingProductClientAdapter(productServiceClient(), meterRegistry),
+                missingProductCache,
+                meterRegistry
+        );
+    }
+
+    @Bean
+    public TransactionPort transactionPort() {
+        return new JpaTransactionAdapter(transactionManager);
+    }
+
+    @Bean
+    public ReorderThresholdPersistencePort reorderThresholdPersistencePort() {
+        return new ReorderThresholdJpaAdapter(reorderThresholdRepository, reorderThresholdEntityMapper);
+    }
+
+    @Bean
+    public LowStockAlertServicePort lowStockAlertServicePort() {
+        return new LowStockAlertUseCase(
+                reorderThresholdPersistencePort(),
+                inventoryPersistencePort(),
+                lowStockAlertPublisherPort
+        );
+    }
+
     @Bean
     public InventoryServicePort inventoryServicePort() {
         return new InventoryUseCase(
                 inventoryPersistencePort(),
-                productClientPort()
+                productClientPort(),
+                transactionPort(),
+                lowStockAlertServicePort(),
+                idempotencyPersistencePort
         );
     }
 
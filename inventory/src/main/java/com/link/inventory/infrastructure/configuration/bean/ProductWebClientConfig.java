@@ -1,24 +1,42 @@
 package com.link.inventory.infrastructure.configuration.bean;
 
 import com.link.inventory.domain.utils.Constants;
-import org.springframework.beans.factory.annotation.Qualifier;
+import com.link.inventory.infrastructure.out.negativecache.MissingProductCache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import java.time.Duration;
+
 @Configuration
 public class ProductWebClientConfig {
 
     @Bean
     public WebClient productWebClient(
+            WebClient.Builder webClientBuilder,
             @Value("${product.service.url}") String baseUrl,
             @Value("${app.api.key}") String apiKey
     ) {
-        return WebClient.builder()
+        return webClientBuilder
                 .baseUrl(baseUrl)
                 .defaultHeader("X-API-Key", apiKey)
                 .defaultHeader("Content-Type", Constants.JSON_API_MEDIA_TYPE)
+                .codecs(codecs -> codecs.customCodecs().register(new Jackson2CborDecoder()))
                 .build();
     }
+
+    @Bean
+    public MissingProductCache missingProductCache(
+            @Value("${app.product-client.missing-cache.max-size}") int maxSize,
+            @Value("${app.product-client.missing-cache.ttl}") Duration ttl,
+            MeterRegistry meterRegistry
+    ) {
+        MissingProductCache cache = new MissingProductCache(maxSize, ttl);
+        Gauge.builder(Constants.METRIC_MISSING_PRODUCT_CACHE_SIZE, cache, MissingProductCache::size).register(meterRegistry);
+        return cache;
+    }
 }
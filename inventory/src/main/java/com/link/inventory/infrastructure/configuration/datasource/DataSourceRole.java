@@ -0,0 +1,6 @@
+package com.link.inventory.infrastructure.configuration.datasource;
+
+public enum DataSourceRole {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,81 @@
+package com.link.inventory.infrastructure.configuration.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String REPLICA_STATUS_QUERY = "SHOW REPLICA STATUS";
+    private static final String SECONDS_BEHIND_SOURCE = "Seconds_Behind_Source";
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final long maxLagNanos;
+    private final long readYourWritesWindowNanos;
+
+    private volatile boolean replicaHealthy;
+    private volatile long lagNanos;
+    private volatile long lastWriteCommitNanos;
+
+    public ReplicaLagMonitor(JdbcTemplate replicaJdbcTemplate, Duration maxLag, Duration readYourWritesWindow) {
+        this.replicaJdbcTemplate = replicaJdbcTemplate;
+        this.maxLagNanos = maxLag.toNanos();
+        this.readYourWritesWindowNanos = readYourWritesWindow.toNanos();
+        this.lastWriteCommitNanos = System.nanoTime() - readYourWritesWindowNanos - maxLagNanos - 1;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval-ms}")
+    public void refresh() {
+        try {
+            List<Long> lags = replicaJdbcTemplate.query(REPLICA_STATUS_QUERY, (rs, rowNum) -> {
+                long seconds = rs.getLong(SECONDS_BEHIND_SOURCE);
+                return rs.wasNull() ? null : seconds;
+            });
+            update(lags);
+        } catch (DataAccessException e) {
+            log.warn("Replica status check failed, routing reads to primary: {}", e.getMessage());
+            replicaHealthy = false;
+        }
+    }
+
+    void update(List<Long> lagsInSeconds) {
+        long maxSeconds = 0;
+        for (Long seconds : lagsInSeconds) {
+            if (seconds == null) {
+                // Replication threads stopped: the replica is not catching up at all
+                replicaHealthy = false;
+                return;
+            }
+            maxSeconds = Math.max(maxSeconds, seconds);
+        }
+        lagNanos = TimeUnit.SECONDS.toNanos(maxSeconds);
+        replicaHealthy = lagNanos <= maxLagNanos;
+    }
+
+    public void recordWriteCommit() {
+        lastWriteCommitNanos = System.nanoTime();
+    }
+
+    public boolean canServeReads() {
+        return canServeReads(System.nanoTime());
+    }
+
+    boolean canServeReads(long now) {
+        if (!replicaHealthy) {
+            return false;
+        }
+        // Seconds_Behind_Source has one-second resolution, so the window covers the sub-second lag it reports as 0
+        return now - lastWriteCommitNanos > lagNanos + readYourWritesWindowNanos;
+    }
+
+    public double lagSeconds() {
+        return replicaHealthy ? lagNanos / 1_000_000_000.0 : Double.NaN;
+    }
+
+}
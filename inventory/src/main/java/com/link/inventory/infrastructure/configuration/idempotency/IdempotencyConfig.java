@@ -0,0 +1,52 @@
+package com.link.inventory.infrastructure.configuration.idempotency;
+
+import com.link.inventory.domain.spi.IdempotencyPersistencePort;
+import com.link.inventory.domain.utils.Constants;
+import com.link.inventory.infrastructure.out.idempotency.CachingIdempotencyPersistenceAdapter;
+import com.link.inventory.infrastructure.out.idempotency.IdempotencyCache;
+import com.link.inventory.infrastructure.out.jpa.adapter.IdempotencyJpaAdapter;
+import com.link.inventory.infrastructure.out.jpa.mapper.IdempotencyRecordEntityMapper;
+import com.link.inventory.infrastructure.out.jpa.repository.IdempotencyRecordRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+
+@Configuration
+public class IdempotencyConfig {
+
+    @Bean
+    public IdempotencyJpaAdapter idempotencyJpaAdapter(
+            IdempotencyRecordRepository idempotencyRecordRepository,
+            IdempotencyRecordEntityMapper idempotencyRecordEntityMapper,
+            @Value("${app.idempotency.ttl}") Duration ttl
+    ) {
+        return new IdempotencyJpaAdapter(idempotencyRecordRepository, idempotencyRecordEntityMapper, ttl);
+    }
+
+    @Bean
+    public IdempotencyCache idempotencyCache(
+            @Value("${app.idempotency.cache-size}") int cacheSize,
+            @Value("${app.idempotency.ttl}") Duration ttl,
+            MeterRegistry meterRegistry
+    ) {
+        IdempotencyCache cache = new IdempotencyCache(cacheSize, ttl);
+        Gauge.builder(Constants.METRIC_IDEMPOTENCY_CACHE_SIZE, cache, IdempotencyCache::size).register(meterRegistry);
+        return cache;
+    }
+
+    @Bean
+    @Primary
+    public IdempotencyPersistencePort idempotencyPersistencePort(
+            IdempotencyJpaAdapter idempotencyJpaAdapter,
+            IdempotencyCache idempotencyCache,
+            MeterRegistry meterRegistry
+    ) {
+        return new CachingIdempotencyPersistenceAdapter(idempotencyJpaAdapter, idempotencyCache, meterRegistry);
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.link.inventory.infrastructure.configuration.observability;
+
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.aop.ObservedAspect;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ObservabilityConfig {
+
+    @Bean
+    public ObservedAspect observedAspect(ObservationRegistry observationRegistry) {
+        return new ObservedAspect(observationRegistry);
+    }
+
+    @Bean
+    public Sampler otelSampler(@Value("${app.tracing.max-traces-per-second}") double maxTracesPerSecond) {
+        return Sampler.parentBased(new RateLimitingSampler(maxTracesPerSecond));
+    }
+
+}
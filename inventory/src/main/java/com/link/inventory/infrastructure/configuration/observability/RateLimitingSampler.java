@@ -0,0 +1,61 @@
+package com.link.inventory.infrastructure.configuration.observability;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+
+import java.util.List;
+
+public class RateLimitingSampler implements Sampler {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final double maxTracesPerSecond;
+    private final double creditsPerNanosecond;
+    private final double maxBalance;
+
+    private double balance;
+    private long lastTick;
+
+    public RateLimitingSampler(double maxTracesPerSecond) {
+        this.maxTracesPerSecond = maxTracesPerSecond;
+        this.creditsPerNanosecond = maxTracesPerSecond / NANOS_PER_SECOND;
+        this.maxBalance = Math.max(1.0, maxTracesPerSecond);
+        this.balance = maxBalance;
+        this.lastTick = System.nanoTime();
+    }
+
+    @Override
+    public SamplingResult shouldSample(
+            Context parentContext,
+            String traceId,
+            String name,
+            SpanKind spanKind,
+            Attributes attributes,
+            List<LinkData> parentLinks
+    ) {
+        return tryAcquire(System.nanoTime()) ? SamplingResult.recordAndSample() : SamplingResult.drop();
+    }
+
+    public synchronized boolean tryAcquire(long now) {
+
+        balance = Math.min(maxBalance, balance + Math.max(0L, now - lastTick) * creditsPerNanosecond);
+        lastTick = Math.max(lastTick, now);
+
+        if (balance < 1.0) {
+            return false;
+        }
+
+        balance -= 1.0;
+        return true;
+    }
+
+    @Override
+    public String getDescription() {
+        return "RateLimitingSampler{" + maxTracesPerSecond + "/s}";
+    }
+
+}
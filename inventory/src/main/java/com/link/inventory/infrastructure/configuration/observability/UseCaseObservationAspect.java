@@ -0,0 +1,39 @@
+package com.link.inventory.infrastructure.configuration.observability;
+
+import com.link.inventory.domain.utils.Constants;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class UseCaseObservationAspect {
+
+    private final ObservationRegistry observationRegistry;
+
+    @Around("execution(* com.link.inventory.domain.api.InventoryServicePort.*(..))")
+    public Object observeUseCase(ProceedingJoinPoint joinPoint) throws Throwable {
+
+        String method = joinPoint.getSignature().getName();
+
+        Observation observation = Observation.createNotStarted(Constants.METRIC_INVENTORY_USE_CASE, observationRegistry)
+                .contextualName(Constants.INVENTORY_USE_CASE_SPAN_PREFIX + method)
+                .lowCardinalityKeyValue(Constants.TAG_METHOD, method)
+                .start();
+
+        try (Observation.Scope scope = observation.openScope()) {
+            return joinPoint.proceed();
+        } catch (Throwable throwable) {
+            observation.error(throwable);
+            throw throwable;
+        } finally {
+            observation.stop();
+        }
+    }
+
+}
@@ -33,7 +33,8 @@ public class SecurityConfig {
                         .requestMatchers(
                                 "/swagger-ui/**",
                                 "/v3/api-docs/**",
-                                "/swagger-ui.html"
+                                "/swagger-ui.html",
+                                "/actuator/health/**"
                         ).permitAll()
                         .anyRequest().permitAll()
                 )
@@ -47,7 +48,7 @@ public class SecurityConfig {
         CorsConfiguration config = new CorsConfiguration();
         config.setAllowedOrigins(List.of("http://localhost:4200"));
         config.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
-        config.setAllowedHeaders(List.of("Content-Type", "X-API-Key", "Authorization"));
+        config.setAllowedHeaders(List.of("Content-Type", "X-API-Key", "Authorization", "Idempotency-Key"));
         config.setExposedHeaders(List.of("Content-Type"));
         config.setAllowCredentials(true);
 
@@ -1,9 +1,12 @@
 package com.link.inventory.infrastructure.exception.exceptionhandler;
 
+import com.link.inventory.domain.exceptions.IdempotencyKeyMismatchException;
 import com.link.inventory.domain.exceptions.InsufficientStockException;
+import com.link.inventory.domain.exceptions.InvalidInventoryQueryException;
 import com.link.inventory.domain.exceptions.InventoryAlreadyExistsException;
 import com.link.inventory.domain.exceptions.InventoryNotFoundException;
 import com.link.inventory.domain.exceptions.ProductNotValidException;
+import com.link.inventory.domain.exceptions.ReorderThresholdNotFoundException;
 import com.link.inventory.domain.utils.Constants;
 import com.link.inventory.infrastructure.exception.exceptionhandler.dto.JsonApiError;
 import com.link.inventory.infrastructure.exception.exceptionhandler.dto.JsonApiErrorResponse;
@@ -60,6 +63,22 @@ public class ControllerAdvisor {
                 .body(new JsonApiErrorResponse(error));
     }
 
+    @ExceptionHandler(ReorderThresholdNotFoundException.class)
+    public ResponseEntity<JsonApiErrorResponse> handleReorderThresholdNotFoundException(
+            ReorderThresholdNotFoundException ex
+    ) {
+        JsonApiError error = new JsonApiError(
+                String.valueOf(HttpStatus.NOT_FOUND.value()),
+                Constants.REORDER_THRESHOLD_NOT_FOUND_TITLE,
+                ex.getMessage(),
+                null
+        );
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .contentType(MediaType.parseMediaType(Constants.JSON_API_MEDIA_TYPE))
+                .body(new JsonApiErrorResponse(error));
+    }
+
     @ExceptionHandler(ProductNotValidException.class)
     public ResponseEntity<JsonApiErrorResponse> handleProductNotValidException(
             ProductNotValidException ex
@@ -198,6 +217,38 @@ public class ControllerAdvisor {
                 .body(new JsonApiErrorResponse(error));
     }
 
+    @ExceptionHandler(IdempotencyKeyMismatchException.class)
+    public ResponseEntity<JsonApiErrorResponse> handleIdempotencyKeyMismatchException(
+            IdempotencyKeyMismatchException ex
+    ) {
+        JsonApiError error = new JsonApiError(
+                String.valueOf(HttpStatus.UNPROCESSABLE_ENTITY.value()),
+                Constants.IDEMPOTENCY_KEY_MISMATCH_TITLE,
+                ex.getMessage(),
+                null
+        );
+
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+                .contentType(MediaType.parseMediaType(Constants.JSON_API_MEDIA_TYPE))
+                .body(new JsonApiErrorResponse(error));
+    }
+
+    @ExceptionHandler(InvalidInventoryQueryException.class)
+    public ResponseEntity<JsonApiErrorResponse> handleInvalidInventoryQueryException(
+            InvalidInventoryQueryException ex
+    ) {
+        JsonApiError error = new JsonApiError(
+                String.valueOf(HttpStatus.BAD_REQUEST.value()),
+                Constants.INVALID_INVENTORY_QUERY_TITLE,
+                ex.getMessage(),
+                null
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .contentType(MediaType.parseMediaType(Constants.JSON_API_MEDIA_TYPE))
+                .body(new JsonApiErrorResponse(error));
+    }
+
     @ExceptionHandler(CallNotPermittedException .class)
     public ResponseEntity<JsonApiErrorResponse> handleCircuitBreakerOpen(CallNotPermittedException ex) {
         JsonApiError error = new JsonApiError(
@@ -1,21 +1,30 @@
 package com.link.inventory.infrastructure.input;
 
+import com.link.inventory.application.dto.InventoryPageResponse;
 import com.link.inventory.application.dto.InventoryRequest;
 import com.link.inventory.application.dto.InventoryResponse;
 import com.link.inventory.application.dto.JsonApiResponse;
+import com.link.inventory.application.dto.ReorderThresholdRequest;
+import com.link.inventory.application.dto.ReorderThresholdResponse;
 import com.link.inventory.application.dto.UpdateQuantityRequest;
 import com.link.inventory.application.handler.InventoryHandler;
+import com.link.inventory.domain.model.IdempotencyKey;
+import com.link.inventory.domain.model.InventoryFilter;
 import com.link.inventory.domain.utils.Constants;
 import com.link.inventory.domain.utils.HttpStatusCodes;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -25,10 +34,20 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -37,6 +56,8 @@ import java.util.Map;
 @Validated
 public class InventoryRestController {
 
+    private static final MediaType JSON_API_MEDIA_TYPE = MediaType.parseMediaType(Constants.JSON_API_MEDIA_TYPE);
+
     private final InventoryHandler inventoryHandler;
 
     @Operation(summary = Constants.GET_INVENTORY_BY_PRODUCT_SUMMARY)
@@ -72,17 +93,14 @@ public class InventoryRestController {
 
         JsonApiResponse<InventoryResponse> response = new JsonApiResponse<>(inventoryResponse);
 
-        Map<String, String> links = new HashMap<>();
-        links.put(Constants.LINK_SELF, request.getRequestURL().toString());
-        response.setLinks(links);
+        response.setLinks(Map.of(Constants.LINK_SELF, request.getRequestURL().toString()));
 
         return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(Constants.JSON_API_MEDIA_TYPE))
+                .contentType(JSON_API_MEDIA_TYPE)
                 .body(response);
 
     }
 
-
     @Operation(summary = Constants.CREATE_INVENTORY_SUMMARY)
     @ApiResponses(value = {
             @ApiResponse(
@@ -116,12 +134,10 @@ public class InventoryRestController {
 
         JsonApiResponse<InventoryResponse> response = new JsonApiResponse<>(created);
 
-        Map<String, String> links = new HashMap<>();
-        links.put(Constants.LINK_SELF, request.getRequestURL().toString() + Constants.BACKSLASH + created.getId());
-        response.setLinks(links);
+        response.setLinks(Map.of(Constants.LINK_SELF, request.getRequestURL().toString() + Constants.BACKSLASH + created.getId()));
 
         return ResponseEntity.status(HttpStatus.CREATED)
-                .contentType(MediaType.parseMediaType(Constants.JSON_API_MEDIA_TYPE))
+                .contentType(JSON_API_MEDIA_TYPE)
                 .body(response);
 
     }
@@ -147,6 +163,10 @@ public class InventoryRestController {
             @ApiResponse(
                     responseCode = HttpStatusCodes.CONFLICT,
                     description = Constants.INSUFFICIENT_STOCK_DESCRIPTION
+            ),
+            @ApiResponse(
+                    responseCode = HttpStatusCodes.UNPROCESSABLE_ENTITY,
+                    description = Constants.IDEMPOTENCY_KEY_MISMATCH_DESCRIPTION
             )
     })
     @PutMapping(
@@ -157,21 +177,246 @@ public class InventoryRestController {
     public ResponseEntity<JsonApiResponse<InventoryResponse>> updateQuantity(
             @Valid @PathVariable @Min(1) Long id,
             @Valid @RequestBody UpdateQuantityRequest request,
+            @Parameter(description = Constants.IDEMPOTENCY_KEY_DESCRIPTION)
+            @RequestHeader(name = Constants.HEADER_IDEMPOTENCY_KEY, required = false)
+            @Size(max = Constants.IDEMPOTENCY_KEY_MAX_LENGTH, message = Constants.IDEMPOTENCY_KEY_MAX_EXCEEDED)
+            String idempotencyKey,
             HttpServletRequest httpRequest
     ) {
 
-        InventoryResponse updated = inventoryHandler.updateQuantity(id, request);
+        InventoryResponse updated = inventoryHandler.updateQuantity(
+                id,
+                request,
+                idempotencyKey(idempotencyKey, httpRequest)
+        );
 
         JsonApiResponse<InventoryResponse> response = new JsonApiResponse<>(updated);
 
+        response.setLinks(Map.of(Constants.LINK_SELF, httpRequest.getRequestURL().toString()));
+
+        return ResponseEntity.ok()
+                .contentType(JSON_API_MEDIA_TYPE)
+                .body(response);
+
+    }
+
+    @Operation(summary = Constants.LIST_INVENTORIES_SUMMARY)
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = HttpStatusCodes.OK,
+                    description = Constants.INVENTORIES_FOUND,
+                    content = @Content(
+                            mediaType = Constants.JSON_API_MEDIA_TYPE,
+                            schema = @Schema(implementation = JsonApiResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = HttpStatusCodes.BAD_REQUEST,
+                    description = Constants.BAD_REQUEST_DESCRIPTION,
+                    content = @Content
+            )
+    })
+    @GetMapping(produces = Constants.JSON_API_MEDIA_TYPE)
+    public ResponseEntity<JsonApiResponse<List<InventoryResponse>>> searchInventories(
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) @Min(0) Integer minQuantity,
+            @RequestParam(required = false) @Min(0) Integer maxQuantity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant updatedAfter,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant updatedBefore,
+            @Parameter(description = Constants.SORT_PARAM_DESCRIPTION)
+            @RequestParam(name = Constants.SORT_PARAM, defaultValue = Constants.SORT_DEFAULT) String sort,
+            @Parameter(description = Constants.PAGE_SIZE_PARAM_DESCRIPTION)
+            @RequestParam(name = Constants.PAGE_SIZE_PARAM, defaultValue = Constants.LIST_PAGE_SIZE_DEFAULT)
+            @Min(Constants.MIN_PAGE_SIZE) @Max(Constants.MAX_PAGE_SIZE) int size,
+            @Parameter(description = Constants.PAGE_AFTER_PARAM_DESCRIPTION)
+            @RequestParam(name = Constants.PAGE_AFTER_PARAM, required = false) String after,
+            HttpServletRequest request
+    ) {
+
+        InventoryFilter filter = new InventoryFilter(location, minQuantity, maxQuantity, updatedAfter, updatedBefore);
+
+        return pageResponse(inventoryHandler.searchInventories(filter, sort, after, size), request);
+
+    }
+
+    @Operation(summary = Constants.LOW_STOCK_SUMMARY)
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = HttpStatusCodes.OK,
+                    description = Constants.INVENTORIES_FOUND,
+                    content = @Content(
+                            mediaType = Constants.JSON_API_MEDIA_TYPE,
+                            schema = @Schema(implementation = JsonApiResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = HttpStatusCodes.BAD_REQUEST,
+                    description = Constants.BAD_REQUEST_DESCRIPTION,
+                    content = @Content
+            )
+    })
+    @GetMapping(value = "/low-stock", produces = Constants.JSON_API_MEDIA_TYPE)
+    public ResponseEntity<JsonApiResponse<List<InventoryResponse>>> getLowStockInventories(
+            @RequestParam(defaultValue = Constants.LOW_STOCK_THRESHOLD_DEFAULT) @Min(0) int threshold,
+            @RequestParam(required = false) String location,
+            @Parameter(description = Constants.PAGE_SIZE_PARAM_DESCRIPTION)
+            @RequestParam(name = Constants.PAGE_SIZE_PARAM, defaultValue = Constants.LIST_PAGE_SIZE_DEFAULT)
+            @Min(Constants.MIN_PAGE_SIZE) @Max(Constants.MAX_PAGE_SIZE) int size,
+            @Parameter(description = Constants.PAGE_AFTER_PARAM_DESCRIPTION)
+            @RequestParam(name = Constants.PAGE_AFTER_PARAM, required = false) String after,
+            HttpServletRequest request
+    ) {
+
+        InventoryFilter filter = new InventoryFilter(location, null, threshold, null, null);
+
+        return pageResponse(inventoryHandler.searchInventories(filter, Constants.FIELD_QUANTITY, after, size), request);
+
+    }
+
+    @Operation(summary = Constants.SET_REORDER_THRESHOLD_SUMMARY)
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = HttpStatusCodes.OK,
+                    description = Constants.REORDER_THRESHOLD_SAVED_DESCRIPTION,
+                    content = @Content(
+                            mediaType = Constants.JSON_API_MEDIA_TYPE,
+                            schema = @Schema(implementation = JsonApiResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = HttpStatusCodes.BAD_REQUEST,
+                    description = Constants.BAD_REQUEST_DESCRIPTION
+            ),
+            @ApiResponse(
+                    responseCode = HttpStatusCodes.NOT_FOUND,
+                    description = Constants.INVENTORY_NOT_FOUND_DESCRIPTION
+            )
+    })
+    @PutMapping(
+            value = "/product/{productId}/reorder-threshold",
+            consumes = Constants.JSON_API_MEDIA_TYPE,
+            produces = Constants.JSON_API_MEDIA_TYPE
+    )
+    public ResponseEntity<JsonApiResponse<ReorderThresholdResponse>> setReorderThreshold(
+            @Valid @PathVariable @Min(1) Long productId,
+            @Valid @RequestBody ReorderThresholdRequest request,
+            HttpServletRequest httpRequest
+    ) {
+
+        ReorderThresholdResponse saved = inventoryHandler.setReorderThreshold(productId, request);
+
+        JsonApiResponse<ReorderThresholdResponse> response = new JsonApiResponse<>(saved);
+
+        response.setLinks(Map.of(Constants.LINK_SELF, httpRequest.getRequestURL().toString()));
+
+        return ResponseEntity.ok()
+                .contentType(JSON_API_MEDIA_TYPE)
+                .body(response);
+
+    }
+
+    @Operation(summary = Constants.GET_REORDER_THRESHOLD_SUMMARY)
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = HttpStatusCodes.OK,
+                    description = Constants.REORDER_THRESHOLD_FOUND,
+                    content = @Content(
+                            mediaType = Constants.JSON_API_MEDIA_TYPE,
+                            schema = @Schema(implementation = JsonApiResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = HttpStatusCodes.NOT_FOUND,
+                    description = Constants.REORDER_THRESHOLD_NOT_FOUND_DESCRIPTION
+            )
+    })
+    @GetMapping(value = "/product/{productId}/reorder-threshold", produces = Constants.JSON_API_MEDIA_TYPE)
+    public ResponseEntity<JsonApiResponse<ReorderThresholdResponse>> getReorderThreshold(
+            @Valid @PathVariable @Min(1) Long productId,
+            HttpServletRequest httpRequest
+    ) {
+
+        ReorderThresholdResponse reorderThreshold = inventoryHandler.getReorderThreshold(productId);
+
+        JsonApiResponse<ReorderThresholdResponse> response = new JsonApiResponse<>(reorderThreshold);
+
+        response.setLinks(Map.of(Constants.LINK_SELF, httpRequest.getRequestURL().toString()));
+
+        return ResponseEntity.ok()
+                .contentType(JSON_API_MEDIA_TYPE)
+                .body(response);
+
+    }
+
+    // Called by the product service after a product is created
+    @Operation(summary = Constants.PRODUCT_CREATED_SUMMARY)
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = HttpStatusCodes.NO_CONTENT,
+                    description = Constants.PRODUCT_CREATED_DESCRIPTION
+            ),
+            @ApiResponse(
+                    responseCode = HttpStatusCodes.BAD_REQUEST,
+                    description = Constants.BAD_REQUEST_DESCRIPTION
+            )
+    })
+    @PostMapping(value = "/product/{productId}/created")
+    public ResponseEntity<Void> onProductCreated(@Valid @PathVariable @Min(1) Long productId) {
+
+        inventoryHandler.onProductCreated(productId);
+
+        return ResponseEntity.noContent().build();
+
+    }
+
+    // Scoped to the calling API key and this route, so two clients can't replay each other's responses
+    private static IdempotencyKey idempotencyKey(String header, HttpServletRequest httpRequest) {
+
+        if (header == null || header.isBlank()) {
+            return null;
+        }
+
+        String route = httpRequest.getMethod() + " "
+                + httpRequest.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+
+        return new IdempotencyKey((String) httpRequest.getAttribute(Constants.ATTRIBUTE_API_CLIENT), route, header);
+
+    }
+
+    private ResponseEntity<JsonApiResponse<List<InventoryResponse>>> pageResponse(
+            InventoryPageResponse page,
+            HttpServletRequest request
+    ) {
+
+        JsonApiResponse<List<InventoryResponse>> response = new JsonApiResponse<>(page.getContent());
+
+        UriComponentsBuilder current = currentRequest(request);
         Map<String, String> links = new HashMap<>();
-        links.put(Constants.LINK_SELF, httpRequest.getRequestURL().toString());
+        links.put(Constants.LINK_SELF, current.toUriString());
+        if (page.getNextCursor() != null) {
+            links.put(Constants.LINK_NEXT, current.replaceQueryParam(Constants.PAGE_AFTER_PARAM, page.getNextCursor())
+                    .toUriString());
+        }
         response.setLinks(links);
+        response.setMeta(Map.of(Constants.META_PAGE_SIZE, page.getSize()));
 
         return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(Constants.JSON_API_MEDIA_TYPE))
+                .contentType(JSON_API_MEDIA_TYPE)
                 .body(response);
 
     }
 
+    // The request's path with its query rebuilt from the decoded parameters: the raw query string is already
+    // encoded, so building on it would encode values twice and replaceQueryParam would miss encoded names
+    private static UriComponentsBuilder currentRequest(HttpServletRequest request) {
+
+        UriComponents uri = ServletUriComponentsBuilder.fromCurrentRequestUri().build();
+        UriComponentsBuilder builder = UriComponentsBuilder.newInstance()
+                .uriComponents(uri)
+                .replacePath(UriUtils.decode(uri.getPath(), StandardCharsets.UTF_8));
+        request.getParameterMap().forEach((name, values) -> builder.queryParam(name, (Object[]) values));
+
+        return builder;
+    }
+
 }
@@ -0,0 +1,84 @@
+package com.link.inventory.infrastructure.out.alert;
+
+import com.link.inventory.domain.model.LowStockAlert;
+import com.link.inventory.domain.spi.LowStockAlertPublisherPort;
+import com.link.inventory.domain.utils.Constants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+// publish() only offers to a bounded queue; a scheduled flush drains it and hands the notifier one batch at a time.
+// If the notifier falls behind, new alerts are dropped and counted rather than slowing down updateQuantity
+@Slf4j
+public class BatchingLowStockAlertPublisher implements LowStockAlertPublisherPort {
+
+    private final BlockingQueue<LowStockAlert> queue;
+    private final LowStockAlertNotifier notifier;
+    private final int batchSize;
+
+    private final Counter queued;
+    private final Counter dropped;
+    private final Counter delivered;
+    private final Counter failed;
+
+    public BatchingLowStockAlertPublisher(
+            LowStockAlertNotifier notifier,
+            int capacity,
+            int batchSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.notifier = notifier;
+        this.batchSize = batchSize;
+        this.queued = counter(meterRegistry, Constants.OUTCOME_QUEUED);
+        this.dropped = counter(meterRegistry, Constants.OUTCOME_DROPPED);
+        this.delivered = counter(meterRegistry, Constants.OUTCOME_DELIVERED);
+        this.failed = counter(meterRegistry, Constants.OUTCOME_FAILED);
+    }
+
+    @Override
+    public void publish(LowStockAlert alert) {
+        if (queue.offer(alert)) {
+            queued.increment();
+        } else {
+            dropped.increment();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.alerts.low-stock.flush-interval-ms}")
+    @PreDestroy
+    public void flush() {
+
+        List<LowStockAlert> batch = new ArrayList<>(batchSize);
+
+        while (queue.drainTo(batch, batchSize) > 0) {
+            try {
+                notifier.deliver(batch);
+                delivered.increment(batch.size());
+            } catch (RuntimeException e) {
+                failed.increment(batch.size());
+                log.warn(Constants.LOG_LOW_STOCK_DELIVERY_FAILED, batch.size(), e.getMessage());
+            }
+            batch.clear();
+        }
+
+    }
+
+    int pending() {
+        return queue.size();
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(Constants.METRIC_LOW_STOCK_ALERTS)
+                .tag(Constants.TAG_OUTCOME, outcome)
+                .register(meterRegistry);
+    }
+
+}
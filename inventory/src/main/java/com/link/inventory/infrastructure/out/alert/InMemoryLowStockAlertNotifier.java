@@ -0,0 +1,29 @@
+package com.link.inventory.infrastructure.out.alert;
+
+import com.link.inventory.domain.model.LowStockAlert;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class InMemoryLowStockAlertNotifier implements LowStockAlertNotifier {
+
+    private final List<List<LowStockAlert>> batches = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void deliver(List<LowStockAlert> alerts) {
+        batches.add(List.copyOf(alerts));
+    }
+
+    public List<List<LowStockAlert>> getBatches() {
+        return List.copyOf(batches);
+    }
+
+    public List<LowStockAlert> getAlerts() {
+        return batches.stream().flatMap(List::stream).toList();
+    }
+
+    public void clear() {
+        batches.clear();
+    }
+
+}
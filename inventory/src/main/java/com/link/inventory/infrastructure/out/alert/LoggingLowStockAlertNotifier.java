@@ -0,0 +1,27 @@
+package com.link.inventory.infrastructure.out.alert;
+
+import com.link.inventory.domain.model.LowStockAlert;
+import com.link.inventory.domain.utils.Constants;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+@Slf4j
+public class LoggingLowStockAlertNotifier implements LowStockAlertNotifier {
+
+    @Override
+    public void deliver(List<LowStockAlert> alerts) {
+        for (LowStockAlert alert : alerts) {
+            log.warn(
+                    Constants.LOG_LOW_STOCK_ALERT,
+                    alert.getInventoryId(),
+                    alert.getProductId(),
+                    alert.getLocation(),
+                    alert.getQuantity(),
+                    alert.getThreshold(),
+                    alert.getTriggeredAt()
+            );
+        }
+    }
+
+}
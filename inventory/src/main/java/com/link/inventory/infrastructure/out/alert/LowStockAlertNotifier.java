@@ -0,0 +1,11 @@
+package com.link.inventory.infrastructure.out.alert;
+
+import com.link.inventory.domain.model.LowStockAlert;
+
+import java.util.List;
+
+public interface LowStockAlertNotifier {
+
+    void deliver(List<LowStockAlert> alerts);
+
+}
@@ -0,0 +1,28 @@
+package com.link.inventory.infrastructure.out.alert;
+
+import com.link.inventory.domain.model.LowStockAlert;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.List;
+
+// Posts the whole batch as one JSON array; runs on the flush thread, so blocking here never touches a request
+@RequiredArgsConstructor
+public class WebhookLowStockAlertNotifier implements LowStockAlertNotifier {
+
+    private final WebClient webClient;
+    private final Duration timeout;
+
+    @Override
+    public void deliver(List<LowStockAlert> alerts) {
+        webClient.post()
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(alerts)
+                .retrieve()
+                .toBodilessEntity()
+                .block(timeout);
+    }
+
+}
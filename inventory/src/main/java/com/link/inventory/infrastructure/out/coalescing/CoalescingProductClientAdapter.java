@@ -0,0 +1,41 @@
+package com.link.inventory.infrastructure.out.coalescing;
+
+import com.link.inventory.domain.model.Product;
+import com.link.inventory.domain.spi.ProductClientPort;
+import com.link.inventory.domain.utils.Constants;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Collection;
+import java.util.Map;
+
+// Sits outside the circuit breaker and retry, so a burst for one product is one HTTP call and one breaker outcome
+public class CoalescingProductClientAdapter implements ProductClientPort {
+
+    private final ProductClientPort delegate;
+    private final SingleFlight<Long, Product> productById;
+
+    public CoalescingProductClientAdapter(ProductClientPort delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.productById = new SingleFlight<>(
+                Constants.SINGLE_FLIGHT_PRODUCT_CLIENT,
+                product -> new Product(product.getId(), product.getProductName()),
+                meterRegistry
+        );
+    }
+
+    @Override
+    public Product getProductById(Long productId) {
+        return productById.execute(productId, () -> delegate.getProductById(productId));
+    }
+
+    @Override
+    public Map<Long, Product> getProductsByIds(Collection<Long> productIds) {
+        return delegate.getProductsByIds(productIds);
+    }
+
+    @Override
+    public void evictProduct(Long productId) {
+        delegate.evictProduct(productId);
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.link.inventory.infrastructure.out.coalescing;
+
+import com.link.inventory.domain.utils.Constants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+// Concurrent calls for the same key wait on the first caller's load instead of running their own.
+// Nothing is kept once the load finishes, so a caller arriving afterwards always triggers a fresh one.
+// The product service has an identical copy: the services share no code, as with ApiKeyMatcher and
+// RateLimitingSampler. Change both together.
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final UnaryOperator<V> copy;
+
+    private final Counter executed;
+    private final Counter collapsed;
+
+    // copy must return a value no caller shares with another: results are often mutable domain objects
+    public SingleFlight(String name, UnaryOperator<V> copy, MeterRegistry meterRegistry) {
+        this.copy = copy;
+        this.executed = counter(meterRegistry, name, Constants.RESULT_EXECUTED);
+        this.collapsed = counter(meterRegistry, name, Constants.RESULT_COLLAPSED);
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> leader = inFlight.putIfAbsent(key, call);
+
+        if (leader != null) {
+            collapsed.increment();
+            return copy.apply(await(leader));
+        }
+
+        executed.increment();
+
+        try {
+            V value = loader.get();
+            // Waiters copy from a snapshot nobody else holds, so the leader is free to change its own value
+            call.complete(copy.apply(value));
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+
+    }
+
+    int inFlight() {
+        return inFlight.size();
+    }
+
+    // Waiters see the leader's own exception, not the CompletionException wrapper
+    private V await(CompletableFuture<V> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String name, String result) {
+        return Counter.builder(Constants.METRIC_SINGLE_FLIGHT)
+                .tag(Constants.TAG_NAME, name)
+                .tag(Constants.TAG_RESULT, result)
+                .register(meterRegistry);
+    }
+
+}
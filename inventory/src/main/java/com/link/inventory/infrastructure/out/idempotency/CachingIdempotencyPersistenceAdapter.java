@@ -0,0 +1,83 @@
+package com.link.inventory.infrastructure.out.idempotency;
+
+import com.link.inventory.domain.model.IdempotencyRecord;
+import com.link.inventory.domain.spi.IdempotencyPersistencePort;
+import com.link.inventory.domain.utils.Constants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+// Serves repeated keys from memory and falls back to the table for anything evicted or written by another instance
+public class CachingIdempotencyPersistenceAdapter implements IdempotencyPersistencePort {
+
+    private final IdempotencyPersistencePort delegate;
+    private final IdempotencyCache cache;
+
+    private final Counter cacheHits;
+    private final Counter storeHits;
+    private final Counter misses;
+
+    public CachingIdempotencyPersistenceAdapter(
+            IdempotencyPersistencePort delegate,
+            IdempotencyCache cache,
+            MeterRegistry meterRegistry
+    ) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.cacheHits = counter(meterRegistry, Constants.RESULT_CACHE_HIT);
+        this.storeHits = counter(meterRegistry, Constants.RESULT_STORE_HIT);
+        this.misses = counter(meterRegistry, Constants.RESULT_MISS);
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> findByKey(String key) {
+
+        IdempotencyRecord cached = cache.get(key);
+
+        if (cached != null) {
+            cacheHits.increment();
+            return Optional.of(cached);
+        }
+
+        Optional<IdempotencyRecord> stored = delegate.findByKey(key);
+
+        if (stored.isPresent()) {
+            storeHits.increment();
+            cache.put(stored.get());
+        } else {
+            misses.increment();
+        }
+
+        return stored;
+
+    }
+
+    // Cached only after commit: a rolled-back stock change must not be replayable
+    @Override
+    public void save(IdempotencyRecord record) {
+
+        delegate.save(record);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.put(record);
+                }
+            });
+        } else {
+            cache.put(record);
+        }
+
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(Constants.METRIC_IDEMPOTENCY_LOOKUPS)
+                .tag(Constants.TAG_RESULT, result)
+                .register(meterRegistry);
+    }
+
+}
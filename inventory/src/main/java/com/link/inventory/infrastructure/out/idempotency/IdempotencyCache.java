@@ -0,0 +1,89 @@
+package com.link.inventory.infrastructure.out.idempotency;
+
+import com.link.inventory.domain.model.IdempotencyRecord;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+// Bounded, TTL-expiring map in front of the idempotency table. Reads are a single ConcurrentHashMap lookup.
+// Keys are evicted in insertion order, which with one TTL for every key is also expiry order.
+// Losing an entry is harmless: the table stays the source of truth
+public class IdempotencyCache {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<String> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final int maxSize;
+    private final long ttlMillis;
+
+    public IdempotencyCache(int maxSize, Duration ttl) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl.toMillis();
+    }
+
+    public IdempotencyRecord get(String key) {
+
+        Entry entry = entries.get(key);
+
+        if (entry == null) {
+            return null;
+        }
+
+        if (entry.isExpired(System.currentTimeMillis())) {
+            entries.remove(key, entry);
+            return null;
+        }
+
+        return entry.record;
+
+    }
+
+    public void put(IdempotencyRecord record) {
+
+        long expiresAt = record.getCreatedAt().toEpochMilli() + ttlMillis;
+
+        if (entries.put(record.getKey(), new Entry(record, expiresAt)) == null) {
+            insertionOrder.add(record.getKey());
+        }
+
+        evict(System.currentTimeMillis());
+
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // Drops the oldest keys while over capacity, plus any expired or already removed ones at the head
+    private void evict(long now) {
+
+        String head;
+
+        while ((head = insertionOrder.peek()) != null) {
+
+            Entry entry = entries.get(head);
+
+            if (entry != null && !entry.isExpired(now) && entries.size() <= maxSize) {
+                return;
+            }
+
+            String evicted = insertionOrder.poll();
+
+            if (evicted != null) {
+                entries.remove(evicted);
+            }
+        }
+
+    }
+
+    private record Entry(IdempotencyRecord record, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.link.inventory.infrastructure.out.jpa.adapter;
+
+import com.link.inventory.domain.exceptions.DuplicateIdempotencyKeyException;
+import com.link.inventory.domain.model.IdempotencyRecord;
+import com.link.inventory.domain.spi.IdempotencyPersistencePort;
+import com.link.inventory.domain.utils.Constants;
+import com.link.inventory.infrastructure.out.jpa.entity.IdempotencyRecordEntity;
+import com.link.inventory.infrastructure.out.jpa.mapper.IdempotencyRecordEntityMapper;
+import com.link.inventory.infrastructure.out.jpa.repository.IdempotencyRecordRepository;
+import io.micrometer.observation.annotation.Observed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+@Slf4j
+@RequiredArgsConstructor
+@Observed(name = Constants.METRIC_INVENTORY_PERSISTENCE)
+public class IdempotencyJpaAdapter implements IdempotencyPersistencePort {
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final IdempotencyRecordEntityMapper idempotencyRecordEntityMapper;
+    private final Duration ttl;
+
+    @Override
+    public Optional<IdempotencyRecord> findByKey(String key) {
+
+        Instant cutoff = Instant.now().minus(ttl);
+        Optional<IdempotencyRecordEntity> found = idempotencyRecordRepository.findById(key);
+
+        // Expired but not purged yet: removed now, or the insert for a new request with this key would collide
+        if (found.isPresent() && !found.get().getCreatedAt().isAfter(cutoff)) {
+            idempotencyRecordRepository.deleteExpired(key, cutoff);
+            return Optional.empty();
+        }
+
+        return found.map(idempotencyRecordEntityMapper::toDomain);
+
+    }
+
+    // Flushed here so a key stored concurrently by another request fails this insert, not the commit
+    @Override
+    public void save(IdempotencyRecord record) {
+        try {
+            idempotencyRecordRepository.saveAndFlush(idempotencyRecordEntityMapper.toEntity(record));
+        } catch (DataIntegrityViolationException e) {
+            throw new DuplicateIdempotencyKeyException(record.getKey(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval-ms}")
+    @Transactional
+    public void purgeExpired() {
+        int purged = idempotencyRecordRepository.deleteCreatedBefore(Instant.now().minus(ttl));
+        if (purged > 0) {
+            log.info(Constants.LOG_IDEMPOTENCY_PURGED, purged);
+        }
+    }
+
+}
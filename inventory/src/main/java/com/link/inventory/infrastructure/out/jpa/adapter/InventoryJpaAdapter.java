@@ -1,21 +1,41 @@
 package com.link.inventory.infrastructure.out.jpa.adapter;
 
 import com.link.inventory.domain.model.Inventory;
+import com.link.inventory.domain.model.InventoryCursor;
+import com.link.inventory.domain.model.InventoryFilter;
+import com.link.inventory.domain.model.InventorySort;
 import com.link.inventory.domain.spi.InventoryPersistencePort;
+import com.link.inventory.domain.utils.Constants;
 import com.link.inventory.infrastructure.out.jpa.entity.InventoryEntity;
 import com.link.inventory.infrastructure.out.jpa.mapper.InventoryEntityMapper;
 import com.link.inventory.infrastructure.out.jpa.repository.InventoryRepository;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 @RequiredArgsConstructor
+@Observed(name = Constants.METRIC_INVENTORY_PERSISTENCE)
 public class InventoryJpaAdapter implements InventoryPersistencePort {
 
     private final InventoryRepository inventoryRepository;
     private final InventoryEntityMapper inventoryEntityMapper;
+    private final EntityManager entityManager;
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Inventory> findByProductId(Long productId) {
         return inventoryRepository.findByProductId(productId)
                 .map(inventoryEntityMapper::toDomain);
@@ -29,14 +49,112 @@ public class InventoryJpaAdapter implements InventoryPersistencePort {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public boolean existsByProductId(Long productId) {
         return inventoryRepository.existsByProductId(productId);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Inventory> findById(Long id) {
         return inventoryRepository.findById(id)
                 .map(inventoryEntityMapper::toDomain);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Inventory> findInventories(
+            InventoryFilter filter,
+            InventorySort sort,
+            InventoryCursor after,
+            int limit
+    ) {
+
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<InventoryEntity> query = criteriaBuilder.createQuery(InventoryEntity.class);
+        Root<InventoryEntity> root = query.from(InventoryEntity.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+
+        if (filter.getLocation() != null) {
+            predicates.add(criteriaBuilder.equal(root.get(Constants.FIELD_LOCATION), filter.getLocation()));
+        }
+        if (filter.getMinQuantity() != null) {
+            predicates.add(criteriaBuilder.greaterThanOrEqualTo(
+                    root.<Integer>get(Constants.FIELD_QUANTITY), filter.getMinQuantity()));
+        }
+        if (filter.getMaxQuantity() != null) {
+            predicates.add(criteriaBuilder.lessThanOrEqualTo(
+                    root.<Integer>get(Constants.FIELD_QUANTITY), filter.getMaxQuantity()));
+        }
+        if (filter.getUpdatedAfter() != null) {
+            predicates.add(criteriaBuilder.greaterThanOrEqualTo(
+                    root.<Instant>get(Constants.FIELD_LAST_UPDATED), filter.getUpdatedAfter()));
+        }
+        if (filter.getUpdatedBefore() != null) {
+            predicates.add(criteriaBuilder.lessThan(
+                    root.<Instant>get(Constants.FIELD_LAST_UPDATED), filter.getUpdatedBefore()));
+        }
+        if (after != null) {
+            predicates.add(keyset(criteriaBuilder, root, after));
+        }
+
+        query.where(predicates.toArray(Predicate[]::new))
+                .orderBy(ordering(criteriaBuilder, root, sort));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultStream()
+                .map(inventoryEntityMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Optional<Inventory> findByIdForUpdate(Long id) {
+        return inventoryRepository.findByIdForUpdate(id)
+                .map(inventoryEntityMapper::toDomain);
+    }
+
+    // Rows strictly after the cursor in (sort column, id) order, so ties on the sort column never repeat or skip
+    private Predicate keyset(CriteriaBuilder criteriaBuilder, Root<InventoryEntity> root, InventoryCursor after) {
+
+        Path<Long> id = root.get(Constants.FIELD_ID);
+
+        return switch (after.getSort()) {
+            case ID -> criteriaBuilder.greaterThan(id, after.getId());
+            case QUANTITY -> rowAfter(
+                    criteriaBuilder, root.<Integer>get(Constants.FIELD_QUANTITY), after.getQuantity(), id, after.getId());
+            case LAST_UPDATED -> rowAfter(
+                    criteriaBuilder, root.<Instant>get(Constants.FIELD_LAST_UPDATED), after.getLastUpdated(), id, after.getId());
+        };
+    }
+
+    private <T extends Comparable<? super T>> Predicate rowAfter(
+            CriteriaBuilder criteriaBuilder,
+            Path<T> column,
+            T value,
+            Path<Long> id,
+            Long lastId
+    ) {
+        return criteriaBuilder.or(
+                criteriaBuilder.greaterThan(column, value),
+                criteriaBuilder.and(
+                        criteriaBuilder.equal(column, value),
+                        criteriaBuilder.greaterThan(id, lastId)
+                )
+        );
+    }
+
+    private List<Order> ordering(CriteriaBuilder criteriaBuilder, Root<InventoryEntity> root, InventorySort sort) {
+
+        Order byId = criteriaBuilder.asc(root.get(Constants.FIELD_ID));
+
+        if (sort == InventorySort.ID) {
+            return List.of(byId);
+        }
+
+        return List.of(criteriaBuilder.asc(root.get(sort.getFieldName())), byId);
+    }
+
 }
@@ -0,0 +1,22 @@
+package com.link.inventory.infrastructure.out.jpa.adapter;
+
+import com.link.inventory.domain.spi.TransactionPort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+public class JpaTransactionAdapter implements TransactionPort {
+
+    private final TransactionTemplate transactionTemplate;
+
+    public JpaTransactionAdapter(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public <T> T inTransaction(Supplier<T> work) {
+        return transactionTemplate.execute(status -> work.get());
+    }
+
+}
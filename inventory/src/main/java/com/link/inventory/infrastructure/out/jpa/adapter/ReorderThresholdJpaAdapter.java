@@ -0,0 +1,50 @@
+package com.link.inventory.infrastructure.out.jpa.adapter;
+
+import com.link.inventory.domain.model.ReorderThreshold;
+import com.link.inventory.domain.spi.ReorderThresholdPersistencePort;
+import com.link.inventory.domain.utils.Constants;
+import com.link.inventory.infrastructure.out.jpa.entity.ReorderThresholdEntity;
+import com.link.inventory.infrastructure.out.jpa.mapper.ReorderThresholdEntityMapper;
+import com.link.inventory.infrastructure.out.jpa.repository.ReorderThresholdRepository;
+import io.micrometer.observation.annotation.Observed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@RequiredArgsConstructor
+@Observed(name = Constants.METRIC_INVENTORY_PERSISTENCE)
+public class ReorderThresholdJpaAdapter implements ReorderThresholdPersistencePort {
+
+    private final ReorderThresholdRepository reorderThresholdRepository;
+    private final ReorderThresholdEntityMapper reorderThresholdEntityMapper;
+
+    @Override
+    public ReorderThreshold save(ReorderThreshold reorderThreshold) {
+        ReorderThresholdEntity entity = reorderThresholdEntityMapper.toEntity(reorderThreshold);
+        ReorderThresholdEntity savedEntity = reorderThresholdRepository.save(entity);
+        return reorderThresholdEntityMapper.toDomain(savedEntity);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ReorderThreshold> findByProductId(Long productId) {
+        return reorderThresholdRepository.findById(productId)
+                .map(reorderThresholdEntityMapper::toDomain);
+    }
+
+    // Conditional updates: the row lock taken by the UPDATE makes the transition atomic across instances
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean markAlerted(Long productId) {
+        return reorderThresholdRepository.markAlerted(productId) == 1;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void clearAlert(Long productId) {
+        reorderThresholdRepository.clearAlert(productId);
+    }
+
+}
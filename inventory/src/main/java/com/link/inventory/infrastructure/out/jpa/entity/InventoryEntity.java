@@ -5,6 +5,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
@@ -16,7 +17,15 @@ import lombok.Setter;
 import java.time.Instant;
 
 @Entity
-@Table(name = "inventories")
+@Table(
+        name = "inventories",
+        indexes = {
+                @Index(name = "idx_inventories_location_id", columnList = "location, id"),
+                @Index(name = "idx_inventories_location_quantity_id", columnList = "location, quantity, id"),
+                @Index(name = "idx_inventories_quantity_id", columnList = "quantity, id"),
+                @Index(name = "idx_inventories_last_updated_id", columnList = "last_updated, id")
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,34 @@
+package com.link.inventory.infrastructure.out.jpa.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "reorder_thresholds")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReorderThresholdEntity {
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Column(name = "threshold", nullable = false)
+    private Integer threshold;
+
+    @Column(name = "hysteresis", nullable = false)
+    private Integer hysteresis;
+
+    // Default so ddl-auto can add the column to a table that already has thresholds
+    @Column(name = "alerted", nullable = false, columnDefinition = "boolean default false")
+    private boolean alerted;
+
+}
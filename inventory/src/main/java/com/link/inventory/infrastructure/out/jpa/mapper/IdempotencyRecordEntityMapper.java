@@ -0,0 +1,18 @@
+package com.link.inventory.infrastructure.out.jpa.mapper;
+
+import com.link.inventory.domain.model.IdempotencyRecord;
+import com.link.inventory.infrastructure.out.jpa.entity.IdempotencyRecordEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface IdempotencyRecordEntityMapper {
+
+    @Mapping(target = "key", source = "idempotencyKey")
+    IdempotencyRecord toDomain(IdempotencyRecordEntity entity);
+
+    @Mapping(target = "idempotencyKey", source = "key")
+    IdempotencyRecordEntity toEntity(IdempotencyRecord idempotencyRecord);
+
+}
@@ -0,0 +1,15 @@
+package com.link.inventory.infrastructure.out.jpa.mapper;
+
+import com.link.inventory.domain.model.ReorderThreshold;
+import com.link.inventory.infrastructure.out.jpa.entity.ReorderThresholdEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface ReorderThresholdEntityMapper {
+
+    ReorderThreshold toDomain(ReorderThresholdEntity entity);
+
+    ReorderThresholdEntity toEntity(ReorderThreshold reorderThreshold);
+
+}
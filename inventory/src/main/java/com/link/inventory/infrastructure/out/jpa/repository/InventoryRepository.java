@@ -1,7 +1,13 @@
 package com.link.inventory.infrastructure.out.jpa.repository;
 
 import com.link.inventory.infrastructure.out.jpa.entity.InventoryEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -13,4 +19,9 @@ public interface InventoryRepository extends JpaRepository<InventoryEntity, Long
 
     boolean existsByProductId(Long productId);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "3000"))
+    @Query("SELECT i FROM InventoryEntity i WHERE i.id = :id")
+    Optional<InventoryEntity> findByIdForUpdate(@Param("id") Long id);
+
 }
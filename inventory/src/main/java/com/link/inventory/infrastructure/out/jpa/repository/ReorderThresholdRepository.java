@@ -0,0 +1,27 @@
+package com.link.inventory.infrastructure.out.jpa.repository;
+
+import com.link.inventory.infrastructure.out.jpa.entity.ReorderThresholdEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ReorderThresholdRepository extends JpaRepository<ReorderThresholdEntity, Long> {
+
+    // Both transitions also require the stock committed now to still call for them
+    @Modifying
+    @Query("UPDATE ReorderThresholdEntity t SET t.alerted = true "
+            + "WHERE t.productId = :productId AND t.alerted = false "
+            + "AND EXISTS (SELECT i.id FROM InventoryEntity i WHERE i.productId = t.productId AND i.quantity <= t.threshold)")
+    int markAlerted(@Param("productId") Long productId);
+
+    @Modifying
+    @Query("UPDATE ReorderThresholdEntity t SET t.alerted = false "
+            + "WHERE t.productId = :productId AND t.alerted = true "
+            + "AND EXISTS (SELECT i.id FROM InventoryEntity i "
+            + "WHERE i.productId = t.productId AND i.quantity > t.threshold + t.hysteresis)")
+    int clearAlert(@Param("productId") Long productId);
+
+}
@@ -0,0 +1,88 @@
+package com.link.inventory.infrastructure.out.negativecache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+// Product ids the product service answered 404 for, kept for a short TTL and bounded in size.
+// Ids expire in insertion order, which with one TTL for every id is also expiry order
+public class MissingProductCache {
+
+    private final Map<Long, Long> expiryByProductId = new ConcurrentHashMap<>();
+    private final Queue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final int maxSize;
+    private final long ttlMillis;
+
+    public MissingProductCache(int maxSize, Duration ttl) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl.toMillis();
+    }
+
+    public boolean isMissing(Long productId) {
+
+        Long expiresAt = expiryByProductId.get(productId);
+
+        if (expiresAt == null) {
+            return false;
+        }
+
+        if (System.currentTimeMillis() >= expiresAt) {
+            expiryByProductId.remove(productId, expiresAt);
+            return false;
+        }
+
+        return true;
+
+    }
+
+    public void markMissing(Long productId) {
+
+        long now = System.currentTimeMillis();
+        long expiresAt = now + ttlMillis;
+
+        expiryByProductId.put(productId, expiresAt);
+        insertionOrder.add(new Entry(productId, expiresAt));
+
+        expire(now);
+
+    }
+
+    public boolean evict(Long productId) {
+        return expiryByProductId.remove(productId) != null;
+    }
+
+    public int size() {
+        return expiryByProductId.size();
+    }
+
+    // Drops expired ids, and the oldest ones while over maxSize; unlike evict(Long), it never targets one product.
+    // Queue entries whose expiry no longer matches the map were re-marked or evicted since; they are skipped.
+    // The map entry is removed only if it is still the one this queue entry recorded
+    private void expire(long now) {
+
+        Entry head;
+
+        while ((head = insertionOrder.peek()) != null) {
+
+            Long current = expiryByProductId.get(head.productId);
+            boolean stale = current == null || current != head.expiresAt;
+
+            if (!stale && now < head.expiresAt && expiryByProductId.size() <= maxSize) {
+                return;
+            }
+
+            Entry evicted = insertionOrder.poll();
+
+            if (evicted != null) {
+                expiryByProductId.remove(evicted.productId, evicted.expiresAt);
+            }
+        }
+
+    }
+
+    private record Entry(Long productId, long expiresAt) {
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.link.inventory.infrastructure.out.negativecache;
+
+import com.link.inventory.domain.exceptions.ProductNotValidException;
+import com.link.inventory.domain.model.Product;
+import com.link.inventory.domain.spi.ProductClientPort;
+import com.link.inventory.domain.utils.Constants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Collection;
+import java.util.Map;
+
+// Rejects ids the product service recently reported as missing without another round trip
+public class NegativeCachingProductClientAdapter implements ProductClientPort {
+
+    private final ProductClientPort delegate;
+    private final MissingProductCache cache;
+
+    private final Counter rejected;
+    private final Counter stored;
+    private final Counter evicted;
+
+    public NegativeCachingProductClientAdapter(
+            ProductClientPort delegate,
+            MissingProductCache cache,
+            MeterRegistry meterRegistry
+    ) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.rejected = counter(meterRegistry, Constants.OUTCOME_REJECTED);
+        this.stored = counter(meterRegistry, Constants.OUTCOME_STORED);
+        this.evicted = counter(meterRegistry, Constants.OUTCOME_EVICTED);
+    }
+
+    @Override
+    public Product getProductById(Long productId) {
+
+        if (cache.isMissing(productId)) {
+            rejected.increment();
+            throw new ProductNotValidException(productId);
+        }
+
+        try {
+            return delegate.getProductById(productId);
+        } catch (ProductNotValidException e) {
+            // A malformed body also surfaces as ProductNotValidException, but not for the requested id
+            if (productId.equals(e.getProductId())) {
+                cache.markMissing(productId);
+                stored.increment();
+            }
+            throw e;
+        }
+
+    }
+
+    // Any id the batch returns exists, so a stale entry for it is dropped on the way
+    @Override
+    public Map<Long, Product> getProductsByIds(Collection<Long> productIds) {
+
+        Map<Long, Product> products = delegate.getProductsByIds(productIds);
+
+        if (cache.size() > 0) {
+            products.keySet().forEach(this::forget);
+        }
+
+        return products;
+
+    }
+
+    @Override
+    public void evictProduct(Long productId) {
+        forget(productId);
+        delegate.evictProduct(productId);
+    }
+
+    private void forget(Long productId) {
+        if (cache.evict(productId)) {
+            evicted.increment();
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(Constants.METRIC_MISSING_PRODUCT_CACHE)
+                .tag(Constants.TAG_OUTCOME, outcome)
+                .register(meterRegistry);
+    }
+
+}
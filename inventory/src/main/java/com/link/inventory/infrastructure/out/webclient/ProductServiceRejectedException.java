@@ -0,0 +1,17 @@
+package com.link.inventory.infrastructure.out.webclient;
+
+import com.link.inventory.domain.utils.Constants;
+import lombok.Getter;
+
+// A 4xx other than an unknown product: the request itself is wrong (API key, media type), so retrying it or
+// counting it against the breaker would only hide a configuration error behind an open circuit
+@Getter
+public class ProductServiceRejectedException extends RuntimeException {
+
+    private final int status;
+
+    public ProductServiceRejectedException(int status) {
+        super(Constants.PRODUCT_SERVICE_REJECTED_MESSAGE + status);
+        this.status = status;
+    }
+}
@@ -6,18 +6,29 @@ import com.link.inventory.domain.spi.ProductClientPort;
 import com.link.inventory.domain.utils.Constants;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
+@Observed(name = Constants.METRIC_PRODUCT_CLIENT)
 public class ProductWebClient implements ProductClientPort {
 
+    private static final MediaType JSON_API_MEDIA_TYPE = MediaType.parseMediaType(Constants.JSON_API_MEDIA_TYPE);
+
     private final WebClient productWebClient;
 
     @Override
@@ -28,10 +39,16 @@ public class ProductWebClient implements ProductClientPort {
         log.debug(Constants.LOG_CALLING_PRODUCT_SERVICE, productId);
 
         return productWebClient.get()
-                .uri(Constants.URI_PRODUCT_ID, productId)
+                .uri(uriBuilder -> uriBuilder
+                        .path(Constants.URI_PRODUCT_ID)
+                        .queryParam(Constants.FIELDS_PRODUCT_PARAM, Constants.PRODUCT_CLIENT_FIELDSET)
+                        .build(productId))
+                .accept(MediaType.APPLICATION_CBOR, JSON_API_MEDIA_TYPE)
                 .retrieve()
-                .onStatus(HttpStatusCode::is4xxClientError,
+                .onStatus(ProductWebClient::isUnknownProduct,
                         response -> Mono.error(new ProductNotValidException(productId)))
+                .onStatus(HttpStatusCode::is4xxClientError,
+                        response -> Mono.error(new ProductServiceRejectedException(response.statusCode().value())))
                 .onStatus(HttpStatusCode::is5xxServerError,
                         response -> Mono.error(
                                 new RuntimeException(Constants.PRODUCT_SERVICE_UNAVAILABLE_MESSAGE)
@@ -44,11 +61,78 @@ public class ProductWebClient implements ProductClientPort {
 
     }
 
+    @Override
+    @CircuitBreaker(name = Constants.CIRCUIT_BREAKER_NAME, fallbackMethod = Constants.BATCH_FALLBACK_METHOD_NAME)
+    @Retry(name = Constants.RETRY_NAME)
+    public Map<Long, Product> getProductsByIds(Collection<Long> productIds) {
+
+        log.debug(Constants.LOG_CALLING_PRODUCT_SERVICE_BATCH, productIds.size());
+
+        String ids = productIds.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(Constants.ID_SEPARATOR));
+
+        JsonApiProductListResponse response = productWebClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path(Constants.URI_PRODUCT_BATCH)
+                        .queryParam(Constants.FILTER_ID_PARAM, ids)
+                        .queryParam(Constants.FIELDS_PRODUCT_PARAM, Constants.PRODUCT_CLIENT_FIELDSET)
+                        .build())
+                .accept(MediaType.APPLICATION_CBOR, JSON_API_MEDIA_TYPE)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError,
+                        clientResponse -> Mono.error(
+                                new ProductServiceRejectedException(clientResponse.statusCode().value())
+                        )
+                )
+                .onStatus(HttpStatusCode::is5xxServerError,
+                        clientResponse -> Mono.error(
+                                new RuntimeException(Constants.PRODUCT_SERVICE_UNAVAILABLE_MESSAGE)
+                        )
+                )
+                .bodyToMono(JsonApiProductListResponse.class)
+                .timeout(Duration.ofSeconds(Constants.WEBCLIENT_RESPONSE_TIMEOUT_SECONDS))
+                .block(Duration.ofSeconds(Constants.WEBCLIENT_BLOCK_TIMEOUT_SECONDS));
+
+        Map<Long, Product> products = new HashMap<>();
+        if (response != null && response.getData() != null) {
+            for (ProductData data : response.getData()) {
+                Product product = toProduct(data);
+                products.put(product.getId(), product);
+            }
+        }
+        return products;
+
+    }
+
+    // Nothing is cached at this level; the negative cache above it handles evictions
+    @Override
+    public void evictProduct(Long productId) {
+    }
+
+    // An unknown product is an answer and a rejected request a caller error, not an outage: both pass through untouched
     private Product getProductByIdFallback(Long productId, Throwable throwable) {
+        if (throwable instanceof ProductNotValidException productNotValidException) {
+            throw productNotValidException;
+        }
+        if (throwable instanceof ProductServiceRejectedException productServiceRejectedException) {
+            throw productServiceRejectedException;
+        }
         log.error(Constants.LOG_CIRCUIT_BREAKER_OPEN, productId);
         throw new RuntimeException(Constants.PRODUCT_SERVICE_UNAVAILABLE_MESSAGE, throwable);
     }
 
+    // Listings degrade to rows without product names instead of failing
+    private Map<Long, Product> getProductsByIdsFallback(Collection<Long> productIds, Throwable throwable) {
+        log.warn(Constants.LOG_PRODUCT_BATCH_FALLBACK, productIds.size(), throwable.getMessage());
+        return Map.of();
+    }
+
+    // 404 for a missing product, 400 for an id the product service refuses to look up
+    private static boolean isUnknownProduct(HttpStatusCode status) {
+        return status.isSameCodeAs(HttpStatus.NOT_FOUND) || status.isSameCodeAs(HttpStatus.BAD_REQUEST);
+    }
+
     private Product toProduct(ProductData data) {
 
         if (data == null || data.getId() == null) {
@@ -67,16 +151,19 @@ public class ProductWebClient implements ProductClientPort {
 
     }
 
+    @lombok.Data
+    private static class JsonApiProductListResponse {
+
+        private List<ProductData> data;
+        private Links links;
+
+    }
+
     @lombok.Data
     private static class ProductData {
 
         private String id;
         private String productName;
-        private String description;
-        private Double price;
-        private String category;
-        private String brand;
-        private String imageUrl;
 
     }
 
@@ -2,11 +2,16 @@ package com.link.inventory.application.handler;
 
 import com.link.inventory.application.dto.InventoryRequest;
 import com.link.inventory.application.dto.InventoryResponse;
+import com.link.inventory.application.dto.ReorderThresholdRequest;
+import com.link.inventory.application.dto.ReorderThresholdResponse;
 import com.link.inventory.application.dto.UpdateQuantityRequest;
 import com.link.inventory.application.mappers.InventoryRequestMapper;
 import com.link.inventory.application.mappers.InventoryResponseMapper;
 import com.link.inventory.domain.api.InventoryServicePort;
+import com.link.inventory.domain.api.LowStockAlertServicePort;
+import com.link.inventory.domain.model.IdempotencyKey;
 import com.link.inventory.domain.model.Inventory;
+import com.link.inventory.domain.model.ReorderThreshold;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -33,6 +38,9 @@ class InventoryHandlerImplTest {
     @Mock
     private InventoryRequestMapper inventoryRequestMapper;
 
+    @Mock
+    private LowStockAlertServicePort lowStockAlertServicePort;
+
     @InjectMocks
     private InventoryHandlerImpl inventoryHandler;
 
@@ -125,16 +133,16 @@ class InventoryHandlerImplTest {
                 "1", 5L, "iPhone 15 Pro", 90, "Warehouse A", Instant.now().toString()
         );
 
-        when(inventoryServicePort.updateQuantity(inventoryId, -10, "PURCHASE")).thenReturn(updatedInventory);
+        when(inventoryServicePort.updateQuantity(inventoryId, -10, "PURCHASE", null)).thenReturn(updatedInventory);
         when(inventoryResponseMapper.toResponse(updatedInventory)).thenReturn(updatedResponse);
 
         // When
-        InventoryResponse result = inventoryHandler.updateQuantity(inventoryId, updateQuantityRequest);
+        InventoryResponse result = inventoryHandler.updateQuantity(inventoryId, updateQuantityRequest, null);
 
         // Then
         assertNotNull(result);
         assertEquals(90, result.getQuantity());
-        verify(inventoryServicePort, times(1)).updateQuantity(inventoryId, -10, "PURCHASE");
+        verify(inventoryServicePort, times(1)).updateQuantity(inventoryId, -10, "PURCHASE", null);
         verify(inventoryResponseMapper, times(1)).toResponse(updatedInventory);
     }
 
@@ -153,19 +161,20 @@ class InventoryHandlerImplTest {
                 "Warehouse A",
                 Instant.now().toString());
 
-        when(inventoryServicePort.updateQuantity(inventoryId, 20, "STOCK ADJUSTMENT"))
+        when(inventoryServicePort.updateQuantity(inventoryId, 20, "STOCK ADJUSTMENT", null))
                 .thenReturn(updatedInventory);
         when(inventoryResponseMapper.toResponse(updatedInventory)).thenReturn(updatedResponse);
 
         // When
-        InventoryResponse result = inventoryHandler.updateQuantity(inventoryId, addRequest);
+        InventoryResponse result = inventoryHandler.updateQuantity(inventoryId, addRequest, null);
 
         // Then
         assertNotNull(result);
         assertEquals(120, result.getQuantity());
         verify(inventoryServicePort, times(1)).updateQuantity(inventoryId,
                 20,
-                "STOCK ADJUSTMENT");
+                "STOCK ADJUSTMENT",
+                null);
     }
 
     @Test
@@ -173,14 +182,28 @@ class InventoryHandlerImplTest {
         // Given
         Long inventoryId = 1L;
         UpdateQuantityRequest nullReasonRequest = new UpdateQuantityRequest(-5, null);
-        when(inventoryServicePort.updateQuantity(inventoryId, -5, null)).thenReturn(inventory);
+        when(inventoryServicePort.updateQuantity(inventoryId, -5, null, null)).thenReturn(inventory);
 
         // When
-        inventoryHandler.updateQuantity(inventoryId, nullReasonRequest);
+        inventoryHandler.updateQuantity(inventoryId, nullReasonRequest, null);
 
         // Then
         verify(inventoryServicePort, times(1))
-                .updateQuantity(inventoryId, -5, null);
+                .updateQuantity(inventoryId, -5, null, null);
+    }
+
+    @Test
+    void shouldPassIdempotencyKey() {
+        // Given
+        Long inventoryId = 1L;
+        IdempotencyKey key = new IdempotencyKey("client-a", "PUT /inventory/{id}/quantity", "order-42");
+        when(inventoryServicePort.updateQuantity(inventoryId, -10, "PURCHASE", key)).thenReturn(inventory);
+
+        // When
+        inventoryHandler.updateQuantity(inventoryId, updateQuantityRequest, key);
+
+        // Then
+        verify(inventoryServicePort, times(1)).updateQuantity(inventoryId, -10, "PURCHASE", key);
     }
 
     // ========== INTEGRATION TESTS ==========
@@ -225,7 +248,24 @@ class InventoryHandlerImplTest {
 
         // When & Then
         assertThrows(NullPointerException.class, () -> {
-            inventoryHandler.updateQuantity(inventoryId, null);
+            inventoryHandler.updateQuantity(inventoryId, null, null);
         });
     }
+
+    @Test
+    void shouldDefaultHysteresisWhenSettingReorderThreshold() {
+        // Given
+        ReorderThreshold expected = ReorderThreshold.unalerted(5L, 20, 0);
+        when(lowStockAlertServicePort.setReorderThreshold(expected)).thenReturn(expected);
+
+        // When
+        ReorderThresholdResponse result =
+                inventoryHandler.setReorderThreshold(5L, new ReorderThresholdRequest(20, null));
+
+        // Then
+        assertEquals(5L, result.getProductId());
+        assertEquals(20, result.getThreshold());
+        assertEquals(0, result.getHysteresis());
+        verify(lowStockAlertServicePort, times(1)).setReorderThreshold(expected);
+    }
 }
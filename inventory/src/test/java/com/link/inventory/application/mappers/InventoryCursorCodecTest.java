@@ -0,0 +1,50 @@
+package com.link.inventory.application.mappers;
+
+import com.link.inventory.domain.exceptions.InvalidInventoryQueryException;
+import com.link.inventory.domain.model.InventoryCursor;
+import com.link.inventory.domain.model.InventorySort;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class InventoryCursorCodecTest {
+
+    @Test
+    void shouldRoundTripCursor() {
+        // Given
+        InventoryCursor cursor = new InventoryCursor(
+                InventorySort.LAST_UPDATED, 42L, 7, Instant.parse("2025-03-01T10:15:30.123456789Z")
+        );
+
+        // When
+        InventoryCursor decoded = InventoryCursorCodec.decode(InventoryCursorCodec.encode(cursor));
+
+        // Then
+        assertEquals(cursor, decoded);
+    }
+
+    @Test
+    void shouldReturnNullForMissingCursor() {
+        assertNull(InventoryCursorCodec.encode(null));
+        assertNull(InventoryCursorCodec.decode(null));
+        assertNull(InventoryCursorCodec.decode(" "));
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() {
+        // Given
+        String unknownSort = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("PRICE|1|2|3|4".getBytes(StandardCharsets.UTF_8));
+
+        // When & Then
+        assertThrows(InvalidInventoryQueryException.class, () -> InventoryCursorCodec.decode("not*base64"));
+        assertThrows(InvalidInventoryQueryException.class, () -> InventoryCursorCodec.decode(unknownSort));
+    }
+
+}
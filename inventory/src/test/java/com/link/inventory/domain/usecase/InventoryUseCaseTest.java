@@ -1,27 +1,51 @@
 package com.link.inventory.domain.usecase;
 
+import com.link.inventory.domain.api.LowStockAlertServicePort;
+import com.link.inventory.domain.exceptions.DuplicateIdempotencyKeyException;
+import com.link.inventory.domain.exceptions.IdempotencyKeyMismatchException;
 import com.link.inventory.domain.exceptions.InsufficientStockException;
+import com.link.inventory.domain.exceptions.InvalidInventoryQueryException;
 import com.link.inventory.domain.exceptions.InventoryAlreadyExistsException;
 import com.link.inventory.domain.exceptions.InventoryNotFoundException;
+import com.link.inventory.domain.model.IdempotencyKey;
+import com.link.inventory.domain.model.IdempotencyRecord;
 import com.link.inventory.domain.model.Inventory;
+import com.link.inventory.domain.model.InventoryCursor;
+import com.link.inventory.domain.model.InventoryFilter;
+import com.link.inventory.domain.model.InventoryPage;
+import com.link.inventory.domain.model.InventorySort;
+import com.link.inventory.domain.model.LowStockAlert;
 import com.link.inventory.domain.model.Product;
+import com.link.inventory.domain.spi.IdempotencyPersistencePort;
 import com.link.inventory.domain.spi.InventoryPersistencePort;
 import com.link.inventory.domain.spi.ProductClientPort;
+import com.link.inventory.domain.spi.TransactionPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -30,12 +54,24 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class InventoryUseCaseTest {
 
+    private static final IdempotencyKey ORDER_42 =
+            new IdempotencyKey("client-a", "PUT /inventory/{id}/quantity", "order-42");
+
     @Mock
     private InventoryPersistencePort inventoryPersistencePort;
 
     @Mock
     private ProductClientPort productClientPort;
 
+    @Mock
+    private TransactionPort transactionPort;
+
+    @Mock
+    private LowStockAlertServicePort lowStockAlertServicePort;
+
+    @Mock
+    private IdempotencyPersistencePort idempotencyPersistencePort;
+
     @InjectMocks
     private InventoryUseCase inventoryUseCase;
 
@@ -48,6 +84,8 @@ class InventoryUseCaseTest {
                 1L, 5L, "iPhone 15 Pro", 100, "Warehouse A", Instant.now()
         );
         product = new Product(5L, "iPhone 15 Pro");
+        lenient().when(transactionPort.inTransaction(any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
     }
 
     // ========== TESTS OF GET INVENTORY BY PRODUCT ID ==========
@@ -131,11 +169,12 @@ class InventoryUseCaseTest {
         // Given
         Long inventoryId = 1L;
         when(inventoryPersistencePort.findById(inventoryId)).thenReturn(Optional.of(inventory));
+        when(inventoryPersistencePort.findByIdForUpdate(inventoryId)).thenReturn(Optional.of(inventory));
         when(inventoryPersistencePort.save(inventory)).thenReturn(inventory);
         when(productClientPort.getProductById(5L)).thenReturn(product);
 
         // When
-        Inventory result = inventoryUseCase.updateQuantity(inventoryId, -10, "PURCHASE");
+        Inventory result = inventoryUseCase.updateQuantity(inventoryId, -10, "PURCHASE", null);
 
         // Then
         assertEquals(90, result.getQuantity());
@@ -143,6 +182,64 @@ class InventoryUseCaseTest {
         verify(inventoryPersistencePort, times(1)).findById(inventoryId);
         verify(inventoryPersistencePort, times(1)).save(inventory);
         verify(productClientPort, times(1)).getProductById(5L);
+        verify(lowStockAlertServicePort, times(1)).onQuantityChanged(inventory);
+    }
+
+    @Test
+    void shouldCheckLowStockInItsOwnTransactionAfterTheStockChange() {
+        // Given
+        Long inventoryId = 1L;
+        LowStockAlert alert = new LowStockAlert(1L, 5L, "Warehouse A", 5, 10, Instant.now());
+        when(inventoryPersistencePort.findById(inventoryId)).thenReturn(Optional.of(inventory));
+        when(inventoryPersistencePort.findByIdForUpdate(inventoryId)).thenReturn(Optional.of(inventory));
+        when(inventoryPersistencePort.save(inventory)).thenReturn(inventory);
+        when(productClientPort.getProductById(5L)).thenReturn(product);
+        when(lowStockAlertServicePort.onQuantityChanged(inventory)).thenReturn(Optional.of(alert));
+
+        // When
+        inventoryUseCase.updateQuantity(inventoryId, -95, "PURCHASE", null);
+
+        // Then
+        InOrder order = inOrder(inventoryPersistencePort, transactionPort, lowStockAlertServicePort);
+        order.verify(inventoryPersistencePort).save(inventory);
+        order.verify(transactionPort).inTransaction(any());
+        order.verify(lowStockAlertServicePort).onQuantityChanged(inventory);
+        order.verify(lowStockAlertServicePort).publish(alert);
+    }
+
+    @Test
+    void shouldKeepCommittedChangeWhenLowStockCheckFails() {
+        // Given
+        Long inventoryId = 1L;
+        when(inventoryPersistencePort.findById(inventoryId)).thenReturn(Optional.of(inventory));
+        when(inventoryPersistencePort.findByIdForUpdate(inventoryId)).thenReturn(Optional.of(inventory));
+        when(inventoryPersistencePort.save(inventory)).thenReturn(inventory);
+        when(productClientPort.getProductById(5L)).thenReturn(product);
+        when(lowStockAlertServicePort.onQuantityChanged(inventory)).thenThrow(new IllegalStateException("connection reset"));
+
+        // When
+        Inventory result = inventoryUseCase.updateQuantity(inventoryId, -95, "PURCHASE", null);
+
+        // Then
+        assertEquals(5, result.getQuantity());
+        verify(lowStockAlertServicePort, never()).publish(any());
+    }
+
+    @Test
+    void shouldNotPublishWhenNoAlertRaised() {
+        // Given
+        Long inventoryId = 1L;
+        when(inventoryPersistencePort.findById(inventoryId)).thenReturn(Optional.of(inventory));
+        when(inventoryPersistencePort.findByIdForUpdate(inventoryId)).thenReturn(Optional.of(inventory));
+        when(inventoryPersistencePort.save(inventory)).thenReturn(inventory);
+        when(productClientPort.getProductById(5L)).thenReturn(product);
+        when(lowStockAlertServicePort.onQuantityChanged(inventory)).thenReturn(Optional.empty());
+
+        // When
+        inventoryUseCase.updateQuantity(inventoryId, -10, "PURCHASE", null);
+
+        // Then
+        verify(lowStockAlertServicePort, never()).publish(any());
     }
 
     @Test
@@ -150,11 +247,12 @@ class InventoryUseCaseTest {
         // Given
         Long inventoryId = 1L;
         when(inventoryPersistencePort.findById(inventoryId)).thenReturn(Optional.of(inventory));
+        when(inventoryPersistencePort.findByIdForUpdate(inventoryId)).thenReturn(Optional.of(inventory));
         when(inventoryPersistencePort.save(inventory)).thenReturn(inventory);
         when(productClientPort.getProductById(5L)).thenReturn(product);
 
         // When
-        Inventory result = inventoryUseCase.updateQuantity(inventoryId, 20, "STOCK ADJUSTMENT");
+        Inventory result = inventoryUseCase.updateQuantity(inventoryId, 20, "STOCK ADJUSTMENT", null);
 
         // Then
         assertEquals(120, result.getQuantity());
@@ -170,12 +268,13 @@ class InventoryUseCaseTest {
 
         // When & Then
         assertThrows(InventoryNotFoundException.class, () -> {
-            inventoryUseCase.updateQuantity(inventoryId, -10, "PURCHASE");
+            inventoryUseCase.updateQuantity(inventoryId, -10, "PURCHASE", null);
         });
 
         verify(inventoryPersistencePort, times(1)).findById(inventoryId);
         verify(inventoryPersistencePort, never()).save(any());
         verify(productClientPort, never()).getProductById(anyLong());
+        verify(transactionPort, never()).inTransaction(any());
     }
 
     @Test
@@ -184,14 +283,16 @@ class InventoryUseCaseTest {
         inventory.setQuantity(5); // Only 5 available
         Long inventoryId = 1L;
         when(inventoryPersistencePort.findById(inventoryId)).thenReturn(Optional.of(inventory));
+        when(inventoryPersistencePort.findByIdForUpdate(inventoryId)).thenReturn(Optional.of(inventory));
 
         // When & Then
         assertThrows(InsufficientStockException.class, () -> {
-            inventoryUseCase.updateQuantity(inventoryId, -10, "PURCHASE");
+            inventoryUseCase.updateQuantity(inventoryId, -10, "PURCHASE", null);
         });
 
         verify(inventoryPersistencePort, times(1)).findById(inventoryId);
         verify(inventoryPersistencePort, never()).save(any());
+        verify(lowStockAlertServicePort, never()).onQuantityChanged(any());
     }
 
     @Test
@@ -199,13 +300,292 @@ class InventoryUseCaseTest {
         // Given
         Long inventoryId = 1L;
         when(inventoryPersistencePort.findById(inventoryId)).thenReturn(Optional.of(inventory));
+        when(inventoryPersistencePort.findByIdForUpdate(inventoryId)).thenReturn(Optional.of(inventory));
         when(inventoryPersistencePort.save(inventory)).thenReturn(inventory);
         when(productClientPort.getProductById(5L)).thenReturn(product);
 
         // When
-        inventoryUseCase.updateQuantity(inventoryId, -5, null);
+        inventoryUseCase.updateQuantity(inventoryId, -5, null, null);
 
         // Then - No exception, uses "NOT_SPECIFIED_REASON"
         verify(inventoryPersistencePort, times(1)).save(inventory);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldLookUpProductBeforeOpeningTheTransaction() {
+        // Given
+        Long inventoryId = 1L;
+        when(inventoryPersistencePort.findById(inventoryId)).thenReturn(Optional.of(inventory));
+        when(inventoryPersistencePort.findByIdForUpdate(inventoryId)).thenReturn(Optional.of(inventory));
+        when(inventoryPersistencePort.save(inventory)).thenReturn(inventory);
+        when(productClientPort.getProductById(5L)).thenReturn(product);
+
+        // When
+        Inventory result = inventoryUseCase.updateQuantity(inventoryId, 1, "RESTOCK", null);
+
+        // Then
+        InOrder order = inOrder(productClientPort, transactionPort, inventoryPersistencePort);
+        order.verify(productClientPort).getProductById(5L);
+        order.verify(transactionPort).inTransaction(any());
+        order.verify(inventoryPersistencePort).findByIdForUpdate(inventoryId);
+        order.verify(inventoryPersistencePort).save(inventory);
+        assertEquals("iPhone 15 Pro", result.getProductName());
+    }
+
+    @Test
+    void shouldNotOpenTransactionWhenProductLookupFails() {
+        // Given
+        Long inventoryId = 1L;
+        when(inventoryPersistencePort.findById(inventoryId)).thenReturn(Optional.of(inventory));
+        when(productClientPort.getProductById(5L)).thenThrow(new IllegalStateException("product service down"));
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> {
+            inventoryUseCase.updateQuantity(inventoryId, -1, "PURCHASE", null);
+        });
+
+        verify(transactionPort, never()).inTransaction(any());
+        verify(inventoryPersistencePort, never()).save(any());
+    }
+
+    // ========== TESTS OF IDEMPOTENT UPDATE QUANTITY ==========
+
+    @Test
+    void shouldRecordIdempotencyKeyInTheSameTransaction() {
+        // Given
+        Long inventoryId = 1L;
+        when(idempotencyPersistencePort.findByKey(ORDER_42.getScoped())).thenReturn(Optional.empty());
+        when(inventoryPersistencePort.findById(inventoryId)).thenReturn(Optional.of(inventory));
+        when(inventoryPersistencePort.findByIdForUpdate(inventoryId)).thenReturn(Optional.of(inventory));
+        when(inventoryPersistencePort.save(inventory)).thenReturn(inventory);
+        when(productClientPort.getProductById(5L)).thenReturn(product);
+
+        // When
+        inventoryUseCase.updateQuantity(inventoryId, -10, "PURCHASE", ORDER_42);
+
+        // Then
+        ArgumentCaptor<IdempotencyRecord> record = ArgumentCaptor.forClass(IdempotencyRecord.class);
+        InOrder order = inOrder(transactionPort, inventoryPersistencePort, idempotencyPersistencePort);
+        order.verify(transactionPort).inTransaction(any());
+        order.verify(inventoryPersistencePort).save(inventory);
+        order.verify(idempotencyPersistencePort).save(record.capture());
+        assertEquals(ORDER_42.getScoped(), record.getValue().getKey());
+        assertEquals(-10, record.getValue().getQuantityChange());
+        assertEquals(90, record.getValue().getQuantity());
+        assertEquals("iPhone 15 Pro", record.getValue().getProductName());
+    }
+
+    @Test
+    void shouldReplayStoredResponseWithoutApplyingTheChangeAgain() {
+        // Given
+        Long inventoryId = 1L;
+        IdempotencyRecord stored = IdempotencyRecord.of(ORDER_42.getScoped(), -10,
+                new Inventory(1L, 5L, "iPhone 15 Pro", 90, "Warehouse A", Instant.now()));
+        when(idempotencyPersistencePort.findByKey(ORDER_42.getScoped())).thenReturn(Optional.of(stored));
+
+        // When
+        Inventory result = inventoryUseCase.updateQuantity(inventoryId, -10, "PURCHASE", ORDER_42);
+
+        // Then
+        assertEquals(90, result.getQuantity());
+        assertEquals("iPhone 15 Pro", result.getProductName());
+        verify(productClientPort, never()).getProductById(anyLong());
+        verify(transactionPort, never()).inTransaction(any());
+        verify(lowStockAlertServicePort, never()).onQuantityChanged(any());
+        verify(lowStockAlertServicePort, never()).publish(any());
+    }
+
+    @Test
+    void shouldReplayWhenConcurrentRetryCommittedFirst() {
+        // Given
+        Long inventoryId = 1L;
+        IdempotencyRecord stored = IdempotencyRecord.of(ORDER_42.getScoped(), -10,
+                new Inventory(1L, 5L, "iPhone 15 Pro", 90, "Warehouse A", Instant.now()));
+        when(idempotencyPersistencePort.findByKey(ORDER_42.getScoped()))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(stored));
+        when(inventoryPersistencePort.findById(inventoryId)).thenReturn(Optional.of(inventory));
+        when(inventoryPersistencePort.findByIdForUpdate(inventoryId)).thenReturn(Optional.of(inventory));
+        when(productClientPort.getProductById(5L)).thenReturn(product);
+
+        // When
+        Inventory result = inventoryUseCase.updateQuantity(inventoryId, -10, "PURCHASE", ORDER_42);
+
+        // Then
+        assertEquals(90, result.getQuantity());
+        assertEquals(100, inventory.getQuantity());
+        verify(inventoryPersistencePort, never()).save(any());
+        verify(idempotencyPersistencePort, never()).save(any());
+        verify(lowStockAlertServicePort, never()).onQuantityChanged(any());
+    }
+
+    @Test
+    void shouldReplayWhenSameKeyWasStoredConcurrentlyForAnotherRow() {
+        // Given: both requests missed the key; the other one's insert committed first
+        Long inventoryId = 1L;
+        IdempotencyRecord stored = IdempotencyRecord.of(ORDER_42.getScoped(), -10,
+                new Inventory(1L, 5L, "iPhone 15 Pro", 90, "Warehouse A", Instant.now()));
+        when(idempotencyPersistencePort.findByKey(ORDER_42.getScoped()))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(stored));
+        when(inventoryPersistencePort.findById(inventoryId)).thenReturn(Optional.of(inventory));
+        when(inventoryPersistencePort.findByIdForUpdate(inventoryId)).thenReturn(Optional.of(inventory));
+        when(inventoryPersistencePort.save(inventory)).thenReturn(inventory);
+        when(productClientPort.getProductById(5L)).thenReturn(product);
+        doThrow(new DuplicateIdempotencyKeyException(ORDER_42.getScoped(), null))
+                .when(idempotencyPersistencePort).save(any());
+
+        // When
+        Inventory result = inventoryUseCase.updateQuantity(inventoryId, -10, "PURCHASE", ORDER_42);
+
+        // Then
+        assertEquals(90, result.getQuantity());
+        verify(lowStockAlertServicePort, never()).publish(any());
+    }
+
+    @Test
+    void shouldRejectKeyStoredConcurrentlyForDifferentChange() {
+        // Given
+        Long inventoryId = 1L;
+        IdempotencyRecord stored = IdempotencyRecord.of(ORDER_42.getScoped(), -10,
+                new Inventory(2L, 6L, "AirPods", 40, "Warehouse A", Instant.now()));
+        when(idempotencyPersistencePort.findByKey(ORDER_42.getScoped()))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(stored));
+        when(inventoryPersistencePort.findById(inventoryId)).thenReturn(Optional.of(inventory));
+        when(inventoryPersistencePort.findByIdForUpdate(inventoryId)).thenReturn(Optional.of(inventory));
+        when(inventoryPersistencePort.save(inventory)).thenReturn(inventory);
+        when(productClientPort.getProductById(5L)).thenReturn(product);
+        doThrow(new DuplicateIdempotencyKeyException(ORDER_42.getScoped(), null))
+                .when(idempotencyPersistencePort).save(any());
+
+        // When & Then
+        assertThrows(IdempotencyKeyMismatchException.class, () -> {
+            inventoryUseCase.updateQuantity(inventoryId, -10, "PURCHASE", ORDER_42);
+        });
+    }
+
+    @Test
+    void shouldRejectKeyReusedForDifferentChange() {
+        // Given
+        IdempotencyRecord stored = IdempotencyRecord.of(ORDER_42.getScoped(), -10,
+                new Inventory(1L, 5L, "iPhone 15 Pro", 90, "Warehouse A", Instant.now()));
+        when(idempotencyPersistencePort.findByKey(ORDER_42.getScoped())).thenReturn(Optional.of(stored));
+
+        // When & Then
+        assertThrows(IdempotencyKeyMismatchException.class, () -> {
+            inventoryUseCase.updateQuantity(1L, -20, "PURCHASE", ORDER_42);
+        });
+
+        verify(transactionPort, never()).inTransaction(any());
+    }
+
+    @Test
+    void shouldNotTouchDedupStoreWithoutKey() {
+        // Given
+        Long inventoryId = 1L;
+        when(inventoryPersistencePort.findById(inventoryId)).thenReturn(Optional.of(inventory));
+        when(inventoryPersistencePort.findByIdForUpdate(inventoryId)).thenReturn(Optional.of(inventory));
+        when(inventoryPersistencePort.save(inventory)).thenReturn(inventory);
+        when(productClientPort.getProductById(5L)).thenReturn(product);
+
+        // When
+        inventoryUseCase.updateQuantity(inventoryId, -10, "PURCHASE", null);
+
+        // Then
+        verify(idempotencyPersistencePort, never()).findByKey(any());
+        verify(idempotencyPersistencePort, never()).save(any());
+    }
+
+    // ========== TESTS OF SEARCH INVENTORIES ==========
+
+    @Test
+    void shouldSearchInventoriesWithOneBatchedProductLookup() {
+        // Given
+        InventoryFilter filter = new InventoryFilter("Warehouse A", null, 10, null, null);
+        Inventory second = new Inventory(2L, 6L, null, 3, "Warehouse A", Instant.now());
+        Inventory third = new Inventory(3L, 7L, null, 8, "Warehouse A", Instant.now());
+        when(inventoryPersistencePort.findInventories(filter, InventorySort.QUANTITY, null, 3))
+                .thenReturn(List.of(second, third, inventory));
+        when(productClientPort.getProductsByIds(Set.of(6L, 7L)))
+                .thenReturn(Map.of(6L, new Product(6L, "AirPods"), 7L, new Product(7L, "MacBook")));
+
+        // When
+        InventoryPage page = inventoryUseCase.searchInventories(filter, InventorySort.QUANTITY, null, 2);
+
+        // Then
+        assertEquals(2, page.getContent().size());
+        assertEquals("AirPods", page.getContent().get(0).getProductName());
+        assertEquals("MacBook", page.getContent().get(1).getProductName());
+        assertEquals(new InventoryCursor(InventorySort.QUANTITY, 3L, 8, third.getLastUpdated()), page.getNextCursor());
+        verify(productClientPort, times(1)).getProductsByIds(any());
+        verify(productClientPort, never()).getProductById(anyLong());
+    }
+
+    @Test
+    void shouldReturnLastPageWithoutCursor() {
+        // Given
+        InventoryFilter filter = new InventoryFilter(null, null, null, null, null);
+        when(inventoryPersistencePort.findInventories(filter, InventorySort.ID, null, 11)).thenReturn(List.of(inventory));
+        when(productClientPort.getProductsByIds(Set.of(5L))).thenReturn(Map.of(5L, product));
+
+        // When
+        InventoryPage page = inventoryUseCase.searchInventories(filter, InventorySort.ID, null, 10);
+
+        // Then
+        assertEquals(1, page.getContent().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void shouldNotCallProductServiceForEmptyPage() {
+        // Given
+        InventoryFilter filter = new InventoryFilter("Nowhere", null, null, null, null);
+        when(inventoryPersistencePort.findInventories(filter, InventorySort.ID, null, 11)).thenReturn(List.of());
+
+        // When
+        InventoryPage page = inventoryUseCase.searchInventories(filter, InventorySort.ID, null, 10);
+
+        // Then
+        assertEquals(0, page.getContent().size());
+        verify(productClientPort, never()).getProductsByIds(any());
+    }
+
+    @Test
+    void shouldRejectInvertedQuantityRange() {
+        // Given
+        InventoryFilter filter = new InventoryFilter(null, 10, 5, null, null);
+
+        // When & Then
+        assertThrows(InvalidInventoryQueryException.class, () -> {
+            inventoryUseCase.searchInventories(filter, InventorySort.ID, null, 10);
+        });
+
+        verify(inventoryPersistencePort, never()).findInventories(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void shouldRejectCursorIssuedForAnotherSort() {
+        // Given
+        InventoryFilter filter = new InventoryFilter(null, null, null, null, null);
+        InventoryCursor cursor = new InventoryCursor(InventorySort.ID, 1L, 100, Instant.now());
+
+        // When & Then
+        assertThrows(InvalidInventoryQueryException.class, () -> {
+            inventoryUseCase.searchInventories(filter, InventorySort.QUANTITY, cursor, 10);
+        });
+    }
+
+    // ========== TESTS OF PRODUCT CREATED ==========
+
+    @Test
+    void shouldEvictCreatedProductFromProductClient() {
+        // When
+        inventoryUseCase.onProductCreated(5L);
+
+        // Then
+        verify(productClientPort, times(1)).evictProduct(5L);
+    }
+}
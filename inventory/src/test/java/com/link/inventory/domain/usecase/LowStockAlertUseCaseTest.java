@@ -0,0 +1,232 @@
+package com.link.inventory.domain.usecase;
+
+import com.link.inventory.domain.exceptions.InventoryNotFoundException;
+import com.link.inventory.domain.exceptions.ReorderThresholdNotFoundException;
+import com.link.inventory.domain.model.Inventory;
+import com.link.inventory.domain.model.LowStockAlert;
+import com.link.inventory.domain.model.ReorderThreshold;
+import com.link.inventory.domain.spi.InventoryPersistencePort;
+import com.link.inventory.domain.spi.LowStockAlertPublisherPort;
+import com.link.inventory.domain.spi.ReorderThresholdPersistencePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LowStockAlertUseCaseTest {
+
+    @Mock
+    private ReorderThresholdPersistencePort reorderThresholdPersistencePort;
+
+    @Mock
+    private InventoryPersistencePort inventoryPersistencePort;
+
+    @Mock
+    private LowStockAlertPublisherPort lowStockAlertPublisherPort;
+
+    @InjectMocks
+    private LowStockAlertUseCase lowStockAlertUseCase;
+
+    private Inventory inventory;
+
+    @BeforeEach
+    void setUp() {
+        inventory = new Inventory(1L, 5L, null, 100, "Warehouse A", Instant.now());
+    }
+
+    // ========== TESTS OF QUANTITY CHANGE EVALUATION ==========
+
+    @Test
+    void shouldRaiseAlertWhenStockFallsToThreshold() {
+        // Given
+        inventory.setQuantity(10);
+        when(reorderThresholdPersistencePort.findByProductId(5L))
+                .thenReturn(Optional.of(ReorderThreshold.unalerted(5L, 10, 5)));
+        when(reorderThresholdPersistencePort.markAlerted(5L)).thenReturn(true);
+
+        // When
+        Optional<LowStockAlert> alert = lowStockAlertUseCase.onQuantityChanged(inventory);
+
+        // Then
+        assertTrue(alert.isPresent());
+        assertEquals(1L, alert.get().getInventoryId());
+        assertEquals(5L, alert.get().getProductId());
+        assertEquals(10, alert.get().getQuantity());
+        assertEquals(10, alert.get().getThreshold());
+        verify(lowStockAlertPublisherPort, never()).publish(any());
+    }
+
+    @Test
+    void shouldNotRaiseAlertWhenAlreadyAlerted() {
+        // Given: another change already moved the product to alerted
+        inventory.setQuantity(4);
+        when(reorderThresholdPersistencePort.findByProductId(5L))
+                .thenReturn(Optional.of(ReorderThreshold.unalerted(5L, 10, 5)));
+        when(reorderThresholdPersistencePort.markAlerted(5L)).thenReturn(false);
+
+        // When
+        Optional<LowStockAlert> alert = lowStockAlertUseCase.onQuantityChanged(inventory);
+
+        // Then
+        assertTrue(alert.isEmpty());
+    }
+
+    @Test
+    void shouldNotTouchAlertStateWhileStockStaysAboveThreshold() {
+        // Given
+        inventory.setQuantity(11);
+        when(reorderThresholdPersistencePort.findByProductId(5L))
+                .thenReturn(Optional.of(ReorderThreshold.unalerted(5L, 10, 5)));
+
+        // When
+        Optional<LowStockAlert> alert = lowStockAlertUseCase.onQuantityChanged(inventory);
+
+        // Then
+        assertTrue(alert.isEmpty());
+        verify(reorderThresholdPersistencePort, never()).markAlerted(anyLong());
+        verify(reorderThresholdPersistencePort, never()).clearAlert(anyLong());
+    }
+
+    @Test
+    void shouldIgnoreProductsWithoutThreshold() {
+        // Given
+        Inventory other = new Inventory(2L, 6L, null, 0, "Warehouse A", Instant.now());
+        when(reorderThresholdPersistencePort.findByProductId(6L)).thenReturn(Optional.empty());
+
+        // When
+        Optional<LowStockAlert> alert = lowStockAlertUseCase.onQuantityChanged(other);
+
+        // Then
+        assertTrue(alert.isEmpty());
+        verify(reorderThresholdPersistencePort, never()).markAlerted(anyLong());
+    }
+
+    @Test
+    void shouldNotRearmInsideHysteresisBand() {
+        // Given: threshold 10, hysteresis 5, already alerted
+        inventory.setQuantity(15);
+        when(reorderThresholdPersistencePort.findByProductId(5L))
+                .thenReturn(Optional.of(new ReorderThreshold(5L, 10, 5, true)));
+
+        // When
+        lowStockAlertUseCase.onQuantityChanged(inventory);
+
+        // Then
+        verify(reorderThresholdPersistencePort, never()).clearAlert(anyLong());
+    }
+
+    @Test
+    void shouldRearmOnceStockRecoversPastHysteresis() {
+        // Given
+        inventory.setQuantity(16);
+        when(reorderThresholdPersistencePort.findByProductId(5L))
+                .thenReturn(Optional.of(new ReorderThreshold(5L, 10, 5, true)));
+
+        // When
+        Optional<LowStockAlert> alert = lowStockAlertUseCase.onQuantityChanged(inventory);
+
+        // Then
+        assertTrue(alert.isEmpty());
+        verify(reorderThresholdPersistencePort, times(1)).clearAlert(5L);
+    }
+
+    @Test
+    void shouldTryToRearmEvenWhenReadBeforeAnOlderChangeMarkedIt() {
+        // Given: the flag was read as armed, but a check for an older change may mark it right after
+        inventory.setQuantity(50);
+        when(reorderThresholdPersistencePort.findByProductId(5L))
+                .thenReturn(Optional.of(ReorderThreshold.unalerted(5L, 10, 5)));
+
+        // When
+        lowStockAlertUseCase.onQuantityChanged(inventory);
+
+        // Then
+        verify(reorderThresholdPersistencePort, times(1)).clearAlert(5L);
+    }
+
+    @Test
+    void shouldPublishThroughPublisherPort() {
+        // Given
+        LowStockAlert alert = new LowStockAlert(1L, 5L, "Warehouse A", 10, 10, Instant.now());
+
+        // When
+        lowStockAlertUseCase.publish(alert);
+
+        // Then
+        verify(lowStockAlertPublisherPort, times(1)).publish(alert);
+    }
+
+    // ========== TESTS OF REORDER THRESHOLD ==========
+
+    @Test
+    void shouldSaveThresholdArmed() {
+        // Given
+        ReorderThreshold threshold = ReorderThreshold.unalerted(5L, 150, 0);
+        when(inventoryPersistencePort.existsByProductId(5L)).thenReturn(true);
+        when(reorderThresholdPersistencePort.save(threshold)).thenReturn(threshold);
+
+        // When
+        ReorderThreshold result = lowStockAlertUseCase.setReorderThreshold(threshold);
+
+        // Then
+        assertEquals(150, result.getThreshold());
+        assertFalse(result.isAlerted());
+        verify(reorderThresholdPersistencePort, times(1)).save(threshold);
+    }
+
+    @Test
+    void shouldGetStoredThreshold() {
+        // Given
+        when(reorderThresholdPersistencePort.findByProductId(5L))
+                .thenReturn(Optional.of(ReorderThreshold.unalerted(5L, 150, 0)));
+
+        // When
+        ReorderThreshold result = lowStockAlertUseCase.getReorderThreshold(5L);
+
+        // Then
+        assertEquals(150, result.getThreshold());
+    }
+
+    @Test
+    void shouldRejectThresholdForUnknownInventory() {
+        // Given
+        ReorderThreshold threshold = ReorderThreshold.unalerted(99L, 10, 0);
+        when(inventoryPersistencePort.existsByProductId(99L)).thenReturn(false);
+
+        // When & Then
+        assertThrows(InventoryNotFoundException.class, () -> {
+            lowStockAlertUseCase.setReorderThreshold(threshold);
+        });
+
+        verify(reorderThresholdPersistencePort, never()).save(any());
+    }
+
+    @Test
+    void shouldThrowWhenThresholdNotSet() {
+        // Given
+        when(reorderThresholdPersistencePort.findByProductId(99L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(ReorderThresholdNotFoundException.class, () -> {
+            lowStockAlertUseCase.getReorderThreshold(99L);
+        });
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.link.inventory.infrastructure.configuration.datasource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class ReplicaLagMonitorTest {
+
+    private static final long ONE_SECOND = 1_000_000_000L;
+
+    private final ReplicaLagMonitor monitor = new ReplicaLagMonitor(
+            mock(JdbcTemplate.class),
+            Duration.ofSeconds(5),
+            Duration.ofSeconds(1)
+    );
+
+    @Test
+    void shouldNotServeReadsBeforeFirstLagCheck() {
+
+        assertFalse(monitor.canServeReads(System.nanoTime()));
+    }
+
+    @Test
+    void shouldServeReadsWhenReplicaIsCaughtUp() {
+
+        monitor.update(List.of(0L));
+
+        assertTrue(monitor.canServeReads(System.nanoTime()));
+        assertEquals(0.0, monitor.lagSeconds());
+    }
+
+    @Test
+    void shouldFallBackToPrimaryWhenLagExceedsLimit() {
+
+        monitor.update(List.of(6L));
+
+        assertFalse(monitor.canServeReads(System.nanoTime()));
+    }
+
+    @Test
+    void shouldFallBackToPrimaryWhenReplicationIsStopped() {
+
+        monitor.update(Arrays.asList(0L, null));
+
+        assertFalse(monitor.canServeReads(System.nanoTime()));
+        assertTrue(Double.isNaN(monitor.lagSeconds()));
+    }
+
+    @Test
+    void shouldKeepReadsOnPrimaryUntilRecentWriteHasReplicated() {
+
+        monitor.update(List.of(2L));
+        monitor.recordWriteCommit();
+        long now = System.nanoTime();
+
+        assertFalse(monitor.canServeReads(now));
+        assertFalse(monitor.canServeReads(now + 2 * ONE_SECOND));
+        assertTrue(monitor.canServeReads(now + 4 * ONE_SECOND));
+    }
+
+}
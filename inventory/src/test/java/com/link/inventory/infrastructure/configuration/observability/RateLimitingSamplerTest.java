@@ -0,0 +1,63 @@
+package com.link.inventory.infrastructure.configuration.observability;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RateLimitingSamplerTest {
+
+    private static final long ONE_SECOND = 1_000_000_000L;
+
+    @Test
+    void shouldSampleUpToTheConfiguredRate() {
+
+        RateLimitingSampler sampler = new RateLimitingSampler(2);
+        long now = System.nanoTime();
+
+        assertTrue(sampler.tryAcquire(now));
+        assertTrue(sampler.tryAcquire(now));
+        assertFalse(sampler.tryAcquire(now));
+    }
+
+    @Test
+    void shouldRefillCreditsOverTime() {
+
+        RateLimitingSampler sampler = new RateLimitingSampler(1);
+        long now = System.nanoTime();
+
+        assertTrue(sampler.tryAcquire(now));
+        assertFalse(sampler.tryAcquire(now + ONE_SECOND / 2));
+        assertTrue(sampler.tryAcquire(now + ONE_SECOND));
+    }
+
+    @Test
+    void shouldNotAccumulateMoreThanOneSecondOfCredits() {
+
+        RateLimitingSampler sampler = new RateLimitingSampler(1);
+        long now = System.nanoTime();
+
+        assertTrue(sampler.tryAcquire(now + 10 * ONE_SECOND));
+        assertFalse(sampler.tryAcquire(now + 10 * ONE_SECOND));
+    }
+
+    @Test
+    void shouldDropWhenBudgetIsExhausted() {
+
+        RateLimitingSampler sampler = new RateLimitingSampler(1);
+
+        SamplingDecision first = sampler.shouldSample(Context.root(), "trace-1", "span", SpanKind.SERVER, Attributes.empty(), List.of()).getDecision();
+        SamplingDecision second = sampler.shouldSample(Context.root(), "trace-2", "span", SpanKind.SERVER, Attributes.empty(), List.of()).getDecision();
+
+        assertEquals(SamplingDecision.RECORD_AND_SAMPLE, first);
+        assertEquals(SamplingDecision.DROP, second);
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.link.inventory.infrastructure.configuration.observability;
+
+import com.link.inventory.domain.utils.Constants;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UseCaseObservationAspectTest {
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @Mock
+    private Signature signature;
+
+    private final List<Observation.Context> stopped = new ArrayList<>();
+
+    private UseCaseObservationAspect aspect;
+
+    @BeforeEach
+    void setUp() {
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new ObservationHandler<>() {
+            @Override
+            public void onStop(Observation.Context context) {
+                stopped.add(context);
+            }
+
+            @Override
+            public boolean supportsContext(Observation.Context context) {
+                return true;
+            }
+        });
+        aspect = new UseCaseObservationAspect(observationRegistry);
+
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getName()).thenReturn("updateQuantity");
+    }
+
+    @Test
+    void shouldObserveUseCaseMethod() throws Throwable {
+        // Given
+        Object result = new Object();
+        when(joinPoint.proceed()).thenReturn(result);
+
+        // When
+        Object returned = aspect.observeUseCase(joinPoint);
+
+        // Then
+        assertSame(result, returned);
+        assertEquals(1, stopped.size());
+        Observation.Context context = stopped.get(0);
+        assertEquals(Constants.METRIC_INVENTORY_USE_CASE, context.getName());
+        assertEquals(Constants.INVENTORY_USE_CASE_SPAN_PREFIX + "updateQuantity", context.getContextualName());
+        assertEquals("updateQuantity", context.getLowCardinalityKeyValue(Constants.TAG_METHOD).getValue());
+        assertNull(context.getError());
+    }
+
+    @Test
+    void shouldRecordErrorAndRethrow() throws Throwable {
+        // Given
+        IllegalStateException failure = new IllegalStateException("boom");
+        when(joinPoint.proceed()).thenThrow(failure);
+
+        // When
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> aspect.observeUseCase(joinPoint));
+
+        // Then
+        assertSame(failure, thrown);
+        assertEquals(1, stopped.size());
+        assertSame(failure, stopped.get(0).getError());
+    }
+
+}
@@ -1,8 +1,11 @@
 package com.link.inventory.infrastructure.exception.exceptionhandler;
 
+import com.link.inventory.domain.exceptions.IdempotencyKeyMismatchException;
 import com.link.inventory.domain.exceptions.InsufficientStockException;
+import com.link.inventory.domain.exceptions.InvalidInventoryQueryException;
 import com.link.inventory.domain.exceptions.InventoryAlreadyExistsException;
 import com.link.inventory.domain.exceptions.InventoryNotFoundException;
+import com.link.inventory.domain.exceptions.ReorderThresholdNotFoundException;
 import com.link.inventory.domain.exceptions.ProductNotValidException;
 import com.link.inventory.domain.utils.Constants;
 import com.link.inventory.infrastructure.exception.exceptionhandler.dto.JsonApiError;
@@ -90,6 +93,25 @@ class ControllerAdvisorTest {
         assertTrue(error.getDetail().contains("999"));
     }
 
+    @Test
+    void shouldHandleReorderThresholdNotFoundException() {
+        // Given
+        ReorderThresholdNotFoundException exception = new ReorderThresholdNotFoundException(999L);
+
+        // When
+        ResponseEntity<JsonApiErrorResponse> response =
+                controllerAdvisor.handleReorderThresholdNotFoundException(exception);
+
+        // Then
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertEquals(Constants.JSON_API_MEDIA_TYPE, response.getHeaders().getContentType().toString());
+
+        JsonApiError error = response.getBody().getErrors().get(0);
+        assertEquals("404", error.getStatus());
+        assertEquals(Constants.REORDER_THRESHOLD_NOT_FOUND_TITLE, error.getTitle());
+        assertTrue(error.getDetail().contains("999"));
+    }
+
     @Test
     void shouldHandleProductNotValidException() {
         // Given
@@ -182,6 +204,45 @@ class ControllerAdvisorTest {
         assertTrue(error.getDetail().contains("5") && error.getDetail().contains("10"));
     }
 
+    @Test
+    void shouldHandleIdempotencyKeyMismatchException() {
+        // Given
+        IdempotencyKeyMismatchException exception = new IdempotencyKeyMismatchException("order-42");
+
+        // When
+        ResponseEntity<JsonApiErrorResponse> response =
+                controllerAdvisor.handleIdempotencyKeyMismatchException(exception);
+
+        // Then
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, response.getStatusCode());
+        assertEquals(Constants.JSON_API_MEDIA_TYPE, response.getHeaders().getContentType().toString());
+
+        JsonApiError error = response.getBody().getErrors().get(0);
+        assertEquals("422", error.getStatus());
+        assertEquals(Constants.IDEMPOTENCY_KEY_MISMATCH_TITLE, error.getTitle());
+        assertTrue(error.getDetail().contains("order-42"));
+    }
+
+    @Test
+    void shouldHandleInvalidInventoryQueryException() {
+        // Given
+        InvalidInventoryQueryException exception =
+                new InvalidInventoryQueryException(Constants.INVALID_QUANTITY_RANGE_MESSAGE);
+
+        // When
+        ResponseEntity<JsonApiErrorResponse> response =
+                controllerAdvisor.handleInvalidInventoryQueryException(exception);
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(Constants.JSON_API_MEDIA_TYPE, response.getHeaders().getContentType().toString());
+
+        JsonApiError error = response.getBody().getErrors().get(0);
+        assertEquals("400", error.getStatus());
+        assertEquals(Constants.INVALID_INVENTORY_QUERY_TITLE, error.getTitle());
+        assertEquals(Constants.INVALID_QUANTITY_RANGE_MESSAGE, error.getDetail());
+    }
+
     @Test
     void shouldHandleBadRequestException() {
         // Given
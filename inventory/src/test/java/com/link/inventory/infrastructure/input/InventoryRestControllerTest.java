@@ -0,0 +1,203 @@
+package com.link.inventory.infrastructure.input;
+
+import com.link.inventory.application.dto.InventoryPageResponse;
+import com.link.inventory.application.dto.InventoryResponse;
+import com.link.inventory.application.dto.UpdateQuantityRequest;
+import com.link.inventory.application.handler.InventoryHandler;
+import com.link.inventory.domain.exceptions.InvalidInventoryQueryException;
+import com.link.inventory.domain.model.IdempotencyKey;
+import com.link.inventory.domain.model.InventoryFilter;
+import com.link.inventory.domain.utils.Constants;
+import com.link.inventory.infrastructure.exception.exceptionhandler.ControllerAdvisor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class InventoryRestControllerTest {
+
+    @Mock
+    private InventoryHandler inventoryHandler;
+
+    private MockMvc mockMvc;
+
+    private InventoryResponse inventoryResponse;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new InventoryRestController(inventoryHandler))
+                .setControllerAdvice(new ControllerAdvisor())
+                .build();
+
+        inventoryResponse = new InventoryResponse("1", 5L, null, 3, "Warehouse A", "2026-01-01T00:00:00Z");
+    }
+
+    @Test
+    void shouldPassFilterSortAndCursorAndLinkTheNextPage() throws Exception {
+        // Given
+        InventoryFilter filter = new InventoryFilter(
+                "Warehouse A", 1, 20, Instant.parse("2026-01-01T00:00:00Z"), null
+        );
+        when(inventoryHandler.searchInventories(filter, Constants.FIELD_QUANTITY, "cursor1", 2))
+                .thenReturn(new InventoryPageResponse(List.of(inventoryResponse), 2, "cursor2"));
+
+        // When & Then
+        mockMvc.perform(get("/inventory")
+                        .queryParam("location", "Warehouse A")
+                        .queryParam("minQuantity", "1")
+                        .queryParam("maxQuantity", "20")
+                        .queryParam("updatedAfter", "2026-01-01T00:00:00Z")
+                        .queryParam(Constants.SORT_PARAM, Constants.FIELD_QUANTITY)
+                        .queryParam(Constants.PAGE_SIZE_PARAM, "2")
+                        .queryParam(Constants.PAGE_AFTER_PARAM, "cursor1")
+                        .accept(Constants.JSON_API_MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].id").value("1"))
+                .andExpect(jsonPath("$.meta." + Constants.META_PAGE_SIZE).value(2))
+                .andExpect(jsonPath("$.links.self").value(containsString("cursor1")))
+                .andExpect(jsonPath("$.links.next").value(containsString("cursor2")))
+                .andExpect(jsonPath("$.links.next").value(
+                        "http://localhost/inventory?location=Warehouse%20A&minQuantity=1&maxQuantity=20"
+                                + "&updatedAfter=2026-01-01T00:00:00Z&sort=quantity&page%5Bsize%5D=2&page%5Bafter%5D=cursor2"
+                ));
+    }
+
+    @Test
+    void shouldOmitNextLinkOnLastPage() throws Exception {
+        // Given
+        InventoryFilter filter = new InventoryFilter(null, null, null, null, null);
+        when(inventoryHandler.searchInventories(
+                filter, Constants.SORT_DEFAULT, null, Integer.parseInt(Constants.LIST_PAGE_SIZE_DEFAULT)
+        )).thenReturn(new InventoryPageResponse(List.of(inventoryResponse), 1, null));
+
+        // When & Then
+        mockMvc.perform(get("/inventory")
+                        .accept(Constants.JSON_API_MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.links.self").exists())
+                .andExpect(jsonPath("$.links.next").doesNotExist());
+    }
+
+    @Test
+    void shouldReturnBadRequestForForeignCursor() throws Exception {
+        // Given
+        InventoryFilter filter = new InventoryFilter(null, null, null, null, null);
+        when(inventoryHandler.searchInventories(
+                filter, Constants.SORT_DEFAULT, "not-a-cursor", Integer.parseInt(Constants.LIST_PAGE_SIZE_DEFAULT)
+        )).thenThrow(new InvalidInventoryQueryException(Constants.INVALID_CURSOR_MESSAGE));
+
+        // When & Then
+        mockMvc.perform(get("/inventory")
+                        .queryParam(Constants.PAGE_AFTER_PARAM, "not-a-cursor")
+                        .accept(Constants.JSON_API_MEDIA_TYPE))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0].detail").value(Constants.INVALID_CURSOR_MESSAGE));
+    }
+
+    @Test
+    void shouldListLowStockByQuantityUnderThreshold() throws Exception {
+        // Given
+        InventoryFilter filter = new InventoryFilter("Warehouse A", null, 5, null, null);
+        when(inventoryHandler.searchInventories(filter, Constants.FIELD_QUANTITY, "cursor1", 10))
+                .thenReturn(new InventoryPageResponse(List.of(inventoryResponse), 10, "cursor2"));
+
+        // When & Then
+        mockMvc.perform(get("/inventory/low-stock")
+                        .queryParam("threshold", "5")
+                        .queryParam("location", "Warehouse A")
+                        .queryParam(Constants.PAGE_SIZE_PARAM, "10")
+                        .queryParam(Constants.PAGE_AFTER_PARAM, "cursor1")
+                        .accept(Constants.JSON_API_MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].quantity").value(3))
+                .andExpect(jsonPath("$.links.next").value(containsString("/inventory/low-stock")))
+                .andExpect(jsonPath("$.links.next").value(containsString("cursor2")));
+    }
+
+    @Test
+    void shouldApplyLowStockDefaults() throws Exception {
+        // Given
+        InventoryFilter filter = new InventoryFilter(
+                null, null, Integer.parseInt(Constants.LOW_STOCK_THRESHOLD_DEFAULT), null, null
+        );
+        when(inventoryHandler.searchInventories(
+                filter, Constants.FIELD_QUANTITY, null, Integer.parseInt(Constants.LIST_PAGE_SIZE_DEFAULT)
+        )).thenReturn(new InventoryPageResponse(List.of(), 0, null));
+
+        // When & Then
+        mockMvc.perform(get("/inventory/low-stock")
+                        .accept(Constants.JSON_API_MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").isEmpty())
+                .andExpect(jsonPath("$.links.next").doesNotExist());
+
+        verify(inventoryHandler).searchInventories(
+                filter, Constants.FIELD_QUANTITY, null, Integer.parseInt(Constants.LIST_PAGE_SIZE_DEFAULT)
+        );
+    }
+
+    @Test
+    void shouldScopeIdempotencyKeyToClientAndRoute() throws Exception {
+        // Given
+        when(inventoryHandler.updateQuantity(eq(1L), any(UpdateQuantityRequest.class), any()))
+                .thenReturn(inventoryResponse);
+
+        // When
+        mockMvc.perform(put("/inventory/1/quantity")
+                        .requestAttr(Constants.ATTRIBUTE_API_CLIENT, "client-a")
+                        .header(Constants.HEADER_IDEMPOTENCY_KEY, "order-42")
+                        .contentType(Constants.JSON_API_MEDIA_TYPE)
+                        .content("{\"quantityChange\": -1}")
+                        .accept(Constants.JSON_API_MEDIA_TYPE))
+                .andExpect(status().isOk());
+
+        // Then
+        ArgumentCaptor<IdempotencyKey> key = ArgumentCaptor.forClass(IdempotencyKey.class);
+        verify(inventoryHandler).updateQuantity(eq(1L), any(UpdateQuantityRequest.class), key.capture());
+        assertEquals(new IdempotencyKey("client-a", "PUT /inventory/{id}/quantity", "order-42"), key.getValue());
+        assertNotEquals(
+                new IdempotencyKey("client-b", "PUT /inventory/{id}/quantity", "order-42").getScoped(),
+                key.getValue().getScoped()
+        );
+    }
+
+    @Test
+    void shouldIgnoreBlankIdempotencyKey() throws Exception {
+        // Given
+        when(inventoryHandler.updateQuantity(eq(1L), any(UpdateQuantityRequest.class), isNull()))
+                .thenReturn(inventoryResponse);
+
+        // When & Then
+        mockMvc.perform(put("/inventory/1/quantity")
+                        .header(Constants.HEADER_IDEMPOTENCY_KEY, " ")
+                        .contentType(Constants.JSON_API_MEDIA_TYPE)
+                        .content("{\"quantityChange\": -1}")
+                        .accept(Constants.JSON_API_MEDIA_TYPE))
+                .andExpect(status().isOk());
+
+        verify(inventoryHandler).updateQuantity(eq(1L), any(UpdateQuantityRequest.class), isNull());
+    }
+
+}
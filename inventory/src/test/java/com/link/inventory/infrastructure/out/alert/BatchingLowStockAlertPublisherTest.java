@@ -0,0 +1,89 @@
+package com.link.inventory.infrastructure.out.alert;
+
+import com.link.inventory.domain.model.LowStockAlert;
+import com.link.inventory.domain.utils.Constants;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BatchingLowStockAlertPublisherTest {
+
+    private InMemoryLowStockAlertNotifier notifier;
+    private SimpleMeterRegistry meterRegistry;
+    private BatchingLowStockAlertPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        notifier = new InMemoryLowStockAlertNotifier();
+        meterRegistry = new SimpleMeterRegistry();
+        publisher = new BatchingLowStockAlertPublisher(notifier, 5, 2, meterRegistry);
+    }
+
+    @Test
+    void shouldDeliverQueuedAlertsInBatches() {
+        // Given
+        for (long productId = 1; productId <= 5; productId++) {
+            publisher.publish(alert(productId));
+        }
+
+        // When
+        publisher.flush();
+
+        // Then
+        List<List<LowStockAlert>> batches = notifier.getBatches();
+        assertEquals(3, batches.size());
+        assertEquals(2, batches.get(0).size());
+        assertEquals(1, batches.get(2).size());
+        assertEquals(5, notifier.getAlerts().size());
+        assertEquals(0, publisher.pending());
+        assertEquals(5.0, count(Constants.OUTCOME_DELIVERED));
+    }
+
+    @Test
+    void shouldDropAlertsWhenQueueIsFull() {
+        // When
+        for (long productId = 1; productId <= 7; productId++) {
+            publisher.publish(alert(productId));
+        }
+
+        // Then
+        assertEquals(5, publisher.pending());
+        assertEquals(5.0, count(Constants.OUTCOME_QUEUED));
+        assertEquals(2.0, count(Constants.OUTCOME_DROPPED));
+    }
+
+    @Test
+    void shouldCountFailedBatchesAndKeepDraining() {
+        // Given
+        BatchingLowStockAlertPublisher failing = new BatchingLowStockAlertPublisher(
+                alerts -> {
+                    throw new IllegalStateException("webhook down");
+                },
+                5, 2, meterRegistry
+        );
+        failing.publish(alert(1L));
+        failing.publish(alert(2L));
+        failing.publish(alert(3L));
+
+        // When
+        failing.flush();
+
+        // Then
+        assertEquals(0, failing.pending());
+        assertEquals(3.0, count(Constants.OUTCOME_FAILED));
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.get(Constants.METRIC_LOW_STOCK_ALERTS).tag(Constants.TAG_OUTCOME, outcome).counter().count();
+    }
+
+    private static LowStockAlert alert(Long productId) {
+        return new LowStockAlert(productId, productId, "Warehouse A", 1, 10, Instant.now());
+    }
+
+}
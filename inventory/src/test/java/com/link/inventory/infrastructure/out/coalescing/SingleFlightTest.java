@@ -0,0 +1,191 @@
+package com.link.inventory.infrastructure.out.coalescing;
+
+import com.link.inventory.domain.utils.Constants;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight<Long, String> singleFlight;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight<>("test", UnaryOperator.identity(), meterRegistry);
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldShareOneLoadBetweenConcurrentCallers() throws Exception {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        // When
+        Future<String> leader = executor.submit(() -> singleFlight.execute(1L, () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "Product 1";
+        }));
+        awaitInFlight();
+
+        List<Future<String>> waiters = new ArrayList<>();
+        for (int i = 1; i < CALLERS; i++) {
+            waiters.add(executor.submit(() -> singleFlight.execute(1L, () -> {
+                loads.incrementAndGet();
+                return "Product 1 again";
+            })));
+        }
+        awaitCollapsed(CALLERS - 1);
+        release.countDown();
+
+        // Then
+        assertEquals("Product 1", leader.get(5, TimeUnit.SECONDS));
+        for (Future<String> waiter : waiters) {
+            assertEquals("Product 1", waiter.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1.0, count(Constants.RESULT_EXECUTED));
+        assertEquals(CALLERS - 1.0, count(Constants.RESULT_COLLAPSED));
+        assertEquals(0, singleFlight.inFlight());
+    }
+
+    @Test
+    void shouldGiveEachWaiterItsOwnCopy() throws Exception {
+        // Given: its own registry, so the collapsed count below is this flight's only
+        meterRegistry = new SimpleMeterRegistry();
+        SingleFlight<Long, StringBuilder> mutable = new SingleFlight<>("mutable", StringBuilder::new, meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // When: the leader changes its result as soon as it gets it
+        Future<StringBuilder> leader = executor.submit(() -> {
+            StringBuilder value = mutable.execute(1L, () -> {
+                await(release);
+                return new StringBuilder("Product 1");
+            });
+            return value.append(" (leader)");
+        });
+        awaitInFlight(mutable);
+        Future<StringBuilder> first = executor.submit(() -> mutable.execute(1L, StringBuilder::new));
+        Future<StringBuilder> second = executor.submit(() -> mutable.execute(1L, StringBuilder::new));
+        awaitCollapsed(2);
+        release.countDown();
+
+        // Then
+        assertEquals("Product 1 (leader)", leader.get(5, TimeUnit.SECONDS).toString());
+        assertEquals("Product 1", first.get(5, TimeUnit.SECONDS).toString());
+        assertEquals("Product 1", second.get(5, TimeUnit.SECONDS).toString());
+        assertNotSame(first.get(), second.get());
+    }
+
+    @Test
+    void shouldPropagateLeaderFailureToWaiters() throws Exception {
+        // Given
+        IllegalStateException failure = new IllegalStateException("product service down");
+        CountDownLatch release = new CountDownLatch(1);
+
+        // When
+        Future<String> leader = executor.submit(() -> singleFlight.execute(1L, () -> {
+            await(release);
+            throw failure;
+        }));
+        awaitInFlight();
+        Future<Throwable> waiter = executor.submit(() -> assertThrows(
+                IllegalStateException.class, () -> singleFlight.execute(1L, () -> "unused")
+        ));
+        awaitCollapsed(1);
+        release.countDown();
+
+        // Then
+        Exception leaderFailure = assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+        assertSame(failure, leaderFailure.getCause());
+        assertSame(failure, waiter.get(5, TimeUnit.SECONDS));
+        assertEquals(0, singleFlight.inFlight());
+    }
+
+    @Test
+    void shouldLoadAgainOnceThePreviousCallFinished() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        singleFlight.execute(1L, () -> "Product " + loads.incrementAndGet());
+        String second = singleFlight.execute(1L, () -> "Product " + loads.incrementAndGet());
+
+        // Then
+        assertEquals("Product 2", second);
+        assertEquals(2.0, count(Constants.RESULT_EXECUTED));
+        assertEquals(0.0, count(Constants.RESULT_COLLAPSED));
+    }
+
+    @Test
+    void shouldNotShareLoadsBetweenKeys() {
+        // When
+        String first = singleFlight.execute(1L, () -> "Product 1");
+        String second = singleFlight.execute(2L, () -> "Product 2");
+
+        // Then
+        assertEquals("Product 1", first);
+        assertEquals("Product 2", second);
+    }
+
+    private double count(String result) {
+        return meterRegistry.get(Constants.METRIC_SINGLE_FLIGHT)
+                .tag(Constants.TAG_RESULT, result)
+                .counter()
+                .count();
+    }
+
+    private void awaitInFlight() throws InterruptedException {
+        awaitInFlight(singleFlight);
+    }
+
+    private static void awaitInFlight(SingleFlight<Long, ?> singleFlight) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.inFlight() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private void awaitCollapsed(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (count(Constants.RESULT_COLLAPSED) < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.link.inventory.infrastructure.out.idempotency;
+
+import com.link.inventory.domain.model.IdempotencyRecord;
+import com.link.inventory.domain.spi.IdempotencyPersistencePort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingIdempotencyPersistenceAdapterTest {
+
+    @Mock
+    private IdempotencyPersistencePort delegate;
+
+    private CachingIdempotencyPersistenceAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new CachingIdempotencyPersistenceAdapter(
+                delegate, new IdempotencyCache(100, Duration.ofHours(1)), new SimpleMeterRegistry()
+        );
+    }
+
+    @Test
+    void shouldServeRepeatedLookupsFromMemory() {
+        // Given
+        when(delegate.findByKey("order-1")).thenReturn(Optional.of(record("order-1")));
+
+        // When
+        adapter.findByKey("order-1");
+        Optional<IdempotencyRecord> second = adapter.findByKey("order-1");
+
+        // Then
+        assertTrue(second.isPresent());
+        verify(delegate, times(1)).findByKey("order-1");
+    }
+
+    @Test
+    void shouldCacheSavedRecordOutsideTransaction() {
+        // Given
+        IdempotencyRecord record = record("order-2");
+
+        // When
+        adapter.save(record);
+        Optional<IdempotencyRecord> found = adapter.findByKey("order-2");
+
+        // Then
+        assertTrue(found.isPresent());
+        verify(delegate, times(1)).save(record);
+        verify(delegate, times(0)).findByKey("order-2");
+    }
+
+    private static IdempotencyRecord record(String key) {
+        return new IdempotencyRecord(key, 1L, -1, 5L, "iPhone 15 Pro", 99, "Warehouse A", Instant.now(), Instant.now());
+    }
+
+}
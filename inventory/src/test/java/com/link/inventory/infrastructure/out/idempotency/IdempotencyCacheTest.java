@@ -0,0 +1,58 @@
+package com.link.inventory.infrastructure.out.idempotency;
+
+import com.link.inventory.domain.model.IdempotencyRecord;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class IdempotencyCacheTest {
+
+    @Test
+    void shouldReturnCachedRecord() {
+        // Given
+        IdempotencyCache cache = new IdempotencyCache(10, Duration.ofHours(1));
+        cache.put(record("order-1", Instant.now()));
+
+        // When & Then
+        assertNotNull(cache.get("order-1"));
+        assertNull(cache.get("order-2"));
+    }
+
+    @Test
+    void shouldNotReturnExpiredRecord() {
+        // Given
+        IdempotencyCache cache = new IdempotencyCache(10, Duration.ofHours(1));
+        cache.put(record("order-1", Instant.now().minus(Duration.ofHours(2))));
+
+        // When & Then
+        assertNull(cache.get("order-1"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void shouldEvictOldestKeysWhenFull() {
+        // Given
+        IdempotencyCache cache = new IdempotencyCache(3, Duration.ofHours(1));
+
+        // When
+        for (int i = 1; i <= 5; i++) {
+            cache.put(record("order-" + i, Instant.now()));
+        }
+
+        // Then
+        assertEquals(3, cache.size());
+        assertNull(cache.get("order-1"));
+        assertNull(cache.get("order-2"));
+        assertNotNull(cache.get("order-5"));
+    }
+
+    private static IdempotencyRecord record(String key, Instant createdAt) {
+        return new IdempotencyRecord(key, 1L, -1, 5L, "iPhone 15 Pro", 99, "Warehouse A", Instant.now(), createdAt);
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.link.inventory.infrastructure.out.jpa.adapter;
+
+import com.link.inventory.domain.exceptions.DuplicateIdempotencyKeyException;
+import com.link.inventory.domain.model.IdempotencyRecord;
+import com.link.inventory.infrastructure.out.jpa.entity.IdempotencyRecordEntity;
+import com.link.inventory.infrastructure.out.jpa.mapper.IdempotencyRecordEntityMapper;
+import com.link.inventory.infrastructure.out.jpa.repository.IdempotencyRecordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+class IdempotencyJpaAdapterTest {
+
+    private static final Duration TTL = Duration.ofHours(24);
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    private IdempotencyJpaAdapter idempotencyJpaAdapter;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyJpaAdapter = new IdempotencyJpaAdapter(
+                idempotencyRecordRepository,
+                Mappers.getMapper(IdempotencyRecordEntityMapper.class),
+                TTL
+        );
+    }
+
+    @Test
+    void shouldStoreAndFindRecord() {
+        // Given
+        idempotencyJpaAdapter.save(record("order-1", Instant.now()));
+        testEntityManager.clear();
+
+        // When & Then
+        assertEquals(90, idempotencyJpaAdapter.findByKey("order-1").orElseThrow().getQuantity());
+    }
+
+    @Test
+    void shouldRejectKeyStoredByAnotherRequest() {
+        // Given
+        idempotencyJpaAdapter.save(record("order-2", Instant.now()));
+        testEntityManager.clear();
+
+        // When & Then
+        assertThrows(DuplicateIdempotencyKeyException.class, () -> {
+            idempotencyJpaAdapter.save(record("order-2", Instant.now()));
+        });
+    }
+
+    @Test
+    void shouldLetExpiredKeyBeStoredAgain() {
+        // Given: expired, not purged yet
+        idempotencyJpaAdapter.save(record("order-3", Instant.now().minus(TTL).minusSeconds(60)));
+        testEntityManager.clear();
+
+        // When
+        boolean found = idempotencyJpaAdapter.findByKey("order-3").isPresent();
+        idempotencyJpaAdapter.save(record("order-3", Instant.now()));
+        testEntityManager.clear();
+
+        // Then
+        assertFalse(found);
+        IdempotencyRecordEntity stored = testEntityManager.find(IdempotencyRecordEntity.class, "order-3");
+        assertTrue(stored.getCreatedAt().isAfter(Instant.now().minus(TTL)));
+    }
+
+    private static IdempotencyRecord record(String key, Instant createdAt) {
+        return new IdempotencyRecord(key, 1L, -10, 5L, "iPhone 15 Pro", 90, "Warehouse A", Instant.now(), createdAt);
+    }
+
+}
@@ -0,0 +1,169 @@
+package com.link.inventory.infrastructure.out.jpa.adapter;
+
+import com.link.inventory.domain.model.Inventory;
+import com.link.inventory.domain.model.InventoryCursor;
+import com.link.inventory.domain.model.InventoryFilter;
+import com.link.inventory.domain.model.InventorySort;
+import com.link.inventory.infrastructure.out.jpa.entity.InventoryEntity;
+import com.link.inventory.infrastructure.out.jpa.mapper.InventoryEntityMapper;
+import com.link.inventory.infrastructure.out.jpa.repository.InventoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Runs the keyset predicates against H2, the same way InventoryUseCase pages: size + 1 rows, cursor from the last one
+@DataJpaTest
+class InventoryJpaAdapterTest {
+
+    private static final InventoryFilter NO_FILTER = new InventoryFilter(null, null, null, null, null);
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    private InventoryJpaAdapter inventoryJpaAdapter;
+
+    private long nextProductId = 1;
+
+    @BeforeEach
+    void setUp() {
+        inventoryJpaAdapter = new InventoryJpaAdapter(
+                inventoryRepository,
+                Mappers.getMapper(InventoryEntityMapper.class),
+                testEntityManager.getEntityManager()
+        );
+    }
+
+    @Test
+    void shouldWalkTiedQuantitiesWithoutRepeatingOrSkippingRows() {
+        // Given
+        long a = persist(5, "Warehouse A");
+        long b = persist(5, "Warehouse A");
+        long c = persist(5, "Warehouse A");
+        long d = persist(7, "Warehouse A");
+        long e = persist(5, "Warehouse A");
+        long f = persist(9, "Warehouse A");
+        long g = persist(7, "Warehouse A");
+
+        // When
+        List<List<Long>> pages = walk(NO_FILTER, InventorySort.QUANTITY, 2);
+
+        // Then
+        assertEquals(List.of(List.of(a, b), List.of(c, e), List.of(d, g), List.of(f)), pages);
+    }
+
+    @Test
+    void shouldWalkTiedTimestampsInIdOrder() {
+        // Given
+        long a = persist(1, "Warehouse A");
+        long b = persist(2, "Warehouse A");
+        long c = persist(3, "Warehouse A");
+        long d = persist(4, "Warehouse A");
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        stamp(now, a, c, d);
+        stamp(now.minusSeconds(60), b);
+
+        // When
+        List<List<Long>> pages = walk(NO_FILTER, InventorySort.LAST_UPDATED, 2);
+
+        // Then
+        assertEquals(List.of(List.of(b, a), List.of(c, d)), pages);
+    }
+
+    @Test
+    void shouldEndOnFullLastPage() {
+        // Given
+        long a = persist(3, "Warehouse A");
+        long b = persist(1, "Warehouse A");
+        long c = persist(2, "Warehouse A");
+        long d = persist(1, "Warehouse A");
+
+        // When
+        List<List<Long>> pages = walk(NO_FILTER, InventorySort.QUANTITY, 2);
+
+        // Then
+        assertEquals(List.of(List.of(b, d), List.of(c, a)), pages);
+    }
+
+    @Test
+    void shouldKeepFilterAcrossPages() {
+        // Given
+        long a = persist(4, "Warehouse A");
+        persist(4, "Warehouse B");
+        long c = persist(4, "Warehouse A");
+        persist(2, "Warehouse B");
+        long e = persist(2, "Warehouse A");
+        InventoryFilter filter = new InventoryFilter("Warehouse A", null, 4, null, null);
+
+        // When
+        List<List<Long>> pages = walk(filter, InventorySort.QUANTITY, 1);
+
+        // Then
+        assertEquals(List.of(List.of(e), List.of(a), List.of(c)), pages);
+    }
+
+    @Test
+    void shouldReturnNothingAfterTheLastRow() {
+        // Given
+        persist(5, "Warehouse A");
+        long last = persist(8, "Warehouse A");
+        Inventory lastRow = inventoryJpaAdapter.findById(last).orElseThrow();
+
+        // When
+        List<Inventory> page = inventoryJpaAdapter.findInventories(
+                NO_FILTER,
+                InventorySort.QUANTITY,
+                InventoryCursor.after(lastRow, InventorySort.QUANTITY),
+                10
+        );
+
+        // Then
+        assertTrue(page.isEmpty());
+    }
+
+    private List<List<Long>> walk(InventoryFilter filter, InventorySort sort, int size) {
+
+        List<List<Long>> pages = new ArrayList<>();
+        InventoryCursor cursor = null;
+
+        while (true) {
+            List<Inventory> rows = inventoryJpaAdapter.findInventories(filter, sort, cursor, size + 1);
+            List<Inventory> content = rows.subList(0, Math.min(size, rows.size()));
+            pages.add(content.stream().map(Inventory::getId).toList());
+
+            if (rows.size() <= size) {
+                return pages;
+            }
+            cursor = InventoryCursor.after(content.get(size - 1), sort);
+        }
+    }
+
+    private long persist(int quantity, String location) {
+        InventoryEntity entity = new InventoryEntity(null, nextProductId++, quantity, location, null);
+        return testEntityManager.persistAndFlush(entity).getId();
+    }
+
+    // Bulk update, so @PreUpdate does not replace the timestamp
+    private void stamp(Instant lastUpdated, Long... ids) {
+        testEntityManager.getEntityManager()
+                .createQuery("update InventoryEntity i set i.lastUpdated = :lastUpdated where i.id in :ids")
+                .setParameter("lastUpdated", lastUpdated)
+                .setParameter("ids", List.of(ids))
+                .executeUpdate();
+        testEntityManager.clear();
+    }
+
+}
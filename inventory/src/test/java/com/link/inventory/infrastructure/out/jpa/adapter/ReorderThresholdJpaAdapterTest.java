@@ -0,0 +1,121 @@
+package com.link.inventory.infrastructure.out.jpa.adapter;
+
+import com.link.inventory.domain.model.ReorderThreshold;
+import com.link.inventory.infrastructure.out.jpa.entity.InventoryEntity;
+import com.link.inventory.infrastructure.out.jpa.mapper.ReorderThresholdEntityMapper;
+import com.link.inventory.infrastructure.out.jpa.repository.ReorderThresholdRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+class ReorderThresholdJpaAdapterTest {
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private ReorderThresholdRepository reorderThresholdRepository;
+
+    private ReorderThresholdJpaAdapter reorderThresholdJpaAdapter;
+
+    private Long inventoryId;
+
+    @BeforeEach
+    void setUp() {
+        inventoryId = testEntityManager.persistAndGetId(
+                new InventoryEntity(null, 5L, 4, "Warehouse A", Instant.now()), Long.class
+        );
+        reorderThresholdJpaAdapter = new ReorderThresholdJpaAdapter(
+                reorderThresholdRepository,
+                Mappers.getMapper(ReorderThresholdEntityMapper.class)
+        );
+        reorderThresholdJpaAdapter.save(ReorderThreshold.unalerted(5L, 10, 5));
+        testEntityManager.flush();
+    }
+
+    @Test
+    void shouldMarkAlertedOnlyOnce() {
+        // When
+        boolean first = reorderThresholdJpaAdapter.markAlerted(5L);
+        boolean second = reorderThresholdJpaAdapter.markAlerted(5L);
+
+        // Then
+        assertTrue(first);
+        assertFalse(second);
+        testEntityManager.clear();
+        assertTrue(reorderThresholdJpaAdapter.findByProductId(5L).orElseThrow().isAlerted());
+    }
+
+    @Test
+    void shouldRearmAfterClear() {
+        // Given
+        reorderThresholdJpaAdapter.markAlerted(5L);
+        restock(16);
+
+        // When
+        reorderThresholdJpaAdapter.clearAlert(5L);
+
+        // Then
+        testEntityManager.clear();
+        assertFalse(reorderThresholdJpaAdapter.findByProductId(5L).orElseThrow().isAlerted());
+        restock(4);
+        assertTrue(reorderThresholdJpaAdapter.markAlerted(5L));
+    }
+
+    @Test
+    void shouldNotMarkOnceCommittedStockIsBackAboveThreshold() {
+        // Given - a later change restocked before this check ran
+        restock(11);
+
+        // When & Then
+        assertFalse(reorderThresholdJpaAdapter.markAlerted(5L));
+    }
+
+    @Test
+    void shouldKeepAlertWhileCommittedStockIsInsideHysteresisBand() {
+        // Given
+        reorderThresholdJpaAdapter.markAlerted(5L);
+        restock(15);
+
+        // When
+        reorderThresholdJpaAdapter.clearAlert(5L);
+
+        // Then
+        testEntityManager.clear();
+        assertTrue(reorderThresholdJpaAdapter.findByProductId(5L).orElseThrow().isAlerted());
+    }
+
+    @Test
+    void shouldRearmWhenThresholdIsSavedAgain() {
+        // Given
+        reorderThresholdJpaAdapter.markAlerted(5L);
+        testEntityManager.clear();
+
+        // When
+        reorderThresholdJpaAdapter.save(ReorderThreshold.unalerted(5L, 20, 5));
+        testEntityManager.flush();
+
+        // Then
+        assertTrue(reorderThresholdJpaAdapter.markAlerted(5L));
+    }
+
+    @Test
+    void shouldNotMarkProductWithoutThreshold() {
+        assertFalse(reorderThresholdJpaAdapter.markAlerted(99L));
+    }
+
+    private void restock(int quantity) {
+        testEntityManager.find(InventoryEntity.class, inventoryId).setQuantity(quantity);
+        testEntityManager.flush();
+    }
+
+}
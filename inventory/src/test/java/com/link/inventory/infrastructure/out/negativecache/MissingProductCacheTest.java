@@ -0,0 +1,85 @@
+package com.link.inventory.infrastructure.out.negativecache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MissingProductCacheTest {
+
+    @Test
+    void shouldRememberMissingProduct() {
+        // Given
+        MissingProductCache cache = new MissingProductCache(10, Duration.ofMinutes(1));
+
+        // When
+        cache.markMissing(1L);
+
+        // Then
+        assertTrue(cache.isMissing(1L));
+        assertFalse(cache.isMissing(2L));
+    }
+
+    @Test
+    void shouldForgetProductAfterTtl() throws InterruptedException {
+        // Given
+        MissingProductCache cache = new MissingProductCache(10, Duration.ofMillis(20));
+        cache.markMissing(1L);
+
+        // When
+        Thread.sleep(40);
+
+        // Then
+        assertFalse(cache.isMissing(1L));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void shouldEvictOldestIdsWhenFull() {
+        // Given
+        MissingProductCache cache = new MissingProductCache(3, Duration.ofMinutes(1));
+
+        // When
+        for (long productId = 1; productId <= 5; productId++) {
+            cache.markMissing(productId);
+        }
+
+        // Then
+        assertEquals(3, cache.size());
+        assertFalse(cache.isMissing(1L));
+        assertFalse(cache.isMissing(2L));
+        assertTrue(cache.isMissing(5L));
+    }
+
+    @Test
+    void shouldForgetEvictedProduct() {
+        // Given
+        MissingProductCache cache = new MissingProductCache(10, Duration.ofMinutes(1));
+        cache.markMissing(1L);
+
+        // When & Then
+        assertTrue(cache.evict(1L));
+        assertFalse(cache.isMissing(1L));
+        assertFalse(cache.evict(1L));
+    }
+
+    @Test
+    void shouldKeepProductMarkedAgainAfterEviction() {
+        // Given
+        MissingProductCache cache = new MissingProductCache(2, Duration.ofMinutes(1));
+        cache.markMissing(1L);
+        cache.evict(1L);
+
+        // When
+        cache.markMissing(1L);
+        cache.markMissing(2L);
+
+        // Then
+        assertTrue(cache.isMissing(1L));
+        assertTrue(cache.isMissing(2L));
+    }
+
+}
@@ -0,0 +1,120 @@
+package com.link.inventory.infrastructure.out.negativecache;
+
+import com.link.inventory.domain.exceptions.ProductNotValidException;
+import com.link.inventory.domain.model.Product;
+import com.link.inventory.domain.spi.ProductClientPort;
+import com.link.inventory.domain.utils.Constants;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NegativeCachingProductClientAdapterTest {
+
+    @Mock
+    private ProductClientPort delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MissingProductCache cache;
+    private NegativeCachingProductClientAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new MissingProductCache(100, Duration.ofMinutes(1));
+        adapter = new NegativeCachingProductClientAdapter(delegate, cache, meterRegistry);
+    }
+
+    @Test
+    void shouldRejectKnownMissingProductWithoutCallingProductService() {
+        // Given
+        when(delegate.getProductById(99L)).thenThrow(new ProductNotValidException(99L));
+
+        // When
+        assertThrows(ProductNotValidException.class, () -> adapter.getProductById(99L));
+        assertThrows(ProductNotValidException.class, () -> adapter.getProductById(99L));
+
+        // Then
+        verify(delegate, times(1)).getProductById(99L);
+        assertEquals(1.0, count(Constants.OUTCOME_STORED));
+        assertEquals(1.0, count(Constants.OUTCOME_REJECTED));
+    }
+
+    @Test
+    void shouldNotRememberOtherFailures() {
+        // Given
+        when(delegate.getProductById(5L)).thenThrow(new RuntimeException(Constants.PRODUCT_SERVICE_UNAVAILABLE_MESSAGE));
+
+        // When
+        assertThrows(RuntimeException.class, () -> adapter.getProductById(5L));
+
+        // Then
+        assertFalse(cache.isMissing(5L));
+    }
+
+    @Test
+    void shouldNotRememberMalformedResponses() {
+        // Given
+        when(delegate.getProductById(5L)).thenThrow(new ProductNotValidException(-1L));
+
+        // When
+        assertThrows(ProductNotValidException.class, () -> adapter.getProductById(5L));
+
+        // Then
+        assertFalse(cache.isMissing(5L));
+    }
+
+    @Test
+    void shouldLookUpAgainOnceProductIsCreated() {
+        // Given
+        Product product = new Product(99L, "iPhone 15 Pro");
+        cache.markMissing(99L);
+        when(delegate.getProductById(99L)).thenReturn(product);
+
+        // When
+        adapter.evictProduct(99L);
+
+        // Then
+        assertEquals(product, adapter.getProductById(99L));
+        verify(delegate, times(1)).evictProduct(99L);
+        assertEquals(1.0, count(Constants.OUTCOME_EVICTED));
+    }
+
+    @Test
+    void shouldForgetProductsReturnedByBatchLookup() {
+        // Given
+        cache.markMissing(1L);
+        cache.markMissing(2L);
+        when(delegate.getProductsByIds(List.of(1L, 2L))).thenReturn(Map.of(1L, new Product(1L, "iPhone 15 Pro")));
+
+        // When
+        adapter.getProductsByIds(List.of(1L, 2L));
+
+        // Then
+        assertFalse(cache.isMissing(1L));
+        assertTrue(cache.isMissing(2L));
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.get(Constants.METRIC_MISSING_PRODUCT_CACHE)
+                .tag(Constants.TAG_OUTCOME, outcome)
+                .counter()
+                .count();
+    }
+
+}
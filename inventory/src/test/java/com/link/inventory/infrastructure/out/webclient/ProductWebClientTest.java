@@ -0,0 +1,146 @@
+package com.link.inventory.infrastructure.out.webclient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.link.inventory.domain.exceptions.ProductNotValidException;
+import com.link.inventory.domain.model.Product;
+import com.link.inventory.domain.utils.Constants;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ProductWebClientTest {
+
+    private static final MediaType JSON_API = MediaType.parseMediaType(Constants.JSON_API_MEDIA_TYPE);
+
+    // The decoders the product WebClient is configured with
+    private static final ExchangeStrategies STRATEGIES = ExchangeStrategies.builder()
+            .codecs(codecs -> codecs.customCodecs().register(new Jackson2CborDecoder()))
+            .build();
+
+    private final List<ClientRequest> requests = new ArrayList<>();
+
+    @Test
+    void shouldAskForCborFieldsetAndDecodeCborBody() throws Exception {
+        // Given
+        byte[] body = new CBORMapper().writeValueAsBytes(
+                Map.of("data", Map.of("id", "7", "productName", "iPhone 15 Pro"))
+        );
+        ProductWebClient client = client(HttpStatus.OK, MediaType.APPLICATION_CBOR, body);
+
+        // When
+        Product product = client.getProductById(7L);
+
+        // Then
+        assertEquals(7L, product.getId());
+        assertEquals("iPhone 15 Pro", product.getProductName());
+
+        ClientRequest request = requests.get(0);
+        assertEquals(List.of(MediaType.APPLICATION_CBOR, JSON_API), request.headers().getAccept());
+        assertEquals("/product/7", request.url().getPath());
+        assertEquals(
+                Constants.FIELDS_PRODUCT_PARAM + "=" + Constants.PRODUCT_CLIENT_FIELDSET,
+                URLDecoder.decode(request.url().getRawQuery(), StandardCharsets.UTF_8)
+        );
+    }
+
+    @Test
+    void shouldStillDecodeJsonApiFromOlderProductService() throws Exception {
+        // Given
+        byte[] body = new ObjectMapper().writeValueAsBytes(
+                Map.of("data", Map.of("id", "7", "productName", "iPhone 15 Pro", "price", 4500000.0))
+        );
+        ProductWebClient client = client(HttpStatus.OK, JSON_API, body);
+
+        // When
+        Product product = client.getProductById(7L);
+
+        // Then
+        assertEquals(7L, product.getId());
+        assertEquals("iPhone 15 Pro", product.getProductName());
+    }
+
+    @Test
+    void shouldDecodeCborBatch() throws Exception {
+        // Given
+        byte[] body = new CBORMapper().writeValueAsBytes(Map.of("data", List.of(
+                Map.of("id", "7", "productName", "iPhone 15 Pro"),
+                Map.of("id", "9", "productName", "Galaxy S24")
+        )));
+        ProductWebClient client = client(HttpStatus.OK, MediaType.APPLICATION_CBOR, body);
+
+        // When
+        Map<Long, Product> products = client.getProductsByIds(List.of(7L, 9L));
+
+        // Then
+        assertEquals("iPhone 15 Pro", products.get(7L).getProductName());
+        assertEquals("Galaxy S24", products.get(9L).getProductName());
+        assertEquals(Constants.URI_PRODUCT_BATCH, requests.get(0).url().getPath());
+        assertEquals(MediaType.APPLICATION_CBOR, requests.get(0).headers().getAccept().get(0));
+    }
+
+    @Test
+    void shouldMapNotFoundToProductNotValid() {
+        // Given
+        ProductWebClient client = client(HttpStatus.NOT_FOUND, JSON_API, new byte[0]);
+
+        // When & Then
+        assertThrows(ProductNotValidException.class, () -> client.getProductById(7L));
+    }
+
+    @Test
+    void shouldMapOtherClientErrorsToRejection() {
+        // Given
+        ProductWebClient client = client(HttpStatus.UNAUTHORIZED, JSON_API, new byte[0]);
+
+        // When & Then
+        ProductServiceRejectedException rejected = assertThrows(
+                ProductServiceRejectedException.class, () -> client.getProductById(7L)
+        );
+        assertEquals(401, rejected.getStatus());
+    }
+
+    @Test
+    void shouldMapBatchClientErrorsToRejection() {
+        // Given
+        ProductWebClient client = client(HttpStatus.NOT_ACCEPTABLE, JSON_API, new byte[0]);
+
+        // When & Then
+        assertThrows(ProductServiceRejectedException.class, () -> client.getProductsByIds(List.of(7L, 9L)));
+    }
+
+    private ProductWebClient client(HttpStatus status, MediaType contentType, byte[] body) {
+
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://product")
+                .exchangeFunction(request -> {
+                    requests.add(request);
+                    return Mono.just(ClientResponse.create(status, STRATEGIES)
+                            .header(HttpHeaders.CONTENT_TYPE, contentType.toString())
+                            .body(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(body)))
+                            .build());
+                })
+                .build();
+
+        return new ProductWebClient(webClient);
+    }
+
+}
@@ -0,0 +1,41 @@
+plugins {
+    java
+}
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    val springBootBom = platform("org.springframework.boot:spring-boot-dependencies:3.5.8")
+
+    implementation(springBootBom)
+    compileOnly(springBootBom)
+    annotationProcessor(springBootBom)
+
+    implementation(project(":product"))
+    implementation(project(":inventory"))
+    implementation("org.springframework.boot:spring-boot")
+    implementation("org.springframework.data:spring-data-jpa")
+    implementation("io.micrometer:micrometer-core")
+    implementation("com.fasterxml.jackson.core:jackson-databind")
+    compileOnly("org.projectlombok:lombok")
+    annotationProcessor("org.projectlombok:lombok")
+    implementation("org.hdrhistogram:HdrHistogram:2.2.2")
+    runtimeOnly("com.h2database:h2")
+}
+
+tasks.register<JavaExec>("loadTest") {
+    group = "verification"
+    description = "Boots both services in-process against H2 and drives mixed read/write workloads."
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass = "com.link.loadtest.LoadTestRunner"
+    jvmArgs("-Xms1g", "-Xmx1g")
+    systemProperty("loadtest.report", layout.buildDirectory.file("loadtest/results.json").get().asFile.path)
+    listOf(
+        "duration", "warmup", "threads", "products", "productBackend", "scenarios",
+        "productDbUrl", "inventoryDbUrl", "dbUser", "dbPassword", "productLatencyMs"
+    ).forEach { key ->
+        findProperty("loadtest.$key")?.let { systemProperty("loadtest.$key", it) }
+    }
+}
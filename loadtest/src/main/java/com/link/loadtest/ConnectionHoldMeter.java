@@ -0,0 +1,49 @@
+package com.link.loadtest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+public class ConnectionHoldMeter {
+
+    private static final String HIKARI_USAGE_TIMER = "hikaricp.connections.usage";
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final MeterRegistry meterRegistry;
+
+    private long countBefore;
+    private double nanosBefore;
+
+    private ConnectionHoldMeter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public static ConnectionHoldMeter of(ConfigurableApplicationContext context) {
+        return context == null ? null : new ConnectionHoldMeter(context.getBean(MeterRegistry.class));
+    }
+
+    public void start() {
+        countBefore = count();
+        nanosBefore = totalNanos();
+    }
+
+    public double meanHoldMillis() {
+        long connections = count() - countBefore;
+        return connections == 0 ? 0 : (totalNanos() - nanosBefore) / connections / NANOS_PER_MILLI;
+    }
+
+    private long count() {
+        return meterRegistry.find(HIKARI_USAGE_TIMER).timers().stream()
+                .mapToLong(Timer::count)
+                .sum();
+    }
+
+    private double totalNanos() {
+        return meterRegistry.find(HIKARI_USAGE_TIMER).timers().stream()
+                .mapToDouble(timer -> timer.totalTime(TimeUnit.NANOSECONDS))
+                .sum();
+    }
+
+}
@@ -0,0 +1,126 @@
+package com.link.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LoadDriver {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    public ScenarioResult run(
+            Scenario scenario,
+            int threads,
+            Duration warmup,
+            Duration duration,
+            ConnectionHoldMeter productConnections,
+            ConnectionHoldMeter inventoryConnections
+    ) throws InterruptedException {
+
+        drive(scenario, threads, warmup, new Recorder(3), new LongAdder());
+
+        Recorder recorder = new Recorder(3);
+        LongAdder errors = new LongAdder();
+
+        start(productConnections);
+        start(inventoryConnections);
+        long allocatedBefore = AllocationMeter.allocatedBytes();
+        long started = System.nanoTime();
+
+        drive(scenario, threads, duration, recorder, errors);
+
+        long elapsedNanos = System.nanoTime() - started;
+        long allocated = AllocationMeter.allocatedBytes() - allocatedBefore;
+
+        Histogram histogram = recorder.getIntervalHistogram();
+        long requests = histogram.getTotalCount();
+        double seconds = elapsedNanos / NANOS_PER_SECOND;
+
+        return new ScenarioResult(
+                scenario.getName(),
+                threads,
+                seconds,
+                requests,
+                errors.sum(),
+                requests / seconds,
+                histogram.getValueAtPercentile(50.0) / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(99.0) / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(99.9) / NANOS_PER_MILLI,
+                histogram.getMaxValue() / NANOS_PER_MILLI,
+                allocated / seconds / (1024.0 * 1024.0),
+                requests == 0 ? 0 : allocated / 1024.0 / requests,
+                meanHoldMillis(productConnections),
+                meanHoldMillis(inventoryConnections)
+        );
+    }
+
+    private static void start(ConnectionHoldMeter meter) {
+        if (meter != null) {
+            meter.start();
+        }
+    }
+
+    private static double meanHoldMillis(ConnectionHoldMeter meter) {
+        return meter == null ? 0 : meter.meanHoldMillis();
+    }
+
+    private void drive(Scenario scenario, int threads, Duration duration, Recorder recorder, LongAdder errors)
+            throws InterruptedException {
+
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        for (int i = 0; i < threads; i++) {
+            workers.execute(() -> {
+                try {
+                    while (System.nanoTime() < deadline) {
+                        execute(scenario.next(), recorder, errors);
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        done.await();
+        workers.shutdown();
+        workers.awaitTermination(1, TimeUnit.MINUTES);
+    }
+
+    private void execute(Operation operation, Recorder recorder, LongAdder errors) {
+
+        long start = System.nanoTime();
+        try {
+            HttpResponse<Void> response = httpClient.send(
+                    operation.getRequestFactory().get(),
+                    HttpResponse.BodyHandlers.discarding()
+            );
+            if (response.statusCode() >= 400) {
+                errors.increment();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            errors.increment();
+        } catch (Exception e) {
+            errors.increment();
+        } finally {
+            recorder.recordValue(System.nanoTime() - start);
+        }
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.link.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class LoadTestRunner {
+
+    private static final String ROW_FORMAT = "%-18s %10s %8s %12s %10s %10s %10s %12s %12s %12s %12s%n";
+
+    private LoadTestRunner() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static void main(String[] args) throws Exception {
+
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+        if (!AllocationMeter.isSupported()) {
+            System.err.println("Per-thread allocation accounting is not available; allocation columns will be 0.");
+        }
+
+        List<ScenarioResult> results = new ArrayList<>();
+
+        try (ServiceCluster cluster = ServiceCluster.start(settings)) {
+
+            LoadDriver driver = new LoadDriver();
+            ConnectionHoldMeter productConnections = ConnectionHoldMeter.of(cluster.getProductContext());
+            ConnectionHoldMeter inventoryConnections = ConnectionHoldMeter.of(cluster.getInventoryContext());
+
+            for (Scenario scenario : Scenarios.all(cluster, settings)) {
+                System.out.println("Running scenario " + scenario.getName() + " ...");
+                results.add(driver.run(
+                        scenario,
+                        settings.getThreads(),
+                        settings.getWarmup(),
+                        settings.getDuration(),
+                        productConnections,
+                        inventoryConnections
+                ));
+            }
+        }
+
+        print(results);
+        write(results, new File(settings.getReportPath()));
+    }
+
+    private static void print(List<ScenarioResult> results) {
+
+        System.out.printf(ROW_FORMAT,
+                "scenario", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "alloc MB/s", "alloc KB/req",
+                "prod hold ms", "inv hold ms");
+
+        for (ScenarioResult result : results) {
+            System.out.printf(ROW_FORMAT,
+                    result.getScenario(),
+                    result.getRequests(),
+                    result.getErrors(),
+                    String.format("%.1f", result.getThroughputPerSecond()),
+                    String.format("%.2f", result.getP50Millis()),
+                    String.format("%.2f", result.getP99Millis()),
+                    String.format("%.2f", result.getP999Millis()),
+                    String.format("%.1f", result.getAllocationMegabytesPerSecond()),
+                    String.format("%.1f", result.getAllocationKilobytesPerRequest()),
+                    String.format("%.3f", result.getProductConnectionHoldMillis()),
+                    String.format("%.3f", result.getInventoryConnectionHoldMillis())
+            );
+        }
+    }
+
+    private static void write(List<ScenarioResult> results, File report) throws IOException {
+
+        File parent = report.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            throw new IOException("Cannot create report directory " + parent);
+        }
+
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(report, results);
+
+        System.out.println("Report written to " + report.getAbsolutePath());
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.link.loadtest;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+@Getter
+public class LoadTestSettings {
+
+    public static final String API_KEY = "loadtest-api-key";
+    public static final String BACKEND_APP = "app";
+    public static final String BACKEND_STUB = "stub";
+    public static final String MYSQL_DRIVER = "com.mysql.cj.jdbc.Driver";
+
+    private final Duration warmup;
+    private final Duration duration;
+    private final int threads;
+    private final int products;
+    private final String productBackend;
+    private final List<String> scenarios;
+    private final String reportPath;
+    private final String productDbUrl;
+    private final String inventoryDbUrl;
+    private final String dbUser;
+    private final String dbPassword;
+    private final Duration productLatency;
+
+    private LoadTestSettings(
+            Duration warmup,
+            Duration duration,
+            int threads,
+            int products,
+            String productBackend,
+            List<String> scenarios,
+            String reportPath,
+            String productDbUrl,
+            String inventoryDbUrl,
+            String dbUser,
+            String dbPassword,
+            Duration productLatency
+    ) {
+        this.warmup = warmup;
+        this.duration = duration;
+        this.threads = threads;
+        this.products = products;
+        this.productBackend = productBackend;
+        this.scenarios = scenarios;
+        this.reportPath = reportPath;
+        this.productDbUrl = productDbUrl;
+        this.inventoryDbUrl = inventoryDbUrl;
+        this.dbUser = dbUser;
+        this.dbPassword = dbPassword;
+        this.productLatency = productLatency;
+    }
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Duration.ofSeconds(Long.getLong("loadtest.warmup", 10)),
+                Duration.ofSeconds(Long.getLong("loadtest.duration", 30)),
+                Integer.getInteger("loadtest.threads", 16),
+                Integer.getInteger("loadtest.products", 1_000),
+                System.getProperty("loadtest.productBackend", BACKEND_APP),
+                Arrays.stream(System.getProperty("loadtest.scenarios", "").split(","))
+                        .map(String::trim)
+                        .filter(name -> !name.isEmpty())
+                        .toList(),
+                System.getProperty("loadtest.report", "loadtest-results.json"),
+                System.getProperty("loadtest.productDbUrl"),
+                System.getProperty("loadtest.inventoryDbUrl"),
+                System.getProperty("loadtest.dbUser", "root"),
+                System.getProperty("loadtest.dbPassword", "password"),
+                Duration.ofMillis(Long.getLong("loadtest.productLatencyMs", 0))
+        );
+    }
+
+    public boolean isStubbedProductBackend() {
+        return BACKEND_STUB.equalsIgnoreCase(productBackend);
+    }
+
+    public List<String> datasourceArguments(String jdbcUrl) {
+
+        if (jdbcUrl == null || jdbcUrl.isBlank()) {
+            return List.of();
+        }
+
+        return List.of(
+                "--spring.datasource.url=" + jdbcUrl,
+                "--spring.datasource.driver-class-name=" + MYSQL_DRIVER,
+                "--spring.datasource.username=" + dbUser,
+                "--spring.datasource.password=" + dbPassword
+        );
+    }
+
+}
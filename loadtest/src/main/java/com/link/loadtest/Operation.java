@@ -0,0 +1,17 @@
+package com.link.loadtest;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.net.http.HttpRequest;
+import java.util.function.Supplier;
+
+@Getter
+@AllArgsConstructor
+public class Operation {
+
+    private final String name;
+    private final int weight;
+    private final Supplier<HttpRequest> requestFactory;
+
+}
@@ -0,0 +1,32 @@
+package com.link.loadtest;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Getter
+public class Scenario {
+
+    private final String name;
+    private final List<Operation> operations;
+    private final int totalWeight;
+
+    public Scenario(String name, List<Operation> operations) {
+        this.name = name;
+        this.operations = operations;
+        this.totalWeight = operations.stream().mapToInt(Operation::getWeight).sum();
+    }
+
+    public Operation next() {
+        int ticket = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Operation operation : operations) {
+            ticket -= operation.getWeight();
+            if (ticket < 0) {
+                return operation;
+            }
+        }
+        return operations.get(operations.size() - 1);
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.link.loadtest;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ScenarioResult {
+
+    private final String scenario;
+    private final int threads;
+    private final double durationSeconds;
+    private final long requests;
+    private final long errors;
+    private final double throughputPerSecond;
+    private final double p50Millis;
+    private final double p99Millis;
+    private final double p999Millis;
+    private final double maxMillis;
+    private final double allocationMegabytesPerSecond;
+    private final double allocationKilobytesPerRequest;
+    private final double productConnectionHoldMillis;
+    private final double inventoryConnectionHoldMillis;
+
+}
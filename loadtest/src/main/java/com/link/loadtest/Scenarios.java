@@ -0,0 +1,103 @@
+package com.link.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+public final class Scenarios {
+
+    private static final String JSON_API_MEDIA_TYPE = "application/vnd.api+json";
+    private static final String HEADER_X_API_KEY = "X-API-Key";
+
+    private Scenarios() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static List<Scenario> all(ServiceCluster cluster, LoadTestSettings settings) {
+
+        int products = settings.getProducts();
+        String product = cluster.getProductBaseUrl();
+        String inventory = cluster.getInventoryBaseUrl();
+
+        List<Scenario> scenarios = new ArrayList<>();
+
+        if (cluster.hasProductApplication()) {
+            scenarios.add(new Scenario("product-read", List.of(
+                    new Operation("getProductById", 90, () -> get(product + "/product/" + randomId(products))),
+                    new Operation("getAllProducts", 10, () -> get(product + "/product/?page=" + randomPage(products) + "&size=10"))
+            )));
+            scenarios.add(new Scenario("product-mixed", List.of(
+                    new Operation("getProductById", 70, () -> get(product + "/product/" + randomId(products))),
+                    new Operation("getAllProducts", 20, () -> get(product + "/product/?page=" + randomPage(products) + "&size=10")),
+                    new Operation("updateProductById", 10, () -> updateProduct(product, randomId(products)))
+            )));
+        }
+
+        scenarios.add(new Scenario("inventory-read", List.of(
+                new Operation("getInventoryByProductId", 100, () -> get(inventory + "/inventory/product/" + randomId(products)))
+        )));
+        scenarios.add(new Scenario("inventory-mixed", List.of(
+                new Operation("getInventoryByProductId", 80, () -> get(inventory + "/inventory/product/" + randomId(products))),
+                new Operation("updateQuantity", 20, () -> updateQuantity(inventory, randomId(products)))
+        )));
+
+        if (settings.getScenarios().isEmpty()) {
+            return scenarios;
+        }
+
+        return scenarios.stream()
+                .filter(scenario -> settings.getScenarios().contains(scenario.getName()))
+                .toList();
+    }
+
+    private static HttpRequest get(String url) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header(HEADER_X_API_KEY, LoadTestSettings.API_KEY)
+                .header("Accept", JSON_API_MEDIA_TYPE)
+                .GET()
+                .build();
+    }
+
+    private static HttpRequest updateProduct(String baseUrl, long id) {
+        String body = """
+                {
+                  "productName": "Product %d",
+                  "description": "Load test product number %d updated at %d",
+                  "price": %d,
+                  "category": "Category %d",
+                  "brand": "Brand %d",
+                  "imageUrl": "https://example.com/images/%d.jpg"
+                }
+                """.formatted(id, id, System.nanoTime(), 1000 + id, id % 20, id % 50, id);
+
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/product/" + id))
+                .header(HEADER_X_API_KEY, LoadTestSettings.API_KEY)
+                .header("Content-Type", JSON_API_MEDIA_TYPE)
+                .header("Accept", JSON_API_MEDIA_TYPE)
+                .PUT(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static HttpRequest updateQuantity(String baseUrl, long inventoryId) {
+        int change = ThreadLocalRandom.current().nextBoolean() ? 1 : -1;
+        String body = "{\"quantityChange\": " + change + ", \"reason\": \"LOAD_TEST\"}";
+
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/inventory/" + inventoryId + "/quantity"))
+                .header(HEADER_X_API_KEY, LoadTestSettings.API_KEY)
+                .header("Content-Type", JSON_API_MEDIA_TYPE)
+                .header("Accept", JSON_API_MEDIA_TYPE)
+                .PUT(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static long randomId(int products) {
+        return ThreadLocalRandom.current().nextLong(1, products + 1L);
+    }
+
+    private static int randomPage(int products) {
+        return ThreadLocalRandom.current().nextInt(Math.max(1, products / 10));
+    }
+
+}
@@ -0,0 +1,155 @@
+package com.link.loadtest;
+
+import com.link.inventory.InventoryApplication;
+import com.link.inventory.infrastructure.out.jpa.entity.InventoryEntity;
+import com.link.inventory.infrastructure.out.jpa.repository.InventoryRepository;
+import com.link.product.ProductApplication;
+import com.link.product.infrastructure.out.jpa.entity.ProductEntity;
+import com.link.product.infrastructure.out.jpa.repository.ProductRepository;
+import lombok.Getter;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+public class ServiceCluster implements AutoCloseable {
+
+    private static final int SEED_BATCH_SIZE = 500;
+    private static final int INITIAL_QUANTITY = 1_000_000;
+
+    private final ConfigurableApplicationContext productContext;
+    private final StubProductServer stubProductServer;
+    private final ConfigurableApplicationContext inventoryContext;
+    private final String productBaseUrl;
+    private final String inventoryBaseUrl;
+
+    private ServiceCluster(
+            ConfigurableApplicationContext productContext,
+            StubProductServer stubProductServer,
+            ConfigurableApplicationContext inventoryContext,
+            String productBaseUrl,
+            String inventoryBaseUrl
+    ) {
+        this.productContext = productContext;
+        this.stubProductServer = stubProductServer;
+        this.inventoryContext = inventoryContext;
+        this.productBaseUrl = productBaseUrl;
+        this.inventoryBaseUrl = inventoryBaseUrl;
+    }
+
+    public static ServiceCluster start(LoadTestSettings settings) throws IOException {
+
+        ConfigurableApplicationContext productContext = null;
+        StubProductServer stubProductServer = null;
+        String productBaseUrl;
+
+        if (settings.isStubbedProductBackend()) {
+            stubProductServer = new StubProductServer(settings.getProducts(), settings.getProductLatency());
+            productBaseUrl = stubProductServer.baseUrl();
+        } else {
+            productContext = boot(
+                    ProductApplication.class,
+                    "classpath:/loadtest/product.properties",
+                    settings.datasourceArguments(settings.getProductDbUrl())
+            );
+            productBaseUrl = baseUrl(productContext);
+            seedProducts(productContext, settings.getProducts());
+        }
+
+        List<String> inventoryArguments = new ArrayList<>(settings.datasourceArguments(settings.getInventoryDbUrl()));
+        inventoryArguments.add("--product.service.url=" + productBaseUrl);
+
+        ConfigurableApplicationContext inventoryContext = boot(
+                InventoryApplication.class,
+                "classpath:/loadtest/inventory.properties",
+                inventoryArguments
+        );
+        seedInventories(inventoryContext, settings.getProducts());
+
+        return new ServiceCluster(
+                productContext,
+                stubProductServer,
+                inventoryContext,
+                productBaseUrl,
+                baseUrl(inventoryContext)
+        );
+    }
+
+    public boolean hasProductApplication() {
+        return productContext != null;
+    }
+
+    private static ConfigurableApplicationContext boot(Class<?> application, String configLocation, List<String> args) {
+
+        List<String> arguments = new ArrayList<>(args);
+        arguments.add("--spring.config.location=" + configLocation);
+
+        return new SpringApplicationBuilder(application)
+                .logStartupInfo(false)
+                .run(arguments.toArray(String[]::new));
+    }
+
+    private static String baseUrl(ConfigurableApplicationContext context) {
+        return "http://localhost:" + context.getEnvironment().getRequiredProperty("local.server.port");
+    }
+
+    private static void seedProducts(ConfigurableApplicationContext context, int count) {
+
+        ProductRepository repository = context.getBean(ProductRepository.class);
+        List<ProductEntity> batch = new ArrayList<>(SEED_BATCH_SIZE);
+
+        for (int i = 1; i <= count; i++) {
+            batch.add(new ProductEntity(
+                    null,
+                    "Product " + i,
+                    "Load test product number " + i + " with a representative description length",
+                    1000.0 + i,
+                    "Category " + (i % 20),
+                    "Brand " + (i % 50),
+                    "https://example.com/images/" + i + ".jpg"
+            ));
+            if (batch.size() == SEED_BATCH_SIZE) {
+                repository.saveAll(batch);
+                batch.clear();
+            }
+        }
+        repository.saveAll(batch);
+    }
+
+    private static void seedInventories(ConfigurableApplicationContext context, int count) {
+
+        InventoryRepository repository = context.getBean(InventoryRepository.class);
+        List<InventoryEntity> batch = new ArrayList<>(SEED_BATCH_SIZE);
+
+        for (long productId = 1; productId <= count; productId++) {
+            batch.add(new InventoryEntity(
+                    null,
+                    productId,
+                    INITIAL_QUANTITY,
+                    "Warehouse " + (productId % 5),
+                    Instant.now()
+            ));
+            if (batch.size() == SEED_BATCH_SIZE) {
+                repository.saveAll(batch);
+                batch.clear();
+            }
+        }
+        repository.saveAll(batch);
+    }
+
+    @Override
+    public void close() {
+        inventoryContext.close();
+        if (productContext != null) {
+            productContext.close();
+        }
+        if (stubProductServer != null) {
+            stubProductServer.close();
+        }
+    }
+
+}
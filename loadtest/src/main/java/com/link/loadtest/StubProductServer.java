@@ -0,0 +1,88 @@
+package com.link.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class StubProductServer implements AutoCloseable {
+
+    private static final String JSON_API_MEDIA_TYPE = "application/vnd.api+json";
+    private static final String PRODUCT_PATH = "/product/";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final int knownProducts;
+    private final long latencyMillis;
+
+    public StubProductServer(int knownProducts, Duration latency) throws IOException {
+        this.knownProducts = knownProducts;
+        this.latencyMillis = latency.toMillis();
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        // Simulated latency parks the handler thread, so the pool must not cap concurrency
+        this.executor = latencyMillis > 0
+                ? Executors.newCachedThreadPool()
+                : Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        this.server.createContext(PRODUCT_PATH, this::handle);
+        this.server.setExecutor(executor);
+        this.server.start();
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+
+        simulateLatency();
+
+        long productId = parseId(exchange.getRequestURI().getPath());
+
+        if (productId < 1 || productId > knownProducts) {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+            return;
+        }
+
+        byte[] body = ("{\"data\":{\"id\":\"" + productId + "\",\"productName\":\"Product " + productId + "\"}}")
+                .getBytes(StandardCharsets.UTF_8);
+
+        exchange.getResponseHeaders().set("Content-Type", JSON_API_MEDIA_TYPE);
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private void simulateLatency() {
+        if (latencyMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private long parseId(String path) {
+        try {
+            return Long.parseLong(path.substring(PRODUCT_PATH.length()));
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            return -1;
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.link.product.application.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class JsonApiPageResponse<T> extends JsonApiResponse<List<T>> {
+
+    private final PageResponse<T> page;
+    private final PageLinkTemplate linkTemplate;
+
+    public JsonApiPageResponse(PageResponse<T> page, PageLinkTemplate linkTemplate) {
+        super(page.getContent());
+        this.page = page;
+        this.linkTemplate = linkTemplate;
+    }
+
+}
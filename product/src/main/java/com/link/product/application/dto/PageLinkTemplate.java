@@ -0,0 +1,93 @@
+package com.link.product.application.dto;
+
+import com.link.product.domain.model.ProductField;
+import com.link.product.domain.utils.Constants;
+
+import java.util.Set;
+import java.util.StringJoiner;
+
+public final class PageLinkTemplate {
+
+    private static final int MAX_INT_CHARS = 11;
+
+    private final char[] prefix;
+    private final char[] suffix;
+
+    public PageLinkTemplate(String baseUrl, int size, String sortBy, String sortDirection, Set<ProductField> fields) {
+        this.prefix = (baseUrl + Constants.PAGE_URL_NUMBER_PARAM).toCharArray();
+        this.suffix = (Constants.PAGE_URL_SIZE_PARAM + size
+                + Constants.PAGE_URL_SORT_PARAM + sortBy
+                + Constants.PAGE_URL_DIRECTION_PARAM + direction(sortDirection)
+                + fieldset(fields)).toCharArray();
+    }
+
+    public int maxLength() {
+        return prefix.length + MAX_INT_CHARS + suffix.length;
+    }
+
+    public int render(int page, char[] target) {
+
+        System.arraycopy(prefix, 0, target, 0, prefix.length);
+        int position = writeInt(page, target, prefix.length);
+        System.arraycopy(suffix, 0, target, position, suffix.length);
+
+        return position + suffix.length;
+    }
+
+    public String toUrl(int page) {
+        char[] buffer = new char[maxLength()];
+        return new String(buffer, 0, render(page, buffer));
+    }
+
+    // Anything but DESC sorts ascending, so the link states the direction the page was actually read in
+    private static String direction(String sortDirection) {
+        return Constants.SORT_DIRECTION_DESC.equalsIgnoreCase(sortDirection)
+                ? Constants.SORT_DIRECTION_DESC
+                : Constants.SORT_DIRECTION_ASC;
+    }
+
+    // The full fieldset is the default, so only a sparse one is carried to the other pages
+    private static String fieldset(Set<ProductField> fields) {
+
+        if (fields.containsAll(ProductField.all())) {
+            return "";
+        }
+
+        StringJoiner names = new StringJoiner(Constants.FIELDSET_SEPARATOR, Constants.PAGE_URL_FIELDS_PARAM, "");
+        for (ProductField field : ProductField.values()) {
+            if (fields.contains(field)) {
+                names.add(field.getFieldName());
+            }
+        }
+
+        return names.toString();
+    }
+
+    private static int writeInt(int value, char[] target, int offset) {
+
+        if (value == 0) {
+            target[offset] = '0';
+            return offset + 1;
+        }
+
+        long remaining = value;
+        if (remaining < 0) {
+            target[offset++] = '-';
+            remaining = -remaining;
+        }
+
+        int digits = 0;
+        for (long probe = remaining; probe > 0; probe /= 10) {
+            digits++;
+        }
+
+        int end = offset + digits;
+        for (int i = end - 1; i >= offset; i--) {
+            target[i] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        }
+
+        return end;
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.link.product.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Getter
+@Setter
+@AllArgsConstructor
+public class PriceBucketResponse {
+
+    private Double min;
+    private Double max;
+    private long count;
+
+}
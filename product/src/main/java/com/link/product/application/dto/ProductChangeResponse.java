@@ -0,0 +1,22 @@
+package com.link.product.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Getter
+@Setter
+@AllArgsConstructor
+public class ProductChangeResponse {
+
+    private String id;
+    private long sequence;
+    private Instant changedAt;
+    private boolean deleted;
+    private ProductResponse product;
+
+}
@@ -0,0 +1,18 @@
+package com.link.product.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class ProductChangesResponse {
+
+    private List<ProductChangeResponse> changes;
+    private long nextSince;
+    private boolean hasMore;
+
+}
@@ -0,0 +1,19 @@
+package com.link.product.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class ProductFacetsResponse {
+
+    private Map<String, Long> categories;
+    private Map<String, Long> brands;
+    private List<PriceBucketResponse> priceBuckets;
+
+}
@@ -0,0 +1,22 @@
+package com.link.product.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// A product limited by fields[product]: attributes that were not requested are left out instead of sent as null.
+// Full responses keep the plain ProductResponse, so their null attributes stay on the wire
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SparseProductResponse extends ProductResponse {
+
+    public SparseProductResponse(
+            String id,
+            String productName,
+            String description,
+            Double price,
+            String category,
+            String brand,
+            String imageUrl
+    ) {
+        super(id, productName, description, price, category, brand, imageUrl);
+    }
+
+}
@@ -1,19 +1,43 @@
 package com.link.product.application.handler;
 
 import com.link.product.application.dto.PageResponse;
+import com.link.product.application.dto.ProductChangesResponse;
+import com.link.product.application.dto.ProductFacetsResponse;
 import com.link.product.application.dto.ProductRequest;
 import com.link.product.application.dto.ProductResponse;
+import com.link.product.domain.model.ProductField;
+
+import java.util.List;
+import java.util.Set;
 
 public interface ProductHandler {
 
     ProductResponse createProduct(ProductRequest productRequest);
 
-    ProductResponse getProductById(Long id);
+    ProductResponse getProductById(Long id, Set<ProductField> fields);
+
+    void recordProductView(Long id);
 
     ProductResponse  updateProductById(Long id, ProductRequest productRequest);
 
     void deleteProductById(Long id);
 
-    PageResponse<ProductResponse> getAllProducts(int page, int size, String sortBy, String sortDirection);
+    PageResponse<ProductResponse> getAllProducts(
+            int page,
+            int size,
+            String sortBy,
+            String sortDirection,
+            Set<ProductField> fields
+    );
+
+    List<ProductResponse> getProductsByIds(Set<Long> ids, Set<ProductField> fields);
+
+    PageResponse<ProductResponse> searchProducts(String query, int page, int size, Set<ProductField> fields);
+
+    List<ProductResponse> suggestProducts(String prefix, int limit);
+
+    ProductFacetsResponse getProductFacets();
+
+    ProductChangesResponse getProductChanges(long since, int limit);
 
 }
@@ -1,6 +1,8 @@
 package com.link.product.application.handler;
 
 import com.link.product.application.dto.PageResponse;
+import com.link.product.application.dto.ProductChangesResponse;
+import com.link.product.application.dto.ProductFacetsResponse;
 import com.link.product.application.dto.ProductRequest;
 import com.link.product.application.dto.ProductResponse;
 import com.link.product.application.mappers.ProductRequestMapper;
@@ -8,14 +10,15 @@ import com.link.product.application.mappers.ProductResponseMapper;
 import com.link.product.domain.api.ProductServicePort;
 import com.link.product.domain.model.PageDomain;
 import com.link.product.domain.model.Product;
+import com.link.product.domain.model.ProductField;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 
 @Service
-@Transactional
 @RequiredArgsConstructor
 public class ProductHandlerImpl implements ProductHandler {
 
@@ -24,6 +27,7 @@ public class ProductHandlerImpl implements ProductHandler {
     private final ProductResponseMapper productResponseMapper;
 
     @Override
+    @Transactional
     public ProductResponse createProduct(ProductRequest productRequest) {
 
         Product product = productRequestMapper.toDomain(productRequest);
@@ -33,14 +37,21 @@ public class ProductHandlerImpl implements ProductHandler {
     }
 
     @Override
-    public ProductResponse getProductById(Long id) {
+    @Transactional(readOnly = true)
+    public ProductResponse getProductById(Long id, Set<ProductField> fields) {
 
-        Product product = productServicePort.getProductById(id);
-        return productResponseMapper.toResponse(product);
+        Product product = productServicePort.getProductById(id, fields);
+        return productResponseMapper.toResponse(product, fields);
 
     }
 
     @Override
+    public void recordProductView(Long id) {
+        productServicePort.recordProductView(id);
+    }
+
+    @Override
+    @Transactional
     public ProductResponse updateProductById(Long id, ProductRequest productRequest) {
 
         Product product = productRequestMapper.toDomain(productRequest);
@@ -49,17 +60,25 @@ public class ProductHandlerImpl implements ProductHandler {
     }
 
     @Override
+    @Transactional
     public void deleteProductById(Long id) {
         productServicePort.deleteProductById(id);
     }
 
     @Override
-    public PageResponse<ProductResponse> getAllProducts(int page, int size, String sortBy, String sortDirection) {
+    @Transactional(readOnly = true)
+    public PageResponse<ProductResponse> getAllProducts(
+            int page,
+            int size,
+            String sortBy,
+            String sortDirection,
+            Set<ProductField> fields
+    ) {
 
-        PageDomain<Product> productPage = productServicePort.getAllProducts(page, size, sortBy, sortDirection);
+        PageDomain<Product> productPage = productServicePort.getAllProducts(page, size, sortBy, sortDirection, fields);
 
         List<ProductResponse> productResponses = productPage.getContent().stream()
-                .map(productResponseMapper::toResponse)
+                .map(product -> productResponseMapper.toResponse(product, fields))
                 .toList();
 
         return new PageResponse<>(
@@ -72,4 +91,54 @@ public class ProductHandlerImpl implements ProductHandler {
         );
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProductResponse> getProductsByIds(Set<Long> ids, Set<ProductField> fields) {
+
+        return productServicePort.getProductsByIds(ids, fields).stream()
+                .map(product -> productResponseMapper.toResponse(product, fields))
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<ProductResponse> searchProducts(String query, int page, int size, Set<ProductField> fields) {
+
+        PageDomain<Product> productPage = productServicePort.searchProducts(query, page, size, fields);
+
+        List<ProductResponse> productResponses = productPage.getContent().stream()
+                .map(product -> productResponseMapper.toResponse(product, fields))
+                .toList();
+
+        return new PageResponse<>(
+                productResponses,
+                productPage.getPageNumber(),
+                productPage.getPageSize(),
+                productPage.getTotalElements(),
+                productPage.getTotalPages(),
+                productPage.isLast()
+        );
+    }
+
+    // Served from memory; no transaction or database access
+    @Override
+    public List<ProductResponse> suggestProducts(String prefix, int limit) {
+
+        return productServicePort.suggestProducts(prefix, limit).stream()
+                .map(productResponseMapper::toResponse)
+                .toList();
+    }
+
+    // Counts are kept in memory; no transaction or database access
+    @Override
+    public ProductFacetsResponse getProductFacets() {
+        return productResponseMapper.toFacetsResponse(productServicePort.getProductFacets());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProductChangesResponse getProductChanges(long since, int limit) {
+        return productResponseMapper.toChangesResponse(productServicePort.getProductChanges(since, limit));
+    }
+
 }
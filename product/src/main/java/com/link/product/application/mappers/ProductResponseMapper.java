@@ -1,13 +1,50 @@
 package com.link.product.application.mappers;
 
+import com.link.product.application.dto.ProductChangeResponse;
+import com.link.product.application.dto.ProductChangesResponse;
+import com.link.product.application.dto.ProductFacetsResponse;
 import com.link.product.application.dto.ProductResponse;
+import com.link.product.application.dto.SparseProductResponse;
 import com.link.product.domain.model.Product;
+import com.link.product.domain.model.ProductChange;
+import com.link.product.domain.model.ProductChangePage;
+import com.link.product.domain.model.ProductFacets;
+import com.link.product.domain.model.ProductField;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
 
+import java.util.Set;
+
 @Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
 public interface ProductResponseMapper {
 
     ProductResponse toResponse(Product product);
 
+    ProductFacetsResponse toFacetsResponse(ProductFacets facets);
+
+    @Mapping(target = "id", source = "productId")
+    ProductChangeResponse toChangeResponse(ProductChange change);
+
+    ProductChangesResponse toChangesResponse(ProductChangePage page);
+
+    default ProductResponse toResponse(Product product, Set<ProductField> fields) {
+
+        ProductResponse response = toResponse(product);
+
+        if (response == null || fields.size() == ProductField.all().size()) {
+            return response;
+        }
+
+        return new SparseProductResponse(
+                response.getId(),
+                fields.contains(ProductField.PRODUCT_NAME) ? response.getProductName() : null,
+                fields.contains(ProductField.DESCRIPTION) ? response.getDescription() : null,
+                fields.contains(ProductField.PRICE) ? response.getPrice() : null,
+                fields.contains(ProductField.CATEGORY) ? response.getCategory() : null,
+                fields.contains(ProductField.BRAND) ? response.getBrand() : null,
+                fields.contains(ProductField.IMAGE_URL) ? response.getImageUrl() : null
+        );
+    }
+
 }
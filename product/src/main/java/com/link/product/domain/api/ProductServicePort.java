@@ -2,17 +2,41 @@ package com.link.product.domain.api;
 
 import com.link.product.domain.model.PageDomain;
 import com.link.product.domain.model.Product;
+import com.link.product.domain.model.ProductChangePage;
+import com.link.product.domain.model.ProductFacets;
+import com.link.product.domain.model.ProductField;
+
+import java.util.List;
+import java.util.Set;
 
 public interface ProductServicePort {
 
     Product saveProduct(Product product);
 
-    Product getProductById(Long id);
+    Product getProductById(Long id, Set<ProductField> fields);
+
+    void recordProductView(Long id);
 
     Product updateProductById(Long id, Product product);
 
     void deleteProductById(Long id);
 
-    PageDomain<Product> getAllProducts(int page, int size, String sortBy, String sortDirection);
+    PageDomain<Product> getAllProducts(
+            int page,
+            int size,
+            String sortBy,
+            String sortDirection,
+            Set<ProductField> fields
+    );
+
+    List<Product> getProductsByIds(Set<Long> ids, Set<ProductField> fields);
+
+    PageDomain<Product> searchProducts(String query, int page, int size, Set<ProductField> fields);
+
+    List<Product> suggestProducts(String prefix, int limit);
+
+    ProductFacets getProductFacets();
+
+    ProductChangePage getProductChanges(long since, int limit);
 
 }
@@ -0,0 +1,16 @@
+package com.link.product.domain.exceptions;
+
+import com.link.product.domain.utils.Constants;
+import lombok.Getter;
+
+@Getter
+public class ChangeTokenExpiredException extends RuntimeException {
+
+    private final long expiredSince;
+
+    public ChangeTokenExpiredException(long expiredSince) {
+        super(Constants.CHANGE_TOKEN_EXPIRED_MESSAGE);
+        this.expiredSince = expiredSince;
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.link.product.domain.exceptions;
+
+import com.link.product.domain.utils.Constants;
+import lombok.Getter;
+
+@Getter
+public class InvalidProductFieldException extends RuntimeException {
+
+    private final String invalidField;
+
+    public InvalidProductFieldException(String invalidField) {
+        super(Constants.INVALID_PRODUCT_FIELD_MESSAGE);
+        this.invalidField = invalidField;
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.link.product.domain.exceptions;
+
+import com.link.product.domain.utils.Constants;
+import lombok.Getter;
+
+@Getter
+public class InvalidSortFieldException extends RuntimeException {
+
+    private final String invalidField;
+
+    public InvalidSortFieldException(String invalidField) {
+        super(Constants.INVALID_SORT_FIELD_MESSAGE);
+        this.invalidField = invalidField;
+    }
+
+}
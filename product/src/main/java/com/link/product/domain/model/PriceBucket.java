@@ -0,0 +1,15 @@
+package com.link.product.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// Prices in [min, max); max is null for the last, open-ended bucket
+@Data
+@AllArgsConstructor
+public class PriceBucket {
+
+    private Double min;
+    private Double max;
+    private long count;
+
+}
@@ -0,0 +1,19 @@
+package com.link.product.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.Instant;
+
+// A deleted product is reported without its attributes
+@Data
+@AllArgsConstructor
+public class ProductChange {
+
+    private Long productId;
+    private long sequence;
+    private Instant changedAt;
+    private boolean deleted;
+    private Product product;
+
+}
@@ -0,0 +1,16 @@
+package com.link.product.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class ProductChangePage {
+
+    private List<ProductChange> changes;
+    private long nextSince;
+    private boolean hasMore;
+
+}
@@ -0,0 +1,17 @@
+package com.link.product.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+public class ProductFacets {
+
+    private Map<String, Long> categories;
+    private Map<String, Long> brands;
+    private List<PriceBucket> priceBuckets;
+
+}
@@ -0,0 +1,73 @@
+package com.link.product.domain.model;
+
+import com.link.product.domain.exceptions.InvalidProductFieldException;
+import com.link.product.domain.utils.Constants;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+@Getter
+@RequiredArgsConstructor
+public enum ProductField {
+
+    PRODUCT_NAME("productName"),
+    DESCRIPTION("description"),
+    PRICE("price"),
+    CATEGORY("category"),
+    BRAND("brand"),
+    IMAGE_URL("imageUrl");
+
+    private static final Set<ProductField> ALL = Collections.unmodifiableSet(EnumSet.allOf(ProductField.class));
+
+    private final String fieldName;
+
+    public static Set<ProductField> all() {
+        return ALL;
+    }
+
+    public static Set<ProductField> parseFieldset(String fieldset) {
+
+        if (fieldset == null || fieldset.isBlank()) {
+            return ALL;
+        }
+
+        EnumSet<ProductField> fields = EnumSet.noneOf(ProductField.class);
+
+        for (String name : fieldset.split(Constants.FIELDSET_SEPARATOR)) {
+            fields.add(fromFieldName(name.trim()));
+        }
+
+        return fields;
+    }
+
+    // Lists sort by id or one of these attributes; any other name would reach the query as an entity property
+    public static boolean isSortable(String fieldName) {
+
+        if (Constants.FIELD_ID.equals(fieldName)) {
+            return true;
+        }
+
+        for (ProductField field : values()) {
+            if (field.fieldName.equals(fieldName)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public static ProductField fromFieldName(String fieldName) {
+
+        for (ProductField field : values()) {
+            if (field.fieldName.equals(fieldName)) {
+                return field;
+            }
+        }
+
+        throw new InvalidProductFieldException(fieldName);
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.link.product.domain.spi;
+
+import com.link.product.domain.model.Product;
+
+public interface ProductEventPublisherPort {
+
+    void publishProductCreated(Product product);
+
+}
@@ -3,8 +3,14 @@ package com.link.product.domain.spi;
 
 import com.link.product.domain.model.PageDomain;
 import com.link.product.domain.model.Product;
+import com.link.product.domain.model.ProductChangePage;
+import com.link.product.domain.model.ProductFacets;
+import com.link.product.domain.model.ProductField;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface ProductPersistencePort {
 
@@ -12,12 +18,24 @@ public interface ProductPersistencePort {
 
     Boolean checkIfProductExists(String productName);
 
-    Optional<Product> getProductById(Long id);
+    Optional<Product> getProductById(Long id, Set<ProductField> fields);
 
     Optional<Product> updateProductById(Long id, Product product);
 
     void deleteProductById(Long id);
 
-    PageDomain<Product> getAllProducts(int page, int size, String sortBy, String sortDirection);
+    PageDomain<Product> getAllProducts(
+            int page,
+            int size,
+            String sortBy,
+            String sortDirection,
+            Set<ProductField> fields
+    );
+
+    List<Product> getProductsByIds(Collection<Long> ids, Set<ProductField> fields);
+
+    ProductFacets getProductFacets();
+
+    ProductChangePage getChangesSince(long since, int limit);
 
 }
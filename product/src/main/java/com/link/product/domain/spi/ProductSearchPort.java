@@ -0,0 +1,14 @@
+package com.link.product.domain.spi;
+
+import com.link.product.domain.model.PageDomain;
+import com.link.product.domain.model.Product;
+
+public interface ProductSearchPort {
+
+    void index(Product product);
+
+    void remove(Long id);
+
+    PageDomain<Long> search(String query, int page, int size);
+
+}
@@ -0,0 +1,13 @@
+package com.link.product.domain.spi;
+
+import com.link.product.domain.model.Product;
+
+import java.util.List;
+
+public interface ProductSuggestPort {
+
+    void recordView(Long id);
+
+    List<Product> suggest(String prefix, int limit);
+
+}
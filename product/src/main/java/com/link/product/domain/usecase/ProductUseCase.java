@@ -1,17 +1,33 @@
 package com.link.product.domain.usecase;
 
 import com.link.product.domain.api.ProductServicePort;
+import com.link.product.domain.exceptions.InvalidSortFieldException;
 import com.link.product.domain.exceptions.ProductAlreadyExistsException;
 import com.link.product.domain.exceptions.ProductNotFoundException;
 import com.link.product.domain.model.PageDomain;
 import com.link.product.domain.model.Product;
+import com.link.product.domain.model.ProductChangePage;
+import com.link.product.domain.model.ProductFacets;
+import com.link.product.domain.model.ProductField;
+import com.link.product.domain.spi.ProductEventPublisherPort;
 import com.link.product.domain.spi.ProductPersistencePort;
+import com.link.product.domain.spi.ProductSearchPort;
+import com.link.product.domain.spi.ProductSuggestPort;
 import lombok.AllArgsConstructor;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 @AllArgsConstructor
 public class ProductUseCase implements ProductServicePort {
 
     private final ProductPersistencePort productPersistencePort;
+    private final ProductEventPublisherPort productEventPublisherPort;
+    private final ProductSearchPort productSearchPort;
+    private final ProductSuggestPort productSuggestPort;
 
     @Override
     public Product saveProduct(Product product) {
@@ -20,44 +36,137 @@ public class ProductUseCase implements ProductServicePort {
             throw new ProductAlreadyExistsException();
         }
 
-        return productPersistencePort.saveProduct(product);
+        Product savedProduct = productPersistencePort.saveProduct(product);
+
+        productSearchPort.index(savedProduct);
+        productEventPublisherPort.publishProductCreated(savedProduct);
+
+        return savedProduct;
     }
 
     @Override
-    public Product getProductById(Long id) {
-        return productPersistencePort.getProductById(id)
+    public Product getProductById(Long id, Set<ProductField> fields) {
+        return productPersistencePort.getProductById(id, fields)
                 .orElseThrow(() -> new ProductNotFoundException(id));
     }
 
+    // Called by GET /product/{id} alone, cached or not; other lookups (a cache render, a benchmark) are not views
+    @Override
+    public void recordProductView(Long id) {
+        productSuggestPort.recordView(id);
+    }
+
     @Override
     public Product updateProductById(Long id, Product product) {
 
-        Product existingProduct = productPersistencePort.getProductById(id)
-                .orElseThrow(() -> new ProductNotFoundException(id));
+        Product existingProduct = findProductById(id);
 
         if (!existingProduct.getProductName().equals(product.getProductName())
                 && checkIfArticleExists(product.getProductName())) {
             throw new ProductAlreadyExistsException();
         }
 
-        return productPersistencePort.updateProductById(id, product)
+        Product updatedProduct = productPersistencePort.updateProductById(id, product)
                 .orElseThrow(() -> new ProductNotFoundException(id));
+
+        productSearchPort.index(updatedProduct);
+
+        return updatedProduct;
     }
 
     @Override
     public void deleteProductById(Long id) {
-        getProductById(id);
+        findProductById(id);
         productPersistencePort.deleteProductById(id);
+        productSearchPort.remove(id);
+    }
+
+    @Override
+    public PageDomain<Product> getAllProducts(
+            int page,
+            int size,
+            String sortBy,
+            String sortDirection,
+            Set<ProductField> fields
+    ) {
+
+        if (!ProductField.isSortable(sortBy)) {
+            throw new InvalidSortFieldException(sortBy);
+        }
+
+        return productPersistencePort.getAllProducts(page, size, sortBy, sortDirection, fields);
+    }
+
+    @Override
+    public List<Product> getProductsByIds(Set<Long> ids, Set<ProductField> fields) {
+
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        return productPersistencePort.getProductsByIds(ids, fields);
+    }
+
+    @Override
+    public PageDomain<Product> searchProducts(String query, int page, int size, Set<ProductField> fields) {
+
+        PageDomain<Long> hits = productSearchPort.search(query, page, size);
+
+        List<Product> products = hits.getContent().isEmpty()
+                ? List.of()
+                : inRankOrder(hits.getContent(), productPersistencePort.getProductsByIds(hits.getContent(), fields));
+
+        return new PageDomain<>(
+                products,
+                hits.getPageNumber(),
+                hits.getPageSize(),
+                hits.getTotalElements(),
+                hits.getTotalPages(),
+                hits.isLast()
+        );
+    }
+
+    @Override
+    public List<Product> suggestProducts(String prefix, int limit) {
+        return productSuggestPort.suggest(prefix, limit);
     }
 
     @Override
-    public PageDomain<Product> getAllProducts(int page, int size, String sortBy, String sortDirection) {
-        return productPersistencePort.getAllProducts(page, size, sortBy, sortDirection);
+    public ProductFacets getProductFacets() {
+        return productPersistencePort.getProductFacets();
     }
 
+    @Override
+    public ProductChangePage getProductChanges(long since, int limit) {
+        return productPersistencePort.getChangesSince(since, limit);
+    }
+
+    private Product findProductById(Long id) {
+        return productPersistencePort.getProductById(id, ProductField.all())
+                .orElseThrow(() -> new ProductNotFoundException(id));
+    }
 
     private boolean checkIfArticleExists(String productName) {
         return productPersistencePort.checkIfProductExists(productName);
     }
 
+    // The database returns rows in its own order; a hit deleted after the search is left out
+    private static List<Product> inRankOrder(List<Long> rankedIds, List<Product> products) {
+
+        Map<Long, Product> productsById = new HashMap<>(products.size() * 2);
+        for (Product product : products) {
+            productsById.put(product.getId(), product);
+        }
+
+        List<Product> ranked = new ArrayList<>(rankedIds.size());
+        for (Long id : rankedIds) {
+            Product product = productsById.get(id);
+            if (product != null) {
+                ranked.add(product);
+            }
+        }
+
+        return ranked;
+    }
+
 }
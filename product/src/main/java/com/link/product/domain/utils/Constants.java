@@ -11,6 +11,15 @@ public class Constants {
 
     // JSON:API Constants
     public static final String JSON_API_MEDIA_TYPE = "application/vnd.api+json";
+    public static final String CBOR_MEDIA_TYPE = "application/cbor";
+
+    // JSON:API Sparse Fieldsets
+    public static final String FIELDS_PRODUCT_PARAM = "fields[product]";
+    public static final String FIELDSET_SEPARATOR = ",";
+    public static final String FIELD_ID = "id";
+
+    // JSON:API Filtering
+    public static final String FILTER_ID_PARAM = "filter[id]";
 
     // Pagination Constants
     public static final int FIRST_PAGE = 0;
@@ -29,14 +38,28 @@ public class Constants {
     public static final String META_CURRENT_PAGE = "currentPage";
     public static final String META_PAGE_SIZE = "pageSize";
 
-    // URL Template
-    public static final String PAGE_URL_TEMPLATE = "%s?page[number]=%d&page[size]=%d&sort=%s&direction=%s";
+    // JSON:API Document Members
+    public static final String MEMBER_DATA = "data";
+    public static final String MEMBER_LINKS = "links";
+    public static final String MEMBER_META = "meta";
+
+    // URL Template: {baseUrl}?page={page}&size={size}&sortBy={sortBy}&sortDirection={direction}[&fields[product]={fields}]
+    public static final String PAGE_URL_NUMBER_PARAM = "?page=";
+    public static final String PAGE_URL_SIZE_PARAM = "&size=";
+    public static final String PAGE_URL_SORT_PARAM = "&sortBy=";
+    public static final String PAGE_URL_DIRECTION_PARAM = "&sortDirection=";
+    public static final String PAGE_URL_FIELDS_PARAM = "&fields%5Bproduct%5D=";
 
     /* --- OPENAPI CONSTANTS --- */
     public static final String CREATE_PRODUCT_SUMMARY = "Add new product";
     public static final String GET_PRODUCT_BY_ID_SUMMARY = "Get product by ID";
     public static final String UPDATE_PRODUCT_SUMMARY = "Update product by ID";
     public static final String GET_ALL_PRODUCTS_SUMMARY = "Get all products with pagination";
+    public static final String GET_PRODUCTS_BY_IDS_SUMMARY = "Get several products by ID in one call";
+    public static final String SEARCH_PRODUCTS_SUMMARY = "Full-text search over product name and description, best matches first";
+    public static final String SUGGEST_PRODUCTS_SUMMARY = "Autocomplete product names by prefix, most viewed first";
+    public static final String GET_PRODUCT_FACETS_SUMMARY = "Product counts per category, brand and price bucket";
+    public static final String GET_PRODUCT_CHANGES_SUMMARY = "Products created, updated or deleted after a change token, oldest first";
 
     public static final String CREATED_PRODUCT = "Product created";
     public static final String PRODUCT_ALREADY_EXISTS = "Product already exists";
@@ -47,17 +70,74 @@ public class Constants {
     public static final String DELETE_PRODUCT_SUMMARY = "Delete a product by ID";
     public static final String DELETED_PRODUCT = "Product successfully deleted";
     public static final String PRODUCTS_OBTAINED = "Products successfully retrieved";
+    public static final String FACETS_OBTAINED = "Facet counts successfully retrieved";
+    public static final String CHANGES_OBTAINED = "Changes successfully retrieved";
     public static final String NO_PRODUCTS_FOUND = "No products found";
     public static final String INVALID_PAGE_PARAMETERS = "Invalid pagination parameters";
+    public static final String PAGE_SIZE_PARAM_DESCRIPTION = "Page size, between 1 and 200";
+    public static final String INVALID_FIELDSET = "Unknown field in fields[product]";
+    public static final String INVALID_SORT_FIELD = "Unknown field in sortBy";
+    public static final String FILTER_ID_PARAM_DESCRIPTION = "Comma separated product IDs, at most 200; unknown IDs are left out of the response";
+    public static final String INVALID_ID_FILTER = "filter[id] must hold between 1 and 200 positive IDs";
+    public static final String FIELDSET_PARAM_DESCRIPTION = "Comma separated product attributes to return, e.g. productName,price";
+    public static final String SEARCH_QUERY_PARAM_DESCRIPTION = "Search terms; any of them may match, accents and case are ignored";
+    public static final String INVALID_SEARCH_QUERY = "q must not be blank and must not exceed 200 characters";
+    public static final String SUGGEST_PREFIX_PARAM_DESCRIPTION = "Start of any word of the product name; accents and case are ignored";
+    public static final String SUGGEST_LIMIT_PARAM_DESCRIPTION = "Number of suggestions, between 1 and 10";
+    public static final String INVALID_SUGGEST_PARAMETERS = "prefix must not be blank or exceed 120 characters, and limit must be between 1 and 10";
+    public static final String CHANGES_SINCE_PARAM_DESCRIPTION = "Change token: nextSince of the previous response, or 0 for a full sync";
+    public static final String CHANGES_LIMIT_PARAM_DESCRIPTION = "Number of changes, between 1 and 200";
+    public static final String INVALID_CHANGES_PARAMETERS = "since must not be negative and limit must be between 1 and 200";
+    public static final String CHANGE_TOKEN_EXPIRED = "Deletions after the change token have been purged";
 
     /* --- PAGINATION DEFAULT VALUES ---*/
 
     public static final String PAGE_DEFAULT_VALUE = "0";
     public static final String SIZE_DEFAULT_VALUE = "10";
+    public static final int MIN_PAGE_SIZE = 1;
+    public static final int MAX_PAGE_SIZE = 200;
+    public static final String SORT_BY_PARAM = "sortBy";
     public static final String SORT_BY_DEFAULT = "id";
     public static final String SORT_DIRECTION_ASC = "ASC";
     public static final String SORT_DIRECTION_DESC = "DESC";
 
+    /* --- SEARCH --- */
+    public static final String SEARCH_QUERY_PARAM = "q";
+    public static final String PAGE_PARAM = "page";
+    public static final int SEARCH_QUERY_MAX_LENGTH = 200;
+    public static final String LOG_SEARCH_INDEX_REBUILT = "Search indexes rebuilt with {} products in {} ms";
+    public static final String LOG_SEARCH_INDEX_RELOADING = "Search indexes are older than the purged change {}; reloading them";
+    public static final String LOG_SEARCH_INDEX_CATCH_UP_FAILED = "Search indexes will pick up the write on the next refresh: {}";
+
+    /* --- SUGGEST --- */
+    public static final String SUGGEST_PREFIX_PARAM = "prefix";
+    public static final String SUGGEST_LIMIT_PARAM = "limit";
+    public static final String SUGGEST_LIMIT_DEFAULT_VALUE = "5";
+    public static final int SUGGEST_MAX_LIMIT = 10;
+
+    /* --- FACETS --- */
+    public static final String LOG_FACETS_LOADED = "Facet counts loaded in {} ms";
+    public static final String LOG_FACETS_DRIFT_CORRECTED = "Facet counts were off by {} and have been reconciled with the database";
+    public static final String LOG_FACETS_RECONCILE_SKIPPED = "Facet reconciliation skipped after {} attempts: products kept changing while totals were read";
+
+    /* --- CHANGE FEED --- */
+    public static final String CHANGES_SINCE_PARAM = "since";
+    public static final String CHANGES_SINCE_DEFAULT_VALUE = "0";
+    public static final String CHANGES_LIMIT_PARAM = "limit";
+    public static final String CHANGES_LIMIT_DEFAULT_VALUE = "100";
+    public static final String META_NEXT_SINCE = "nextSince";
+    public static final String META_HAS_MORE = "hasMore";
+    public static final int CHANGE_SEQUENCE_ID = 1;
+    public static final String LOG_CHANGES_STAMPED = "Change feed: stamped {} products written outside the service";
+    public static final String LOG_TOMBSTONES_PURGED = "Change feed: purged {} tombstones up to change {}";
+    // Read-only transactions with this name go to the primary, so a follower never reads behind what it has applied
+    public static final String PRIMARY_READ_TRANSACTION = "change-feed.primary-read";
+
+    /* --- CATALOG REPLICA --- */
+    public static final String LOG_REPLICA_LOADED = "Catalog replica loaded with {} products in {} ms";
+    public static final String LOG_REPLICA_RELOADING = "Catalog replica is older than the purged change {}; reloading the whole catalog";
+    public static final String CATALOG_REPLICA_THREAD_PREFIX = "catalog-replica-";
+
     /* --- VALIDATION CONSTANTS --- */
     public static final String FIELD_MUST_NOT_BE_BLANK = "The field must not be blank";
     public static final String FIELD_MUST_NOT_BE_NULL = "The field must not be null";
@@ -78,9 +158,45 @@ public class Constants {
     public static final String PRODUCT_ALREADY_EXISTS_EXCEPTION_MESSAGE = "The product already exists";
     public static final String PRODUCT_DOES_NOT_EXIST_MESSAGE = "The product was not found for the provided ID: ";
     public static final String PRODUCT_NO_CONTENT_MESSAGE = "There are currently no products available";
+    public static final String INVALID_PRODUCT_FIELD_MESSAGE = "Unknown product field in fields[product]: ";
+    public static final String INVALID_PRODUCT_FIELD_TITLE = "Invalid Field";
+    public static final String INVALID_SORT_FIELD_MESSAGE = "Unknown sort field: ";
+    public static final String INVALID_SORT_FIELD_TITLE = "Invalid Sort Field";
+    public static final String CHANGE_SEQUENCE_MISSING_MESSAGE = "The product change sequence row has not been created";
+    public static final String CHANGE_TOKEN_EXPIRED_MESSAGE = "Deletions after this change token have been purged; restart the sync from since=0. Token: ";
+
+    /* --- OBSERVABILITY CONSTANTS --- */
+    public static final String METRIC_PRODUCT_PERSISTENCE = "product.persistence";
+    public static final String METRIC_PRODUCT_USE_CASE = "product.usecase";
+    public static final String PRODUCT_USE_CASE_SPAN_PREFIX = "product-usecase ";
+    public static final String TAG_METHOD = "method";
+    public static final String METRIC_REPLICA_LAG = "product.datasource.replica.lag";
+    public static final String METRIC_PRODUCT_SEARCH = "product.search";
+    public static final String METRIC_PRODUCT_SEARCH_DOCUMENTS = "product.search.index.documents";
+    public static final String METRIC_PRODUCT_SUGGEST = "product.suggest";
+    public static final String METRIC_PRODUCT_SUGGEST_PRODUCTS = "product.suggest.index.products";
+    public static final String METRIC_PRODUCT_FACETS_DRIFT = "product.facets.drift";
+    public static final String METRIC_PRODUCT_REPLICA_REFRESH = "product.replica.refresh";
+    public static final String METRIC_PRODUCT_REPLICA_PRODUCTS = "product.replica.products";
+    public static final String METRIC_SINGLE_FLIGHT = "product.singleflight.calls";
+    public static final String SINGLE_FLIGHT_PRODUCT_BY_ID = "product.persistence.getProductById";
+    public static final String TAG_NAME = "name";
+    public static final String TAG_RESULT = "result";
+    public static final String RESULT_EXECUTED = "executed";
+    public static final String RESULT_COLLAPSED = "collapsed";
+    public static final String METRIC_PRODUCT_RESPONSE_CACHE = "product.response.cache";
+    public static final String METRIC_PRODUCT_RESPONSE_CACHE_SIZE = "product.response.cache.size";
+    public static final String RESULT_HIT = "hit";
+    public static final String RESULT_MISS = "miss";
 
     // Security - Headers
     public static final String HEADER_X_API_KEY = "X-API-Key";
+
+    // Product events
+    public static final String URI_INVENTORY_PRODUCT_CREATED = "/inventory/product/{productId}/created";
+    public static final int EVENT_TIMEOUT_SECONDS = 2;
+    public static final String LOG_PRODUCT_CREATED_NOT_DELIVERED =
+            "Inventory was not notified of product {} creation; its missing-product cache expires on its own: {}";
     public static final String HEADER_AUTHORIZATION = "Authorization";
     public static final String API_KEY_PREFIX = "ApiKey ";
 
@@ -16,6 +16,7 @@ public class HttpStatusCodes {
     public static final String NO_CONTENT = "204";
     public static final String NOT_FOUND = "404";
     public static final String CONFLICT = "409";
+    public static final String GONE = "410";
     public static final String BAD_REQUEST = "400";
 
 }
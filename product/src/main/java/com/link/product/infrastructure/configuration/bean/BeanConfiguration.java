@@ -1,14 +1,26 @@
 package com.link.product.infrastructure.configuration.bean;
 
 import com.link.product.domain.api.ProductServicePort;
+import com.link.product.domain.spi.ProductEventPublisherPort;
 import com.link.product.domain.spi.ProductPersistencePort;
+import com.link.product.domain.spi.ProductSearchPort;
+import com.link.product.domain.spi.ProductSuggestPort;
 import com.link.product.domain.usecase.ProductUseCase;
+import com.link.product.infrastructure.out.coalescing.CoalescingProductPersistenceAdapter;
 import com.link.product.infrastructure.out.jpa.adapter.ProductJpaAdapter;
+import com.link.product.infrastructure.out.jpa.change.ProductChangeFeed;
+import com.link.product.infrastructure.out.jpa.facet.FacetCounts;
 import com.link.product.infrastructure.out.jpa.mapper.ProductEntityMapper;
 import com.link.product.infrastructure.out.jpa.repository.ProductRepository;
+import com.link.product.infrastructure.out.replica.CatalogReplica;
+import com.link.product.infrastructure.out.replica.CatalogReplicaPersistenceAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 
 @Configuration
 @RequiredArgsConstructor
@@ -16,16 +28,44 @@ public class BeanConfiguration {
 
     private final ProductRepository productRepository;
     private final ProductEntityMapper productEntityMapper;
+    private final EntityManager entityManager;
+    private final MeterRegistry meterRegistry;
+    private final ProductEventPublisherPort productEventPublisherPort;
+    private final ProductSearchPort productSearchPort;
+    private final ProductSuggestPort productSuggestPort;
+    private final FacetCounts facetCounts;
+    private final ProductChangeFeed productChangeFeed;
+    private final ObjectProvider<CatalogReplica> catalogReplica;
 
     @Bean
+    public ProductJpaAdapter productJpaAdapter() {
+        return new ProductJpaAdapter(
+                productRepository,
+                productEntityMapper,
+                entityManager,
+                facetCounts,
+                productChangeFeed
+        );
+    }
+
+    @Bean
+    @Primary
     public ProductPersistencePort productPersistencePort() {
-        return new ProductJpaAdapter(productRepository, productEntityMapper);
+
+        ProductPersistencePort persistencePort = new CoalescingProductPersistenceAdapter(productJpaAdapter(), meterRegistry);
+
+        // Reads are served from memory only when app.catalog-replica.enabled is set
+        CatalogReplica replica = catalogReplica.getIfAvailable();
+        return replica == null ? persistencePort : new CatalogReplicaPersistenceAdapter(persistencePort, replica);
     }
 
     @Bean
     public ProductServicePort productServicePort() {
         return new ProductUseCase(
-                productPersistencePort()
+                productPersistencePort(),
+                productEventPublisherPort,
+                productSearchPort,
+                productSuggestPort
         );
     }
 
@@ -0,0 +1,55 @@
+package com.link.product.infrastructure.configuration.change;
+
+import com.link.product.infrastructure.out.jpa.change.ProductChangeFeed;
+import com.link.product.infrastructure.out.jpa.change.ProductChangeFeedMaintainer;
+import com.link.product.infrastructure.out.jpa.mapper.ProductEntityMapper;
+import com.link.product.infrastructure.out.jpa.repository.ProductChangeSequenceRepository;
+import com.link.product.infrastructure.out.jpa.repository.ProductRepository;
+import com.link.product.infrastructure.out.jpa.repository.ProductTombstoneRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+
+@Configuration
+@EnableScheduling
+public class ProductChangeFeedConfig {
+
+    @Bean
+    public ProductChangeFeed productChangeFeed(
+            ProductRepository productRepository,
+            ProductTombstoneRepository productTombstoneRepository,
+            ProductChangeSequenceRepository productChangeSequenceRepository,
+            ProductEntityMapper productEntityMapper
+    ) {
+        return new ProductChangeFeed(
+                productRepository,
+                productTombstoneRepository,
+                productChangeSequenceRepository,
+                productEntityMapper
+        );
+    }
+
+    @Bean
+    public ProductChangeFeedMaintainer productChangeFeedMaintainer(
+            ProductRepository productRepository,
+            ProductTombstoneRepository productTombstoneRepository,
+            ProductChangeSequenceRepository productChangeSequenceRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.changes.tombstone-retention}") Duration tombstoneRetention,
+            @Value("${app.changes.stamp-batch-size}") int batchSize
+    ) {
+        return new ProductChangeFeedMaintainer(
+                productRepository,
+                productTombstoneRepository,
+                productChangeSequenceRepository,
+                transactionManager,
+                tombstoneRetention,
+                batchSize
+        );
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.link.product.infrastructure.configuration.datasource;
+
+import com.link.product.domain.utils.Constants;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    public ReadWriteRoutingDataSource(ReplicaLagMonitor replicaLagMonitor) {
+        this.replicaLagMonitor = replicaLagMonitor;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            // Change feed followers read the primary without counting as a write, which would close the replica
+            if (Constants.PRIMARY_READ_TRANSACTION.equals(TransactionSynchronizationManager.getCurrentTransactionName())) {
+                return DataSourceRole.PRIMARY;
+            }
+            return replicaLagMonitor.canServeReads() ? DataSourceRole.REPLICA : DataSourceRole.PRIMARY;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    replicaLagMonitor.recordWriteCommit();
+                }
+            });
+        }
+        return DataSourceRole.PRIMARY;
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.link.product.infrastructure.configuration.event;
+
+import com.link.product.domain.spi.ProductEventPublisherPort;
+import com.link.product.domain.utils.Constants;
+import com.link.product.infrastructure.out.event.InventoryProductEventPublisher;
+import com.link.product.infrastructure.out.event.NoOpProductEventPublisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+
+@Configuration
+public class ProductEventConfig {
+
+    // Events are sent only when app.events.inventory.url is set
+    @Bean
+    public ProductEventPublisherPort productEventPublisherPort(
+            WebClient.Builder webClientBuilder,
+            @Value("${app.events.inventory.url:}") String inventoryUrl,
+            @Value("${app.events.inventory.api-key:${app.api.key}}") String apiKey
+    ) {
+        if (inventoryUrl.isBlank()) {
+            return new NoOpProductEventPublisher();
+        }
+
+        WebClient inventoryWebClient = webClientBuilder
+                .baseUrl(inventoryUrl)
+                .defaultHeader(Constants.HEADER_X_API_KEY, apiKey)
+                .build();
+
+        return new InventoryProductEventPublisher(inventoryWebClient);
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.link.product.infrastructure.configuration.facet;
+
+import com.link.product.infrastructure.out.jpa.facet.FacetCounts;
+import com.link.product.infrastructure.out.jpa.facet.FacetReconciler;
+import com.link.product.infrastructure.out.jpa.repository.ProductRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+@EnableScheduling
+public class ProductFacetConfig {
+
+    @Bean
+    public FacetCounts facetCounts(@Value("${app.facets.price-bucket-bounds}") double[] priceBucketBounds) {
+        return new FacetCounts(priceBucketBounds);
+    }
+
+    @Bean
+    public FacetReconciler facetReconciler(
+            ProductRepository productRepository,
+            FacetCounts facetCounts,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.facets.reconcile-attempts}") int maxAttempts,
+            MeterRegistry meterRegistry
+    ) {
+        return new FacetReconciler(productRepository, facetCounts, transactionManager, maxAttempts, meterRegistry);
+    }
+
+}
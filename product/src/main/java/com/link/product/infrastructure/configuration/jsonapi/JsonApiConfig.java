@@ -0,0 +1,28 @@
+package com.link.product.infrastructure.configuration.jsonapi;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@Configuration
+public class JsonApiConfig {
+
+    @Bean
+    public Module jsonApiModule() {
+        SimpleModule module = new SimpleModule("JsonApiModule");
+        module.addSerializer(new JsonApiPageResponseSerializer());
+        return module;
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(
+                builder.createXmlMapper(false).factory(new CBORFactory()).build()
+        );
+    }
+
+}
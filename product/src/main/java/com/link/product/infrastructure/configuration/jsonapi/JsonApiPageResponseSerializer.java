@@ -0,0 +1,80 @@
+package com.link.product.infrastructure.configuration.jsonapi;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.link.product.application.dto.JsonApiPageResponse;
+import com.link.product.application.dto.PageLinkTemplate;
+import com.link.product.application.dto.PageResponse;
+import com.link.product.domain.utils.Constants;
+
+import java.io.IOException;
+
+public class JsonApiPageResponseSerializer extends StdSerializer<JsonApiPageResponse<?>> {
+
+    private static final int INITIAL_LINK_BUFFER = 256;
+
+    private static final ThreadLocal<char[]> LINK_BUFFER = ThreadLocal.withInitial(() -> new char[INITIAL_LINK_BUFFER]);
+
+    public JsonApiPageResponseSerializer() {
+        super(JsonApiPageResponse.class, false);
+    }
+
+    @Override
+    public void serialize(JsonApiPageResponse<?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+
+        PageResponse<?> page = value.getPage();
+        PageLinkTemplate template = value.getLinkTemplate();
+        int pageNumber = page.getPageNumber();
+
+        gen.writeStartObject(value);
+
+        provider.defaultSerializeField(Constants.MEMBER_DATA, page.getContent(), gen);
+
+        char[] buffer = linkBuffer(template.maxLength());
+        gen.writeObjectFieldStart(Constants.MEMBER_LINKS);
+        writeLink(gen, Constants.LINK_SELF, template, pageNumber, buffer);
+        writeLink(gen, Constants.LINK_FIRST, template, Constants.FIRST_PAGE, buffer);
+        writeLink(gen, Constants.LINK_LAST, template, page.getTotalPages() - Constants.PAGE_INCREMENT, buffer);
+
+        if (!page.isLast()) {
+            writeLink(gen, Constants.LINK_NEXT, template, pageNumber + Constants.PAGE_INCREMENT, buffer);
+        }
+
+        if (pageNumber > Constants.FIRST_PAGE) {
+            writeLink(gen, Constants.LINK_PREV, template, pageNumber - Constants.PAGE_INCREMENT, buffer);
+        }
+        gen.writeEndObject();
+
+        gen.writeObjectFieldStart(Constants.MEMBER_META);
+        gen.writeNumberField(Constants.META_TOTAL_PAGES, page.getTotalPages());
+        gen.writeNumberField(Constants.META_TOTAL_ELEMENTS, page.getTotalElements());
+        gen.writeNumberField(Constants.META_CURRENT_PAGE, pageNumber);
+        gen.writeNumberField(Constants.META_PAGE_SIZE, page.getPageSize());
+        gen.writeEndObject();
+
+        gen.writeEndObject();
+    }
+
+    private static void writeLink(
+            JsonGenerator gen,
+            String name,
+            PageLinkTemplate template,
+            int page,
+            char[] buffer
+    ) throws IOException {
+        gen.writeFieldName(name);
+        gen.writeString(buffer, 0, template.render(page, buffer));
+    }
+
+    private static char[] linkBuffer(int minLength) {
+
+        char[] buffer = LINK_BUFFER.get();
+        if (buffer.length < minLength) {
+            buffer = new char[minLength];
+            LINK_BUFFER.set(buffer);
+        }
+        return buffer;
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.link.product.infrastructure.configuration.replica;
+
+import com.link.product.domain.utils.Constants;
+import com.link.product.infrastructure.out.jpa.change.ProductChangeFeed;
+import com.link.product.infrastructure.out.replica.CatalogReplica;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "app.catalog-replica", name = "enabled", havingValue = "true")
+public class CatalogReplicaConfig {
+
+    @Bean
+    public CatalogReplica catalogReplica(
+            ProductChangeFeed productChangeFeed,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.catalog-replica.refresh-interval-ms}") long refreshIntervalMs,
+            @Value("${app.catalog-replica.batch-size}") int batchSize,
+            MeterRegistry meterRegistry
+    ) {
+
+        // Not a bean: a TaskScheduler bean would replace Spring Boot's default one for every @Scheduled method
+        ThreadPoolTaskScheduler refreshScheduler = new ThreadPoolTaskScheduler();
+        refreshScheduler.setPoolSize(1);
+        refreshScheduler.setThreadNamePrefix(Constants.CATALOG_REPLICA_THREAD_PREFIX);
+        refreshScheduler.initialize();
+
+        CatalogReplica replica = new CatalogReplica(
+                productChangeFeed,
+                transactionManager,
+                refreshScheduler,
+                Duration.ofMillis(refreshIntervalMs),
+                batchSize,
+                meterRegistry
+        );
+        Gauge.builder(Constants.METRIC_PRODUCT_REPLICA_PRODUCTS, replica, r -> r.snapshot().size()).register(meterRegistry);
+        return replica;
+    }
+
+}
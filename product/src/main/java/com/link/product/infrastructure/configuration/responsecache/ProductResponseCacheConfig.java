@@ -0,0 +1,65 @@
+package com.link.product.infrastructure.configuration.responsecache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.link.product.domain.utils.Constants;
+import com.link.product.infrastructure.input.cache.ProductResponseCache;
+import com.link.product.infrastructure.out.replica.CatalogReplica;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+@Configuration
+@ConditionalOnProperty(prefix = "app.response-cache", name = "enabled", havingValue = "true")
+public class ProductResponseCacheConfig {
+
+    // Bodies are rendered with the same mappers the message converters use, so hits and misses are identical
+    @Bean
+    public ProductResponseCache productResponseCache(
+            ObjectMapper objectMapper,
+            MappingJackson2CborHttpMessageConverter cborHttpMessageConverter,
+            @Value("${app.response-cache.max-size}") int maxSize,
+            @Value("${app.response-cache.ttl}") Duration ttl,
+            MeterRegistry meterRegistry,
+            ObjectProvider<CatalogReplica> catalogReplica
+    ) {
+
+        ProductResponseCache cache = new ProductResponseCache(
+                Map.of(
+                        MediaType.parseMediaType(Constants.JSON_API_MEDIA_TYPE), objectMapper,
+                        MediaType.parseMediaType(Constants.CBOR_MEDIA_TYPE), cborHttpMessageConverter.getObjectMapper()
+                ),
+                maxSize,
+                ttl,
+                meterRegistry
+        );
+        Gauge.builder(Constants.METRIC_PRODUCT_RESPONSE_CACHE_SIZE, cache, ProductResponseCache::size)
+                .register(meterRegistry);
+
+        // With the replica on, reads lag writes by one refresh, so entries are dropped again when it catches up.
+        // That also covers writes made by other instances, which would otherwise only show once entries expire
+        catalogReplica.ifAvailable(replica -> replica.addListener(new CatalogReplica.Listener() {
+            @Override
+            public void changed(Set<Long> productIds) {
+                cache.evictAll(productIds);
+            }
+
+            @Override
+            public void reloaded() {
+                cache.clear();
+            }
+        }));
+
+        return cache;
+    }
+
+}
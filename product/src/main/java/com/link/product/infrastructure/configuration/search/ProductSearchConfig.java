@@ -0,0 +1,72 @@
+package com.link.product.infrastructure.configuration.search;
+
+import com.link.product.domain.spi.ProductSearchPort;
+import com.link.product.domain.spi.ProductSuggestPort;
+import com.link.product.domain.utils.Constants;
+import com.link.product.infrastructure.out.jpa.change.ProductChangeFeed;
+import com.link.product.infrastructure.out.search.ProductSearchAdapter;
+import com.link.product.infrastructure.out.search.ProductSearchIndex;
+import com.link.product.infrastructure.out.search.ProductSearchIndexFollower;
+import com.link.product.infrastructure.out.search.ProductSuggestAdapter;
+import com.link.product.infrastructure.out.search.ProductSuggestIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+@EnableScheduling
+public class ProductSearchConfig {
+
+    @Bean
+    public ProductSearchIndex productSearchIndex(
+            @Value("${app.search.name-boost}") double nameBoost,
+            MeterRegistry meterRegistry
+    ) {
+        ProductSearchIndex index = new ProductSearchIndex(nameBoost);
+        Gauge.builder(Constants.METRIC_PRODUCT_SEARCH_DOCUMENTS, index, ProductSearchIndex::size).register(meterRegistry);
+        return index;
+    }
+
+    @Bean
+    public ProductSearchPort productSearchPort(
+            ProductSearchIndex productSearchIndex,
+            ProductSearchIndexFollower productSearchIndexFollower,
+            MeterRegistry meterRegistry
+    ) {
+        return new ProductSearchAdapter(productSearchIndex, productSearchIndexFollower, meterRegistry);
+    }
+
+    @Bean
+    public ProductSuggestIndex productSuggestIndex(MeterRegistry meterRegistry) {
+        ProductSuggestIndex index = new ProductSuggestIndex(Constants.SUGGEST_MAX_LIMIT);
+        Gauge.builder(Constants.METRIC_PRODUCT_SUGGEST_PRODUCTS, index, ProductSuggestIndex::size).register(meterRegistry);
+        return index;
+    }
+
+    @Bean
+    public ProductSuggestPort productSuggestPort(ProductSuggestIndex productSuggestIndex, MeterRegistry meterRegistry) {
+        return new ProductSuggestAdapter(productSuggestIndex, meterRegistry);
+    }
+
+    @Bean
+    public ProductSearchIndexFollower productSearchIndexFollower(
+            ProductChangeFeed productChangeFeed,
+            ProductSearchIndex productSearchIndex,
+            ProductSuggestIndex productSuggestIndex,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.search.batch-size}") int batchSize
+    ) {
+        return new ProductSearchIndexFollower(
+                productChangeFeed,
+                productSearchIndex,
+                productSuggestIndex,
+                transactionManager,
+                batchSize
+        );
+    }
+
+}
@@ -12,20 +12,53 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 
 @Slf4j
 @Component
 public class ApiKeyAuthFilter extends OncePerRequestFilter {
 
-    @Value("${app.api.key}")
-    private String validApiKey;
+    private static final String[] PUBLIC_PATH_PREFIXES = {
+            "/swagger-ui",
+            "/v3/api-docs",
+            "/actuator/health"
+    };
+
+    private static final byte[] UNAUTHORIZED_BODY = String.format("""
+            {
+                "errors": [{
+                    "status": "%s",
+                    "title": "%s",
+                    "detail": "%s"
+                }]
+            }
+            """,
+            Constants.STATUS_401,
+            Constants.UNAUTHORIZED_TITLE,
+            Constants.INVALID_API_KEY_DETAIL
+    ).getBytes(StandardCharsets.UTF_8);
+
+    private final ApiKeyMatcher apiKeyMatcher;
+
+    public ApiKeyAuthFilter(
+            @Value("${app.api.key}") String apiKey,
+            @Value("${app.api.keys:}") List<String> rotatingApiKeys
+    ) {
+        List<String> validKeys = new ArrayList<>(rotatingApiKeys);
+        validKeys.add(apiKey);
+        this.apiKeyMatcher = new ApiKeyMatcher(validKeys);
+    }
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
+
         String path = request.getRequestURI();
-        return path.startsWith("/swagger-ui") ||
-                path.startsWith("/v3/api-docs") ||
-                path.equals("/swagger-ui.html");
+        for (String prefix : PUBLIC_PATH_PREFIXES) {
+            if (path.startsWith(prefix)) return true;
+        }
+        return false;
     }
 
     @Override
@@ -40,26 +73,13 @@ public class ApiKeyAuthFilter extends OncePerRequestFilter {
             return;
         }
 
-        String apiKey = extractApiKey(request);
-
-        if (!validApiKey.equals(apiKey)) {
+        if (!apiKeyMatcher.matches(extractApiKey(request))) {
 
             log.warn(Constants.INVALID_API_KEY_LOG, request.getRemoteAddr());
             response.setStatus(HttpStatus.UNAUTHORIZED.value());
             response.setContentType(Constants.JSON_API_MEDIA_TYPE);
-            response.getWriter().write(String.format("""
-                {
-                    "errors": [{
-                        "status": "%s",
-                        "title": "%s",
-                        "detail": "%s"
-                    }]
-                }
-                """,
-                    Constants.STATUS_401,
-                    Constants.UNAUTHORIZED_TITLE,
-                    Constants.INVALID_API_KEY_DETAIL
-            ));
+            response.setContentLength(UNAUTHORIZED_BODY.length);
+            response.getOutputStream().write(UNAUTHORIZED_BODY);
 
             return;
 
@@ -81,4 +101,4 @@ public class ApiKeyAuthFilter extends OncePerRequestFilter {
         return null;
 
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,70 @@
+package com.link.product.infrastructure.configuration.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+public class ApiKeyMatcher {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private static final ThreadLocal<MessageDigest> DIGEST = ThreadLocal.withInitial(ApiKeyMatcher::newDigest);
+
+    // Keyed by the first 8 bytes of each SHA-256 digest. The bucket only narrows the
+    // candidates; the full digest is always compared with MessageDigest.isEqual.
+    private final Map<Long, byte[]> digestsByPrefix;
+
+    public ApiKeyMatcher(Collection<String> validKeys) {
+
+        this.digestsByPrefix = new HashMap<>();
+
+        for (String key : validKeys) {
+            if (key == null || key.isBlank()) continue;
+            byte[] digest = digest(key.trim());
+            digestsByPrefix.put(prefixOf(digest), digest);
+        }
+
+        if (digestsByPrefix.isEmpty()) {
+            throw new IllegalStateException("At least one API key must be configured");
+        }
+    }
+
+    public boolean matches(String candidate) {
+
+        if (candidate == null) return false;
+
+        byte[] digest = digest(candidate);
+        byte[] expected = digestsByPrefix.get(prefixOf(digest));
+
+        return expected != null && MessageDigest.isEqual(expected, digest);
+    }
+
+    public int size() {
+        return digestsByPrefix.size();
+    }
+
+    private static byte[] digest(String key) {
+        return DIGEST.get().digest(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long prefixOf(byte[] digest) {
+
+        long prefix = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            prefix = (prefix << 8) | (digest[i] & 0xFF);
+        }
+        return prefix;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
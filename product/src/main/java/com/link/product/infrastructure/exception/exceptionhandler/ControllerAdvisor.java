@@ -1,5 +1,8 @@
 package com.link.product.infrastructure.exception.exceptionhandler;
 
+import com.link.product.domain.exceptions.ChangeTokenExpiredException;
+import com.link.product.domain.exceptions.InvalidProductFieldException;
+import com.link.product.domain.exceptions.InvalidSortFieldException;
 import com.link.product.domain.exceptions.NoContentProductException;
 import com.link.product.domain.exceptions.ProductAlreadyExistsException;
 import com.link.product.domain.exceptions.ProductNotFoundException;
@@ -54,6 +57,54 @@ public class ControllerAdvisor {
                 .body(new JsonApiErrorResponse(error));
     }
 
+    @ExceptionHandler(InvalidProductFieldException.class)
+    public ResponseEntity<JsonApiErrorResponse> handleInvalidProductFieldException(
+            InvalidProductFieldException ex
+    ) {
+        JsonApiError error = new JsonApiError(
+                String.valueOf(HttpStatus.BAD_REQUEST.value()),
+                Constants.INVALID_PRODUCT_FIELD_TITLE,
+                ex.getMessage() + ex.getInvalidField(),
+                Constants.FIELDS_PRODUCT_PARAM
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .contentType(MediaType.parseMediaType(Constants.JSON_API_MEDIA_TYPE))
+                .body(new JsonApiErrorResponse(error));
+    }
+
+    @ExceptionHandler(InvalidSortFieldException.class)
+    public ResponseEntity<JsonApiErrorResponse> handleInvalidSortFieldException(
+            InvalidSortFieldException ex
+    ) {
+        JsonApiError error = new JsonApiError(
+                String.valueOf(HttpStatus.BAD_REQUEST.value()),
+                Constants.INVALID_SORT_FIELD_TITLE,
+                ex.getMessage() + ex.getInvalidField(),
+                Constants.SORT_BY_PARAM
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .contentType(MediaType.parseMediaType(Constants.JSON_API_MEDIA_TYPE))
+                .body(new JsonApiErrorResponse(error));
+    }
+
+    @ExceptionHandler(ChangeTokenExpiredException.class)
+    public ResponseEntity<JsonApiErrorResponse> handleChangeTokenExpiredException(
+            ChangeTokenExpiredException ex
+    ) {
+        JsonApiError error = new JsonApiError(
+                String.valueOf(HttpStatus.GONE.value()),
+                "Change Token Expired",
+                ex.getMessage() + ex.getExpiredSince(),
+                Constants.CHANGES_SINCE_PARAM
+        );
+
+        return ResponseEntity.status(HttpStatus.GONE)
+                .contentType(MediaType.parseMediaType(Constants.JSON_API_MEDIA_TYPE))
+                .body(new JsonApiErrorResponse(error));
+    }
+
     @ExceptionHandler(NoContentProductException.class)
     public ResponseEntity<JsonApiErrorResponse> handleNoContentProductException(
             NoContentProductException ex
@@ -1,25 +1,38 @@
 package com.link.product.infrastructure.input;
 
+import com.link.product.application.dto.JsonApiPageResponse;
 import com.link.product.application.dto.JsonApiResponse;
+import com.link.product.application.dto.PageLinkTemplate;
 import com.link.product.application.dto.PageResponse;
+import com.link.product.application.dto.ProductChangeResponse;
+import com.link.product.application.dto.ProductChangesResponse;
+import com.link.product.application.dto.ProductFacetsResponse;
 import com.link.product.application.dto.ProductRequest;
 import com.link.product.application.dto.ProductResponse;
 import com.link.product.application.handler.ProductHandler;
+import com.link.product.domain.model.ProductField;
 import com.link.product.domain.utils.Constants;
 import com.link.product.domain.utils.HttpStatusCodes;
+import com.link.product.infrastructure.input.cache.ProductResponseCache;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -29,10 +42,18 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/product")
@@ -40,7 +61,12 @@ import java.util.Map;
 @Validated
 public class ProductRestController {
 
+    private static final MediaType JSON_API_MEDIA_TYPE = MediaType.parseMediaType(Constants.JSON_API_MEDIA_TYPE);
+    private static final MediaType CBOR_MEDIA_TYPE = MediaType.parseMediaType(Constants.CBOR_MEDIA_TYPE);
+
     private final ProductHandler productHandler;
+    private final Optional<ProductResponseCache> productResponseCache;
+    private final ContentNegotiationManager contentNegotiationManager;
 
     @Operation(summary = Constants.CREATE_PRODUCT_SUMMARY)
     @ApiResponses(value = {
@@ -68,12 +94,10 @@ public class ProductRestController {
 
         JsonApiResponse<ProductResponse> response = new JsonApiResponse<>(created);
 
-        Map<String, String> links = new HashMap<>();
-        links.put(Constants.LINK_SELF, request.getRequestURL().toString() + created.getId());
-        response.setLinks(links);
+        response.setLinks(Map.of(Constants.LINK_SELF, request.getRequestURL().toString() + created.getId()));
 
         return ResponseEntity.status(HttpStatus.CREATED)
-                .contentType(MediaType.parseMediaType(Constants.JSON_API_MEDIA_TYPE))
+                .contentType(JSON_API_MEDIA_TYPE)
                 .body(response);
 
     }
@@ -95,27 +119,48 @@ public class ProductRestController {
             ),
             @ApiResponse(
                     responseCode = HttpStatusCodes.BAD_REQUEST,
-                    description = Constants.INVALID_PRODUCT_ID,
+                    description = Constants.INVALID_PRODUCT_ID + " / " + Constants.INVALID_FIELDSET,
                     content = @Content
             )
     })
-    @GetMapping(value = "/{id}", produces = Constants.JSON_API_MEDIA_TYPE)
-    public ResponseEntity<JsonApiResponse<ProductResponse>> getProductById(
+    @GetMapping(value = "/{id}", produces = {Constants.JSON_API_MEDIA_TYPE, Constants.CBOR_MEDIA_TYPE})
+    public ResponseEntity<?> getProductById(
             @Valid @PathVariable @Min(1) Long id,
+            @Parameter(description = Constants.FIELDSET_PARAM_DESCRIPTION)
+            @RequestParam(name = Constants.FIELDS_PRODUCT_PARAM, required = false) String fields,
             HttpServletRequest request
-    ) {
+    ) throws HttpMediaTypeNotAcceptableException {
 
-        ProductResponse productResponse = productHandler.getProductById(id);
+        Set<ProductField> fieldset = ProductField.parseFieldset(fields);
 
-        JsonApiResponse<ProductResponse> response = new JsonApiResponse<>(productResponse);
+        // The self link is the path alone whether or not the cache is on: a cached body is shared by every client,
+        // and a full URL would carry whatever Host header the first client sent
+        String selfLink = request.getRequestURI();
 
-        Map<String, String> links = new HashMap<>();
-        links.put(Constants.LINK_SELF, request.getRequestURL().toString());
-        response.setLinks(links);
+        if (productResponseCache.isEmpty()) {
+            JsonApiResponse<ProductResponse> response = productByIdResponse(id, fieldset, selfLink);
+            productHandler.recordProductView(id);
+            return ResponseEntity.ok()
+                    .body(response);
+        }
+
+        ProductResponseCache cache = productResponseCache.get();
+        ProductResponseCache.Representation representation = new ProductResponseCache.Representation(
+                fieldset,
+                negotiatedMediaType(request)
+        );
+
+        // A hit is copied to the response as it was rendered: no lookup, no mapping, no Jackson
+        byte[] body = cache.get(id, representation);
+        if (body == null) {
+            body = cache.render(id, representation, () -> productByIdResponse(id, fieldset, selfLink));
+        }
+        // Views are counted here only, hit or miss, so lookups made for anything else never raise popularity
+        productHandler.recordProductView(id);
 
         return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(Constants.JSON_API_MEDIA_TYPE))
-                .body(response);
+                .contentType(representation.mediaType())
+                .body(body);
 
     }
 
@@ -153,15 +198,14 @@ public class ProductRestController {
     ) {
 
         ProductResponse updatedProduct = productHandler.updateProductById(id, productRequest);
+        productResponseCache.ifPresent(cache -> cache.evict(id));
 
         JsonApiResponse<ProductResponse> response = new JsonApiResponse<>(updatedProduct);
 
-        Map<String, String> links = new HashMap<>();
-        links.put(Constants.LINK_SELF, request.getRequestURL().toString());
-        response.setLinks(links);
+        response.setLinks(Map.of(Constants.LINK_SELF, request.getRequestURL().toString()));
 
         return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(Constants.JSON_API_MEDIA_TYPE))
+                .contentType(JSON_API_MEDIA_TYPE)
                 .body(response);
 
     }
@@ -188,6 +232,7 @@ public class ProductRestController {
     public ResponseEntity<Void> deleteProductById(@Valid @PathVariable @Min(1) Long id) {
 
         productHandler.deleteProductById(id);
+        productResponseCache.ifPresent(cache -> cache.evict(id));
 
         return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
 
@@ -210,88 +255,312 @@ public class ProductRestController {
             ),
             @ApiResponse(
                     responseCode = HttpStatusCodes.BAD_REQUEST,
-                    description = Constants.INVALID_PAGE_PARAMETERS,
+                    description = Constants.INVALID_PAGE_PARAMETERS + " / " + Constants.INVALID_SORT_FIELD,
                     content = @Content
             )
     })
-    @GetMapping(value = "/", produces = Constants.JSON_API_MEDIA_TYPE)
-    public ResponseEntity<JsonApiResponse<List<ProductResponse>>> getAllProducts(
+    @GetMapping(value = "/", produces = {Constants.JSON_API_MEDIA_TYPE, Constants.CBOR_MEDIA_TYPE})
+    public ResponseEntity<JsonApiPageResponse<ProductResponse>> getAllProducts(
             @RequestParam(defaultValue = Constants.PAGE_DEFAULT_VALUE) int page,
-            @RequestParam(defaultValue = Constants.SIZE_DEFAULT_VALUE) int size,
-            @RequestParam(defaultValue = Constants.SORT_BY_DEFAULT) String sortBy,
+            @Parameter(description = Constants.PAGE_SIZE_PARAM_DESCRIPTION)
+            @RequestParam(defaultValue = Constants.SIZE_DEFAULT_VALUE)
+            @Min(Constants.MIN_PAGE_SIZE) @Max(Constants.MAX_PAGE_SIZE) int size,
+            @RequestParam(name = Constants.SORT_BY_PARAM, defaultValue = Constants.SORT_BY_DEFAULT) String sortBy,
             @RequestParam(defaultValue = Constants.SORT_DIRECTION_ASC) String sortDirection,
+            @Parameter(description = Constants.FIELDSET_PARAM_DESCRIPTION)
+            @RequestParam(name = Constants.FIELDS_PRODUCT_PARAM, required = false) String fields,
             HttpServletRequest request
     ) {
 
-        PageResponse<ProductResponse> pageResult = productHandler.getAllProducts(page, size, sortBy, sortDirection);
-
-        JsonApiResponse<List<ProductResponse>> response = new JsonApiResponse<>(pageResult.getContent());
-
-        String baseUrl = request.getRequestURL().toString();
+        Set<ProductField> fieldset = ProductField.parseFieldset(fields);
 
-        addPaginationLinks(response, baseUrl, pageResult, page, size, sortBy, sortDirection);
+        PageResponse<ProductResponse> pageResult = productHandler.getAllProducts(
+                page,
+                size,
+                sortBy,
+                sortDirection,
+                fieldset
+        );
 
-        Map<String, Object> meta = new HashMap<>();
-        meta.put(Constants.META_TOTAL_PAGES, pageResult.getTotalPages());
-        meta.put(Constants.META_TOTAL_ELEMENTS, pageResult.getTotalElements());
-        meta.put(Constants.META_CURRENT_PAGE, pageResult.getPageNumber());
-        meta.put(Constants.META_PAGE_SIZE, pageResult.getPageSize());
-        response.setMeta(meta);
+        JsonApiPageResponse<ProductResponse> response = new JsonApiPageResponse<>(
+                pageResult,
+                pageLinkTemplate(request, size, sortBy, sortDirection, fieldset)
+        );
 
         return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(Constants.JSON_API_MEDIA_TYPE))
                 .body(response);
 
     }
 
-    private String buildPageUrl(String baseUrl, int page, int size, String sortBy, String sortDirection) {
-        return String.format(Constants.PAGE_URL_TEMPLATE, baseUrl, page, size, sortBy, sortDirection);
+    @Operation(summary = Constants.GET_PRODUCTS_BY_IDS_SUMMARY)
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = HttpStatusCodes.OK,
+                    description = Constants.PRODUCTS_OBTAINED,
+                    content = @Content(
+                            mediaType = Constants.JSON_API_MEDIA_TYPE,
+                            schema = @Schema(implementation = JsonApiResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = HttpStatusCodes.BAD_REQUEST,
+                    description = Constants.INVALID_ID_FILTER + " / " + Constants.INVALID_FIELDSET,
+                    content = @Content
+            )
+    })
+    @GetMapping(value = "/batch", produces = {Constants.JSON_API_MEDIA_TYPE, Constants.CBOR_MEDIA_TYPE})
+    public ResponseEntity<JsonApiResponse<List<ProductResponse>>> getProductsByIds(
+            @Parameter(description = Constants.FILTER_ID_PARAM_DESCRIPTION)
+            @RequestParam(name = Constants.FILTER_ID_PARAM)
+            @Size(min = Constants.MIN_PAGE_SIZE, max = Constants.MAX_PAGE_SIZE) Set<@Min(1) Long> ids,
+            @Parameter(description = Constants.FIELDSET_PARAM_DESCRIPTION)
+            @RequestParam(name = Constants.FIELDS_PRODUCT_PARAM, required = false) String fields,
+            HttpServletRequest request
+    ) {
+
+        List<ProductResponse> products = productHandler.getProductsByIds(ids, ProductField.parseFieldset(fields));
+
+        JsonApiResponse<List<ProductResponse>> response = new JsonApiResponse<>(products);
+
+        response.setLinks(Map.of(Constants.LINK_SELF, currentRequest(request).toUriString()));
+
+        return ResponseEntity.ok()
+                .body(response);
+
     }
 
-    private void addPaginationLinks(
-            JsonApiResponse<?> response,
-            String baseUrl,
-            PageResponse<?> pageResult,
-            int page,
-            int size,
-            String sortBy,
-            String sortDirection
+    @Operation(summary = Constants.SEARCH_PRODUCTS_SUMMARY)
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = HttpStatusCodes.OK,
+                    description = Constants.PRODUCTS_OBTAINED,
+                    content = @Content(
+                            mediaType = Constants.JSON_API_MEDIA_TYPE,
+                            schema = @Schema(implementation = JsonApiResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = HttpStatusCodes.BAD_REQUEST,
+                    description = Constants.INVALID_SEARCH_QUERY + " / " + Constants.INVALID_PAGE_PARAMETERS,
+                    content = @Content
+            )
+    })
+    @GetMapping(value = "/search", produces = {Constants.JSON_API_MEDIA_TYPE, Constants.CBOR_MEDIA_TYPE})
+    public ResponseEntity<JsonApiResponse<List<ProductResponse>>> searchProducts(
+            @Parameter(description = Constants.SEARCH_QUERY_PARAM_DESCRIPTION)
+            @RequestParam(name = Constants.SEARCH_QUERY_PARAM)
+            @NotBlank @Size(max = Constants.SEARCH_QUERY_MAX_LENGTH) String query,
+            @RequestParam(defaultValue = Constants.PAGE_DEFAULT_VALUE) @Min(Constants.FIRST_PAGE) int page,
+            @Parameter(description = Constants.PAGE_SIZE_PARAM_DESCRIPTION)
+            @RequestParam(defaultValue = Constants.SIZE_DEFAULT_VALUE)
+            @Min(Constants.MIN_PAGE_SIZE) @Max(Constants.MAX_PAGE_SIZE) int size,
+            @Parameter(description = Constants.FIELDSET_PARAM_DESCRIPTION)
+            @RequestParam(name = Constants.FIELDS_PRODUCT_PARAM, required = false) String fields,
+            HttpServletRequest request
     ) {
 
-        Map<String, String> links = new HashMap<>();
-        links.put(Constants.LINK_SELF, buildPageUrl(baseUrl, page, size, sortBy, sortDirection));
-        links.put(Constants.LINK_FIRST, buildPageUrl(baseUrl, Constants.FIRST_PAGE, size, sortBy, sortDirection));
-        links.put(Constants.LINK_LAST, buildPageUrl(
-                baseUrl,
-                pageResult.getTotalPages() - Constants.PAGE_INCREMENT,
+        PageResponse<ProductResponse> result = productHandler.searchProducts(
+                query,
+                page,
                 size,
-                sortBy,
-                sortDirection
+                ProductField.parseFieldset(fields)
+        );
+
+        JsonApiResponse<List<ProductResponse>> response = new JsonApiResponse<>(result.getContent());
+
+        response.setLinks(searchLinks(result, request));
+        response.setMeta(Map.of(
+                Constants.META_TOTAL_ELEMENTS, result.getTotalElements(),
+                Constants.META_TOTAL_PAGES, result.getTotalPages(),
+                Constants.META_CURRENT_PAGE, result.getPageNumber(),
+                Constants.META_PAGE_SIZE, result.getPageSize()
         ));
 
-        if (!pageResult.isLast()) {
-            links.put(Constants.LINK_NEXT, buildPageUrl(
-                    baseUrl,
-                    page + Constants.PAGE_INCREMENT,
-                    size,
-                    sortBy,
-                    sortDirection
+        return ResponseEntity.ok()
+                .body(response);
+
+    }
+
+    @Operation(summary = Constants.SUGGEST_PRODUCTS_SUMMARY)
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = HttpStatusCodes.OK,
+                    description = Constants.PRODUCTS_OBTAINED,
+                    content = @Content(
+                            mediaType = Constants.JSON_API_MEDIA_TYPE,
+                            schema = @Schema(implementation = JsonApiResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = HttpStatusCodes.BAD_REQUEST,
+                    description = Constants.INVALID_SUGGEST_PARAMETERS,
+                    content = @Content
+            )
+    })
+    @GetMapping(value = "/suggest", produces = {Constants.JSON_API_MEDIA_TYPE, Constants.CBOR_MEDIA_TYPE})
+    public ResponseEntity<JsonApiResponse<List<ProductResponse>>> suggestProducts(
+            @Parameter(description = Constants.SUGGEST_PREFIX_PARAM_DESCRIPTION)
+            @RequestParam(name = Constants.SUGGEST_PREFIX_PARAM)
+            @NotBlank @Size(max = Constants.PRODUCT_NAME_MAX_LENGTH) String prefix,
+            @Parameter(description = Constants.SUGGEST_LIMIT_PARAM_DESCRIPTION)
+            @RequestParam(name = Constants.SUGGEST_LIMIT_PARAM, defaultValue = Constants.SUGGEST_LIMIT_DEFAULT_VALUE)
+            @Min(1) @Max(Constants.SUGGEST_MAX_LIMIT) int limit,
+            HttpServletRequest request
+    ) {
+
+        List<ProductResponse> suggestions = productHandler.suggestProducts(prefix, limit);
+
+        JsonApiResponse<List<ProductResponse>> response = new JsonApiResponse<>(suggestions);
+
+        response.setLinks(Map.of(Constants.LINK_SELF, currentRequest(request).toUriString()));
+
+        return ResponseEntity.ok()
+                .body(response);
+
+    }
+
+    @Operation(summary = Constants.GET_PRODUCT_FACETS_SUMMARY)
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = HttpStatusCodes.OK,
+                    description = Constants.FACETS_OBTAINED,
+                    content = @Content(
+                            mediaType = Constants.JSON_API_MEDIA_TYPE,
+                            schema = @Schema(implementation = JsonApiResponse.class)
                     )
-            );
+            )
+    })
+    @GetMapping(value = "/facets", produces = {Constants.JSON_API_MEDIA_TYPE, Constants.CBOR_MEDIA_TYPE})
+    public ResponseEntity<JsonApiResponse<ProductFacetsResponse>> getProductFacets(HttpServletRequest request) {
+
+        JsonApiResponse<ProductFacetsResponse> response = new JsonApiResponse<>(productHandler.getProductFacets());
+
+        response.setLinks(Map.of(Constants.LINK_SELF, request.getRequestURL().toString()));
+
+        return ResponseEntity.ok()
+                .body(response);
+
+    }
+
+    @Operation(summary = Constants.GET_PRODUCT_CHANGES_SUMMARY)
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = HttpStatusCodes.OK,
+                    description = Constants.CHANGES_OBTAINED,
+                    content = @Content(
+                            mediaType = Constants.JSON_API_MEDIA_TYPE,
+                            schema = @Schema(implementation = JsonApiResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = HttpStatusCodes.BAD_REQUEST,
+                    description = Constants.INVALID_CHANGES_PARAMETERS,
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = HttpStatusCodes.GONE,
+                    description = Constants.CHANGE_TOKEN_EXPIRED,
+                    content = @Content
+            )
+    })
+    @GetMapping(value = "/changes", produces = {Constants.JSON_API_MEDIA_TYPE, Constants.CBOR_MEDIA_TYPE})
+    public ResponseEntity<JsonApiResponse<List<ProductChangeResponse>>> getProductChanges(
+            @Parameter(description = Constants.CHANGES_SINCE_PARAM_DESCRIPTION)
+            @RequestParam(name = Constants.CHANGES_SINCE_PARAM, defaultValue = Constants.CHANGES_SINCE_DEFAULT_VALUE)
+            @Min(0) long since,
+            @Parameter(description = Constants.CHANGES_LIMIT_PARAM_DESCRIPTION)
+            @RequestParam(name = Constants.CHANGES_LIMIT_PARAM, defaultValue = Constants.CHANGES_LIMIT_DEFAULT_VALUE)
+            @Min(Constants.MIN_PAGE_SIZE) @Max(Constants.MAX_PAGE_SIZE) int limit,
+            HttpServletRequest request
+    ) {
+
+        ProductChangesResponse result = productHandler.getProductChanges(since, limit);
+
+        JsonApiResponse<List<ProductChangeResponse>> response = new JsonApiResponse<>(result.getChanges());
+
+        // next is the resume token even when hasMore is false: polling it later returns only newer changes
+        UriComponentsBuilder current = currentRequest(request);
+        response.setLinks(Map.of(
+                Constants.LINK_SELF, current.toUriString(),
+                Constants.LINK_NEXT, current.replaceQueryParam(Constants.CHANGES_SINCE_PARAM, result.getNextSince())
+                        .toUriString()
+        ));
+        response.setMeta(Map.of(
+                Constants.META_NEXT_SINCE, result.getNextSince(),
+                Constants.META_HAS_MORE, result.isHasMore()
+        ));
+
+        return ResponseEntity.ok()
+                .body(response);
+
+    }
+
+    private JsonApiResponse<ProductResponse> productByIdResponse(Long id, Set<ProductField> fieldset, String selfLink) {
+
+        JsonApiResponse<ProductResponse> response = new JsonApiResponse<>(productHandler.getProductById(id, fieldset));
+
+        response.setLinks(Map.of(Constants.LINK_SELF, selfLink));
+
+        return response;
+    }
+
+    // The acceptable types come from the same ContentNegotiationManager Spring MVC negotiates with, most
+    // preferred first; the first that allows JSON:API or CBOR picks the body. The handler only runs when one of
+    // them is acceptable at all
+    private MediaType negotiatedMediaType(HttpServletRequest request) throws HttpMediaTypeNotAcceptableException {
+
+        for (MediaType accepted : contentNegotiationManager.resolveMediaTypes(new ServletWebRequest(request))) {
+            if (accepted.isCompatibleWith(JSON_API_MEDIA_TYPE)) {
+                return JSON_API_MEDIA_TYPE;
+            }
+            if (accepted.isCompatibleWith(CBOR_MEDIA_TYPE)) {
+                return CBOR_MEDIA_TYPE;
+            }
         }
 
+        return JSON_API_MEDIA_TYPE;
+    }
+
+    // The request's path with its query rebuilt from the decoded parameters: the raw query string is already
+    // encoded, so building on it would encode values twice and replaceQueryParam would miss encoded names
+    private static UriComponentsBuilder currentRequest(HttpServletRequest request) {
+
+        UriComponents uri = ServletUriComponentsBuilder.fromCurrentRequestUri().build();
+        UriComponentsBuilder builder = UriComponentsBuilder.newInstance()
+                .uriComponents(uri)
+                .replacePath(UriUtils.decode(uri.getPath(), StandardCharsets.UTF_8));
+        request.getParameterMap().forEach((name, values) -> builder.queryParam(name, (Object[]) values));
+
+        return builder;
+    }
+
+    private Map<String, String> searchLinks(PageResponse<ProductResponse> result, HttpServletRequest request) {
+
+        UriComponentsBuilder current = currentRequest(request);
+        int page = result.getPageNumber();
+
+        Map<String, String> links = new HashMap<>();
+        links.put(Constants.LINK_SELF, current.toUriString());
+
+        if (!result.isLast()) {
+            links.put(Constants.LINK_NEXT, current.replaceQueryParam(Constants.PAGE_PARAM, page + 1).toUriString());
+        }
         if (page > Constants.FIRST_PAGE) {
-            links.put(Constants.LINK_PREV, buildPageUrl(
-                    baseUrl,
-                    page - Constants.PAGE_INCREMENT,
-                    size,
-                    sortBy,
-                    sortDirection
-            ));
+            links.put(Constants.LINK_PREV, current.replaceQueryParam(Constants.PAGE_PARAM, page - 1).toUriString());
         }
 
-        response.setLinks(links);
+        return links;
+    }
 
+    // Built per request: it is two short char arrays, and caching it would key on the client-supplied host
+    private static PageLinkTemplate pageLinkTemplate(
+            HttpServletRequest request,
+            int size,
+            String sortBy,
+            String sortDirection,
+            Set<ProductField> fields
+    ) {
+        return new PageLinkTemplate(request.getRequestURL().toString(), size, sortBy, sortDirection, fields);
     }
 
 }
@@ -0,0 +1,191 @@
+package com.link.product.infrastructure.input.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.link.product.domain.model.ProductField;
+import com.link.product.domain.utils.Constants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.MediaType;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+// Fully rendered GET /product/{id} bodies, so a hit skips the lookup, the entity and response mapping and
+// Jackson. Bodies are grouped by product, one per representation, so evicting a product drops all of them.
+// Groups expire a fixed TTL after the first body is stored; once more than maxSize bodies are held, the
+// oldest groups are dropped. A render that started before the product was evicted (or the cache cleared)
+// is not stored, so a read racing a write cannot cache the old body
+public class ProductResponseCache {
+
+    // Eviction generations live in a fixed array indexed by id, so evicted ids leave nothing behind. Two ids
+    // that share a slot only cost each other a store, never a stale body
+    private static final int GENERATION_SLOTS = 4096;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<Queued> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_SLOTS);
+    private final AtomicLong clears = new AtomicLong();
+    private final AtomicInteger bodies = new AtomicInteger();
+    private final Map<MediaType, ObjectMapper> writers;
+    private final int maxSize;
+    private final long ttlMillis;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public ProductResponseCache(
+            Map<MediaType, ObjectMapper> writers,
+            int maxSize,
+            Duration ttl,
+            MeterRegistry meterRegistry
+    ) {
+        this.writers = Map.copyOf(writers);
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl.toMillis();
+        this.hits = counter(meterRegistry, Constants.RESULT_HIT);
+        this.misses = counter(meterRegistry, Constants.RESULT_MISS);
+    }
+
+    public byte[] get(Long id, Representation representation) {
+
+        Entry entry = entries.get(id);
+        byte[] body = entry == null || System.currentTimeMillis() >= entry.expiresAt
+                ? null
+                : entry.bodies.get(representation);
+
+        (body == null ? misses : hits).increment();
+
+        return body;
+
+    }
+
+    public byte[] render(Long id, Representation representation, Supplier<?> response) {
+
+        int slot = slot(id);
+        long generationBefore = generations.get(slot);
+        long clearsBefore = clears.get();
+
+        byte[] body;
+        try {
+            body = writers.get(representation.mediaType()).writeValueAsBytes(response.get());
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        long now = System.currentTimeMillis();
+        boolean[] created = {false};
+
+        // An eviction takes the same map slot, so it cannot slip between the check and the store
+        Entry stored = entries.compute(id, (key, entry) -> {
+            if (generations.get(slot) != generationBefore || clears.get() != clearsBefore) {
+                return entry;
+            }
+            if (entry == null || now >= entry.expiresAt) {
+                created[0] = true;
+                bodies.addAndGet(1 - (entry == null ? 0 : entry.bodies.size()));
+                return new Entry(Map.of(representation, body), now + ttlMillis);
+            }
+            Map<Representation, byte[]> updated = new HashMap<>(entry.bodies);
+            if (updated.put(representation, body) == null) {
+                bodies.incrementAndGet();
+            }
+            return new Entry(Map.copyOf(updated), entry.expiresAt);
+        });
+
+        if (created[0]) {
+            insertionOrder.add(new Queued(id, stored.expiresAt));
+            trim(now);
+        }
+
+        return body;
+
+    }
+
+    public void evict(Long id) {
+        entries.compute(id, (key, entry) -> {
+            generations.incrementAndGet(slot(key));
+            return drop(entry);
+        });
+    }
+
+    public void evictAll(Collection<Long> ids) {
+        ids.forEach(this::evict);
+    }
+
+    public void clear() {
+        clears.incrementAndGet();
+        for (Long id : entries.keySet()) {
+            entries.computeIfPresent(id, (key, entry) -> drop(entry));
+        }
+    }
+
+    // Bodies held, across every product and representation
+    public int size() {
+        return bodies.get();
+    }
+
+    // Queue entries whose expiry no longer matches the map were replaced or evicted since; they are skipped.
+    // The map entry is removed only if it is still the one this queue entry recorded
+    private void trim(long now) {
+
+        Queued head;
+
+        while ((head = insertionOrder.peek()) != null) {
+
+            Entry current = entries.get(head.id);
+            boolean stale = current == null || current.expiresAt != head.expiresAt;
+
+            if (!stale && now < head.expiresAt && bodies.get() <= maxSize) {
+                return;
+            }
+
+            Queued evicted = insertionOrder.poll();
+
+            if (evicted != null) {
+                entries.computeIfPresent(evicted.id, (key, entry) -> entry.expiresAt == evicted.expiresAt ? drop(entry) : entry);
+            }
+        }
+
+    }
+
+    // Called inside the map's compute for the entry's key, so the body count moves with the removal
+    private Entry drop(Entry entry) {
+        if (entry != null) {
+            bodies.addAndGet(-entry.bodies.size());
+        }
+        return null;
+    }
+
+    private static int slot(Long id) {
+        return Long.hashCode(id) & (GENERATION_SLOTS - 1);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(Constants.METRIC_PRODUCT_RESPONSE_CACHE)
+                .tag(Constants.TAG_RESULT, result)
+                .register(meterRegistry);
+    }
+
+    // Nothing taken from the request's host goes in here, so clients cannot add representations at will
+    public record Representation(Set<ProductField> fields, MediaType mediaType) {
+    }
+
+    private record Entry(Map<Representation, byte[]> bodies, long expiresAt) {
+    }
+
+    private record Queued(Long id, long expiresAt) {
+    }
+
+}
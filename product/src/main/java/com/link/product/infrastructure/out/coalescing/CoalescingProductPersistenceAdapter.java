@@ -0,0 +1,110 @@
+package com.link.product.infrastructure.out.coalescing;
+
+import com.link.product.domain.model.PageDomain;
+import com.link.product.domain.model.Product;
+import com.link.product.domain.model.ProductChangePage;
+import com.link.product.domain.model.ProductFacets;
+import com.link.product.domain.model.ProductField;
+import com.link.product.domain.spi.ProductPersistencePort;
+import com.link.product.domain.utils.Constants;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+// Collapses concurrent lookups of the same product into one query; everything else goes straight to the delegate
+public class CoalescingProductPersistenceAdapter implements ProductPersistencePort {
+
+    private final ProductPersistencePort delegate;
+    private final SingleFlight<LoadKey, Optional<Product>> productById;
+
+    public CoalescingProductPersistenceAdapter(ProductPersistencePort delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.productById = new SingleFlight<>(
+                Constants.SINGLE_FLIGHT_PRODUCT_BY_ID,
+                found -> found.map(CoalescingProductPersistenceAdapter::copyOf),
+                meterRegistry
+        );
+    }
+
+    @Override
+    public Product saveProduct(Product product) {
+        return delegate.saveProduct(product);
+    }
+
+    @Override
+    public Boolean checkIfProductExists(String productName) {
+        return delegate.checkIfProductExists(productName);
+    }
+
+    @Override
+    public Optional<Product> getProductById(Long id, Set<ProductField> fields) {
+        if (!isShareable()) {
+            return delegate.getProductById(id, fields);
+        }
+        return productById.execute(new LoadKey(id, fields), () -> delegate.getProductById(id, fields));
+    }
+
+    @Override
+    public Optional<Product> updateProductById(Long id, Product product) {
+        return delegate.updateProductById(id, product);
+    }
+
+    @Override
+    public void deleteProductById(Long id) {
+        delegate.deleteProductById(id);
+    }
+
+    @Override
+    public PageDomain<Product> getAllProducts(
+            int page,
+            int size,
+            String sortBy,
+            String sortDirection,
+            Set<ProductField> fields
+    ) {
+        return delegate.getAllProducts(page, size, sortBy, sortDirection, fields);
+    }
+
+    @Override
+    public List<Product> getProductsByIds(Collection<Long> ids, Set<ProductField> fields) {
+        return delegate.getProductsByIds(ids, fields);
+    }
+
+    @Override
+    public ProductFacets getProductFacets() {
+        return delegate.getProductFacets();
+    }
+
+    @Override
+    public ProductChangePage getChangesSince(long since, int limit) {
+        return delegate.getChangesSince(since, limit);
+    }
+
+    // Reads inside a read-write transaction run on their own: update and delete must see their own
+    // transaction's state, and a waiter must never be handed rows read by someone else's write
+    private boolean isShareable() {
+        return !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private static Product copyOf(Product product) {
+        return new Product(
+                product.getId(),
+                product.getProductName(),
+                product.getDescription(),
+                product.getPrice(),
+                product.getCategory(),
+                product.getBrand(),
+                product.getImageUrl()
+        );
+    }
+
+    // Keyed by fieldset as well, so waiters get the shape they asked for
+    private record LoadKey(Long id, Set<ProductField> fields) {
+    }
+
+}
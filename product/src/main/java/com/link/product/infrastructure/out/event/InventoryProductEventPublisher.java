@@ -0,0 +1,46 @@
+package com.link.product.infrastructure.out.event;
+
+import com.link.product.domain.model.Product;
+import com.link.product.domain.spi.ProductEventPublisherPort;
+import com.link.product.domain.utils.Constants;
+import com.link.product.infrastructure.out.transaction.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+
+// Tells the inventory service a product now exists, so it stops rejecting the id as missing.
+// Sent after commit and without blocking: a lost notification only means waiting out the cache TTL
+@Slf4j
+@RequiredArgsConstructor
+public class InventoryProductEventPublisher implements ProductEventPublisherPort {
+
+    private final WebClient inventoryWebClient;
+
+    @Override
+    public void publishProductCreated(Product product) {
+        Long productId = product.getId();
+        AfterCommit.run(() -> send(productId));
+    }
+
+    // Runs after commit, so nothing may escape: a failure here would turn a saved product into an error response
+    private void send(Long productId) {
+        try {
+            inventoryWebClient.post()
+                    .uri(Constants.URI_INVENTORY_PRODUCT_CREATED, productId)
+                    .retrieve()
+                    .toBodilessEntity()
+                    .timeout(Duration.ofSeconds(Constants.EVENT_TIMEOUT_SECONDS))
+                    .subscribe(response -> { }, error -> notDelivered(productId, error));
+        } catch (RuntimeException e) {
+            notDelivered(productId, e);
+        }
+    }
+
+    // The cause goes last so the stack trace is logged too
+    private static void notDelivered(Long productId, Throwable error) {
+        log.warn(Constants.LOG_PRODUCT_CREATED_NOT_DELIVERED, productId, error.toString(), error);
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.link.product.infrastructure.out.event;
+
+import com.link.product.domain.model.Product;
+import com.link.product.domain.spi.ProductEventPublisherPort;
+
+// Used when no inventory service is configured to receive product events
+public class NoOpProductEventPublisher implements ProductEventPublisherPort {
+
+    @Override
+    public void publishProductCreated(Product product) {
+    }
+
+}
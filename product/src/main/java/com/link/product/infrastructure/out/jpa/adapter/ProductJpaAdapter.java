@@ -2,31 +2,56 @@ package com.link.product.infrastructure.out.jpa.adapter;
 
 import com.link.product.domain.model.PageDomain;
 import com.link.product.domain.model.Product;
+import com.link.product.domain.model.ProductChangePage;
+import com.link.product.domain.model.ProductFacets;
+import com.link.product.domain.model.ProductField;
 import com.link.product.domain.spi.ProductPersistencePort;
 import com.link.product.domain.utils.Constants;
+import com.link.product.infrastructure.out.jpa.change.ProductChangeFeed;
 import com.link.product.infrastructure.out.jpa.entity.ProductEntity;
+import com.link.product.infrastructure.out.jpa.facet.FacetCounts;
 import com.link.product.infrastructure.out.jpa.mapper.ProductEntityMapper;
 import com.link.product.infrastructure.out.jpa.repository.ProductRepository;
+import com.link.product.infrastructure.out.transaction.AfterCommit;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @RequiredArgsConstructor
+@Observed(name = Constants.METRIC_PRODUCT_PERSISTENCE)
 public class ProductJpaAdapter implements ProductPersistencePort {
 
     private final ProductRepository productRepository;
     private final ProductEntityMapper productEntityMapper;
+    private final EntityManager entityManager;
+    private final FacetCounts facetCounts;
+    private final ProductChangeFeed productChangeFeed;
 
     @Override
     public Product saveProduct(Product product) {
         ProductEntity productEntity = productEntityMapper.toEntity(product);
+        productChangeFeed.stamp(productEntity);
         ProductEntity savedEntity = productRepository.save(productEntity);
-        return productEntityMapper.toDomain(savedEntity);
+        Product savedProduct = productEntityMapper.toDomain(savedEntity);
+        AfterCommit.run(() -> facetCounts.add(savedProduct));
+        return savedProduct;
     }
 
     @Override
@@ -35,8 +60,23 @@ public class ProductJpaAdapter implements ProductPersistencePort {
     }
 
     @Override
-    public Optional<Product> getProductById(Long id) {
-        return  productRepository.findById(id).map(productEntityMapper::toDomain);
+    public Optional<Product> getProductById(Long id, Set<ProductField> fields) {
+
+        if (isFullFieldset(fields)) {
+            return productRepository.findById(id).map(productEntityMapper::toDomain);
+        }
+
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<ProductEntity> root = query.from(ProductEntity.class);
+
+        query.multiselect(projection(root, fields))
+                .where(criteriaBuilder.equal(root.get(Constants.FIELD_ID), id));
+
+        return entityManager.createQuery(query)
+                .getResultStream()
+                .findFirst()
+                .map(tuple -> productEntityMapper.toDomain(tuple, fields));
     }
 
     @Override
@@ -44,6 +84,9 @@ public class ProductJpaAdapter implements ProductPersistencePort {
         return productRepository.findById(id)
                 .map(existingEntity -> {
 
+                    Product previousProduct = productEntityMapper.toDomain(existingEntity);
+
+                    productChangeFeed.stamp(existingEntity);
                     existingEntity.setProductName(product.getProductName());
                     existingEntity.setDescription(product.getDescription());
                     existingEntity.setPrice(product.getPrice());
@@ -52,40 +95,119 @@ public class ProductJpaAdapter implements ProductPersistencePort {
                     existingEntity.setImageUrl(product.getImageUrl());
 
                     ProductEntity savedEntity = productRepository.save(existingEntity);
+                    Product updatedProduct = productEntityMapper.toDomain(savedEntity);
 
-                    return productEntityMapper.toDomain(savedEntity);
+                    AfterCommit.run(() -> facetCounts.replace(previousProduct, updatedProduct));
+
+                    return updatedProduct;
                 });
     }
 
+    // deleteById would load the row anyway; loading it here gives the facet values it held
     @Override
     public void deleteProductById(Long id) {
-        productRepository.deleteById(id);
+        productRepository.findById(id).ifPresent(existingEntity -> {
+            Product deletedProduct = productEntityMapper.toDomain(existingEntity);
+            productChangeFeed.recordDeletion(id);
+            productRepository.delete(existingEntity);
+            AfterCommit.run(() -> facetCounts.remove(deletedProduct));
+        });
     }
 
     @Override
-    public PageDomain<Product> getAllProducts(int page, int size, String sortBy, String sortDirection) {
+    public PageDomain<Product> getAllProducts(
+            int page,
+            int size,
+            String sortBy,
+            String sortDirection,
+            Set<ProductField> fields
+    ) {
 
-        Sort.Direction direction = sortDirection.equalsIgnoreCase(Constants.SORT_DIRECTION_DESC)
-                ? Sort.Direction.DESC
-                : Sort.Direction.ASC;
+        Pageable pageable = PageRequest.of(page, size, Sort.by(toDirection(sortDirection), sortBy));
+
+        if (isFullFieldset(fields)) {
+            return toPageDomain(productRepository.findAll(pageable).map(productEntityMapper::toDomain));
+        }
+
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<ProductEntity> root = query.from(ProductEntity.class);
+
+        query.multiselect(projection(root, fields))
+                .orderBy(QueryUtils.toOrders(pageable.getSort(), root, criteriaBuilder));
+
+        List<Tuple> rows = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        // Same totals as findAll(pageable): the count query is skipped when the rows already tell the total
+        Page<Tuple> pageResult = PageableExecutionUtils.getPage(rows, pageable, productRepository::count);
+
+        return toPageDomain(pageResult.map(tuple -> productEntityMapper.toDomain(tuple, fields)));
+
+    }
+
+    @Override
+    public List<Product> getProductsByIds(Collection<Long> ids, Set<ProductField> fields) {
+
+        if (isFullFieldset(fields)) {
+            return productRepository.findAllById(ids).stream().map(productEntityMapper::toDomain).toList();
+        }
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<ProductEntity> root = query.from(ProductEntity.class);
 
-        Page<ProductEntity> pageResult = productRepository.findAll(pageable);
+        query.multiselect(projection(root, fields))
+                .where(root.get(Constants.FIELD_ID).in(ids));
 
-        List<Product> products = pageResult.getContent().stream()
-                .map(productEntityMapper::toDomain)
-                .toList();
+        List<Tuple> rows = entityManager.createQuery(query).getResultList();
 
+        return rows.stream().map(tuple -> productEntityMapper.toDomain(tuple, fields)).toList();
+    }
+
+    @Override
+    public ProductFacets getProductFacets() {
+        return facetCounts.snapshot();
+    }
+
+    @Override
+    public ProductChangePage getChangesSince(long since, int limit) {
+        return productChangeFeed.changesSince(since, limit);
+    }
+
+    private PageDomain<Product> toPageDomain(Page<Product> pageResult) {
         return new PageDomain<>(
-                products,
+                pageResult.getContent(),
                 pageResult.getNumber(),
                 pageResult.getSize(),
                 pageResult.getTotalElements(),
                 pageResult.getTotalPages(),
                 pageResult.isLast()
         );
+    }
 
+    private boolean isFullFieldset(Set<ProductField> fields) {
+        return fields.size() == ProductField.all().size();
+    }
+
+    private List<Selection<?>> projection(Root<ProductEntity> root, Set<ProductField> fields) {
+
+        List<Selection<?>> selections = new ArrayList<>(fields.size() + 1);
+        selections.add(root.get(Constants.FIELD_ID).alias(Constants.FIELD_ID));
+
+        for (ProductField field : fields) {
+            selections.add(root.get(field.getFieldName()).alias(field.getFieldName()));
+        }
+
+        return selections;
+    }
+
+    private Sort.Direction toDirection(String sortDirection) {
+        return sortDirection.equalsIgnoreCase(Constants.SORT_DIRECTION_DESC)
+                ? Sort.Direction.DESC
+                : Sort.Direction.ASC;
     }
 
 }
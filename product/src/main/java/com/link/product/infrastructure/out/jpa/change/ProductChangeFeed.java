@@ -0,0 +1,111 @@
+package com.link.product.infrastructure.out.jpa.change;
+
+import com.link.product.domain.exceptions.ChangeTokenExpiredException;
+import com.link.product.domain.model.ProductChange;
+import com.link.product.domain.model.ProductChangePage;
+import com.link.product.domain.utils.Constants;
+import com.link.product.infrastructure.out.jpa.entity.ProductChangeSequenceEntity;
+import com.link.product.infrastructure.out.jpa.entity.ProductEntity;
+import com.link.product.infrastructure.out.jpa.entity.ProductTombstoneEntity;
+import com.link.product.infrastructure.out.jpa.mapper.ProductEntityMapper;
+import com.link.product.infrastructure.out.jpa.repository.ProductChangeSequenceRepository;
+import com.link.product.infrastructure.out.jpa.repository.ProductRepository;
+import com.link.product.infrastructure.out.jpa.repository.ProductTombstoneRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+// Every write takes the next change number from the sequence row and keeps that row locked until it commits,
+// so numbers are handed out in commit order: a reader that has seen change n never misses a later commit
+// with a smaller number. Live products carry their last change; deleted ones leave a tombstone
+@RequiredArgsConstructor
+public class ProductChangeFeed {
+
+    private final ProductRepository productRepository;
+    private final ProductTombstoneRepository productTombstoneRepository;
+    private final ProductChangeSequenceRepository productChangeSequenceRepository;
+    private final ProductEntityMapper productEntityMapper;
+
+    // Must run in the writing transaction, before the product row is touched, so writers queue on the sequence
+    public void stamp(ProductEntity entity) {
+        entity.setChangeSeq(nextChangeSeq());
+        entity.setUpdatedAt(Instant.now());
+    }
+
+    public void recordDeletion(Long productId) {
+        productTombstoneRepository.save(new ProductTombstoneEntity(productId, nextChangeSeq(), Instant.now()));
+    }
+
+    // Reads one row past the limit from both tables to tell whether more changes follow
+    public ProductChangePage changesSince(long since, int limit) {
+
+        long purgedSeq = productChangeSequenceRepository.findById(Constants.CHANGE_SEQUENCE_ID)
+                .map(ProductChangeSequenceEntity::getPurgedSeq)
+                .orElse(0L);
+
+        // A consumer starting from zero holds nothing that a purged deletion could leave stale
+        if (since > 0 && since < purgedSeq) {
+            throw new ChangeTokenExpiredException(since);
+        }
+
+        List<ProductEntity> updated = productRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(
+                since,
+                Limit.of(limit + 1)
+        );
+        List<ProductTombstoneEntity> deleted = productTombstoneRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(
+                since,
+                Limit.of(limit + 1)
+        );
+
+        List<ProductChange> changes = new ArrayList<>(Math.min(limit, updated.size() + deleted.size()));
+        int u = 0;
+        int d = 0;
+
+        while (changes.size() < limit && (u < updated.size() || d < deleted.size())) {
+            if (d == deleted.size()
+                    || (u < updated.size() && updated.get(u).getChangeSeq() < deleted.get(d).getChangeSeq())) {
+                changes.add(toChange(updated.get(u++)));
+            } else {
+                changes.add(toChange(deleted.get(d++)));
+            }
+        }
+
+        boolean hasMore = u < updated.size() || d < deleted.size();
+        long nextSince = changes.isEmpty() ? since : changes.get(changes.size() - 1).getSequence();
+
+        return new ProductChangePage(changes, nextSince, hasMore);
+
+    }
+
+    private long nextChangeSeq() {
+        ProductChangeSequenceEntity sequence = productChangeSequenceRepository
+                .findByIdForUpdate(Constants.CHANGE_SEQUENCE_ID)
+                .orElseThrow(() -> new IllegalStateException(Constants.CHANGE_SEQUENCE_MISSING_MESSAGE));
+        sequence.setLastSeq(sequence.getLastSeq() + 1);
+        return sequence.getLastSeq();
+    }
+
+    private ProductChange toChange(ProductEntity entity) {
+        return new ProductChange(
+                entity.getId(),
+                entity.getChangeSeq(),
+                entity.getUpdatedAt(),
+                false,
+                productEntityMapper.toDomain(entity)
+        );
+    }
+
+    private static ProductChange toChange(ProductTombstoneEntity tombstone) {
+        return new ProductChange(
+                tombstone.getProductId(),
+                tombstone.getChangeSeq(),
+                tombstone.getDeletedAt(),
+                true,
+                null
+        );
+    }
+
+}
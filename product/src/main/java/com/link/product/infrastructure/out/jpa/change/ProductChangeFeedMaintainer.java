@@ -0,0 +1,144 @@
+package com.link.product.infrastructure.out.jpa.change;
+
+import com.link.product.domain.utils.Constants;
+import com.link.product.infrastructure.out.jpa.entity.ProductChangeSequenceEntity;
+import com.link.product.infrastructure.out.jpa.entity.ProductEntity;
+import com.link.product.infrastructure.out.jpa.repository.ProductChangeSequenceRepository;
+import com.link.product.infrastructure.out.jpa.repository.ProductRepository;
+import com.link.product.infrastructure.out.jpa.repository.ProductTombstoneRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+// Creates the sequence row on first start, stamps products written outside the service (seed scripts,
+// manual fixes) so they show up in the feed, and drops tombstones older than the retention period.
+// Each step locks the sequence row like any other write, so it never interleaves with one
+@Slf4j
+public class ProductChangeFeedMaintainer implements SmartInitializingSingleton {
+
+    private final ProductRepository productRepository;
+    private final ProductTombstoneRepository productTombstoneRepository;
+    private final ProductChangeSequenceRepository productChangeSequenceRepository;
+    private final TransactionTemplate transaction;
+    private final Duration tombstoneRetention;
+    private final int batchSize;
+
+    public ProductChangeFeedMaintainer(
+            ProductRepository productRepository,
+            ProductTombstoneRepository productTombstoneRepository,
+            ProductChangeSequenceRepository productChangeSequenceRepository,
+            PlatformTransactionManager transactionManager,
+            Duration tombstoneRetention,
+            int batchSize
+    ) {
+        this.productRepository = productRepository;
+        this.productTombstoneRepository = productTombstoneRepository;
+        this.productChangeSequenceRepository = productChangeSequenceRepository;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.tombstoneRetention = tombstoneRetention;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        createSequence();
+        stampUnstampedProducts();
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.changes.maintenance-interval-ms}",
+            fixedDelayString = "${app.changes.maintenance-interval-ms}"
+    )
+    public void maintain() {
+        stampUnstampedProducts();
+        purgeTombstones();
+    }
+
+    // Several instances may start at once; the one that loses the insert simply uses the winner's row
+    private void createSequence() {
+        try {
+            transaction.executeWithoutResult(status -> {
+                if (productChangeSequenceRepository.existsById(Constants.CHANGE_SEQUENCE_ID)) {
+                    return;
+                }
+                long lastSeq = Math.max(
+                        orZero(productRepository.findMaxChangeSeq()),
+                        orZero(productTombstoneRepository.findMaxChangeSeq())
+                );
+                productChangeSequenceRepository.saveAndFlush(
+                        new ProductChangeSequenceEntity(Constants.CHANGE_SEQUENCE_ID, lastSeq, 0L)
+                );
+            });
+        } catch (DataIntegrityViolationException ex) {
+            log.debug(ex.getMessage());
+        }
+    }
+
+    private void stampUnstampedProducts() {
+
+        long stamped = 0;
+        int batch;
+
+        do {
+            batch = transaction.execute(status -> {
+                // Locked first: no write can then be in flight, so the rows read here are not overwritten stale
+                ProductChangeSequenceEntity sequence = lockSequence();
+                List<ProductEntity> unstamped = productRepository.findByChangeSeqIsNullOrderByIdAsc(Limit.of(batchSize));
+                Instant now = Instant.now();
+                for (ProductEntity entity : unstamped) {
+                    sequence.setLastSeq(sequence.getLastSeq() + 1);
+                    entity.setChangeSeq(sequence.getLastSeq());
+                    entity.setUpdatedAt(now);
+                }
+                return unstamped.size();
+            });
+            stamped += batch;
+        } while (batch == batchSize);
+
+        if (stamped > 0) {
+            log.info(Constants.LOG_CHANGES_STAMPED, stamped);
+        }
+
+    }
+
+    // Tombstones carry increasing timestamps, so everything up to the newest expired one goes; the purged
+    // number is recorded so consumers holding an older token are told to resync instead of missing deletions
+    private void purgeTombstones() {
+
+        Instant cutoff = Instant.now().minus(tombstoneRetention);
+
+        transaction.executeWithoutResult(status -> {
+
+            ProductChangeSequenceEntity sequence = lockSequence();
+
+            Long purgeUpTo = productTombstoneRepository.findMaxChangeSeqDeletedBefore(cutoff);
+            if (purgeUpTo == null) {
+                return;
+            }
+
+            int purged = productTombstoneRepository.deleteUpToChangeSeq(purgeUpTo);
+            sequence.setPurgedSeq(Math.max(sequence.getPurgedSeq(), purgeUpTo));
+
+            log.info(Constants.LOG_TOMBSTONES_PURGED, purged, purgeUpTo);
+        });
+
+    }
+
+    private ProductChangeSequenceEntity lockSequence() {
+        return productChangeSequenceRepository.findByIdForUpdate(Constants.CHANGE_SEQUENCE_ID)
+                .orElseThrow(() -> new IllegalStateException(Constants.CHANGE_SEQUENCE_MISSING_MESSAGE));
+    }
+
+    private static long orZero(Long value) {
+        return value == null ? 0 : value;
+    }
+
+}
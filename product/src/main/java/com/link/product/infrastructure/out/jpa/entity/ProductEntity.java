@@ -5,14 +5,17 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.Instant;
+
 @Entity
-@Table(name = "products")
+@Table(name = "products", indexes = @Index(name = "idx_products_change_seq", columnList = "change_seq", unique = true))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -41,4 +44,25 @@ public class ProductEntity {
     @Column(name = "image_url", length = 255)
     private String imageUrl;
 
+    // Position in the change feed, stamped on every write. Rows inserted outside the service have none
+    // until the change feed maintainer stamps them
+    @Column(name = "change_seq")
+    private Long changeSeq;
+
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
+    // Catalog attributes only; the change stamp is set by the adapter that writes the row
+    public ProductEntity(
+            Long id,
+            String productName,
+            String description,
+            Double price,
+            String category,
+            String brand,
+            String imageUrl
+    ) {
+        this(id, productName, description, price, category, brand, imageUrl, null, null);
+    }
+
 }
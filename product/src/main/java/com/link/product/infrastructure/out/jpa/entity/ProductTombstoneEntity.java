@@ -0,0 +1,37 @@
+package com.link.product.infrastructure.out.jpa.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+// What the change feed reports for a deleted product; ids come from a sequence and are never reused
+@Entity
+@Table(
+        name = "product_tombstones",
+        indexes = @Index(name = "idx_product_tombstones_change_seq", columnList = "change_seq", unique = true)
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductTombstoneEntity {
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Column(name = "change_seq", nullable = false)
+    private Long changeSeq;
+
+    @Column(name = "deleted_at", nullable = false)
+    private Instant deletedAt;
+
+}
@@ -0,0 +1,187 @@
+package com.link.product.infrastructure.out.jpa.facet;
+
+import com.link.product.domain.model.PriceBucket;
+import com.link.product.domain.model.Product;
+import com.link.product.domain.model.ProductFacets;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+// Category, brand and price-bucket counts, kept in step with every product change committed by this instance.
+// Each instance holds its own counts: another instance's writes only show up here at the next reconcile.
+// Category and brand names are interned to int ids once, so a change is a few increments on long arrays
+// instead of updates to a map of boxed counts
+public class FacetCounts {
+
+    private final double[] priceBounds;
+    private final long[] priceCounts;
+    private final TermCounts categories = new TermCounts();
+    private final TermCounts brands = new TermCounts();
+    private long version;
+
+    public FacetCounts(double[] priceBounds) {
+        this.priceBounds = priceBounds.clone();
+        Arrays.sort(this.priceBounds);
+        this.priceCounts = new long[this.priceBounds.length + 1];
+    }
+
+    public synchronized void add(Product product) {
+        apply(product, 1);
+    }
+
+    public synchronized void remove(Product product) {
+        apply(product, -1);
+    }
+
+    public synchronized void replace(Product before, Product after) {
+        apply(before, -1);
+        apply(after, 1);
+    }
+
+    public synchronized long version() {
+        return version;
+    }
+
+    public double[] priceBounds() {
+        return priceBounds.clone();
+    }
+
+    // Overwrites every count with the database totals and returns how far they had drifted.
+    // Refused (empty) when a change was applied after expectedVersion was read: the totals may or may not include it
+    public synchronized OptionalLong reconcile(
+            Map<String, Long> categoryTotals,
+            Map<String, Long> brandTotals,
+            long[] priceTotals,
+            long expectedVersion
+    ) {
+
+        if (version != expectedVersion) {
+            return OptionalLong.empty();
+        }
+
+        long drift = categories.reconcile(categoryTotals) + brands.reconcile(brandTotals);
+        for (int i = 0; i < priceCounts.length; i++) {
+            drift += Math.abs(priceCounts[i] - priceTotals[i]);
+            priceCounts[i] = priceTotals[i];
+        }
+
+        return OptionalLong.of(drift);
+
+    }
+
+    public synchronized ProductFacets snapshot() {
+
+        List<PriceBucket> buckets = new ArrayList<>(priceCounts.length);
+        for (int i = 0; i < priceCounts.length; i++) {
+            buckets.add(new PriceBucket(
+                    i == 0 ? 0.0 : priceBounds[i - 1],
+                    i == priceBounds.length ? null : priceBounds[i],
+                    priceCounts[i]
+            ));
+        }
+
+        return new ProductFacets(categories.snapshot(), brands.snapshot(), buckets);
+
+    }
+
+    private void apply(Product product, int delta) {
+
+        categories.add(product.getCategory(), delta);
+        brands.add(product.getBrand(), delta);
+
+        if (product.getPrice() != null) {
+            priceCounts[bucketOf(product.getPrice())] += delta;
+        }
+
+        version++;
+
+    }
+
+    // A price equal to a bound belongs to the bucket that starts there
+    private int bucketOf(double price) {
+        int position = Arrays.binarySearch(priceBounds, price);
+        return position >= 0 ? position + 1 : -position - 1;
+    }
+
+    private static final class TermCounts {
+
+        // Most products first, ties by name, so a storefront can show the list as it comes
+        private static final Comparator<Map.Entry<String, Long>> LARGEST_FIRST =
+                Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey());
+
+        private final Map<String, Integer> ids = new HashMap<>();
+        private String[] terms = new String[16];
+        private long[] counts = new long[16];
+
+        private void add(String term, long delta) {
+            if (term != null) {
+                counts[idOf(term)] += delta;
+            }
+        }
+
+        private int idOf(String term) {
+
+            Integer id = ids.get(term);
+
+            if (id == null) {
+                id = ids.size();
+                if (id == terms.length) {
+                    terms = Arrays.copyOf(terms, id * 2);
+                    counts = Arrays.copyOf(counts, id * 2);
+                }
+                terms[id] = term;
+                ids.put(term, id);
+            }
+
+            return id;
+
+        }
+
+        private long reconcile(Map<String, Long> totals) {
+
+            long drift = 0;
+
+            for (int id = 0; id < ids.size(); id++) {
+                long total = totals.getOrDefault(terms[id], 0L);
+                drift += Math.abs(counts[id] - total);
+                counts[id] = total;
+            }
+            for (Map.Entry<String, Long> total : totals.entrySet()) {
+                if (!ids.containsKey(total.getKey())) {
+                    drift += total.getValue();
+                    counts[idOf(total.getKey())] = total.getValue();
+                }
+            }
+
+            return drift;
+
+        }
+
+        private Map<String, Long> snapshot() {
+
+            List<Map.Entry<String, Long>> entries = new ArrayList<>(ids.size());
+            for (int id = 0; id < ids.size(); id++) {
+                if (counts[id] > 0) {
+                    entries.add(Map.entry(terms[id], counts[id]));
+                }
+            }
+            entries.sort(LARGEST_FIRST);
+
+            Map<String, Long> snapshot = new LinkedHashMap<>(entries.size() * 2);
+            for (Map.Entry<String, Long> entry : entries) {
+                snapshot.put(entry.getKey(), entry.getValue());
+            }
+
+            return snapshot;
+
+        }
+
+    }
+
+}
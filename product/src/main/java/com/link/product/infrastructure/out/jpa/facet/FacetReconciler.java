@@ -0,0 +1,117 @@
+package com.link.product.infrastructure.out.jpa.facet;
+
+import com.link.product.domain.utils.Constants;
+import com.link.product.infrastructure.out.jpa.repository.ProductRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+// Loads the facet counts before the web server starts and then periodically overwrites them with GROUP BY
+// totals, which corrects any drift (a lost after-commit callback, a row changed outside the service, or a
+// write made by another instance: the counts are per instance and only follow this instance's writes).
+// The totals are read in one read-write transaction: it goes to the primary, because a lagging replica
+// would undo recent changes, and all queries see the same snapshot.
+// A pass whose totals are refused because a product changed meanwhile is retried at once, up to
+// maxAttempts times, instead of leaving the drift in place for another full interval
+@Slf4j
+public class FacetReconciler implements SmartInitializingSingleton {
+
+    private final ProductRepository productRepository;
+    private final FacetCounts facetCounts;
+    private final TransactionTemplate transaction;
+    private final int maxAttempts;
+    private final Counter driftCounter;
+
+    public FacetReconciler(
+            ProductRepository productRepository,
+            FacetCounts facetCounts,
+            PlatformTransactionManager transactionManager,
+            int maxAttempts,
+            MeterRegistry meterRegistry
+    ) {
+        this.productRepository = productRepository;
+        this.facetCounts = facetCounts;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.maxAttempts = maxAttempts;
+        this.driftCounter = Counter.builder(Constants.METRIC_PRODUCT_FACETS_DRIFT).register(meterRegistry);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long start = System.nanoTime();
+        reconcileWithRetries();
+        log.info(Constants.LOG_FACETS_LOADED, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.facets.reconcile-interval-ms}",
+            fixedDelayString = "${app.facets.reconcile-interval-ms}"
+    )
+    public void reconcileWithDatabase() {
+
+        OptionalLong drift = reconcileWithRetries();
+
+        if (drift.isEmpty()) {
+            log.warn(Constants.LOG_FACETS_RECONCILE_SKIPPED, maxAttempts);
+        } else if (drift.getAsLong() > 0) {
+            driftCounter.increment(drift.getAsLong());
+            log.warn(Constants.LOG_FACETS_DRIFT_CORRECTED, drift.getAsLong());
+        }
+
+    }
+
+    private OptionalLong reconcileWithRetries() {
+
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            OptionalLong drift = reconcile();
+            if (drift.isPresent()) {
+                return drift;
+            }
+        }
+
+        return OptionalLong.empty();
+    }
+
+    private OptionalLong reconcile() {
+
+        long expectedVersion = facetCounts.version();
+        double[] priceBounds = facetCounts.priceBounds();
+
+        return transaction.execute(status -> {
+
+            Map<String, Long> categoryTotals = toMap(productRepository.countPerCategory());
+            Map<String, Long> brandTotals = toMap(productRepository.countPerBrand());
+
+            // Bucket totals are differences of "cheaper than bound" counts: one COUNT per bucket
+            long[] priceTotals = new long[priceBounds.length + 1];
+            long below = 0;
+            for (int i = 0; i < priceBounds.length; i++) {
+                long cheaper = productRepository.countByPriceLessThan(priceBounds[i]);
+                priceTotals[i] = cheaper - below;
+                below = cheaper;
+            }
+            priceTotals[priceBounds.length] = productRepository.count() - below;
+
+            return facetCounts.reconcile(categoryTotals, brandTotals, priceTotals, expectedVersion);
+        });
+
+    }
+
+    private static Map<String, Long> toMap(List<ProductRepository.FacetTotal> totals) {
+        Map<String, Long> map = new HashMap<>(totals.size() * 2);
+        for (ProductRepository.FacetTotal total : totals) {
+            map.put(total.getTerm(), total.getTotal());
+        }
+        return map;
+    }
+
+}
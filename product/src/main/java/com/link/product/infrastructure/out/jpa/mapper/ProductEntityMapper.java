@@ -1,15 +1,40 @@
 package com.link.product.infrastructure.out.jpa.mapper;
 
 import com.link.product.domain.model.Product;
+import com.link.product.domain.model.ProductField;
+import com.link.product.domain.utils.Constants;
 import com.link.product.infrastructure.out.jpa.entity.ProductEntity;
+import jakarta.persistence.Tuple;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
 
+import java.util.Set;
+
 @Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
 public interface ProductEntityMapper {
 
+    // The change stamp is assigned when the row is written
+    @Mapping(target = "changeSeq", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
     ProductEntity toEntity(Product domain);
 
     Product toDomain(ProductEntity entity);
 
+    default Product toDomain(Tuple tuple, Set<ProductField> fields) {
+        return new Product(
+                tuple.get(Constants.FIELD_ID, Long.class),
+                projected(tuple, fields, ProductField.PRODUCT_NAME, String.class),
+                projected(tuple, fields, ProductField.DESCRIPTION, String.class),
+                projected(tuple, fields, ProductField.PRICE, Double.class),
+                projected(tuple, fields, ProductField.CATEGORY, String.class),
+                projected(tuple, fields, ProductField.BRAND, String.class),
+                projected(tuple, fields, ProductField.IMAGE_URL, String.class)
+        );
+    }
+
+    private static <T> T projected(Tuple tuple, Set<ProductField> fields, ProductField field, Class<T> type) {
+        return fields.contains(field) ? tuple.get(field.getFieldName(), type) : null;
+    }
+
 }
@@ -0,0 +1,18 @@
+package com.link.product.infrastructure.out.jpa.repository;
+
+import com.link.product.infrastructure.out.jpa.entity.ProductChangeSequenceEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface ProductChangeSequenceRepository extends JpaRepository<ProductChangeSequenceEntity, Integer> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from ProductChangeSequenceEntity s where s.id = :id")
+    Optional<ProductChangeSequenceEntity> findByIdForUpdate(@Param("id") Integer id);
+
+}
@@ -1,12 +1,38 @@
 package com.link.product.infrastructure.out.jpa.repository;
 
 import com.link.product.infrastructure.out.jpa.entity.ProductEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface ProductRepository extends JpaRepository<ProductEntity, Long> {
 
     Optional<ProductEntity> findByProductName(String productName);
 
+    List<ProductEntity> findByChangeSeqGreaterThanOrderByChangeSeqAsc(Long changeSeq, Limit limit);
+
+    List<ProductEntity> findByChangeSeqIsNullOrderByIdAsc(Limit limit);
+
+    @Query("select max(p.changeSeq) from ProductEntity p")
+    Long findMaxChangeSeq();
+
+    @Query("select p.category as term, count(p) as total from ProductEntity p group by p.category")
+    List<FacetTotal> countPerCategory();
+
+    @Query("select p.brand as term, count(p) as total from ProductEntity p group by p.brand")
+    List<FacetTotal> countPerBrand();
+
+    long countByPriceLessThan(Double price);
+
+    interface FacetTotal {
+
+        String getTerm();
+
+        long getTotal();
+
+    }
+
 }
@@ -0,0 +1,27 @@
+package com.link.product.infrastructure.out.jpa.repository;
+
+import com.link.product.infrastructure.out.jpa.entity.ProductTombstoneEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface ProductTombstoneRepository extends JpaRepository<ProductTombstoneEntity, Long> {
+
+    List<ProductTombstoneEntity> findByChangeSeqGreaterThanOrderByChangeSeqAsc(Long changeSeq, Limit limit);
+
+    @Query("select max(t.changeSeq) from ProductTombstoneEntity t")
+    Long findMaxChangeSeq();
+
+    @Query("select max(t.changeSeq) from ProductTombstoneEntity t where t.deletedAt < :cutoff")
+    Long findMaxChangeSeqDeletedBefore(@Param("cutoff") Instant cutoff);
+
+    @Modifying
+    @Query("delete from ProductTombstoneEntity t where t.changeSeq <= :changeSeq")
+    int deleteUpToChangeSeq(@Param("changeSeq") Long changeSeq);
+
+}
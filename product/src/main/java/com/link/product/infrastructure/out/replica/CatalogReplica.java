@@ -0,0 +1,141 @@
+package com.link.product.infrastructure.out.replica;
+
+import com.link.product.domain.exceptions.ChangeTokenExpiredException;
+import com.link.product.domain.model.ProductChange;
+import com.link.product.domain.model.ProductChangePage;
+import com.link.product.domain.utils.Constants;
+import com.link.product.infrastructure.out.jpa.change.ProductChangeFeed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+// Keeps a CatalogSnapshot current by following the change feed, so writes from every instance (and rows
+// stamped by the change feed maintainer) reach it the same way. Each refresh reads everything after the
+// snapshot's change number and publishes one new snapshot; readers just read the volatile field.
+// Refreshes run on a single thread of their own, so building a snapshot never races with another and a
+// slow @Scheduled task elsewhere in the service cannot hold the replica back
+@Slf4j
+public class CatalogReplica implements SmartInitializingSingleton, DisposableBean {
+
+    private final ProductChangeFeed productChangeFeed;
+    private final TransactionTemplate primaryRead;
+    private final ThreadPoolTaskScheduler refreshScheduler;
+    private final Duration refreshInterval;
+    private final int batchSize;
+    private final Timer refreshTimer;
+
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile CatalogSnapshot snapshot = CatalogSnapshot.EMPTY;
+
+    public CatalogReplica(
+            ProductChangeFeed productChangeFeed,
+            PlatformTransactionManager transactionManager,
+            ThreadPoolTaskScheduler refreshScheduler,
+            Duration refreshInterval,
+            int batchSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.productChangeFeed = productChangeFeed;
+        // Read from the primary: through a lagging read replica, the replica's delay would add to the database's
+        this.primaryRead = new TransactionTemplate(transactionManager);
+        this.primaryRead.setReadOnly(true);
+        this.primaryRead.setName(Constants.PRIMARY_READ_TRANSACTION);
+        this.refreshScheduler = refreshScheduler;
+        this.refreshInterval = refreshInterval;
+        this.batchSize = batchSize;
+        this.refreshTimer = Timer.builder(Constants.METRIC_PRODUCT_REPLICA_REFRESH).register(meterRegistry);
+    }
+
+    public CatalogSnapshot snapshot() {
+        return snapshot;
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    // Loaded before the web server starts, so no request sees a partial catalog
+    @Override
+    public void afterSingletonsInstantiated() {
+        long start = System.nanoTime();
+        refresh();
+        log.info(Constants.LOG_REPLICA_LOADED, snapshot.size(), (System.nanoTime() - start) / 1_000_000);
+        refreshScheduler.scheduleWithFixedDelay(this::refresh, Instant.now().plus(refreshInterval), refreshInterval);
+    }
+
+    @Override
+    public void destroy() {
+        refreshScheduler.shutdown();
+    }
+
+    public void refresh() {
+        refreshTimer.record(this::applyNewChanges);
+    }
+
+    private void applyNewChanges() {
+
+        CatalogSnapshot current = snapshot;
+        List<ProductChange> changes = new ArrayList<>();
+        long since = current.changeSeq();
+        boolean hasMore = true;
+        boolean reloaded = false;
+
+        while (hasMore) {
+            long from = since;
+            ProductChangePage page;
+            try {
+                page = primaryRead.execute(status -> productChangeFeed.changesSince(from, batchSize));
+            } catch (ChangeTokenExpiredException ex) {
+                // Stale for longer than the tombstone retention: deletions may be lost, so start over
+                log.warn(Constants.LOG_REPLICA_RELOADING, from);
+                current = CatalogSnapshot.EMPTY;
+                changes.clear();
+                since = 0;
+                reloaded = true;
+                continue;
+            }
+            changes.addAll(page.getChanges());
+            since = page.getNextSince();
+            hasMore = page.isHasMore();
+        }
+
+        if (current != snapshot || !changes.isEmpty()) {
+            snapshot = current.apply(changes, since);
+        }
+
+        // Told only after the new snapshot is published, so whatever they drop is rebuilt from it
+        for (Listener listener : listeners) {
+            if (reloaded) {
+                listener.reloaded();
+            } else if (!changes.isEmpty()) {
+                listener.changed(changes.stream().map(ProductChange::getProductId).collect(Collectors.toSet()));
+            }
+        }
+
+    }
+
+    // For in-memory views built from replica reads (such as cached responses) that must follow its changes
+    public interface Listener {
+
+        void changed(Set<Long> productIds);
+
+        // The replica started over, so products deleted while it was stale are not reported one by one
+        void reloaded();
+
+    }
+
+}
@@ -0,0 +1,139 @@
+package com.link.product.infrastructure.out.replica;
+
+import com.link.product.domain.model.PageDomain;
+import com.link.product.domain.model.Product;
+import com.link.product.domain.model.ProductChangePage;
+import com.link.product.domain.model.ProductFacets;
+import com.link.product.domain.model.ProductField;
+import com.link.product.domain.spi.ProductPersistencePort;
+import com.link.product.domain.utils.Constants;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+// Serves product reads from the in-memory catalog replica without touching the database. Writes, and reads
+// made inside a read-write transaction (update and delete check the row they are about to change), go to
+// the delegate; so do the uniqueness check, keyset scans, facets and the change feed itself.
+// Only the requested fields are decoded, so projected reads skip the description entirely
+public class CatalogReplicaPersistenceAdapter implements ProductPersistencePort {
+
+    private final ProductPersistencePort delegate;
+    private final CatalogReplica catalogReplica;
+
+    public CatalogReplicaPersistenceAdapter(ProductPersistencePort delegate, CatalogReplica catalogReplica) {
+        this.delegate = delegate;
+        this.catalogReplica = catalogReplica;
+    }
+
+    @Override
+    public Product saveProduct(Product product) {
+        return delegate.saveProduct(product);
+    }
+
+    @Override
+    public Boolean checkIfProductExists(String productName) {
+        return delegate.checkIfProductExists(productName);
+    }
+
+    @Override
+    public Optional<Product> getProductById(Long id, Set<ProductField> fields) {
+        if (!isReplicaRead()) {
+            return delegate.getProductById(id, fields);
+        }
+        return Optional.ofNullable(catalogReplica.snapshot().get(id, fields));
+    }
+
+    @Override
+    public Optional<Product> updateProductById(Long id, Product product) {
+        return delegate.updateProductById(id, product);
+    }
+
+    @Override
+    public void deleteProductById(Long id) {
+        delegate.deleteProductById(id);
+    }
+
+    @Override
+    public PageDomain<Product> getAllProducts(
+            int page,
+            int size,
+            String sortBy,
+            String sortDirection,
+            Set<ProductField> fields
+    ) {
+        if (!isReplicaRead() || page < 0 || !CatalogSnapshot.isSortable(sortBy)) {
+            return delegate.getAllProducts(page, size, sortBy, sortDirection, fields);
+        }
+        return pageOf(catalogReplica.snapshot(), page, size, sortBy, sortDirection, fields);
+    }
+
+    @Override
+    public List<Product> getProductsByIds(Collection<Long> ids, Set<ProductField> fields) {
+
+        if (!isReplicaRead()) {
+            return delegate.getProductsByIds(ids, fields);
+        }
+
+        CatalogSnapshot snapshot = catalogReplica.snapshot();
+        List<Product> products = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Product product = snapshot.get(id, fields);
+            if (product != null) {
+                products.add(product);
+            }
+        }
+        return products;
+    }
+
+    @Override
+    public ProductFacets getProductFacets() {
+        return delegate.getProductFacets();
+    }
+
+    @Override
+    public ProductChangePage getChangesSince(long since, int limit) {
+        return delegate.getChangesSince(since, limit);
+    }
+
+    private boolean isReplicaRead() {
+        return !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    // One snapshot per request, so the page and its totals agree
+    private static PageDomain<Product> pageOf(
+            CatalogSnapshot snapshot,
+            int page,
+            int size,
+            String sortBy,
+            String sortDirection,
+            Set<ProductField> fields
+    ) {
+
+        boolean descending = sortDirection.equalsIgnoreCase(Constants.SORT_DIRECTION_DESC);
+
+        // Totals follow Spring Data's Page, as they do when the database answers
+        Page<Product> pageResult = new PageImpl<>(
+                snapshot.page(sortBy, descending, page, size, fields),
+                PageRequest.of(page, size),
+                snapshot.size()
+        );
+
+        return new PageDomain<>(
+                pageResult.getContent(),
+                pageResult.getNumber(),
+                pageResult.getSize(),
+                pageResult.getTotalElements(),
+                pageResult.getTotalPages(),
+                pageResult.isLast()
+        );
+    }
+
+}
@@ -0,0 +1,287 @@
+package com.link.product.infrastructure.out.replica;
+
+import com.link.product.domain.model.Product;
+import com.link.product.domain.model.ProductChange;
+import com.link.product.domain.model.ProductField;
+import com.link.product.domain.utils.Constants;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+// The whole catalog as of one change number, never modified once built: the products sorted by every
+// sortable column (ties broken by id, so pages are stable) plus an id -> position map over the id order.
+// Applying a batch copies the arrays and splices the changed products in, one binary search each,
+// so a batch costs O(catalog) array copying however many products it changes.
+// Products are held as CompactProduct and decoded into fresh Product objects on every read
+public final class CatalogSnapshot {
+
+    private static final Comparator<CompactProduct> BY_ID = Comparator.comparingLong(CompactProduct::id);
+
+    private static final Set<String> SORTABLE = Set.of(
+            ProductField.PRODUCT_NAME.getFieldName(),
+            ProductField.CATEGORY.getFieldName(),
+            ProductField.BRAND.getFieldName(),
+            ProductField.PRICE.getFieldName()
+    );
+
+    public static final CatalogSnapshot EMPTY = new CatalogSnapshot(
+            new CompactProduct[0],
+            emptyColumns(),
+            IdIndex.EMPTY,
+            ValueDictionary.EMPTY,
+            ValueDictionary.EMPTY,
+            0
+    );
+
+    private final CompactProduct[] byId;
+    private final Map<String, CompactProduct[]> byColumn;
+    private final IdIndex idIndex;
+    private final ValueDictionary categories;
+    private final ValueDictionary brands;
+    private final long changeSeq;
+
+    private CatalogSnapshot(
+            CompactProduct[] byId,
+            Map<String, CompactProduct[]> byColumn,
+            IdIndex idIndex,
+            ValueDictionary categories,
+            ValueDictionary brands,
+            long changeSeq
+    ) {
+        this.byId = byId;
+        this.byColumn = byColumn;
+        this.idIndex = idIndex;
+        this.categories = categories;
+        this.brands = brands;
+        this.changeSeq = changeSeq;
+    }
+
+    public static boolean isSortable(String column) {
+        return Constants.FIELD_ID.equals(column) || SORTABLE.contains(column);
+    }
+
+    public long changeSeq() {
+        return changeSeq;
+    }
+
+    public int size() {
+        return byId.length;
+    }
+
+    public Product get(long id) {
+        return get(id, ProductField.all());
+    }
+
+    public Product get(long id, Set<ProductField> fields) {
+        CompactProduct product = find(id);
+        return product == null ? null : product.decode(fields, categories, brands);
+    }
+
+    public List<Product> page(String column, boolean descending, int page, int size) {
+        return page(column, descending, page, size, ProductField.all());
+    }
+
+    // Only called with a sortable column and a non-negative page
+    public List<Product> page(String column, boolean descending, int page, int size, Set<ProductField> fields) {
+
+        CompactProduct[] sorted = Constants.FIELD_ID.equals(column) ? byId : byColumn.get(column);
+        long from = (long) page * size;
+
+        if (from >= sorted.length) {
+            return List.of();
+        }
+
+        int count = (int) Math.min(size, sorted.length - from);
+        Product[] content = new Product[count];
+
+        for (int i = 0; i < count; i++) {
+            CompactProduct product = descending ? sorted[sorted.length - 1 - (int) from - i] : sorted[(int) from + i];
+            content[i] = product.decode(fields, categories, brands);
+        }
+
+        return List.of(content);
+    }
+
+    // Changes are in change order, so the last one for a product wins
+    public CatalogSnapshot apply(List<ProductChange> changes, long newChangeSeq) {
+
+        Map<Long, Product> latest = new LinkedHashMap<>();
+        for (ProductChange change : changes) {
+            latest.put(change.getProductId(), change.isDeleted() ? null : change.getProduct());
+        }
+
+        List<Product> upserted = latest.values().stream().filter(Objects::nonNull).toList();
+        ValueDictionary newCategories = categories.with(upserted.stream().map(Product::getCategory).toList());
+        ValueDictionary newBrands = brands.with(upserted.stream().map(Product::getBrand).toList());
+
+        List<CompactProduct> removed = new ArrayList<>();
+        List<CompactProduct> added = new ArrayList<>();
+        for (Map.Entry<Long, Product> entry : latest.entrySet()) {
+            CompactProduct current = find(entry.getKey());
+            if (current != null) {
+                removed.add(current);
+            }
+            if (entry.getValue() != null) {
+                added.add(CompactProduct.encode(entry.getValue(), newCategories, newBrands));
+            }
+        }
+
+        // Updates alone keep every id at its position, so the id order and its index carry over
+        boolean sameIds = removed.size() == added.size() && added.stream().allMatch(product -> find(product.id()) != null);
+
+        CompactProduct[] newById;
+        IdIndex newIdIndex;
+        if (sameIds) {
+            newById = byId.clone();
+            for (CompactProduct product : added) {
+                newById[idIndex.get(product.id())] = product;
+            }
+            newIdIndex = idIndex;
+        } else {
+            newById = splice(byId, BY_ID, removed, added);
+            newIdIndex = IdIndex.of(newById);
+        }
+
+        // Old codes keep their relative rank in the new dictionaries, so the current arrays are still sorted
+        Map<String, CompactProduct[]> newByColumn = new HashMap<>(SORTABLE.size() * 2);
+        for (String column : SORTABLE) {
+            Comparator<CompactProduct> order = ordering(column, newCategories, newBrands);
+            newByColumn.put(column, splice(byColumn.get(column), order, removed, added));
+        }
+
+        return new CatalogSnapshot(newById, newByColumn, newIdIndex, newCategories, newBrands, newChangeSeq);
+    }
+
+    private CompactProduct find(long id) {
+        int position = idIndex.get(id);
+        return position < 0 ? null : byId[position];
+    }
+
+    private static CompactProduct[] splice(
+            CompactProduct[] sorted,
+            Comparator<CompactProduct> order,
+            List<CompactProduct> removed,
+            List<CompactProduct> added
+    ) {
+
+        // Every removed product is in the array, at the position its own values sort to
+        int[] removedAt = removed.stream()
+                .mapToInt(product -> Arrays.binarySearch(sorted, product, order))
+                .sorted()
+                .toArray();
+
+        CompactProduct[] kept = new CompactProduct[sorted.length - removedAt.length];
+        int from = 0;
+        int out = 0;
+        for (int position : removedAt) {
+            System.arraycopy(sorted, from, kept, out, position - from);
+            out += position - from;
+            from = position + 1;
+        }
+        System.arraycopy(sorted, from, kept, out, sorted.length - from);
+
+        CompactProduct[] insert = added.toArray(new CompactProduct[0]);
+        Arrays.sort(insert, order);
+
+        CompactProduct[] result = new CompactProduct[kept.length + insert.length];
+        from = 0;
+        out = 0;
+        for (CompactProduct product : insert) {
+            int at = -Arrays.binarySearch(kept, from, kept.length, product, order) - 1;
+            System.arraycopy(kept, from, result, out, at - from);
+            out += at - from;
+            from = at;
+            result[out++] = product;
+        }
+        System.arraycopy(kept, from, result, out, kept.length - from);
+
+        return result;
+    }
+
+    // String columns ignore case, as the database collation does. Null values sort first
+    private static Comparator<CompactProduct> ordering(String column, ValueDictionary categories, ValueDictionary brands) {
+
+        Comparator<CompactProduct> order;
+
+        if (ProductField.PRODUCT_NAME.getFieldName().equals(column)) {
+            order = Comparator.comparing(
+                    CompactProduct::productName,
+                    Comparator.nullsFirst(String.CASE_INSENSITIVE_ORDER)
+            );
+        } else if (ProductField.CATEGORY.getFieldName().equals(column)) {
+            order = Comparator.comparingInt(product -> categories.rank(product.category()));
+        } else if (ProductField.BRAND.getFieldName().equals(column)) {
+            order = Comparator.comparingInt(product -> brands.rank(product.brand()));
+        } else {
+            order = Comparator.comparingLong(CompactProduct::price);
+        }
+
+        return order.thenComparing(BY_ID);
+    }
+
+    private static Map<String, CompactProduct[]> emptyColumns() {
+        Map<String, CompactProduct[]> columns = new HashMap<>();
+        for (String column : SORTABLE) {
+            columns.put(column, new CompactProduct[0]);
+        }
+        return columns;
+    }
+
+    // Open addressing over primitive arrays: no boxing, and rebuilt in one pass per batch
+    private static final class IdIndex {
+
+        private static final IdIndex EMPTY = new IdIndex(new long[1], new int[1]);
+
+        private final long[] ids;
+        private final int[] positions;
+
+        private IdIndex(long[] ids, int[] positions) {
+            this.ids = ids;
+            this.positions = positions;
+        }
+
+        // Product ids start at 1, so 0 marks a free slot
+        private static IdIndex of(CompactProduct[] byId) {
+
+            int capacity = Integer.highestOneBit(Math.max(1, byId.length) * 2 - 1) << 1;
+            long[] ids = new long[capacity];
+            int[] positions = new int[capacity];
+
+            for (int position = 0; position < byId.length; position++) {
+                long id = byId[position].id();
+                int slot = slot(id, capacity);
+                while (ids[slot] != 0) {
+                    slot = (slot + 1) & (capacity - 1);
+                }
+                ids[slot] = id;
+                positions[slot] = position;
+            }
+
+            return new IdIndex(ids, positions);
+        }
+
+        private int get(long id) {
+            int capacity = ids.length;
+            for (int slot = slot(id, capacity); ids[slot] != 0; slot = (slot + 1) & (capacity - 1)) {
+                if (ids[slot] == id) {
+                    return positions[slot];
+                }
+            }
+            return -1;
+        }
+
+        private static int slot(long id, int capacity) {
+            long mixed = id * 0x9E3779B97F4A7C15L;
+            return (int) (mixed ^ (mixed >>> 32)) & (capacity - 1);
+        }
+
+    }
+
+}
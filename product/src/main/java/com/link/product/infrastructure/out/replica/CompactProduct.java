@@ -0,0 +1,64 @@
+package com.link.product.infrastructure.out.replica;
+
+import com.link.product.domain.model.Product;
+import com.link.product.domain.model.ProductField;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+// A product as the replica keeps it: no boxed id or price, category and brand as dictionary codes, the price
+// in fixed-point hundredths, and the description and image URL as bare UTF-8 bytes (no String around them)
+// that are only decoded when a response asks for them. The name stays a String because sorting compares it
+record CompactProduct(
+        long id,
+        String productName,
+        byte[] description,
+        long price,
+        int category,
+        int brand,
+        byte[] imageUrl
+) {
+
+    // Sorts before every real price, as a null price does in the database
+    static final long NO_PRICE = Long.MIN_VALUE;
+
+    private static final double PRICE_SCALE = 100.0;
+
+    static CompactProduct encode(Product product, ValueDictionary categories, ValueDictionary brands) {
+        return new CompactProduct(
+                product.getId(),
+                product.getProductName(),
+                bytes(product.getDescription()),
+                product.getPrice() == null ? NO_PRICE : Math.round(product.getPrice() * PRICE_SCALE),
+                categories.code(product.getCategory()),
+                brands.code(product.getBrand()),
+                bytes(product.getImageUrl())
+        );
+    }
+
+    // Fields that were not asked for are left null, as the database projections do
+    Product decode(Set<ProductField> fields, ValueDictionary categories, ValueDictionary brands) {
+        return new Product(
+                id,
+                fields.contains(ProductField.PRODUCT_NAME) ? productName : null,
+                fields.contains(ProductField.DESCRIPTION) ? text(description) : null,
+                fields.contains(ProductField.PRICE) ? decodedPrice() : null,
+                fields.contains(ProductField.CATEGORY) ? categories.value(category) : null,
+                fields.contains(ProductField.BRAND) ? brands.value(brand) : null,
+                fields.contains(ProductField.IMAGE_URL) ? text(imageUrl) : null
+        );
+    }
+
+    private Double decodedPrice() {
+        return price == NO_PRICE ? null : price / PRICE_SCALE;
+    }
+
+    private static byte[] bytes(String text) {
+        return text == null ? null : text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String text(byte[] bytes) {
+        return bytes == null ? null : new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
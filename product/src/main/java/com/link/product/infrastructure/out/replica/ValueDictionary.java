@@ -0,0 +1,82 @@
+package com.link.product.infrastructure.out.replica;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+// The distinct values of a low-cardinality column (category, brand), each kept once and referred to by an int
+// code. Codes never change, so a product encoded against an older dictionary decodes the same against a newer
+// one; adding values builds a new dictionary instead of modifying this one, so published snapshots stay
+// immutable. Values no product uses any more are kept until the replica reloads
+final class ValueDictionary {
+
+    static final int NONE = -1;
+
+    static final ValueDictionary EMPTY = new ValueDictionary(new String[0], Map.of(), new int[0]);
+
+    private final String[] values;
+    private final Map<String, Integer> codes;
+    // Position of each value in case-insensitive order (equal ignoring case, equal rank), so sorts compare ints
+    private final int[] ranks;
+
+    private ValueDictionary(String[] values, Map<String, Integer> codes, int[] ranks) {
+        this.values = values;
+        this.codes = codes;
+        this.ranks = ranks;
+    }
+
+    ValueDictionary with(Collection<String> candidates) {
+
+        String[] extended = null;
+        Map<String, Integer> extendedCodes = null;
+
+        for (String value : candidates) {
+            if (value == null || (extendedCodes == null ? codes : extendedCodes).containsKey(value)) {
+                continue;
+            }
+            if (extended == null) {
+                extended = values;
+                extendedCodes = new HashMap<>(codes);
+            }
+            extended = Arrays.copyOf(extended, extended.length + 1);
+            extended[extended.length - 1] = value;
+            extendedCodes.put(value, extended.length - 1);
+        }
+
+        return extended == null ? this : new ValueDictionary(extended, Map.copyOf(extendedCodes), ranks(extended));
+    }
+
+    int code(String value) {
+        return value == null ? NONE : codes.get(value);
+    }
+
+    String value(int code) {
+        return code == NONE ? null : values[code];
+    }
+
+    int rank(int code) {
+        return code == NONE ? NONE : ranks[code];
+    }
+
+    private static int[] ranks(String[] values) {
+
+        Integer[] order = new Integer[values.length];
+        for (int code = 0; code < values.length; code++) {
+            order[code] = code;
+        }
+        Arrays.sort(order, (left, right) -> String.CASE_INSENSITIVE_ORDER.compare(values[left], values[right]));
+
+        int[] ranks = new int[values.length];
+        int rank = 0;
+        for (int i = 0; i < order.length; i++) {
+            if (i > 0 && String.CASE_INSENSITIVE_ORDER.compare(values[order[i - 1]], values[order[i]]) != 0) {
+                rank++;
+            }
+            ranks[order[i]] = rank;
+        }
+
+        return ranks;
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.link.product.infrastructure.out.search;
+
+import com.link.product.domain.model.PageDomain;
+import com.link.product.domain.model.Product;
+import com.link.product.domain.spi.ProductSearchPort;
+import com.link.product.domain.utils.Constants;
+import com.link.product.infrastructure.out.transaction.AfterCommit;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// Writes do not touch the indexes directly: once committed, they ask the follower to apply the change feed,
+// so this instance finds its own writes right away and every change lands in change order
+public class ProductSearchAdapter implements ProductSearchPort {
+
+    private final ProductSearchIndex index;
+    private final ProductSearchIndexFollower follower;
+    private final Timer searchTimer;
+
+    public ProductSearchAdapter(ProductSearchIndex index, ProductSearchIndexFollower follower, MeterRegistry meterRegistry) {
+        this.index = index;
+        this.follower = follower;
+        this.searchTimer = Timer.builder(Constants.METRIC_PRODUCT_SEARCH).register(meterRegistry);
+    }
+
+    @Override
+    public void index(Product product) {
+        AfterCommit.run(follower::catchUpAfterWrite);
+    }
+
+    @Override
+    public void remove(Long id) {
+        AfterCommit.run(follower::catchUpAfterWrite);
+    }
+
+    @Override
+    public PageDomain<Long> search(String query, int page, int size) {
+
+        int offset = (int) Math.min((long) page * size, Integer.MAX_VALUE);
+        ProductSearchIndex.Hits hits = searchTimer.record(() -> index.search(query, offset, size));
+
+        int totalPages = (int) Math.ceil((double) hits.total() / size);
+
+        return new PageDomain<>(
+                hits.ids(),
+                page,
+                size,
+                hits.total(),
+                totalPages,
+                page + Constants.PAGE_INCREMENT >= totalPages
+        );
+
+    }
+
+}
@@ -0,0 +1,227 @@
+package com.link.product.infrastructure.out.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Inverted index over product name and description, ranked with BM25F (name terms weigh more).
+// Only ids are stored; the products themselves are read back from the database.
+// Searches share a read lock, so writes (one per product change) are the only thing that serializes
+public class ProductSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // Worst hit first, so the heap can drop it once it holds a full page
+    private static final Comparator<Hit> WORST_FIRST = Comparator.comparingDouble(Hit::score)
+            .thenComparing(Hit::id, Comparator.reverseOrder());
+
+    private final double nameBoost;
+
+    private final Map<String, Map<Long, Posting>> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private long totalNameLength;
+    private long totalDescriptionLength;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public ProductSearchIndex(double nameBoost) {
+        this.nameBoost = nameBoost;
+    }
+
+    public void put(Long id, String name, String description) {
+
+        List<String> nameTerms = TextAnalyzer.terms(name);
+        List<String> descriptionTerms = TextAnalyzer.terms(description);
+
+        Map<String, int[]> frequencies = new HashMap<>();
+        for (String term : nameTerms) {
+            frequencies.computeIfAbsent(term, key -> new int[2])[0]++;
+        }
+        for (String term : descriptionTerms) {
+            frequencies.computeIfAbsent(term, key -> new int[2])[1]++;
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeDocument(id);
+
+            for (Map.Entry<String, int[]> entry : frequencies.entrySet()) {
+                int[] frequency = entry.getValue();
+                postings.computeIfAbsent(entry.getKey(), key -> new HashMap<>())
+                        .put(id, new Posting(frequency[0], frequency[1]));
+            }
+
+            documents.put(id, new Document(
+                    nameTerms.size(),
+                    descriptionTerms.size(),
+                    frequencies.keySet().toArray(String[]::new)
+            ));
+            totalNameLength += nameTerms.size();
+            totalDescriptionLength += descriptionTerms.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Set<Long> ids() {
+        lock.readLock().lock();
+        try {
+            return new HashSet<>(documents.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Any query term may match; documents matching more of them, or in the name, rank higher
+    public Hits search(String query, int offset, int limit) {
+
+        Set<String> terms = new LinkedHashSet<>(TextAnalyzer.terms(query));
+
+        if (terms.isEmpty() || limit <= 0) {
+            return Hits.EMPTY;
+        }
+
+        Map<Long, Double> scores = new HashMap<>();
+
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+
+            if (documentCount == 0) {
+                return Hits.EMPTY;
+            }
+
+            double averageNameLength = Math.max(1.0, (double) totalNameLength / documentCount);
+            double averageDescriptionLength = Math.max(1.0, (double) totalDescriptionLength / documentCount);
+
+            for (String term : terms) {
+
+                Map<Long, Posting> matches = postings.get(term);
+
+                if (matches == null) {
+                    continue;
+                }
+
+                double idf = Math.log(1 + (documentCount - matches.size() + 0.5) / (matches.size() + 0.5));
+
+                for (Map.Entry<Long, Posting> match : matches.entrySet()) {
+                    Document document = documents.get(match.getKey());
+                    Posting posting = match.getValue();
+
+                    // Each field's frequency is normalized by its own length before the shared saturation
+                    double frequency = nameBoost * posting.nameFrequency()
+                            / (1 - B + B * document.nameLength() / averageNameLength)
+                            + posting.descriptionFrequency()
+                            / (1 - B + B * document.descriptionLength() / averageDescriptionLength);
+
+                    scores.merge(match.getKey(), idf * frequency / (K1 + frequency), Double::sum);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return top(scores, offset, limit);
+
+    }
+
+    private void removeDocument(Long id) {
+
+        Document document = documents.remove(id);
+
+        if (document == null) {
+            return;
+        }
+
+        for (String term : document.terms()) {
+            Map<Long, Posting> matches = postings.get(term);
+            if (matches != null) {
+                matches.remove(id);
+                if (matches.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+
+        totalNameLength -= document.nameLength();
+        totalDescriptionLength -= document.descriptionLength();
+
+    }
+
+    // Partial sort: only offset + limit hits are kept, not every match
+    private static Hits top(Map<Long, Double> scores, int offset, int limit) {
+
+        int total = scores.size();
+
+        if (offset >= total) {
+            return new Hits(List.of(), total);
+        }
+
+        int keep = (int) Math.min((long) offset + limit, total);
+        PriorityQueue<Hit> heap = new PriorityQueue<>(keep, WORST_FIRST);
+
+        for (Map.Entry<Long, Double> score : scores.entrySet()) {
+            Hit hit = new Hit(score.getKey(), score.getValue());
+            if (heap.size() < keep) {
+                heap.add(hit);
+            } else if (WORST_FIRST.compare(hit, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(hit);
+            }
+        }
+
+        List<Long> ranked = new ArrayList<>(keep);
+        while (!heap.isEmpty()) {
+            ranked.add(heap.poll().id());
+        }
+        Collections.reverse(ranked);
+
+        return new Hits(ranked.subList(offset, ranked.size()), total);
+
+    }
+
+    public record Hits(List<Long> ids, int total) {
+
+        static final Hits EMPTY = new Hits(List.of(), 0);
+
+    }
+
+    private record Hit(Long id, double score) {
+    }
+
+    private record Posting(int nameFrequency, int descriptionFrequency) {
+    }
+
+    private record Document(int nameLength, int descriptionLength, String[] terms) {
+    }
+
+}
@@ -0,0 +1,137 @@
+package com.link.product.infrastructure.out.search;
+
+import com.link.product.domain.exceptions.ChangeTokenExpiredException;
+import com.link.product.domain.model.Product;
+import com.link.product.domain.model.ProductChange;
+import com.link.product.domain.model.ProductChangePage;
+import com.link.product.domain.utils.Constants;
+import com.link.product.infrastructure.out.jpa.change.ProductChangeFeed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.Set;
+
+// The only writer of the search and suggest indexes. It applies the change feed in change order, so an older
+// version of a product never overwrites a newer one, and writes from every instance reach it the same way.
+// The indexes are built before the web server starts, so no request sees a partial index; after that, each
+// local write asks for a catch-up once committed, and the scheduled refresh brings in other instances' writes
+@Slf4j
+public class ProductSearchIndexFollower implements SmartInitializingSingleton {
+
+    private final ProductChangeFeed productChangeFeed;
+    private final ProductSearchIndex index;
+    private final ProductSuggestIndex suggestIndex;
+    private final TransactionTemplate primaryRead;
+    private final int batchSize;
+
+    // Guarded by this
+    private long appliedSeq;
+
+    public ProductSearchIndexFollower(
+            ProductChangeFeed productChangeFeed,
+            ProductSearchIndex index,
+            ProductSuggestIndex suggestIndex,
+            PlatformTransactionManager transactionManager,
+            int batchSize
+    ) {
+        this.productChangeFeed = productChangeFeed;
+        this.index = index;
+        this.suggestIndex = suggestIndex;
+        // A new transaction even from afterCommit, where the finished write transaction is still bound;
+        // read from the primary, since a lagging replica would hide changes committed after appliedSeq
+        this.primaryRead = new TransactionTemplate(transactionManager);
+        this.primaryRead.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.primaryRead.setReadOnly(true);
+        this.primaryRead.setName(Constants.PRIMARY_READ_TRANSACTION);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long start = System.nanoTime();
+        catchUp();
+        log.info(Constants.LOG_SEARCH_INDEX_REBUILT, index.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.search.refresh-interval-ms}",
+            fixedDelayString = "${app.search.refresh-interval-ms}"
+    )
+    public void refresh() {
+        catchUp();
+    }
+
+    // Runs after a local write has committed: a failure is left to the next refresh rather than failing the request
+    public void catchUpAfterWrite() {
+        try {
+            catchUp();
+        } catch (RuntimeException ex) {
+            log.warn(Constants.LOG_SEARCH_INDEX_CATCH_UP_FAILED, ex.getMessage());
+        }
+    }
+
+    private synchronized void catchUp() {
+        try {
+            applyChanges(null);
+        } catch (ChangeTokenExpiredException ex) {
+            log.warn(Constants.LOG_SEARCH_INDEX_RELOADING, appliedSeq);
+            reload();
+        }
+    }
+
+    // Stale for longer than the tombstone retention: replay the feed from the start, then drop whatever it
+    // no longer reports, since those deletions have no tombstone left
+    private void reload() {
+
+        Set<Long> live = new HashSet<>();
+        appliedSeq = 0;
+        applyChanges(live);
+
+        for (Long id : index.ids()) {
+            if (!live.contains(id)) {
+                index.remove(id);
+            }
+        }
+        for (Long id : suggestIndex.ids()) {
+            if (!live.contains(id)) {
+                suggestIndex.remove(id);
+            }
+        }
+
+    }
+
+    private void applyChanges(Set<Long> live) {
+
+        ProductChangePage page;
+        do {
+            long since = appliedSeq;
+            page = primaryRead.execute(status -> productChangeFeed.changesSince(since, batchSize));
+
+            for (ProductChange change : page.getChanges()) {
+                Long id = change.getProductId();
+                if (change.isDeleted()) {
+                    index.remove(id);
+                    suggestIndex.remove(id);
+                    if (live != null) {
+                        live.remove(id);
+                    }
+                } else {
+                    Product product = change.getProduct();
+                    index.put(id, product.getProductName(), product.getDescription());
+                    suggestIndex.put(id, product.getProductName());
+                    if (live != null) {
+                        live.add(id);
+                    }
+                }
+            }
+            appliedSeq = page.getNextSince();
+        } while (page.isHasMore());
+
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.link.product.infrastructure.out.search;
+
+import com.link.product.domain.model.Product;
+import com.link.product.domain.spi.ProductSuggestPort;
+import com.link.product.domain.utils.Constants;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Names are kept current by ProductSearchIndexFollower. Popularity is the number of product views. Views are counted
+// in a concurrent map on the read path and applied to the trie in one write per flush, so a hot product does not
+// take the write lock on every view
+public class ProductSuggestAdapter implements ProductSuggestPort {
+
+    private final ProductSuggestIndex index;
+    private final Timer suggestTimer;
+    private final ConcurrentHashMap<Long, Long> pendingViews = new ConcurrentHashMap<>();
+
+    public ProductSuggestAdapter(ProductSuggestIndex index, MeterRegistry meterRegistry) {
+        this.index = index;
+        this.suggestTimer = Timer.builder(Constants.METRIC_PRODUCT_SUGGEST).register(meterRegistry);
+    }
+
+    @Override
+    public void recordView(Long id) {
+        pendingViews.merge(id, 1L, Long::sum);
+    }
+
+    @Override
+    public List<Product> suggest(String prefix, int limit) {
+
+        List<ProductSuggestIndex.Suggestion> suggestions = suggestTimer.record(() -> index.suggest(prefix, limit));
+
+        return suggestions.stream()
+                .map(suggestion -> new Product(suggestion.id(), suggestion.name(), null, null, null, null, null))
+                .toList();
+
+    }
+
+    // remove() hands over each count atomically, so views recorded during the flush wait for the next one
+    @Scheduled(fixedDelayString = "${app.suggest.popularity-flush-interval-ms}")
+    public void flushViews() {
+
+        Map<Long, Long> views = new HashMap<>();
+        for (Long id : pendingViews.keySet()) {
+            Long count = pendingViews.remove(id);
+            if (count != null) {
+                views.put(id, count);
+            }
+        }
+
+        if (!views.isEmpty()) {
+            index.addScores(views);
+        }
+
+    }
+
+}
@@ -0,0 +1,424 @@
+package com.link.product.infrastructure.out.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Radix trie over folded product names. Every word start is a key ("Samsung Galaxy S24" is also found by "galaxy"
+// and "s24"), and every node keeps the best suggestions of its subtree, so a lookup is a walk down the prefix
+// and an array read. Inserts and score increases only move one entry up, so they update those lists in place;
+// a removal re-merges them from the children, along the removed paths only
+public class ProductSuggestIndex {
+
+    private static final Suggestion[] NONE = new Suggestion[0];
+    private static final Node[] LEAF = new Node[0];
+
+    // Most viewed first, then the shortest name (the closest completion), then the oldest product
+    private static final Comparator<Suggestion> BEST_FIRST = Comparator.comparingLong(Suggestion::score).reversed()
+            .thenComparingInt((Suggestion suggestion) -> suggestion.name().length())
+            .thenComparingLong(Suggestion::id);
+
+    private final int maxSuggestions;
+
+    private final Node root = new Node("");
+    private final Map<Long, Suggestion> products = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public ProductSuggestIndex(int maxSuggestions) {
+        this.maxSuggestions = maxSuggestions;
+    }
+
+    // A renamed product keeps its score
+    public void put(long id, String name) {
+        lock.writeLock().lock();
+        try {
+            Suggestion previous = products.get(id);
+            if (previous != null) {
+                unlink(previous);
+            }
+            link(new Suggestion(id, name, previous == null ? 0 : previous.score()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Suggestion previous = products.remove(id);
+            if (previous != null) {
+                unlink(previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Ids no longer in the index (deleted since they were viewed) are skipped
+    public void addScores(Map<Long, Long> increments) {
+        lock.writeLock().lock();
+        try {
+            for (Map.Entry<Long, Long> increment : increments.entrySet()) {
+                Suggestion previous = products.get(increment.getKey());
+                if (previous == null || increment.getValue() <= 0) {
+                    continue;
+                }
+                Suggestion promoted = new Suggestion(previous.id(), previous.name(), previous.score() + increment.getValue());
+                products.put(promoted.id(), promoted);
+                for (String key : keys(promoted.name())) {
+                    promote(key, promoted);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Set<Long> ids() {
+        lock.readLock().lock();
+        try {
+            return new HashSet<>(products.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return products.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Suggestion> suggest(String prefix, int limit) {
+
+        String key = TextAnalyzer.fold(prefix);
+
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Suggestion[] top;
+
+        lock.readLock().lock();
+        try {
+            Node node = find(key);
+            top = node == null ? NONE : node.top;
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // Published lists are never modified, so they can be read after the lock is released
+        return List.of(top.length <= limit ? top : Arrays.copyOf(top, limit));
+
+    }
+
+    private void link(Suggestion suggestion) {
+        products.put(suggestion.id(), suggestion);
+        for (String key : keys(suggestion.name())) {
+            insert(key, suggestion);
+        }
+    }
+
+    private void unlink(Suggestion suggestion) {
+        for (String key : keys(suggestion.name())) {
+            delete(key, suggestion.id());
+        }
+    }
+
+    private static List<String> keys(String name) {
+
+        String folded = TextAnalyzer.fold(name);
+        List<String> keys = new ArrayList<>();
+
+        if (folded.isEmpty()) {
+            return keys;
+        }
+
+        keys.add(folded);
+        for (int i = folded.indexOf(' '); i >= 0; i = folded.indexOf(' ', i + 1)) {
+            keys.add(folded.substring(i + 1));
+        }
+
+        return keys;
+
+    }
+
+    private void insert(String key, Suggestion suggestion) {
+
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        int depth = 0;
+        path.add(node);
+
+        while (depth < key.length()) {
+
+            Node child = node.child(key.charAt(depth));
+
+            if (child == null) {
+                child = new Node(key.substring(depth));
+                node.addChild(child);
+                depth = key.length();
+            } else {
+                int common = commonPrefixLength(child.label, key, depth);
+                if (common < child.label.length()) {
+                    child = split(node, child, common);
+                }
+                depth += common;
+            }
+
+            node = child;
+            path.add(node);
+        }
+
+        node.terminals = append(node.terminals, suggestion);
+
+        for (Node onPath : path) {
+            onPath.top = offer(onPath.top, suggestion);
+        }
+
+    }
+
+    // The key is already in the trie; only the score of its product went up
+    private void promote(String key, Suggestion suggestion) {
+
+        List<Node> path = walk(key);
+
+        if (path == null) {
+            return;
+        }
+
+        Node node = path.get(path.size() - 1);
+        node.terminals = append(without(node.terminals, suggestion.id()), suggestion);
+
+        for (Node onPath : path) {
+            onPath.top = offer(onPath.top, suggestion);
+        }
+
+    }
+
+    private void delete(String key, long id) {
+
+        List<Node> path = walk(key);
+
+        if (path == null) {
+            return;
+        }
+
+        Node node = path.get(path.size() - 1);
+        node.terminals = without(node.terminals, id);
+
+        // Empty nodes are dropped and single-child nodes merged into their child, so the trie stays compressed
+        for (int i = path.size() - 1; i > 0; i--) {
+            Node current = path.get(i);
+            Node parent = path.get(i - 1);
+            if (current.terminals.length == 0 && current.children.length == 0) {
+                parent.removeChild(current);
+            } else if (current.terminals.length == 0 && current.children.length == 1) {
+                Node only = current.children[0];
+                only.label = current.label + only.label;
+                parent.replaceChild(current, only);
+            } else {
+                recompute(current);
+            }
+        }
+        recompute(root);
+
+    }
+
+    // Nodes from the root down to the one where key ends exactly, or null if key is not in the trie
+    private List<Node> walk(String key) {
+
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        int depth = 0;
+        path.add(node);
+
+        while (depth < key.length()) {
+            node = node.child(key.charAt(depth));
+            if (node == null || !key.startsWith(node.label, depth)) {
+                return null;
+            }
+            depth += node.label.length();
+            path.add(node);
+        }
+
+        return path;
+
+    }
+
+    // Turns child into an intermediate node holding the first `length` characters of its label
+    private static Node split(Node parent, Node child, int length) {
+        Node middle = new Node(child.label.substring(0, length));
+        child.label = child.label.substring(length);
+        middle.children = new Node[]{child};
+        middle.top = child.top;
+        parent.replaceChild(child, middle);
+        return middle;
+    }
+
+    // A prefix may end inside an edge label; the node below it then holds exactly the matching keys
+    private Node find(String key) {
+
+        Node node = root;
+        int depth = 0;
+
+        while (depth < key.length()) {
+            node = node.child(key.charAt(depth));
+            if (node == null) {
+                return null;
+            }
+            int remaining = key.length() - depth;
+            if (remaining <= node.label.length()) {
+                return node.label.startsWith(key.substring(depth)) ? node : null;
+            }
+            if (!key.startsWith(node.label, depth)) {
+                return null;
+            }
+            depth += node.label.length();
+        }
+
+        return node;
+
+    }
+
+    // A product may sit under several children (two of its words share a prefix), so ids are taken once
+    private void recompute(Node node) {
+
+        List<Suggestion> candidates = new ArrayList<>(Arrays.asList(node.terminals));
+        for (Node child : node.children) {
+            candidates.addAll(Arrays.asList(child.top));
+        }
+        candidates.sort(BEST_FIRST);
+
+        List<Suggestion> top = new ArrayList<>(Math.min(maxSuggestions, candidates.size()));
+        Set<Long> taken = new HashSet<>();
+        for (Suggestion candidate : candidates) {
+            if (top.size() == maxSuggestions) {
+                break;
+            }
+            if (taken.add(candidate.id())) {
+                top.add(candidate);
+            }
+        }
+
+        node.top = top.toArray(NONE);
+
+    }
+
+    // Places suggestion in an already sorted list, replacing the older entry of the same product.
+    // Only valid when suggestion ranks no lower than that entry, which holds for inserts and score increases
+    private Suggestion[] offer(Suggestion[] top, Suggestion suggestion) {
+
+        int position = 0;
+        while (position < top.length && BEST_FIRST.compare(top[position], suggestion) < 0) {
+            position++;
+        }
+
+        int previous = -1;
+        for (int i = 0; i < top.length; i++) {
+            if (top[i].id() == suggestion.id()) {
+                previous = i;
+                break;
+            }
+        }
+
+        if (previous < 0 && position >= maxSuggestions) {
+            return top;
+        }
+
+        List<Suggestion> offered = new ArrayList<>(top.length + 1);
+        for (int i = 0; i < top.length; i++) {
+            if (i == position) {
+                offered.add(suggestion);
+            }
+            if (i != previous) {
+                offered.add(top[i]);
+            }
+        }
+        if (position == top.length) {
+            offered.add(suggestion);
+        }
+
+        return offered.subList(0, Math.min(offered.size(), maxSuggestions)).toArray(NONE);
+
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int length = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < length && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static Suggestion[] append(Suggestion[] suggestions, Suggestion suggestion) {
+        Suggestion[] appended = Arrays.copyOf(suggestions, suggestions.length + 1);
+        appended[suggestions.length] = suggestion;
+        return appended;
+    }
+
+    private static Suggestion[] without(Suggestion[] suggestions, long id) {
+        return Arrays.stream(suggestions)
+                .filter(suggestion -> suggestion.id() != id)
+                .toArray(Suggestion[]::new);
+    }
+
+    public record Suggestion(long id, String name, long score) {
+    }
+
+    // Children are few per node (one per next character), so a linear scan beats a map
+    private static final class Node {
+
+        private String label;
+        private Node[] children = LEAF;
+        private Suggestion[] terminals = NONE;
+        private Suggestion[] top = NONE;
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private Node child(char first) {
+            for (Node child : children) {
+                if (child.label.charAt(0) == first) {
+                    return child;
+                }
+            }
+            return null;
+        }
+
+        private void addChild(Node child) {
+            children = Arrays.copyOf(children, children.length + 1);
+            children[children.length - 1] = child;
+        }
+
+        private void replaceChild(Node current, Node replacement) {
+            for (int i = 0; i < children.length; i++) {
+                if (children[i] == current) {
+                    children[i] = replacement;
+                    return;
+                }
+            }
+        }
+
+        private void removeChild(Node child) {
+            children = Arrays.stream(children)
+                    .filter(candidate -> candidate != child)
+                    .toArray(Node[]::new);
+        }
+
+    }
+
+}
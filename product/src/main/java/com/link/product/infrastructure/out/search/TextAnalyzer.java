@@ -0,0 +1,82 @@
+package com.link.product.infrastructure.out.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// Splits text into lower-case, accent-free alphanumeric terms, so "Último" matches "ultimo"
+public final class TextAnalyzer {
+
+    private static final int MIN_TERM_LENGTH = 2;
+
+    private TextAnalyzer() {
+    }
+
+    public static List<String> terms(String text) {
+
+        List<String> terms = new ArrayList<>();
+
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFD).toLowerCase(Locale.ROOT);
+        StringBuilder term = new StringBuilder();
+
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isLetterOrDigit(c)) {
+                term.append(c);
+            } else {
+                addTerm(terms, term);
+            }
+        }
+        addTerm(terms, term);
+
+        return terms;
+
+    }
+
+    // Same folding as terms(), but keeps every character and joins the words with single spaces, for prefix matching
+    public static String fold(String text) {
+
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFD).toLowerCase(Locale.ROOT);
+        StringBuilder folded = new StringBuilder(normalized.length());
+        boolean separator = false;
+
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isLetterOrDigit(c)) {
+                if (separator && !folded.isEmpty()) {
+                    folded.append(' ');
+                }
+                folded.append(c);
+                separator = false;
+            } else {
+                separator = true;
+            }
+        }
+
+        return folded.toString();
+
+    }
+
+    private static void addTerm(List<String> terms, StringBuilder term) {
+        if (term.length() >= MIN_TERM_LENGTH) {
+            terms.add(term.toString());
+        }
+        term.setLength(0);
+    }
+
+}
@@ -1,10 +1,13 @@
 package com.link.product.integration.input;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import com.link.product.application.dto.ProductRequest;
 import com.link.product.domain.utils.Constants;
 import com.link.product.infrastructure.out.jpa.entity.ProductEntity;
 import com.link.product.infrastructure.out.jpa.repository.ProductRepository;
+import com.link.product.infrastructure.out.jpa.repository.ProductTombstoneRepository;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,9 +17,14 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -41,6 +49,9 @@ class ProductRestControllerIntegrationTest {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private ProductTombstoneRepository productTombstoneRepository;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -72,6 +83,7 @@ class ProductRestControllerIntegrationTest {
     @AfterEach
     void tearDown() {
         productRepository.deleteAll();
+        productTombstoneRepository.deleteAll();
     }
 
     // ========== TESTS OF CREATE ==========
@@ -158,6 +170,47 @@ class ProductRestControllerIntegrationTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void shouldReturnOnlyRequestedFields() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/product/{id}", testProduct.getId())
+                        .param(Constants.FIELDS_PRODUCT_PARAM, "productName")
+                        .accept(Constants.JSON_API_MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.id").value(String.valueOf(testProduct.getId())))
+                .andExpect(jsonPath("$.data.productName").value("iPhone 15 Pro"))
+                .andExpect(jsonPath("$.data.description").doesNotExist())
+                .andExpect(jsonPath("$.data.brand").doesNotExist());
+    }
+
+    @Test
+    void shouldReturnBadRequestForUnknownField() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/product/{id}", testProduct.getId())
+                        .param(Constants.FIELDS_PRODUCT_PARAM, "productName,stock")
+                        .accept(Constants.JSON_API_MEDIA_TYPE))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0].title").value("Invalid Field"))
+                .andExpect(jsonPath("$.errors[0].source").value(Constants.FIELDS_PRODUCT_PARAM));
+    }
+
+    @Test
+    void shouldGetProductByIdAsCbor() throws Exception {
+        // When
+        byte[] body = mockMvc.perform(get("/product/{id}", testProduct.getId())
+                        .param(Constants.FIELDS_PRODUCT_PARAM, "productName")
+                        .accept(Constants.CBOR_MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(Constants.CBOR_MEDIA_TYPE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        JsonNode data = new CBORMapper().readTree(body).get("data");
+        assertEquals(String.valueOf(testProduct.getId()), data.get("id").asText());
+        assertEquals("iPhone 15 Pro", data.get("productName").asText());
+        assertFalse(data.has("description"));
+    }
+
     // ========== TESTS OF UPDATE ==========
 
     @Test
@@ -228,6 +281,61 @@ class ProductRestControllerIntegrationTest {
 
     // ========== TESTS OF GET ALL ==========
 
+    @Test
+    void shouldReturnBadRequestWhenPageSizeExceedsMaximum() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/product/")
+                        .param("page", "0")
+                        .param("size", String.valueOf(Constants.MAX_PAGE_SIZE + 1))
+                        .accept(Constants.JSON_API_MEDIA_TYPE))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldReturnBadRequestForUnknownSortField() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/product/")
+                        .param(Constants.SORT_BY_PARAM, "password")
+                        .accept(Constants.JSON_API_MEDIA_TYPE))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0].title").value(Constants.INVALID_SORT_FIELD_TITLE))
+                .andExpect(jsonPath("$.errors[0].source").value(Constants.SORT_BY_PARAM));
+    }
+
+    @Test
+    void shouldGetProductsByIdsSkippingUnknownIds() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/product/batch")
+                        .queryParam(Constants.FILTER_ID_PARAM, testProduct.getId() + ",999999")
+                        .queryParam(Constants.FIELDS_PRODUCT_PARAM, "productName")
+                        .accept(Constants.JSON_API_MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.links.self").value(startsWith("http://localhost/product/batch?")))
+                .andExpect(jsonPath("$.links.self").value(containsString("999999")))
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].id").value(String.valueOf(testProduct.getId())))
+                .andExpect(jsonPath("$.data[0].productName").value("iPhone 15 Pro"))
+                .andExpect(jsonPath("$.data[0].price").doesNotExist());
+    }
+
+    @Test
+    void shouldGetAllProductsWithSparseFieldset() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/product/")
+                        .param("page", "0")
+                        .param("size", "10")
+                        .param(Constants.FIELDS_PRODUCT_PARAM, "productName,price")
+                        .accept(Constants.JSON_API_MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].id").value(String.valueOf(testProduct.getId())))
+                .andExpect(jsonPath("$.data[0].productName").value("iPhone 15 Pro"))
+                .andExpect(jsonPath("$.data[0].price").value(4500000.0))
+                .andExpect(jsonPath("$.data[0].description").doesNotExist())
+                .andExpect(jsonPath("$.data[0].imageUrl").doesNotExist())
+                .andExpect(jsonPath("$.meta.totalElements").value(1))
+                .andExpect(jsonPath("$.links.self").exists());
+    }
+
     @Test
     void shouldGetAllProductsWithPagination() throws Exception {
         // Given - Add more products
@@ -275,6 +383,135 @@ class ProductRestControllerIntegrationTest {
                 .andExpect(jsonPath("$.meta.totalElements").value(0));
     }
 
+    // ========== TESTS OF SEARCH ==========
+
+    // Not rolled back: the indexes follow committed changes only, so the writes must commit
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldSearchOwnWritesRightAfterTheyCommit() throws Exception {
+        // Given - two products created through the API
+        long galaxy = create(new ProductRequest(
+                "Samsung Galaxy S24",
+                "Smartphone flagship con cámara de 200MP",
+                3800000L,
+                "Electronics",
+                "Samsung",
+                "https://example.com/galaxys24.jpg"
+        ));
+        long cover = create(new ProductRequest(
+                "Funda para celular",
+                "Compatible con Samsung Galaxy S24",
+                80000L,
+                "Accessories",
+                "Spigen",
+                "https://example.com/funda.jpg"
+        ));
+
+        // When & Then - name matches rank first, one hit per page
+        mockMvc.perform(get("/product/search")
+                        .param(Constants.SEARCH_QUERY_PARAM, "galaxy")
+                        .param("size", "1")
+                        .accept(Constants.JSON_API_MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(Constants.JSON_API_MEDIA_TYPE))
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].id").value(String.valueOf(galaxy)))
+                .andExpect(jsonPath("$.meta.totalElements").value(2))
+                .andExpect(jsonPath("$.links.next").value(containsString(Constants.PAGE_PARAM + "=1")))
+                .andExpect(jsonPath("$.links.prev").doesNotExist());
+
+        // When & Then - a rename is searchable by its new name only
+        mockMvc.perform(put("/product/{id}", cover)
+                        .contentType(Constants.JSON_API_MEDIA_TYPE)
+                        .accept(Constants.JSON_API_MEDIA_TYPE)
+                        .content(objectMapper.writeValueAsString(new ProductRequest(
+                                "Funda de silicona",
+                                "Compatible con iPhone 15",
+                                80000L,
+                                "Accessories",
+                                "Spigen",
+                                "https://example.com/funda.jpg"
+                        ))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/product/search")
+                        .param(Constants.SEARCH_QUERY_PARAM, "galaxy silicona")
+                        .accept(Constants.JSON_API_MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.meta.totalElements").value(2))
+                .andExpect(jsonPath("$.data[?(@.id == '%s')].productName", cover).value("Funda de silicona"));
+
+        // When & Then - a deleted product is no longer found
+        mockMvc.perform(delete("/product/{id}", galaxy))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/product/search")
+                        .param(Constants.SEARCH_QUERY_PARAM, "galaxy")
+                        .accept(Constants.JSON_API_MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").isEmpty())
+                .andExpect(jsonPath("$.meta.totalElements").value(0));
+
+        mockMvc.perform(delete("/product/{id}", cover))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    void shouldReturnBadRequestForBlankSearchQuery() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/product/search")
+                        .param(Constants.SEARCH_QUERY_PARAM, " ")
+                        .accept(Constants.JSON_API_MEDIA_TYPE))
+                .andExpect(status().isBadRequest());
+    }
+
+    // ========== TESTS OF CHANGES ==========
+
+    @Test
+    void shouldListChangesAndTombstonesInChangeOrder() throws Exception {
+        // Given - a product created and another deleted through the API
+        ProductRequest newProduct = new ProductRequest(
+                "Samsung Galaxy S24",
+                "Smartphone flagship con cámara de 200MP",
+                3800000L,
+                "Electronics",
+                "Samsung",
+                "https://example.com/galaxys24.jpg"
+        );
+        mockMvc.perform(post("/product/")
+                        .contentType(Constants.JSON_API_MEDIA_TYPE)
+                        .accept(Constants.JSON_API_MEDIA_TYPE)
+                        .content(objectMapper.writeValueAsString(newProduct)))
+                .andExpect(status().isCreated());
+        mockMvc.perform(delete("/product/{id}", testProduct.getId()))
+                .andExpect(status().isNoContent());
+
+        // When & Then - one change per page, following the resume token
+        String firstPage = mockMvc.perform(get("/product/changes")
+                        .param(Constants.CHANGES_SINCE_PARAM, "0")
+                        .param(Constants.CHANGES_LIMIT_PARAM, "1")
+                        .accept(Constants.JSON_API_MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].deleted").value(false))
+                .andExpect(jsonPath("$.data[0].product.productName").value("Samsung Galaxy S24"))
+                .andExpect(jsonPath("$.meta.hasMore").value(true))
+                .andExpect(jsonPath("$.links.next").exists())
+                .andReturn().getResponse().getContentAsString();
+
+        long nextSince = objectMapper.readTree(firstPage).path("meta").path("nextSince").asLong();
+
+        mockMvc.perform(get("/product/changes")
+                        .param(Constants.CHANGES_SINCE_PARAM, String.valueOf(nextSince))
+                        .accept(Constants.JSON_API_MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].id").value(String.valueOf(testProduct.getId())))
+                .andExpect(jsonPath("$.data[0].deleted").value(true))
+                .andExpect(jsonPath("$.data[0].product").doesNotExist())
+                .andExpect(jsonPath("$.meta.hasMore").value(false));
+    }
+
     // ========== TESTS OF VALIDATION ==========
 
     @Test
@@ -299,4 +536,14 @@ class ProductRestControllerIntegrationTest {
                 .andExpect(jsonPath("$.errors[0].status").value("400"))
                 .andExpect(jsonPath("$.errors[0].title").value("Validation Error"));
     }
+
+    private long create(ProductRequest request) throws Exception {
+        String body = mockMvc.perform(post("/product/")
+                        .contentType(Constants.JSON_API_MEDIA_TYPE)
+                        .accept(Constants.JSON_API_MEDIA_TYPE)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).path("data").path("id").asLong();
+    }
 }
@@ -9,6 +9,7 @@ import com.link.product.application.mappers.ProductResponseMapper;
 import com.link.product.domain.api.ProductServicePort;
 import com.link.product.domain.model.PageDomain;
 import com.link.product.domain.model.Product;
+import com.link.product.domain.model.ProductField;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,6 +21,7 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -103,17 +105,27 @@ class ProductHandlerImplTest {
     void shouldGetProductByIdSuccessfully() {
         // Given
         Long id = 1L;
-        when(productServicePort.getProductById(id)).thenReturn(product);
-        when(productResponseMapper.toResponse(product)).thenReturn(productResponse);
+        when(productServicePort.getProductById(id, ProductField.all())).thenReturn(product);
+        when(productResponseMapper.toResponse(product, ProductField.all())).thenReturn(productResponse);
 
         // When
-        ProductResponse result = productHandler.getProductById(id);
+        ProductResponse result = productHandler.getProductById(id, ProductField.all());
 
         // Then
         assertNotNull(result);
         assertEquals(productResponse, result);
-        verify(productServicePort, times(1)).getProductById(id);
-        verify(productResponseMapper, times(1)).toResponse(product);
+        verify(productServicePort, times(1)).getProductById(id, ProductField.all());
+        verify(productResponseMapper, times(1)).toResponse(product, ProductField.all());
+    }
+
+    @Test
+    void shouldRecordProductViewWithoutMapping() {
+        // When
+        productHandler.recordProductView(1L);
+
+        // Then
+        verify(productServicePort, times(1)).recordProductView(1L);
+        verifyNoInteractions(productResponseMapper);
     }
 
     // ========== TESTS OF UPDATE PRODUCT BY ID ==========
@@ -179,16 +191,17 @@ class ProductHandlerImplTest {
                 "https://samsung.com/galaxy.jpg");
         List<ProductResponse> expectedResponses = List.of(productResponse, response2);
 
-        when(productServicePort.getAllProducts(0, 10, "id", "ASC"))
+        when(productServicePort.getAllProducts(0, 10, "id", "ASC", ProductField.all()))
                 .thenReturn(pageDomain);
-        when(productResponseMapper.toResponse(product)).thenReturn(productResponse);
-        when(productResponseMapper.toResponse(product2)).thenReturn(response2);
+        when(productResponseMapper.toResponse(product, ProductField.all())).thenReturn(productResponse);
+        when(productResponseMapper.toResponse(product2, ProductField.all())).thenReturn(response2);
 
         // When
         PageResponse<ProductResponse> result = productHandler.getAllProducts(0,
                 10,
                 "id",
-                "ASC");
+                "ASC",
+                ProductField.all());
 
         // Then
         assertNotNull(result);
@@ -201,8 +214,8 @@ class ProductHandlerImplTest {
         assertTrue(result.isLast());
 
         verify(productServicePort, times(1))
-                .getAllProducts(0, 10, "id", "ASC");
-        verify(productResponseMapper, times(2)).toResponse(any(Product.class));
+                .getAllProducts(0, 10, "id", "ASC", ProductField.all());
+        verify(productResponseMapper, times(2)).toResponse(any(Product.class), eq(ProductField.all()));
     }
 
     @Test
@@ -210,14 +223,15 @@ class ProductHandlerImplTest {
         // Given
         PageDomain<Product> emptyPage
                 = new PageDomain<>(List.of(), 0, 10, 0, 0, true);
-        when(productServicePort.getAllProducts(0, 10, "id", "ASC")).thenReturn(emptyPage);
+        when(productServicePort.getAllProducts(0, 10, "id", "ASC", ProductField.all())).thenReturn(emptyPage);
 
         // When
         PageResponse<ProductResponse> result = productHandler.getAllProducts(
                 0,
                 10,
                 "id",
-                "ASC"
+                "ASC",
+                ProductField.all()
         );
 
         // Then
@@ -225,7 +239,7 @@ class ProductHandlerImplTest {
         assertTrue(result.getContent().isEmpty());
         assertEquals(0, result.getTotalElements());
         verify(productServicePort, times(1))
-                .getAllProducts(0, 10, "id", "ASC");
+                .getAllProducts(0, 10, "id", "ASC", ProductField.all());
         verifyNoInteractions(productResponseMapper);
     }
 
@@ -1,16 +1,35 @@
 package com.link.product.unit.application.mappers;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.link.product.application.dto.ProductChangesResponse;
+import com.link.product.application.dto.ProductFacetsResponse;
 import com.link.product.application.dto.ProductResponse;
 import com.link.product.application.mappers.ProductResponseMapper;
+import com.link.product.domain.exceptions.InvalidProductFieldException;
+import com.link.product.domain.model.PriceBucket;
 import com.link.product.domain.model.Product;
+import com.link.product.domain.model.ProductChange;
+import com.link.product.domain.model.ProductChangePage;
+import com.link.product.domain.model.ProductFacets;
+import com.link.product.domain.model.ProductField;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mapstruct.factory.Mappers;
 
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 
 class ProductResponseMapperTest {
@@ -128,4 +147,110 @@ class ProductResponseMapperTest {
         assertEquals("999", response.getId());
         assertInstanceOf(String.class, response.getId(), "El ID debe ser de tipo String");
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldKeepOnlyRequestedFields() {
+        // When
+        ProductResponse response = productResponseMapper.toResponse(
+                product,
+                EnumSet.of(ProductField.PRODUCT_NAME, ProductField.PRICE)
+        );
+
+        // Then
+        assertEquals("1", response.getId());
+        assertEquals(product.getProductName(), response.getProductName());
+        assertEquals(product.getPrice(), response.getPrice());
+        assertNull(response.getDescription());
+        assertNull(response.getCategory());
+        assertNull(response.getBrand());
+        assertNull(response.getImageUrl());
+    }
+
+    @Test
+    void shouldKeepAllFieldsWhenFieldsetIsNotProvided() {
+        // When
+        ProductResponse response = productResponseMapper.toResponse(product, ProductField.parseFieldset(null));
+
+        // Then
+        assertEquals(product.getDescription(), response.getDescription());
+        assertEquals(product.getImageUrl(), response.getImageUrl());
+    }
+
+    @Test
+    void shouldSendNullAttributesOnlyWithoutFieldset() throws Exception {
+        // Given
+        Product productWithoutImage = new Product(2L, "Test Product", null, 100000.0, null, "TestBrand", null);
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        // When
+        JsonNode full = objectMapper.valueToTree(
+                productResponseMapper.toResponse(productWithoutImage, ProductField.all())
+        );
+        JsonNode sparse = objectMapper.valueToTree(
+                productResponseMapper.toResponse(productWithoutImage, EnumSet.of(ProductField.PRODUCT_NAME))
+        );
+
+        // Then
+        assertTrue(full.get("imageUrl").isNull());
+        assertTrue(full.get("description").isNull());
+        assertEquals("Test Product", sparse.get("productName").asText());
+        assertFalse(sparse.has("imageUrl"));
+        assertFalse(sparse.has("price"));
+    }
+
+    @Test
+    void shouldRejectUnknownField() {
+        assertThrows(InvalidProductFieldException.class, () -> ProductField.parseFieldset("productName,stock"));
+    }
+
+    @Test
+    void shouldMapFacetsKeepingTermOrder() {
+        // Given
+        Map<String, Long> categories = new LinkedHashMap<>();
+        categories.put("Electronics", 5L);
+        categories.put("Accessories", 2L);
+        ProductFacets facets = new ProductFacets(
+                categories,
+                Map.of("Apple", 7L),
+                List.of(new PriceBucket(0.0, 500000.0, 2), new PriceBucket(500000.0, null, 5))
+        );
+
+        // When
+        ProductFacetsResponse response = productResponseMapper.toFacetsResponse(facets);
+
+        // Then
+        assertEquals(List.of("Electronics", "Accessories"), List.copyOf(response.getCategories().keySet()));
+        assertEquals(7L, response.getBrands().get("Apple"));
+        assertEquals(2, response.getPriceBuckets().size());
+        assertEquals(500000.0, response.getPriceBuckets().get(0).getMax());
+        assertNull(response.getPriceBuckets().get(1).getMax());
+        assertEquals(5, response.getPriceBuckets().get(1).getCount());
+    }
+
+    @Test
+    void shouldMapChangesWithTombstonesWithoutAttributes() {
+        // Given
+        ProductChangePage page = new ProductChangePage(
+                List.of(
+                        new ProductChange(1L, 7L, Instant.EPOCH, false, product),
+                        new ProductChange(2L, 8L, Instant.EPOCH, true, null)
+                ),
+                8L,
+                true
+        );
+
+        // When
+        ProductChangesResponse response = productResponseMapper.toChangesResponse(page);
+
+        // Then
+        assertEquals(2, response.getChanges().size());
+        assertEquals("1", response.getChanges().get(0).getId());
+        assertEquals(7L, response.getChanges().get(0).getSequence());
+        assertEquals("iPhone 15 Pro", response.getChanges().get(0).getProduct().getProductName());
+        assertEquals("2", response.getChanges().get(1).getId());
+        assertTrue(response.getChanges().get(1).isDeleted());
+        assertNull(response.getChanges().get(1).getProduct());
+        assertEquals(8L, response.getNextSince());
+        assertTrue(response.isHasMore());
+    }
+}
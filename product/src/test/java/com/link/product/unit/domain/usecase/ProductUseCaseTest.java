@@ -1,11 +1,20 @@
 package com.link.product.unit.domain.usecase;
 
 
+import com.link.product.domain.exceptions.InvalidSortFieldException;
 import com.link.product.domain.exceptions.ProductAlreadyExistsException;
 import com.link.product.domain.exceptions.ProductNotFoundException;
 import com.link.product.domain.model.PageDomain;
+import com.link.product.domain.model.PriceBucket;
 import com.link.product.domain.model.Product;
+import com.link.product.domain.model.ProductChange;
+import com.link.product.domain.model.ProductChangePage;
+import com.link.product.domain.model.ProductFacets;
+import com.link.product.domain.model.ProductField;
+import com.link.product.domain.spi.ProductEventPublisherPort;
 import com.link.product.domain.spi.ProductPersistencePort;
+import com.link.product.domain.spi.ProductSearchPort;
+import com.link.product.domain.spi.ProductSuggestPort;
 import com.link.product.domain.usecase.ProductUseCase;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,14 +23,19 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -29,6 +43,7 @@ import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,6 +52,15 @@ class ProductUseCaseTest {
     @Mock
     private ProductPersistencePort productPersistencePort;
 
+    @Mock
+    private ProductEventPublisherPort productEventPublisherPort;
+
+    @Mock
+    private ProductSearchPort productSearchPort;
+
+    @Mock
+    private ProductSuggestPort productSuggestPort;
+
     @InjectMocks
     private ProductUseCase productUseCase;
 
@@ -71,6 +95,8 @@ class ProductUseCaseTest {
         assertEquals("iPhone 15 Pro", savedProduct.getProductName());
         verify(productPersistencePort, times(1)).checkIfProductExists(product.getProductName());
         verify(productPersistencePort, times(1)).saveProduct(product);
+        verify(productEventPublisherPort, times(1)).publishProductCreated(product);
+        verify(productSearchPort, times(1)).index(product);
     }
 
     @Test
@@ -85,6 +111,7 @@ class ProductUseCaseTest {
 
         verify(productPersistencePort, times(1)).checkIfProductExists(product.getProductName());
         verify(productPersistencePort, never()).saveProduct(any(Product.class));
+        verify(productEventPublisherPort, never()).publishProductCreated(any(Product.class));
     }
 
     // ========== TESTS OF GET PRODUCT BY ID ==========
@@ -93,31 +120,101 @@ class ProductUseCaseTest {
     void shouldGetProductByIdSuccessfully() {
         // Given
         Long productId = 1L;
-        when(productPersistencePort.getProductById(productId)).thenReturn(Optional.of(product));
+        when(productPersistencePort.getProductById(productId, ProductField.all())).thenReturn(Optional.of(product));
 
         // When
-        Product foundProduct = productUseCase.getProductById(productId);
+        Product foundProduct = productUseCase.getProductById(productId, ProductField.all());
 
         // Then
         assertNotNull(foundProduct);
         assertEquals(productId, foundProduct.getId());
         assertEquals("iPhone 15 Pro", foundProduct.getProductName());
-        verify(productPersistencePort, times(1)).getProductById(productId);
+        verify(productPersistencePort, times(1)).getProductById(productId, ProductField.all());
+        verify(productSuggestPort, never()).recordView(anyLong());
     }
 
     @Test
     void shouldThrowExceptionWhenProductNotFound() {
         // Given
         Long productId = 999L;
-        when(productPersistencePort.getProductById(productId)).thenReturn(Optional.empty());
+        when(productPersistencePort.getProductById(productId, ProductField.all())).thenReturn(Optional.empty());
 
         // When & Then
         ProductNotFoundException exception = assertThrows(ProductNotFoundException.class, () -> {
-            productUseCase.getProductById(productId);
+            productUseCase.getProductById(productId, ProductField.all());
         });
 
         assertEquals(productId, exception.getNotFoundId());
-        verify(productPersistencePort, times(1)).getProductById(productId);
+        verify(productPersistencePort, times(1)).getProductById(productId, ProductField.all());
+        verify(productSuggestPort, never()).recordView(anyLong());
+    }
+
+    @Test
+    void shouldRecordViewWithoutLoadingProduct() {
+        // When
+        productUseCase.recordProductView(1L);
+
+        // Then
+        verify(productSuggestPort, times(1)).recordView(1L);
+        verifyNoInteractions(productPersistencePort);
+    }
+
+    @Test
+    void shouldGetProjectedProductById() {
+        // Given
+        Long productId = 1L;
+        Set<ProductField> fields = EnumSet.of(ProductField.PRODUCT_NAME);
+        Product projected = new Product(productId, "iPhone 15 Pro", null, null, null, null, null);
+        when(productPersistencePort.getProductById(productId, fields)).thenReturn(Optional.of(projected));
+
+        // When
+        Product foundProduct = productUseCase.getProductById(productId, fields);
+
+        // Then
+        assertEquals("iPhone 15 Pro", foundProduct.getProductName());
+        verify(productPersistencePort, times(1)).getProductById(productId, fields);
+        verify(productPersistencePort, never()).getProductById(productId, ProductField.all());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenProjectedProductNotFound() {
+        // Given
+        Long productId = 999L;
+        Set<ProductField> fields = EnumSet.of(ProductField.PRODUCT_NAME);
+        when(productPersistencePort.getProductById(productId, fields)).thenReturn(Optional.empty());
+
+        // When & Then
+        ProductNotFoundException exception = assertThrows(ProductNotFoundException.class, () -> {
+            productUseCase.getProductById(productId, fields);
+        });
+
+        assertEquals(productId, exception.getNotFoundId());
+    }
+
+    @Test
+    void shouldGetProductsByIdsInOneLookup() {
+        // Given
+        Set<Long> ids = Set.of(1L, 2L);
+        Set<ProductField> fields = EnumSet.of(ProductField.PRODUCT_NAME);
+        List<Product> projected = List.of(new Product(1L, "iPhone 15 Pro", null, null, null, null, null));
+        when(productPersistencePort.getProductsByIds(ids, fields)).thenReturn(projected);
+
+        // When
+        List<Product> products = productUseCase.getProductsByIds(ids, fields);
+
+        // Then
+        assertEquals(1, products.size());
+        verify(productPersistencePort, times(1)).getProductsByIds(ids, fields);
+    }
+
+    @Test
+    void shouldNotQueryWhenNoIdsRequested() {
+        // When
+        List<Product> products = productUseCase.getProductsByIds(Set.of(), ProductField.all());
+
+        // Then
+        assertTrue(products.isEmpty());
+        verify(productPersistencePort, never()).getProductsByIds(any(), any());
     }
 
     // ========== TESTS OF UPDATE PRODUCT ==========
@@ -136,7 +233,7 @@ class ProductUseCaseTest {
                 "https://example.com/iphone15promax.jpg"
         );
 
-        when(productPersistencePort.getProductById(productId)).thenReturn(Optional.of(product));
+        when(productPersistencePort.getProductById(productId, ProductField.all())).thenReturn(Optional.of(product));
         when(productPersistencePort.checkIfProductExists(updatedProduct.getProductName())).thenReturn(false);
         when(productPersistencePort.updateProductById(eq(productId), any(Product.class)))
                 .thenReturn(Optional.of(updatedProduct));
@@ -148,10 +245,12 @@ class ProductUseCaseTest {
         assertNotNull(result);
         assertEquals("iPhone 15 Pro Max", result.getProductName());
         assertEquals(5500000.0, result.getPrice());
-        verify(productPersistencePort, times(1)).getProductById(productId);
+        verify(productPersistencePort, times(1)).getProductById(productId, ProductField.all());
         verify(productPersistencePort, times(1))
                 .checkIfProductExists(updatedProduct.getProductName());
         verify(productPersistencePort, times(1)).updateProductById(productId, updatedProduct);
+        verify(productSearchPort, times(1)).index(updatedProduct);
+        verify(productSuggestPort, never()).recordView(anyLong());
     }
 
     @Test
@@ -168,7 +267,7 @@ class ProductUseCaseTest {
                 "https://example.com/iphone15pro.jpg"
         );
 
-        when(productPersistencePort.getProductById(productId)).thenReturn(Optional.of(product));
+        when(productPersistencePort.getProductById(productId, ProductField.all())).thenReturn(Optional.of(product));
         when(productPersistencePort.updateProductById(eq(productId), any(Product.class)))
                 .thenReturn(Optional.of(updatedProduct));
 
@@ -178,7 +277,7 @@ class ProductUseCaseTest {
         // Then
         assertNotNull(result);
         assertEquals("iPhone 15 Pro", result.getProductName());
-        verify(productPersistencePort, times(1)).getProductById(productId);
+        verify(productPersistencePort, times(1)).getProductById(productId, ProductField.all());
         verify(productPersistencePort, never()).checkIfProductExists(anyString()); // Must not validate if name change
         verify(productPersistencePort, times(1))
                 .updateProductById(productId, updatedProduct);
@@ -198,7 +297,7 @@ class ProductUseCaseTest {
                 "https://example.com/galaxys24.jpg"
         );
 
-        when(productPersistencePort.getProductById(productId)).thenReturn(Optional.of(product));
+        when(productPersistencePort.getProductById(productId, ProductField.all())).thenReturn(Optional.of(product));
         when(productPersistencePort.checkIfProductExists(updatedProduct.getProductName())).thenReturn(true);
 
         // When & Then
@@ -206,24 +305,25 @@ class ProductUseCaseTest {
             productUseCase.updateProductById(productId, updatedProduct);
         });
 
-        verify(productPersistencePort, times(1)).getProductById(productId);
+        verify(productPersistencePort, times(1)).getProductById(productId, ProductField.all());
         verify(productPersistencePort, times(1))
                 .checkIfProductExists(updatedProduct.getProductName());
         verify(productPersistencePort, never()).updateProductById(anyLong(), any(Product.class));
+        verify(productSearchPort, never()).index(any(Product.class));
     }
 
     @Test
     void shouldThrowExceptionWhenUpdatingNonExistentProduct() {
         // Given
         Long productId = 999L;
-        when(productPersistencePort.getProductById(productId)).thenReturn(Optional.empty());
+        when(productPersistencePort.getProductById(productId, ProductField.all())).thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(ProductNotFoundException.class, () -> {
             productUseCase.updateProductById(productId, product);
         });
 
-        verify(productPersistencePort, times(1)).getProductById(productId);
+        verify(productPersistencePort, times(1)).getProductById(productId, ProductField.all());
         verify(productPersistencePort, never()).checkIfProductExists(anyString());
         verify(productPersistencePort, never()).updateProductById(anyLong(), any(Product.class));
     }
@@ -234,30 +334,33 @@ class ProductUseCaseTest {
     void shouldDeleteProductSuccessfully() {
         // Given
         Long productId = 1L;
-        when(productPersistencePort.getProductById(productId)).thenReturn(Optional.of(product));
+        when(productPersistencePort.getProductById(productId, ProductField.all())).thenReturn(Optional.of(product));
         doNothing().when(productPersistencePort).deleteProductById(productId);
 
         // When
         productUseCase.deleteProductById(productId);
 
         // Then
-        verify(productPersistencePort, times(1)).getProductById(productId);
+        verify(productPersistencePort, times(1)).getProductById(productId, ProductField.all());
         verify(productPersistencePort, times(1)).deleteProductById(productId);
+        verify(productSearchPort, times(1)).remove(productId);
+        verify(productSuggestPort, never()).recordView(anyLong());
     }
 
     @Test
     void shouldThrowExceptionWhenDeletingNonExistentProduct() {
         // Given
         Long productId = 999L;
-        when(productPersistencePort.getProductById(productId)).thenReturn(Optional.empty());
+        when(productPersistencePort.getProductById(productId, ProductField.all())).thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(ProductNotFoundException.class, () -> {
             productUseCase.deleteProductById(productId);
         });
 
-        verify(productPersistencePort, times(1)).getProductById(productId);
+        verify(productPersistencePort, times(1)).getProductById(productId, ProductField.all());
         verify(productPersistencePort, never()).deleteProductById(anyLong());
+        verify(productSearchPort, never()).remove(anyLong());
     }
 
     // ========== TESTS OF GET ALL PRODUCTS ==========
@@ -283,11 +386,11 @@ class ProductUseCaseTest {
                 1,
                 true);
 
-        when(productPersistencePort.getAllProducts(0, 10, "id", "ASC"))
+        when(productPersistencePort.getAllProducts(0, 10, "id", "ASC", ProductField.all()))
                 .thenReturn(pageDomain);
 
         // When
-        PageDomain<Product> result = productUseCase.getAllProducts(0, 10, "id", "ASC");
+        PageDomain<Product> result = productUseCase.getAllProducts(0, 10, "id", "ASC", ProductField.all());
 
         // Then
         assertNotNull(result);
@@ -298,7 +401,7 @@ class ProductUseCaseTest {
         assertEquals(1, result.getTotalPages());
         assertTrue(result.isLast());
         verify(productPersistencePort, times(1))
-                .getAllProducts(0, 10, "id", "ASC");
+                .getAllProducts(0, 10, "id", "ASC", ProductField.all());
     }
 
     @Test
@@ -311,17 +414,134 @@ class ProductUseCaseTest {
                 0,
                 true
         );
-        when(productPersistencePort.getAllProducts(0, 10, "id", "ASC"))
+        when(productPersistencePort.getAllProducts(0, 10, "id", "ASC", ProductField.all()))
                 .thenReturn(emptyPage);
 
         // When
-        PageDomain<Product> result = productUseCase.getAllProducts(0, 10, "id", "ASC");
+        PageDomain<Product> result = productUseCase.getAllProducts(0, 10, "id", "ASC", ProductField.all());
 
         // Then
         assertNotNull(result);
         assertTrue(result.getContent().isEmpty());
         assertEquals(0, result.getTotalElements());
         verify(productPersistencePort, times(1))
-                .getAllProducts(0, 10, "id", "ASC");
+                .getAllProducts(0, 10, "id", "ASC", ProductField.all());
+    }
+
+    @Test
+    void shouldRejectUnknownSortField() {
+        // When & Then
+        InvalidSortFieldException exception = assertThrows(InvalidSortFieldException.class, () ->
+                productUseCase.getAllProducts(0, 10, "password", "ASC", ProductField.all())
+        );
+
+        assertEquals("password", exception.getInvalidField());
+        verify(productPersistencePort, never()).getAllProducts(anyInt(), anyInt(), any(), any(), any());
+    }
+
+    // ========== TESTS OF SEARCH PRODUCTS ==========
+
+    @Test
+    void shouldReturnSearchHitsInRankOrder() {
+        // Given
+        Product galaxy = new Product(2L, "Samsung Galaxy S24", "Android", 4200000.0, "Electronics", "Samsung", null);
+        when(productSearchPort.search("phone", 0, 10))
+                .thenReturn(new PageDomain<>(List.of(2L, 1L), 0, 10, 2, 1, true));
+        when(productPersistencePort.getProductsByIds(List.of(2L, 1L), ProductField.all()))
+                .thenReturn(List.of(product, galaxy));
+
+        // When
+        PageDomain<Product> result = productUseCase.searchProducts("phone", 0, 10, ProductField.all());
+
+        // Then
+        assertEquals(List.of(galaxy, product), result.getContent());
+        assertEquals(2, result.getTotalElements());
+        assertTrue(result.isLast());
+    }
+
+    @Test
+    void shouldLeaveOutHitsDeletedAfterSearch() {
+        // Given
+        when(productSearchPort.search("phone", 0, 10))
+                .thenReturn(new PageDomain<>(List.of(2L, 1L), 0, 10, 2, 1, true));
+        when(productPersistencePort.getProductsByIds(List.of(2L, 1L), ProductField.all()))
+                .thenReturn(List.of(product));
+
+        // When
+        PageDomain<Product> result = productUseCase.searchProducts("phone", 0, 10, ProductField.all());
+
+        // Then
+        assertEquals(List.of(product), result.getContent());
+    }
+
+    @Test
+    void shouldNotQueryDatabaseWhenNothingMatches() {
+        // Given
+        when(productSearchPort.search("zzz", 0, 10))
+                .thenReturn(new PageDomain<>(List.of(), 0, 10, 0, 0, true));
+
+        // When
+        PageDomain<Product> result = productUseCase.searchProducts("zzz", 0, 10, ProductField.all());
+
+        // Then
+        assertTrue(result.getContent().isEmpty());
+        verify(productPersistencePort, never()).getProductsByIds(any(), any());
+    }
+
+    // ========== TESTS OF SUGGEST PRODUCTS ==========
+
+    @Test
+    void shouldSuggestProductsFromSuggestIndexOnly() {
+        // Given
+        Product suggestion = new Product(1L, "iPhone 15 Pro", null, null, null, null, null);
+        when(productSuggestPort.suggest("iph", 5)).thenReturn(List.of(suggestion));
+
+        // When
+        List<Product> result = productUseCase.suggestProducts("iph", 5);
+
+        // Then
+        assertEquals(List.of(suggestion), result);
+        verify(productSuggestPort, times(1)).suggest("iph", 5);
+        verify(productPersistencePort, never()).getProductById(anyLong(), any());
+    }
+
+    // ========== TESTS OF PRODUCT FACETS ==========
+
+    @Test
+    void shouldReturnFacetCountsFromPersistence() {
+        // Given
+        ProductFacets facets = new ProductFacets(
+                Map.of("Electronics", 1L),
+                Map.of("Apple", 1L),
+                List.of(new PriceBucket(0.0, null, 1))
+        );
+        when(productPersistencePort.getProductFacets()).thenReturn(facets);
+
+        // When
+        ProductFacets result = productUseCase.getProductFacets();
+
+        // Then
+        assertEquals(facets, result);
+        verify(productPersistencePort, times(1)).getProductFacets();
+    }
+
+    // ========== TESTS OF PRODUCT CHANGES ==========
+
+    @Test
+    void shouldReturnChangesFromPersistence() {
+        // Given
+        ProductChangePage page = new ProductChangePage(
+                List.of(new ProductChange(1L, 42L, Instant.EPOCH, true, null)),
+                42L,
+                false
+        );
+        when(productPersistencePort.getChangesSince(41L, 100)).thenReturn(page);
+
+        // When
+        ProductChangePage result = productUseCase.getProductChanges(41L, 100);
+
+        // Then
+        assertEquals(page, result);
+        verify(productPersistencePort, times(1)).getChangesSince(41L, 100);
     }
 }
\ No newline at end of file
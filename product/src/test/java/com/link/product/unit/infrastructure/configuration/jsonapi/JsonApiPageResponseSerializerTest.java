@@ -0,0 +1,102 @@
+package com.link.product.unit.infrastructure.configuration.jsonapi;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.link.product.application.dto.JsonApiPageResponse;
+import com.link.product.application.dto.PageLinkTemplate;
+import com.link.product.application.dto.PageResponse;
+import com.link.product.application.dto.ProductResponse;
+import com.link.product.domain.model.ProductField;
+import com.link.product.infrastructure.configuration.jsonapi.JsonApiConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JsonApiPageResponseSerializerTest {
+
+    private static final String BASE_URL = "http://localhost/product/";
+
+    private ObjectMapper objectMapper;
+    private PageLinkTemplate template;
+    private List<ProductResponse> content;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper().registerModule(new JsonApiConfig().jsonApiModule());
+
+        template = new PageLinkTemplate(BASE_URL, 2, "id", "asc", ProductField.all());
+
+        content = List.of(
+                new ProductResponse("1", "iPhone 15 Pro", "Apple", 4500000.0, "Electronics", "Apple", null),
+                new ProductResponse("2", "Galaxy S24", "Samsung", 3900000.0, "Electronics", "Samsung", null)
+        );
+    }
+
+    @Test
+    void shouldWriteDataLinksAndMetaForMiddlePage() throws Exception {
+        // Given
+        PageResponse<ProductResponse> page = new PageResponse<>(content, 1, 2, 6L, 3, false);
+
+        // When
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(new JsonApiPageResponse<>(page, template)));
+
+        // Then
+        assertEquals(2, json.get("data").size());
+        assertEquals("iPhone 15 Pro", json.get("data").get(0).get("productName").asText());
+
+        JsonNode links = json.get("links");
+        assertEquals(BASE_URL + "?page=1&size=2&sortBy=id&sortDirection=ASC", links.get("self").asText());
+        assertEquals(BASE_URL + "?page=0&size=2&sortBy=id&sortDirection=ASC", links.get("first").asText());
+        assertEquals(BASE_URL + "?page=2&size=2&sortBy=id&sortDirection=ASC", links.get("last").asText());
+        assertEquals(BASE_URL + "?page=2&size=2&sortBy=id&sortDirection=ASC", links.get("next").asText());
+        assertEquals(BASE_URL + "?page=0&size=2&sortBy=id&sortDirection=ASC", links.get("prev").asText());
+
+        JsonNode meta = json.get("meta");
+        assertEquals(3, meta.get("totalPages").asInt());
+        assertEquals(6L, meta.get("totalElements").asLong());
+        assertEquals(1, meta.get("currentPage").asInt());
+        assertEquals(2, meta.get("pageSize").asInt());
+    }
+
+    @Test
+    void shouldOmitPrevOnFirstPageAndNextOnLastPage() throws Exception {
+        // Given
+        PageResponse<ProductResponse> page = new PageResponse<>(content, 0, 2, 2L, 1, true);
+
+        // When
+        JsonNode links = objectMapper.readTree(
+                objectMapper.writeValueAsString(new JsonApiPageResponse<>(page, template))
+        ).get("links");
+
+        // Then
+        assertFalse(links.has("prev"));
+        assertFalse(links.has("next"));
+        assertTrue(links.has("self"));
+    }
+
+    @Test
+    void shouldRenderNegativeAndMultiDigitPages() {
+        assertEquals(BASE_URL + "?page=-1&size=2&sortBy=id&sortDirection=ASC", template.toUrl(-1));
+        assertEquals(BASE_URL + "?page=1234&size=2&sortBy=id&sortDirection=ASC", template.toUrl(1234));
+    }
+
+    @Test
+    void shouldCarryASparseFieldsetAndTheDirectionReadToEveryPage() {
+        // Given
+        PageLinkTemplate sparse = new PageLinkTemplate(
+                BASE_URL, 2, "price", "desc", ProductField.parseFieldset("price,productName")
+        );
+
+        // When
+        String url = sparse.toUrl(3);
+
+        // Then
+        assertEquals(BASE_URL + "?page=3&size=2&sortBy=price&sortDirection=DESC&fields%5Bproduct%5D=productName,price", url);
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.link.product.unit.infrastructure.configuration.security;
+
+import com.link.product.infrastructure.configuration.security.ApiKeyMatcher;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ApiKeyMatcherTest {
+
+    @Test
+    void shouldMatchConfiguredKey() {
+
+        ApiKeyMatcher matcher = new ApiKeyMatcher(List.of("mi-clave-secreta-2025"));
+
+        assertTrue(matcher.matches("mi-clave-secreta-2025"));
+    }
+
+    @Test
+    void shouldMatchEveryRotatingKey() {
+
+        ApiKeyMatcher matcher = new ApiKeyMatcher(List.of("old-key", "new-key"));
+
+        assertTrue(matcher.matches("old-key"));
+        assertTrue(matcher.matches("new-key"));
+        assertEquals(2, matcher.size());
+    }
+
+    @Test
+    void shouldRejectUnknownOrMissingKey() {
+
+        ApiKeyMatcher matcher = new ApiKeyMatcher(List.of("mi-clave-secreta-2025"));
+
+        assertFalse(matcher.matches("mi-clave-secreta-2024"));
+        assertFalse(matcher.matches(""));
+        assertFalse(matcher.matches(null));
+    }
+
+    @Test
+    void shouldIgnoreBlankEntriesAndTrimKeys() {
+
+        ApiKeyMatcher matcher = new ApiKeyMatcher(List.of(" rotated-key ", "", "  "));
+
+        assertTrue(matcher.matches("rotated-key"));
+        assertEquals(1, matcher.size());
+    }
+
+    @Test
+    void shouldFailWhenNoKeyIsConfigured() {
+
+        assertThrows(IllegalStateException.class, () -> new ApiKeyMatcher(List.of("")));
+    }
+
+}
@@ -1,5 +1,8 @@
 package com.link.product.unit.infrastructure.exception.exceptionhandler;
 
+import com.link.product.domain.exceptions.ChangeTokenExpiredException;
+import com.link.product.domain.exceptions.InvalidProductFieldException;
+import com.link.product.domain.exceptions.InvalidSortFieldException;
 import com.link.product.domain.exceptions.NoContentProductException;
 import com.link.product.domain.exceptions.ProductAlreadyExistsException;
 import com.link.product.domain.exceptions.ProductNotFoundException;
@@ -85,6 +88,81 @@ class ControllerAdvisorTest {
         assertTrue(errorResponse.getErrors().get(0).getDetail().contains(String.valueOf(productId)));
     }
 
+    // ========== TESTS OF InvalidProductFieldException ==========
+
+    @Test
+    void shouldHandleInvalidProductFieldException() {
+        // Given
+        InvalidProductFieldException exception = new InvalidProductFieldException("stock");
+
+        // When
+        ResponseEntity<JsonApiErrorResponse> response = controllerAdvisor.handleInvalidProductFieldException(exception);
+
+        // Then
+        assertNotNull(response);
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(Constants.JSON_API_MEDIA_TYPE, response.getHeaders().getContentType().toString());
+
+        JsonApiErrorResponse errorResponse = response.getBody();
+        assertNotNull(errorResponse);
+        assertEquals(1, errorResponse.getErrors().size());
+
+        assertEquals("400", errorResponse.getErrors().get(0).getStatus());
+        assertEquals(Constants.INVALID_PRODUCT_FIELD_TITLE, errorResponse.getErrors().get(0).getTitle());
+        assertEquals(Constants.INVALID_PRODUCT_FIELD_MESSAGE + "stock", errorResponse.getErrors().get(0).getDetail());
+        assertEquals(Constants.FIELDS_PRODUCT_PARAM, errorResponse.getErrors().get(0).getSource());
+    }
+
+    // ========== TESTS OF InvalidSortFieldException ==========
+
+    @Test
+    void shouldHandleInvalidSortFieldException() {
+        // Given
+        InvalidSortFieldException exception = new InvalidSortFieldException("password");
+
+        // When
+        ResponseEntity<JsonApiErrorResponse> response = controllerAdvisor.handleInvalidSortFieldException(exception);
+
+        // Then
+        assertNotNull(response);
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(Constants.JSON_API_MEDIA_TYPE, response.getHeaders().getContentType().toString());
+
+        JsonApiErrorResponse errorResponse = response.getBody();
+        assertNotNull(errorResponse);
+        assertEquals(1, errorResponse.getErrors().size());
+
+        assertEquals("400", errorResponse.getErrors().get(0).getStatus());
+        assertEquals(Constants.INVALID_SORT_FIELD_TITLE, errorResponse.getErrors().get(0).getTitle());
+        assertEquals(Constants.INVALID_SORT_FIELD_MESSAGE + "password", errorResponse.getErrors().get(0).getDetail());
+        assertEquals(Constants.SORT_BY_PARAM, errorResponse.getErrors().get(0).getSource());
+    }
+
+    // ========== TESTS OF ChangeTokenExpiredException ==========
+
+    @Test
+    void shouldHandleChangeTokenExpiredException() {
+        // Given
+        ChangeTokenExpiredException exception = new ChangeTokenExpiredException(15L);
+
+        // When
+        ResponseEntity<JsonApiErrorResponse> response = controllerAdvisor.handleChangeTokenExpiredException(exception);
+
+        // Then
+        assertNotNull(response);
+        assertEquals(HttpStatus.GONE, response.getStatusCode());
+        assertEquals(Constants.JSON_API_MEDIA_TYPE, response.getHeaders().getContentType().toString());
+
+        JsonApiErrorResponse errorResponse = response.getBody();
+        assertNotNull(errorResponse);
+        assertEquals(1, errorResponse.getErrors().size());
+
+        assertEquals("410", errorResponse.getErrors().get(0).getStatus());
+        assertEquals("Change Token Expired", errorResponse.getErrors().get(0).getTitle());
+        assertTrue(errorResponse.getErrors().get(0).getDetail().endsWith("15"));
+        assertEquals(Constants.CHANGES_SINCE_PARAM, errorResponse.getErrors().get(0).getSource());
+    }
+
     // ========== TESTS OF NoContentProductException ==========
 
     @Test
@@ -0,0 +1,135 @@
+package com.link.product.unit.infrastructure.input;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.link.product.application.dto.ProductResponse;
+import com.link.product.application.handler.ProductHandler;
+import com.link.product.domain.model.ProductField;
+import com.link.product.domain.utils.Constants;
+import com.link.product.infrastructure.exception.exceptionhandler.ControllerAdvisor;
+import com.link.product.infrastructure.input.ProductRestController;
+import com.link.product.infrastructure.input.cache.ProductResponseCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.accept.ContentNegotiationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class ProductRestControllerResponseCacheTest {
+
+    @Mock
+    private ProductHandler productHandler;
+
+    private ProductResponseCache cache;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ProductResponseCache(
+                Map.of(
+                        MediaType.parseMediaType(Constants.JSON_API_MEDIA_TYPE), new ObjectMapper(),
+                        MediaType.parseMediaType(Constants.CBOR_MEDIA_TYPE), new CBORMapper()
+                ),
+                100,
+                Duration.ofMinutes(1),
+                new SimpleMeterRegistry()
+        );
+        ProductRestController controller = new ProductRestController(
+                productHandler, Optional.of(cache), new ContentNegotiationManager()
+        );
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new ControllerAdvisor())
+                .build();
+
+        when(productHandler.getProductById(7L, ProductField.all())).thenReturn(new ProductResponse(
+                "7", "Samsung Galaxy S24", null, 3800000.0, "Electronics", "Samsung", null
+        ));
+    }
+
+    @Test
+    void shouldRenderOnMissAndCopyOnHit() throws Exception {
+        // Given
+        MvcResult miss = mockMvc.perform(get("/product/{id}", 7L)
+                        .accept(Constants.JSON_API_MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // When & Then
+        MvcResult hit = mockMvc.perform(get("/product/{id}", 7L)
+                        .accept(Constants.JSON_API_MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(Constants.JSON_API_MEDIA_TYPE))
+                .andExpect(jsonPath("$.data.productName").value("Samsung Galaxy S24"))
+                .andExpect(jsonPath("$.links.self").value("/product/7"))
+                .andReturn();
+
+        assertArrayEquals(miss.getResponse().getContentAsByteArray(), hit.getResponse().getContentAsByteArray());
+        verify(productHandler, times(1)).getProductById(7L, ProductField.all());
+        verify(productHandler, times(2)).recordProductView(7L);
+    }
+
+    @Test
+    void shouldServeCborWhenAskedFor() throws Exception {
+        // Given
+        mockMvc.perform(get("/product/{id}", 7L)
+                .accept(Constants.JSON_API_MEDIA_TYPE));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/product/{id}", 7L)
+                        .header(HttpHeaders.ACCEPT, Constants.JSON_API_MEDIA_TYPE + ";q=0.5, " + Constants.CBOR_MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(Constants.CBOR_MEDIA_TYPE))
+                .andReturn();
+
+        // Then
+        JsonNode body = new CBORMapper().readTree(result.getResponse().getContentAsByteArray());
+        assertEquals("Samsung Galaxy S24", body.path("data").path("productName").asText());
+        verify(productHandler, times(2)).getProductById(7L, ProductField.all());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void shouldShareOneBodyAcrossHosts() throws Exception {
+        // Given
+        mockMvc.perform(get("/product/{id}", 7L)
+                .accept(Constants.JSON_API_MEDIA_TYPE));
+
+        // When & Then
+        mockMvc.perform(get("/product/{id}", 7L)
+                        .accept(Constants.JSON_API_MEDIA_TYPE)
+                        .with(request -> {
+                            request.setServerName("attacker.example");
+                            return request;
+                        }))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.links.self").value("/product/7"));
+
+        verify(productHandler, times(1)).getProductById(7L, ProductField.all());
+        assertEquals(1, cache.size());
+    }
+
+}
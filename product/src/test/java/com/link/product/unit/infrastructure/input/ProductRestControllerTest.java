@@ -0,0 +1,199 @@
+package com.link.product.unit.infrastructure.input;
+
+import com.jayway.jsonpath.JsonPath;
+import com.link.product.application.dto.PageResponse;
+import com.link.product.application.dto.ProductChangesResponse;
+import com.link.product.application.dto.ProductResponse;
+import com.link.product.application.handler.ProductHandler;
+import com.link.product.domain.exceptions.ProductNotFoundException;
+import com.link.product.domain.model.ProductField;
+import com.link.product.domain.utils.Constants;
+import com.link.product.infrastructure.configuration.jsonapi.JsonApiConfig;
+import com.link.product.infrastructure.exception.exceptionhandler.ControllerAdvisor;
+import com.link.product.infrastructure.input.ProductRestController;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.accept.ContentNegotiationManager;
+
+import java.net.URI;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class ProductRestControllerTest {
+
+    @Mock
+    private ProductHandler productHandler;
+
+    private MockMvc mockMvc;
+
+    private ProductResponse productResponse;
+
+    @BeforeEach
+    void setUp() {
+        ProductRestController controller = new ProductRestController(
+                productHandler, Optional.empty(), new ContentNegotiationManager()
+        );
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new ControllerAdvisor())
+                .setMessageConverters(new MappingJackson2HttpMessageConverter(
+                        Jackson2ObjectMapperBuilder.json().modulesToInstall(new JsonApiConfig().jsonApiModule()).build()
+                ))
+                .build();
+
+        productResponse = new ProductResponse(
+                "7", "Samsung Galaxy S24", null, 3800000.0, "Electronics", "Samsung", null
+        );
+    }
+
+    @Test
+    void shouldRecordOneViewPerSuccessfulGet() throws Exception {
+        // Given
+        when(productHandler.getProductById(7L, ProductField.all())).thenReturn(productResponse);
+
+        // When & Then
+        mockMvc.perform(get("/product/{id}", 7L)
+                        .accept(Constants.JSON_API_MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.productName").value("Samsung Galaxy S24"))
+                .andExpect(jsonPath("$.links.self").value("/product/7"));
+
+        verify(productHandler, times(1)).recordProductView(7L);
+    }
+
+    @Test
+    void shouldNotRecordViewForMissingProduct() throws Exception {
+        // Given
+        when(productHandler.getProductById(9L, ProductField.all())).thenThrow(new ProductNotFoundException(9L));
+
+        // When & Then
+        mockMvc.perform(get("/product/{id}", 9L)
+                        .accept(Constants.JSON_API_MEDIA_TYPE))
+                .andExpect(status().isNotFound());
+
+        verify(productHandler, never()).recordProductView(anyLong());
+    }
+
+    @Test
+    void shouldKeepSortAndFieldsetWhenFollowingNext() throws Exception {
+        // Given
+        Set<ProductField> fields = EnumSet.of(ProductField.PRODUCT_NAME, ProductField.PRICE);
+        when(productHandler.getAllProducts(0, 2, "price", "desc", fields))
+                .thenReturn(new PageResponse<>(List.of(productResponse), 0, 2, 6L, 3, false));
+        when(productHandler.getAllProducts(1, 2, "price", "DESC", fields))
+                .thenReturn(new PageResponse<>(List.of(productResponse), 1, 2, 6L, 3, false));
+
+        String firstPage = mockMvc.perform(get("/product/")
+                        .queryParam(Constants.PAGE_PARAM, "0")
+                        .queryParam("size", "2")
+                        .queryParam(Constants.SORT_BY_PARAM, "price")
+                        .queryParam("sortDirection", "desc")
+                        .queryParam(Constants.FIELDS_PRODUCT_PARAM, "productName,price")
+                        .accept(Constants.JSON_API_MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.links.next").value(
+                        "http://localhost/product/?page=1&size=2&sortBy=price&sortDirection=DESC&fields%5Bproduct%5D=productName,price"
+                ))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        String next = JsonPath.read(firstPage, "$.links.next");
+
+        // When & Then
+        mockMvc.perform(get(URI.create(next))
+                        .accept(Constants.JSON_API_MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.meta.currentPage").value(1));
+
+        verify(productHandler, times(1)).getAllProducts(1, 2, "price", "DESC", fields);
+    }
+
+    @Test
+    void shouldLinkBatchToTheRequestEncodedOnce() throws Exception {
+        // Given
+        when(productHandler.getProductsByIds(Set.of(7L, 9L), EnumSet.of(ProductField.PRODUCT_NAME)))
+                .thenReturn(List.of(productResponse));
+
+        // When & Then
+        mockMvc.perform(get("/product/batch")
+                        .queryParam(Constants.FILTER_ID_PARAM, "7,9")
+                        .queryParam(Constants.FIELDS_PRODUCT_PARAM, "productName")
+                        .accept(Constants.JSON_API_MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.links.self")
+                        .value("http://localhost/product/batch?filter%5Bid%5D=7,9&fields%5Bproduct%5D=productName"));
+    }
+
+    @Test
+    void shouldLinkSearchPagesWithEachParameterEncodedOnce() throws Exception {
+        // Given
+        when(productHandler.searchProducts("galaxy s", 1, 2, EnumSet.of(ProductField.PRODUCT_NAME)))
+                .thenReturn(new PageResponse<>(List.of(productResponse), 1, 2, 6L, 3, false));
+
+        // When & Then
+        mockMvc.perform(get("/product/search")
+                        .queryParam(Constants.SEARCH_QUERY_PARAM, "galaxy s")
+                        .queryParam(Constants.PAGE_PARAM, "1")
+                        .queryParam("size", "2")
+                        .queryParam(Constants.FIELDS_PRODUCT_PARAM, "productName")
+                        .accept(Constants.JSON_API_MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.links.self")
+                        .value("http://localhost/product/search?q=galaxy%20s&page=1&size=2&fields%5Bproduct%5D=productName"))
+                .andExpect(jsonPath("$.links.next")
+                        .value("http://localhost/product/search?q=galaxy%20s&size=2&fields%5Bproduct%5D=productName&page=2"))
+                .andExpect(jsonPath("$.links.prev")
+                        .value("http://localhost/product/search?q=galaxy%20s&size=2&fields%5Bproduct%5D=productName&page=0"));
+    }
+
+    @Test
+    void shouldResumeChangesFromNextSinceWhateverTheClientEncoded() throws Exception {
+        // Given
+        when(productHandler.getProductChanges(5L, 2)).thenReturn(new ProductChangesResponse(List.of(), 9L, false));
+
+        // When & Then
+        mockMvc.perform(get(URI.create("/product/changes?%73ince=5&limit=2&consumer=search%20index"))
+                        .accept(Constants.JSON_API_MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.links.self")
+                        .value("http://localhost/product/changes?since=5&limit=2&consumer=search%20index"))
+                .andExpect(jsonPath("$.links.next")
+                        .value("http://localhost/product/changes?limit=2&consumer=search%20index&since=9"));
+    }
+
+    @Test
+    void shouldLinkSuggestionsToTheRequestAsSent() throws Exception {
+        // Given
+        when(productHandler.suggestProducts("galaxy s", 3)).thenReturn(List.of(productResponse));
+
+        // When & Then
+        mockMvc.perform(get("/product/suggest")
+                        .queryParam(Constants.SUGGEST_PREFIX_PARAM, "galaxy s")
+                        .queryParam(Constants.SUGGEST_LIMIT_PARAM, "3")
+                        .accept(Constants.JSON_API_MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].id").value("7"))
+                .andExpect(jsonPath("$.links.self").value("http://localhost/product/suggest?prefix=galaxy%20s&limit=3"));
+
+        verify(productHandler, never()).recordProductView(anyLong());
+    }
+
+}
@@ -0,0 +1,189 @@
+package com.link.product.unit.infrastructure.input.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.link.product.domain.model.ProductField;
+import com.link.product.domain.utils.Constants;
+import com.link.product.infrastructure.input.cache.ProductResponseCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ProductResponseCacheTest {
+
+    private static final MediaType JSON_API = MediaType.parseMediaType(Constants.JSON_API_MEDIA_TYPE);
+    private static final MediaType CBOR = MediaType.parseMediaType(Constants.CBOR_MEDIA_TYPE);
+
+    private static final ProductResponseCache.Representation FULL_JSON = new ProductResponseCache.Representation(
+            ProductField.all(), JSON_API
+    );
+    private static final ProductResponseCache.Representation NAME_JSON = new ProductResponseCache.Representation(
+            EnumSet.of(ProductField.PRODUCT_NAME), JSON_API
+    );
+    private static final ProductResponseCache.Representation FULL_CBOR = new ProductResponseCache.Representation(
+            ProductField.all(), CBOR
+    );
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProductResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = cache(10, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void shouldServeRenderedBodyOnNextRequest() {
+        // When
+        byte[] rendered = cache.render(1L, FULL_JSON, () -> Map.of("data", "iPhone"));
+        byte[] cached = cache.get(1L, FULL_JSON);
+
+        // Then
+        assertEquals("{\"data\":\"iPhone\"}", new String(rendered, StandardCharsets.UTF_8));
+        assertArrayEquals(rendered, cached);
+        assertEquals(1.0, meterRegistry.get(Constants.METRIC_PRODUCT_RESPONSE_CACHE)
+                .tag(Constants.TAG_RESULT, Constants.RESULT_HIT).counter().count());
+    }
+
+    @Test
+    void shouldKeepRepresentationsApart() {
+        // Given
+        cache.render(1L, FULL_JSON, () -> Map.of("data", "full"));
+
+        // When
+        byte[] cbor = cache.render(1L, FULL_CBOR, () -> Map.of("data", "full"));
+
+        // Then
+        assertNull(cache.get(1L, NAME_JSON));
+        assertArrayEquals(cbor, cache.get(1L, FULL_CBOR));
+        assertNotNull(cache.get(1L, FULL_JSON));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void shouldEvictEveryRepresentationOfProduct() {
+        // Given
+        cache.render(1L, FULL_JSON, () -> Map.of("data", "full"));
+        cache.render(1L, NAME_JSON, () -> Map.of("data", "name"));
+        cache.render(2L, FULL_JSON, () -> Map.of("data", "other"));
+
+        // When
+        cache.evictAll(List.of(1L));
+
+        // Then
+        assertNull(cache.get(1L, FULL_JSON));
+        assertNull(cache.get(1L, NAME_JSON));
+        assertNotNull(cache.get(2L, FULL_JSON));
+    }
+
+    @Test
+    void shouldNotStoreBodyRenderedWhileProductWasEvicted() {
+        // When
+        byte[] stale = cache.render(1L, FULL_JSON, () -> {
+            cache.evict(1L);
+            return Map.of("data", "before update");
+        });
+
+        // Then
+        assertNotNull(stale);
+        assertNull(cache.get(1L, FULL_JSON));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void shouldStoreBodyWhenAnotherProductWasEvicted() {
+        // Given
+        cache.render(2L, FULL_JSON, () -> Map.of("data", "other"));
+
+        // When
+        cache.render(1L, FULL_JSON, () -> {
+            cache.evict(2L);
+            return Map.of("data", "iPhone");
+        });
+
+        // Then
+        assertNotNull(cache.get(1L, FULL_JSON));
+        assertNull(cache.get(2L, FULL_JSON));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void shouldNotStoreBodyRenderedWhileCacheWasCleared() {
+        // When
+        cache.render(1L, FULL_JSON, () -> {
+            cache.clear();
+            return Map.of("data", "before reload");
+        });
+
+        // Then
+        assertNull(cache.get(1L, FULL_JSON));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void shouldExpireEntries() {
+        // Given
+        ProductResponseCache expiring = cache(10, Duration.ZERO);
+
+        // When
+        expiring.render(1L, FULL_JSON, () -> Map.of("data", "iPhone"));
+
+        // Then
+        assertNull(expiring.get(1L, FULL_JSON));
+    }
+
+    @Test
+    void shouldDropOldestProductsBeyondMaxSize() {
+        // Given
+        ProductResponseCache bounded = cache(2, Duration.ofMinutes(1));
+
+        // When
+        for (long id = 1; id <= 3; id++) {
+            bounded.render(id, FULL_JSON, () -> Map.of("data", "product"));
+        }
+
+        // Then
+        assertEquals(2, bounded.size());
+        assertNull(bounded.get(1L, FULL_JSON));
+        assertNotNull(bounded.get(3L, FULL_JSON));
+    }
+
+    @Test
+    void shouldCountEveryRepresentationTowardMaxSize() {
+        // Given
+        ProductResponseCache bounded = cache(2, Duration.ofMinutes(1));
+        bounded.render(1L, FULL_JSON, () -> Map.of("data", "full"));
+        bounded.render(1L, FULL_CBOR, () -> Map.of("data", "full"));
+
+        // When
+        bounded.render(2L, FULL_JSON, () -> Map.of("data", "other"));
+
+        // Then
+        assertEquals(1, bounded.size());
+        assertNull(bounded.get(1L, FULL_JSON));
+        assertNull(bounded.get(1L, FULL_CBOR));
+        assertNotNull(bounded.get(2L, FULL_JSON));
+    }
+
+    private ProductResponseCache cache(int maxSize, Duration ttl) {
+        return new ProductResponseCache(
+                Map.of(JSON_API, new ObjectMapper(), CBOR, new CBORMapper()),
+                maxSize,
+                ttl,
+                meterRegistry
+        );
+    }
+}
@@ -0,0 +1,148 @@
+package com.link.product.unit.infrastructure.out.coalescing;
+
+import com.link.product.domain.model.Product;
+import com.link.product.domain.model.ProductField;
+import com.link.product.domain.spi.ProductPersistencePort;
+import com.link.product.domain.utils.Constants;
+import com.link.product.infrastructure.out.coalescing.CoalescingProductPersistenceAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CoalescingProductPersistenceAdapterTest {
+
+    private static final int CALLERS = 8;
+
+    @Mock
+    private ProductPersistencePort delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CoalescingProductPersistenceAdapter adapter;
+    private ExecutorService executor;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        adapter = new CoalescingProductPersistenceAdapter(delegate, meterRegistry);
+        executor = Executors.newFixedThreadPool(CALLERS);
+        product = new Product(1L, "iPhone 15 Pro", null, 4500000.0, "Electronics", "Apple", null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldRunOneQueryForConcurrentLookupsOfTheSameProduct() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.getProductById(1L, ProductField.all())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(product);
+        });
+
+        // When
+        List<Future<Optional<Product>>> calls = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            calls.add(executor.submit(() -> adapter.getProductById(1L, ProductField.all())));
+        }
+        awaitCollapsed(CALLERS - 1);
+        release.countDown();
+
+        // Then: equal values, but no two callers hold the same instance
+        Set<Product> instances = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Future<Optional<Product>> call : calls) {
+            Product result = call.get(5, TimeUnit.SECONDS).orElseThrow();
+            assertEquals(product, result);
+            instances.add(result);
+        }
+        assertEquals(CALLERS, instances.size());
+        verify(delegate, times(1)).getProductById(1L, ProductField.all());
+    }
+
+    @Test
+    void shouldNotShareLookupsWithDifferentFieldsets() {
+        // Given
+        Set<ProductField> fields = EnumSet.of(ProductField.PRODUCT_NAME);
+        when(delegate.getProductById(1L, ProductField.all())).thenReturn(Optional.of(product));
+        when(delegate.getProductById(1L, fields)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertSame(product, adapter.getProductById(1L, ProductField.all()).orElseThrow());
+        assertEquals(Optional.empty(), adapter.getProductById(1L, fields));
+    }
+
+    @Test
+    void shouldPropagateNotFoundAndFailuresToEveryCaller() {
+        // Given
+        when(delegate.getProductById(2L, ProductField.all())).thenReturn(Optional.empty());
+        when(delegate.getProductById(3L, ProductField.all())).thenThrow(new IllegalStateException("connection refused"));
+
+        // When & Then
+        assertEquals(Optional.empty(), adapter.getProductById(2L, ProductField.all()));
+        assertThrows(IllegalStateException.class, () -> adapter.getProductById(3L, ProductField.all()));
+    }
+
+    @Test
+    void shouldBypassCoalescingInsideReadWriteTransaction() {
+        // Given
+        when(delegate.getProductById(1L, ProductField.all())).thenReturn(Optional.of(product));
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+
+        try {
+            // When
+            adapter.getProductById(1L, ProductField.all());
+            adapter.getProductById(1L, ProductField.all());
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        // Then
+        verify(delegate, times(2)).getProductById(1L, ProductField.all());
+        assertEquals(0.0, count(Constants.RESULT_EXECUTED));
+    }
+
+    private double count(String result) {
+        return meterRegistry.get(Constants.METRIC_SINGLE_FLIGHT)
+                .tag(Constants.TAG_RESULT, result)
+                .counter()
+                .count();
+    }
+
+    private void awaitCollapsed(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (count(Constants.RESULT_COLLAPSED) < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.link.product.unit.infrastructure.out.event;
+
+import com.link.product.domain.model.Product;
+import com.link.product.infrastructure.out.event.InventoryProductEventPublisher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InventoryProductEventPublisherTest {
+
+    private final List<ClientRequest> requests = new ArrayList<>();
+
+    private final Product product = new Product(7L, "iPhone 15 Pro", null, 4500000.0, "Electronics", "Apple", null);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldNotifyInventoryRightAwayOutsideTransaction() {
+        // Given
+        InventoryProductEventPublisher publisher = publisher(Mono.just(ClientResponse.create(HttpStatus.OK).build()));
+
+        // When
+        publisher.publishProductCreated(product);
+
+        // Then
+        assertEquals(1, requests.size());
+        assertEquals(HttpMethod.POST, requests.get(0).method());
+        assertEquals("/inventory/product/7/created", requests.get(0).url().getPath());
+    }
+
+    @Test
+    void shouldNotifyInventoryOnlyAfterCommit() {
+        // Given
+        InventoryProductEventPublisher publisher = publisher(Mono.just(ClientResponse.create(HttpStatus.OK).build()));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        publisher.publishProductCreated(product);
+
+        // Then
+        assertTrue(requests.isEmpty());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(1, requests.size());
+    }
+
+    @Test
+    void shouldNotNotifyInventoryOnRollback() {
+        // Given
+        InventoryProductEventPublisher publisher = publisher(Mono.just(ClientResponse.create(HttpStatus.OK).build()));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        publisher.publishProductCreated(product);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Then
+        assertTrue(requests.isEmpty());
+    }
+
+    @Test
+    void shouldSwallowDeliveryFailures() {
+        // Given
+        InventoryProductEventPublisher failing = publisher(Mono.error(new IllegalStateException("connection refused")));
+        InventoryProductEventPublisher rejected = publisher(
+                Mono.just(ClientResponse.create(HttpStatus.UNAUTHORIZED).build())
+        );
+
+        // When & Then
+        assertDoesNotThrow(() -> failing.publishProductCreated(product));
+        assertDoesNotThrow(() -> rejected.publishProductCreated(product));
+    }
+
+    private InventoryProductEventPublisher publisher(Mono<ClientResponse> response) {
+
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://inventory")
+                .exchangeFunction(request -> {
+                    requests.add(request);
+                    return response;
+                })
+                .build();
+
+        return new InventoryProductEventPublisher(webClient);
+    }
+
+}
@@ -0,0 +1,175 @@
+package com.link.product.unit.infrastructure.out.jpa.change;
+
+import com.link.product.domain.exceptions.ChangeTokenExpiredException;
+import com.link.product.domain.model.ProductChange;
+import com.link.product.domain.model.ProductChangePage;
+import com.link.product.domain.utils.Constants;
+import com.link.product.infrastructure.out.jpa.change.ProductChangeFeed;
+import com.link.product.infrastructure.out.jpa.entity.ProductChangeSequenceEntity;
+import com.link.product.infrastructure.out.jpa.entity.ProductEntity;
+import com.link.product.infrastructure.out.jpa.entity.ProductTombstoneEntity;
+import com.link.product.infrastructure.out.jpa.mapper.ProductEntityMapper;
+import com.link.product.infrastructure.out.jpa.repository.ProductChangeSequenceRepository;
+import com.link.product.infrastructure.out.jpa.repository.ProductRepository;
+import com.link.product.infrastructure.out.jpa.repository.ProductTombstoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductChangeFeedTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductTombstoneRepository productTombstoneRepository;
+
+    @Mock
+    private ProductChangeSequenceRepository productChangeSequenceRepository;
+
+    private ProductChangeFeed productChangeFeed;
+
+    @BeforeEach
+    void setUp() {
+        productChangeFeed = new ProductChangeFeed(
+                productRepository,
+                productTombstoneRepository,
+                productChangeSequenceRepository,
+                Mappers.getMapper(ProductEntityMapper.class)
+        );
+    }
+
+    @Test
+    void shouldStampWritesWithConsecutiveChangeNumbers() {
+        // Given
+        ProductChangeSequenceEntity sequence = new ProductChangeSequenceEntity(Constants.CHANGE_SEQUENCE_ID, 41L, 0L);
+        when(productChangeSequenceRepository.findByIdForUpdate(Constants.CHANGE_SEQUENCE_ID))
+                .thenReturn(Optional.of(sequence));
+        ProductEntity entity = product(1L, null);
+
+        // When
+        productChangeFeed.stamp(entity);
+        productChangeFeed.recordDeletion(2L);
+
+        // Then
+        assertEquals(42L, entity.getChangeSeq());
+        assertNotNull(entity.getUpdatedAt());
+
+        ArgumentCaptor<ProductTombstoneEntity> tombstone = ArgumentCaptor.forClass(ProductTombstoneEntity.class);
+        verify(productTombstoneRepository).save(tombstone.capture());
+        assertEquals(2L, tombstone.getValue().getProductId());
+        assertEquals(43L, tombstone.getValue().getChangeSeq());
+        assertEquals(43L, sequence.getLastSeq());
+    }
+
+    @Test
+    void shouldMergeUpdatesAndTombstonesInChangeOrder() {
+        // Given
+        givenPurgedSeq(0L);
+        when(productRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(10L, Limit.of(4)))
+                .thenReturn(List.of(product(1L, 11L), product(3L, 14L)));
+        when(productTombstoneRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(10L, Limit.of(4)))
+                .thenReturn(List.of(tombstone(2L, 12L), tombstone(4L, 13L)));
+
+        // When
+        ProductChangePage page = productChangeFeed.changesSince(10L, 3);
+
+        // Then
+        assertEquals(List.of(11L, 12L, 13L), page.getChanges().stream().map(ProductChange::getSequence).toList());
+        assertFalse(page.getChanges().get(0).isDeleted());
+        assertEquals("iPhone 15 Pro", page.getChanges().get(0).getProduct().getProductName());
+        assertTrue(page.getChanges().get(1).isDeleted());
+        assertNull(page.getChanges().get(1).getProduct());
+        assertEquals(13L, page.getNextSince());
+        assertTrue(page.isHasMore());
+    }
+
+    @Test
+    void shouldKeepTokenWhenNothingChanged() {
+        // Given
+        givenPurgedSeq(0L);
+        when(productRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(20L, Limit.of(11))).thenReturn(List.of());
+        when(productTombstoneRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(20L, Limit.of(11)))
+                .thenReturn(List.of());
+
+        // When
+        ProductChangePage page = productChangeFeed.changesSince(20L, 10);
+
+        // Then
+        assertTrue(page.getChanges().isEmpty());
+        assertEquals(20L, page.getNextSince());
+        assertFalse(page.isHasMore());
+    }
+
+    @Test
+    void shouldRejectTokenOlderThanPurgedTombstones() {
+        // Given
+        givenPurgedSeq(50L);
+
+        // When & Then
+        ChangeTokenExpiredException exception = assertThrows(
+                ChangeTokenExpiredException.class,
+                () -> productChangeFeed.changesSince(49L, 10)
+        );
+        assertEquals(49L, exception.getExpiredSince());
+    }
+
+    @Test
+    void shouldAllowFullSyncAfterPurge() {
+        // Given
+        givenPurgedSeq(50L);
+        when(productRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(0L, Limit.of(11)))
+                .thenReturn(List.of(product(1L, 7L)));
+        when(productTombstoneRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(0L, Limit.of(11)))
+                .thenReturn(List.of(tombstone(2L, 60L)));
+
+        // When
+        ProductChangePage page = productChangeFeed.changesSince(0L, 10);
+
+        // Then
+        assertEquals(List.of(7L, 60L), page.getChanges().stream().map(ProductChange::getSequence).toList());
+        assertFalse(page.isHasMore());
+    }
+
+    private void givenPurgedSeq(long purgedSeq) {
+        when(productChangeSequenceRepository.findById(Constants.CHANGE_SEQUENCE_ID))
+                .thenReturn(Optional.of(new ProductChangeSequenceEntity(Constants.CHANGE_SEQUENCE_ID, 100L, purgedSeq)));
+    }
+
+    private static ProductEntity product(Long id, Long changeSeq) {
+        return new ProductEntity(
+                id,
+                "iPhone 15 Pro",
+                "Último modelo de Apple con chip A17 Pro",
+                4500000.0,
+                "Electronics",
+                "Apple",
+                "https://example.com/iphone15pro.jpg",
+                changeSeq,
+                Instant.EPOCH
+        );
+    }
+
+    private static ProductTombstoneEntity tombstone(Long productId, Long changeSeq) {
+        return new ProductTombstoneEntity(productId, changeSeq, Instant.EPOCH);
+    }
+}
@@ -0,0 +1,121 @@
+package com.link.product.unit.infrastructure.out.jpa.facet;
+
+import com.link.product.domain.model.PriceBucket;
+import com.link.product.domain.model.Product;
+import com.link.product.domain.model.ProductFacets;
+import com.link.product.infrastructure.out.jpa.facet.FacetCounts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FacetCountsTest {
+
+    private FacetCounts facetCounts;
+    private Product iphone;
+    private Product galaxy;
+    private Product cable;
+
+    @BeforeEach
+    void setUp() {
+        facetCounts = new FacetCounts(new double[]{1_000_000, 500_000});
+
+        iphone = new Product(1L, "iPhone 15 Pro", "Apple", 4500000.0, "Electronics", "Apple", null);
+        galaxy = new Product(2L, "Samsung Galaxy S24", "Android", 1000000.0, "Electronics", "Samsung", null);
+        cable = new Product(3L, "USB-C Cable", "1 m", 20000.0, "Accessories", "Apple", null);
+
+        facetCounts.add(iphone);
+        facetCounts.add(galaxy);
+        facetCounts.add(cable);
+    }
+
+    @Test
+    void shouldCountCategoriesAndBrandsLargestFirst() {
+        // When
+        ProductFacets facets = facetCounts.snapshot();
+
+        // Then
+        assertEquals(List.of("Electronics", "Accessories"), List.copyOf(facets.getCategories().keySet()));
+        assertEquals(Map.of("Electronics", 2L, "Accessories", 1L), facets.getCategories());
+        assertEquals(Map.of("Apple", 2L, "Samsung", 1L), facets.getBrands());
+    }
+
+    @Test
+    void shouldPlacePricesInSortedBucketsWithLowerBoundInclusive() {
+        // When
+        List<PriceBucket> buckets = facetCounts.snapshot().getPriceBuckets();
+
+        // Then
+        assertEquals(3, buckets.size());
+        assertEquals(new PriceBucket(0.0, 500000.0, 1), buckets.get(0));
+        assertEquals(new PriceBucket(500000.0, 1000000.0, 0), buckets.get(1));
+        assertEquals(1000000.0, buckets.get(2).getMin());
+        assertNull(buckets.get(2).getMax());
+        assertEquals(2, buckets.get(2).getCount());
+    }
+
+    @Test
+    void shouldMoveCountsWhenProductIsUpdated() {
+        // Given
+        Product discounted = new Product(2L, "Samsung Galaxy S24", "Android", 800000.0, "Phones", "Samsung", null);
+
+        // When
+        facetCounts.replace(galaxy, discounted);
+        ProductFacets facets = facetCounts.snapshot();
+
+        // Then
+        assertEquals(Map.of("Electronics", 1L, "Accessories", 1L, "Phones", 1L), facets.getCategories());
+        assertEquals(1, facets.getPriceBuckets().get(1).getCount());
+        assertEquals(1, facets.getPriceBuckets().get(2).getCount());
+    }
+
+    @Test
+    void shouldLeaveOutTermsWithNoProducts() {
+        // When
+        facetCounts.remove(galaxy);
+
+        // Then
+        assertEquals(Map.of("Apple", 2L), facetCounts.snapshot().getBrands());
+    }
+
+    @Test
+    void shouldOverwriteCountsWithDatabaseTotalsAndReportDrift() {
+        // Given
+        long version = facetCounts.version();
+
+        // When
+        OptionalLong drift = facetCounts.reconcile(
+                Map.of("Electronics", 2L, "Accessories", 1L, "Toys", 1L),
+                Map.of("Apple", 2L, "Samsung", 1L, "Lego", 1L),
+                new long[]{2, 0, 2},
+                version
+        );
+
+        // Then
+        assertEquals(OptionalLong.of(3), drift);
+        ProductFacets facets = facetCounts.snapshot();
+        assertEquals(1L, facets.getCategories().get("Toys"));
+        assertEquals(1L, facets.getBrands().get("Lego"));
+        assertEquals(2, facets.getPriceBuckets().get(0).getCount());
+    }
+
+    @Test
+    void shouldRefuseReconciliationWhenProductsChangedMeanwhile() {
+        // Given
+        long version = facetCounts.version();
+        facetCounts.remove(cable);
+
+        // When
+        OptionalLong drift = facetCounts.reconcile(Map.of(), Map.of(), new long[3], version);
+
+        // Then
+        assertTrue(drift.isEmpty());
+        assertEquals(Map.of("Electronics", 2L), facetCounts.snapshot().getCategories());
+    }
+}
@@ -0,0 +1,98 @@
+package com.link.product.unit.infrastructure.out.jpa.facet;
+
+import com.link.product.domain.model.Product;
+import com.link.product.infrastructure.out.jpa.facet.FacetCounts;
+import com.link.product.infrastructure.out.jpa.facet.FacetReconciler;
+import com.link.product.infrastructure.out.jpa.repository.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FacetReconcilerTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private FacetCounts facetCounts;
+
+    private FacetReconciler facetReconciler;
+
+    @BeforeEach
+    void setUp() {
+        facetCounts = new FacetCounts(new double[]{1_000_000});
+        facetReconciler = new FacetReconciler(productRepository, facetCounts, transactionManager, 3, new SimpleMeterRegistry());
+
+        when(productRepository.countPerBrand()).thenReturn(List.of(new Total("Apple", 2)));
+        when(productRepository.countByPriceLessThan(anyDouble())).thenReturn(0L);
+        when(productRepository.count()).thenReturn(2L);
+    }
+
+    @Test
+    void shouldRetryRightAwayWhenAProductChangesDuringTheRead() {
+        // Given - a write lands while the first pass reads its totals
+        AtomicInteger reads = new AtomicInteger();
+        when(productRepository.countPerCategory()).thenAnswer(invocation -> {
+            if (reads.incrementAndGet() == 1) {
+                facetCounts.add(new Product(9L, "MacBook Pro", null, 7000000.0, "Computers", "Apple", null));
+            }
+            return List.of(new Total("Computers", 2));
+        });
+
+        // When
+        facetReconciler.reconcileWithDatabase();
+
+        // Then
+        verify(productRepository, times(2)).countPerCategory();
+        assertEquals(Map.of("Computers", 2L), facetCounts.snapshot().getCategories());
+        assertEquals(Map.of("Apple", 2L), facetCounts.snapshot().getBrands());
+    }
+
+    @Test
+    void shouldStopAfterTheLastAttempt() {
+        // Given - every pass is overtaken by a write
+        when(productRepository.countPerCategory()).thenAnswer(invocation -> {
+            facetCounts.add(new Product(9L, "MacBook Pro", null, 7000000.0, "Computers", "Apple", null));
+            return List.of(new Total("Computers", 1));
+        });
+
+        // When
+        facetReconciler.reconcileWithDatabase();
+
+        // Then
+        verify(productRepository, times(3)).countPerCategory();
+        assertEquals(Map.of("Computers", 3L), facetCounts.snapshot().getCategories());
+    }
+
+    private record Total(String term, long total) implements ProductRepository.FacetTotal {
+
+        @Override
+        public String getTerm() {
+            return term;
+        }
+
+        @Override
+        public long getTotal() {
+            return total;
+        }
+
+    }
+
+}
@@ -0,0 +1,117 @@
+package com.link.product.unit.infrastructure.out.replica;
+
+import com.link.product.domain.model.PageDomain;
+import com.link.product.domain.model.Product;
+import com.link.product.domain.model.ProductChange;
+import com.link.product.domain.model.ProductField;
+import com.link.product.domain.spi.ProductPersistencePort;
+import com.link.product.infrastructure.out.replica.CatalogReplica;
+import com.link.product.infrastructure.out.replica.CatalogReplicaPersistenceAdapter;
+import com.link.product.infrastructure.out.replica.CatalogSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogReplicaPersistenceAdapterTest {
+
+    @Mock
+    private ProductPersistencePort delegate;
+
+    @Mock
+    private CatalogReplica catalogReplica;
+
+    private CatalogReplicaPersistenceAdapter adapter;
+
+    private Product iphone;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new CatalogReplicaPersistenceAdapter(delegate, catalogReplica);
+        iphone = new Product(1L, "iPhone 15 Pro", "Último modelo", 4500000.0, "Electronics", "Apple", null);
+        Product galaxy = new Product(2L, "Samsung Galaxy S24", "Pantalla AMOLED", 3800000.0, "Electronics", "Samsung", null);
+        CatalogSnapshot snapshot = CatalogSnapshot.EMPTY.apply(List.of(
+                new ProductChange(1L, 1L, null, false, iphone),
+                new ProductChange(2L, 2L, null, false, galaxy)
+        ), 2L);
+        lenient().when(catalogReplica.snapshot()).thenReturn(snapshot);
+    }
+
+    @Test
+    void shouldServeReadsFromSnapshot() {
+        // When
+        Optional<Product> product = adapter.getProductById(1L, ProductField.all());
+        PageDomain<Product> page = adapter.getAllProducts(0, 1, "price", "ASC", ProductField.all());
+
+        // Then
+        assertEquals(iphone, product.orElseThrow());
+        assertEquals(2L, page.getContent().get(0).getId());
+        assertEquals(2, page.getTotalElements());
+        assertEquals(2, page.getTotalPages());
+        assertFalse(page.isLast());
+        assertTrue(adapter.getProductById(3L, ProductField.all()).isEmpty());
+        verify(delegate, never()).getProductById(1L, ProductField.all());
+    }
+
+    @Test
+    void shouldDecodeOnlyRequestedFields() {
+        // When
+        List<Product> products = adapter.getProductsByIds(List.of(2L, 3L, 1L), EnumSet.of(ProductField.PRODUCT_NAME));
+
+        // Then
+        assertEquals(List.of(
+                new Product(2L, "Samsung Galaxy S24", null, null, null, null, null),
+                new Product(1L, "iPhone 15 Pro", null, null, null, null, null)
+        ), products);
+        verify(delegate, never()).getProductsByIds(any(), any());
+    }
+
+    @Test
+    void shouldReadFromDatabaseInsideReadWriteTransaction() {
+        // Given
+        when(delegate.getProductById(1L, ProductField.all())).thenReturn(Optional.empty());
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+
+        try {
+            // When
+            Optional<Product> product = adapter.getProductById(1L, ProductField.all());
+
+            // Then
+            assertTrue(product.isEmpty());
+            verify(delegate).getProductById(1L, ProductField.all());
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+    }
+
+    @Test
+    void shouldDelegateSortsOnColumnsWithoutOrder() {
+        // Given
+        PageDomain<Product> fromDatabase = new PageDomain<>(List.of(iphone), 0, 10, 1, 1, true);
+        when(delegate.getAllProducts(0, 10, "description", "ASC", ProductField.all())).thenReturn(fromDatabase);
+
+        // When
+        PageDomain<Product> page = adapter.getAllProducts(0, 10, "description", "ASC", ProductField.all());
+
+        // Then
+        assertSame(fromDatabase, page);
+    }
+}
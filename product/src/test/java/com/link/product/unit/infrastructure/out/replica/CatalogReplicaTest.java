@@ -0,0 +1,199 @@
+package com.link.product.unit.infrastructure.out.replica;
+
+import com.link.product.domain.exceptions.ChangeTokenExpiredException;
+import com.link.product.domain.model.Product;
+import com.link.product.domain.model.ProductChange;
+import com.link.product.domain.model.ProductChangePage;
+import com.link.product.domain.utils.Constants;
+import com.link.product.infrastructure.out.jpa.change.ProductChangeFeed;
+import com.link.product.infrastructure.out.replica.CatalogReplica;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogReplicaTest {
+
+    private static final Duration REFRESH_INTERVAL = Duration.ofMillis(200);
+
+    @Mock
+    private ProductChangeFeed productChangeFeed;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ThreadPoolTaskScheduler refreshScheduler;
+
+    private CatalogReplica catalogReplica;
+
+    @BeforeEach
+    void setUp() {
+        catalogReplica = new CatalogReplica(
+                productChangeFeed, transactionManager, refreshScheduler, REFRESH_INTERVAL, 2, new SimpleMeterRegistry()
+        );
+    }
+
+    @Test
+    void shouldLoadEveryPageIntoOneSnapshot() {
+        // Given
+        when(productChangeFeed.changesSince(0L, 2)).thenReturn(new ProductChangePage(
+                List.of(upsert(1L, 1L), upsert(2L, 2L)), 2L, true
+        ));
+        when(productChangeFeed.changesSince(2L, 2)).thenReturn(new ProductChangePage(
+                List.of(upsert(3L, 3L)), 3L, false
+        ));
+
+        // When
+        catalogReplica.afterSingletonsInstantiated();
+
+        // Then
+        assertEquals(3, catalogReplica.snapshot().size());
+        assertEquals(3L, catalogReplica.snapshot().changeSeq());
+    }
+
+    @Test
+    void shouldApplyOnlyChangesAfterSnapshot() {
+        // Given
+        when(productChangeFeed.changesSince(0L, 2)).thenReturn(new ProductChangePage(
+                List.of(upsert(1L, 1L), upsert(2L, 2L)), 2L, false
+        ));
+        when(productChangeFeed.changesSince(2L, 2)).thenReturn(new ProductChangePage(
+                List.of(new ProductChange(1L, 3L, null, true, null)), 3L, false
+        ));
+        catalogReplica.refresh();
+
+        // When
+        catalogReplica.refresh();
+
+        // Then
+        assertNull(catalogReplica.snapshot().get(1L));
+        assertEquals(1, catalogReplica.snapshot().size());
+        assertEquals(3L, catalogReplica.snapshot().changeSeq());
+    }
+
+    @Test
+    void shouldReloadWhenDeletionsWerePurged() {
+        // Given
+        when(productChangeFeed.changesSince(0L, 2))
+                .thenReturn(new ProductChangePage(List.of(upsert(1L, 1L), upsert(2L, 2L)), 2L, false))
+                .thenReturn(new ProductChangePage(List.of(upsert(2L, 2L)), 40L, false));
+        when(productChangeFeed.changesSince(2L, 2)).thenThrow(new ChangeTokenExpiredException(2L));
+        catalogReplica.refresh();
+
+        // When
+        catalogReplica.refresh();
+
+        // Then
+        assertNull(catalogReplica.snapshot().get(1L));
+        assertEquals(1, catalogReplica.snapshot().size());
+        assertEquals(40L, catalogReplica.snapshot().changeSeq());
+    }
+
+    @Test
+    void shouldTellListenersWhichProductsChanged() {
+        // Given
+        CatalogReplica.Listener listener = mock(CatalogReplica.Listener.class);
+        catalogReplica.addListener(listener);
+        when(productChangeFeed.changesSince(0L, 2)).thenReturn(new ProductChangePage(
+                List.of(upsert(1L, 1L), new ProductChange(2L, 2L, null, true, null)), 2L, false
+        ));
+        when(productChangeFeed.changesSince(2L, 2)).thenReturn(new ProductChangePage(List.of(), 2L, false));
+
+        // When
+        catalogReplica.refresh();
+        catalogReplica.refresh();
+
+        // Then
+        verify(listener, times(1)).changed(Set.of(1L, 2L));
+        verify(listener, never()).reloaded();
+    }
+
+    @Test
+    void shouldTellListenersAboutReload() {
+        // Given
+        CatalogReplica.Listener listener = mock(CatalogReplica.Listener.class);
+        when(productChangeFeed.changesSince(0L, 2))
+                .thenReturn(new ProductChangePage(List.of(upsert(1L, 1L)), 1L, false))
+                .thenReturn(new ProductChangePage(List.of(upsert(2L, 2L)), 40L, false));
+        when(productChangeFeed.changesSince(1L, 2)).thenThrow(new ChangeTokenExpiredException(1L));
+        catalogReplica.refresh();
+        catalogReplica.addListener(listener);
+
+        // When
+        catalogReplica.refresh();
+
+        // Then
+        verify(listener, times(1)).reloaded();
+        verify(listener, never()).changed(anySet());
+    }
+
+    @Test
+    void shouldScheduleRefreshesOnItsOwnSchedulerOnceLoaded() {
+        // Given
+        when(productChangeFeed.changesSince(0L, 2)).thenReturn(new ProductChangePage(List.of(upsert(1L, 1L)), 1L, false));
+
+        // When
+        catalogReplica.afterSingletonsInstantiated();
+
+        // Then
+        InOrder order = inOrder(productChangeFeed, refreshScheduler);
+        order.verify(productChangeFeed).changesSince(0L, 2);
+        order.verify(refreshScheduler).scheduleWithFixedDelay(any(Runnable.class), any(Instant.class), eq(REFRESH_INTERVAL));
+    }
+
+    @Test
+    void shouldStopItsSchedulerOnShutdown() {
+        // When
+        catalogReplica.destroy();
+
+        // Then
+        verify(refreshScheduler).shutdown();
+    }
+
+    @Test
+    void shouldReadTheFeedFromThePrimary() {
+        // Given
+        when(productChangeFeed.changesSince(0L, 2)).thenReturn(new ProductChangePage(List.of(), 0L, false));
+
+        // When
+        catalogReplica.refresh();
+
+        // Then
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertTrue(definition.getValue().isReadOnly());
+        assertEquals(Constants.PRIMARY_READ_TRANSACTION, definition.getValue().getName());
+    }
+
+    private static ProductChange upsert(Long id, long sequence) {
+        Product product = new Product(id, "Product " + id, "Descripción", 1000.0, "Electronics", "Brand", null);
+        return new ProductChange(id, sequence, null, false, product);
+    }
+}
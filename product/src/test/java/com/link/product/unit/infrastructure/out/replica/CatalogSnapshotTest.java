@@ -0,0 +1,142 @@
+package com.link.product.unit.infrastructure.out.replica;
+
+import com.link.product.domain.model.Product;
+import com.link.product.domain.model.ProductChange;
+import com.link.product.domain.model.ProductField;
+import com.link.product.infrastructure.out.replica.CatalogSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CatalogSnapshotTest {
+
+    private CatalogSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        snapshot = CatalogSnapshot.EMPTY.apply(List.of(
+                upsert(product(1L, "iPhone 15 Pro", 4500000.0, "Electronics")),
+                upsert(product(2L, "Funda para celular", 50000.0, "accessories")),
+                upsert(product(3L, "Samsung Galaxy S24", 3800000.0, "Electronics"))
+        ), 3L);
+    }
+
+    @Test
+    void shouldFindProductsById() {
+        // When & Then
+        assertEquals("Funda para celular", snapshot.get(2L).getProductName());
+        assertNull(snapshot.get(4L));
+        assertEquals(3, snapshot.size());
+        assertEquals(3L, snapshot.changeSeq());
+    }
+
+    @Test
+    void shouldPageInColumnOrderBreakingTiesById() {
+        // When & Then
+        assertEquals(List.of(2L, 3L, 1L), ids(snapshot.page("price", false, 0, 10)));
+        assertEquals(List.of(1L, 3L), ids(snapshot.page("price", true, 0, 2)));
+        assertEquals(List.of(2L), ids(snapshot.page("price", true, 1, 2)));
+        assertEquals(List.of(2L, 1L, 3L), ids(snapshot.page("category", false, 0, 10)));
+        assertTrue(snapshot.page("id", false, 2, 2).isEmpty());
+    }
+
+    @Test
+    void shouldApplyUpdatesAndDeletionsWithoutChangingPreviousSnapshot() {
+        // When
+        CatalogSnapshot next = snapshot.apply(List.of(
+                upsert(product(1L, "iPhone 15 Pro", 10000.0, "Electronics")),
+                new ProductChange(2L, 5L, null, true, null),
+                upsert(product(4L, "iPad Air", 2900000.0, "Electronics"))
+        ), 6L);
+
+        // Then
+        assertEquals(List.of(1L, 4L, 3L), ids(next.page("price", false, 0, 10)));
+        assertEquals(List.of(1L, 3L, 4L), ids(next.page("id", false, 0, 10)));
+        assertNull(next.get(2L));
+        assertEquals(6L, next.changeSeq());
+
+        assertEquals(List.of(2L, 3L, 1L), ids(snapshot.page("price", false, 0, 10)));
+        assertEquals(4500000.0, snapshot.get(1L).getPrice());
+    }
+
+    @Test
+    void shouldKeepOnlyLastChangeOfProductInBatch() {
+        // Given
+        Product renamed = product(3L, "Galaxy S24", 3800000.0, "Electronics");
+
+        // When
+        CatalogSnapshot next = snapshot.apply(List.of(
+                new ProductChange(3L, 4L, null, true, null),
+                upsert(renamed)
+        ), 5L);
+
+        // Then
+        assertEquals(renamed, next.get(3L));
+        assertEquals(List.of(2L, 3L, 1L), ids(next.page("productName", false, 0, 10)));
+    }
+
+    @Test
+    void shouldDecodeOnlyRequestedFields() {
+        // When
+        Product projected = snapshot.get(1L, EnumSet.of(ProductField.PRODUCT_NAME, ProductField.PRICE));
+        Product full = snapshot.get(1L);
+
+        // Then
+        assertEquals(new Product(1L, "iPhone 15 Pro", null, 4500000.0, null, null, null), projected);
+        assertEquals(product(1L, "iPhone 15 Pro", 4500000.0, "Electronics"), full);
+    }
+
+    @Test
+    void shouldRoundTripMissingValuesAndSortThemFirst() {
+        // Given
+        Product bare = new Product(4L, "Cable", null, null, null, null, null);
+
+        // When
+        CatalogSnapshot next = snapshot.apply(List.of(upsert(bare)), 4L);
+
+        // Then
+        assertEquals(bare, next.get(4L));
+        assertEquals(4L, next.page("price", false, 0, 1).get(0).getId());
+        assertEquals(4L, next.page("category", false, 0, 1).get(0).getId());
+    }
+
+    @Test
+    void shouldSortDictionaryValuesIgnoringCaseAcrossBatches() {
+        // When
+        CatalogSnapshot next = snapshot.apply(List.of(
+                upsert(product(4L, "Cargador", 90000.0, "ELECTRONICS")),
+                upsert(product(5L, "Audífonos", 250000.0, "Audio"))
+        ), 5L);
+
+        // Then
+        assertEquals(List.of(2L, 5L, 1L, 3L, 4L), ids(next.page("category", false, 0, 10)));
+        assertEquals("ELECTRONICS", next.get(4L).getCategory());
+        assertEquals("Electronics", next.get(3L).getCategory());
+    }
+
+    @Test
+    void shouldOnlySortByIndexedColumns() {
+        assertTrue(CatalogSnapshot.isSortable("id"));
+        assertTrue(CatalogSnapshot.isSortable("productName"));
+        assertFalse(CatalogSnapshot.isSortable("description"));
+    }
+
+    private static ProductChange upsert(Product product) {
+        return new ProductChange(product.getId(), 0L, null, false, product);
+    }
+
+    private static Product product(Long id, String name, Double price, String category) {
+        return new Product(id, name, "Descripción", price, category, "Brand", null);
+    }
+
+    private static List<Long> ids(List<Product> products) {
+        return products.stream().map(Product::getId).toList();
+    }
+}
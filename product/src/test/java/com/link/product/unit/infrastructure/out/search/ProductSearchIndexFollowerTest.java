@@ -0,0 +1,161 @@
+package com.link.product.unit.infrastructure.out.search;
+
+import com.link.product.domain.exceptions.ChangeTokenExpiredException;
+import com.link.product.domain.model.Product;
+import com.link.product.domain.model.ProductChange;
+import com.link.product.domain.model.ProductChangePage;
+import com.link.product.domain.utils.Constants;
+import com.link.product.infrastructure.out.jpa.change.ProductChangeFeed;
+import com.link.product.infrastructure.out.search.ProductSearchIndex;
+import com.link.product.infrastructure.out.search.ProductSearchIndexFollower;
+import com.link.product.infrastructure.out.search.ProductSuggestIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductSearchIndexFollowerTest {
+
+    @Mock
+    private ProductChangeFeed productChangeFeed;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ProductSearchIndex index;
+
+    private ProductSuggestIndex suggestIndex;
+
+    private ProductSearchIndexFollower follower;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductSearchIndex(2.0);
+        suggestIndex = new ProductSuggestIndex(Constants.SUGGEST_MAX_LIMIT);
+        follower = new ProductSearchIndexFollower(productChangeFeed, index, suggestIndex, transactionManager, 2);
+    }
+
+    @Test
+    void shouldBuildBothIndexesFromEveryPage() {
+        // Given
+        when(productChangeFeed.changesSince(0L, 2)).thenReturn(new ProductChangePage(
+                List.of(upsert(1L, 1L, "iPhone 15 Pro"), upsert(2L, 2L, "Samsung Galaxy S24")), 2L, true
+        ));
+        when(productChangeFeed.changesSince(2L, 2)).thenReturn(new ProductChangePage(
+                List.of(upsert(3L, 3L, "iPad Air")), 3L, false
+        ));
+
+        // When
+        follower.afterSingletonsInstantiated();
+
+        // Then
+        assertEquals(Set.of(1L, 2L, 3L), index.ids());
+        assertEquals(Set.of(1L, 2L, 3L), suggestIndex.ids());
+    }
+
+    @Test
+    void shouldKeepTheLatestVersionWhenAProductChangesTwice() {
+        // Given
+        when(productChangeFeed.changesSince(0L, 2)).thenReturn(new ProductChangePage(
+                List.of(upsert(1L, 1L, "iPhone 15 Pro")), 1L, false
+        ));
+        when(productChangeFeed.changesSince(1L, 2)).thenReturn(new ProductChangePage(
+                List.of(upsert(1L, 4L, "iPhone 16 Pro"), upsert(1L, 5L, "iPhone 16 Pro Max")), 5L, false
+        ));
+        follower.afterSingletonsInstantiated();
+
+        // When
+        follower.refresh();
+
+        // Then
+        assertEquals(List.of(1L), index.search("max", 0, 10).ids());
+        assertTrue(index.search("15", 0, 10).ids().isEmpty());
+        assertEquals("iPhone 16 Pro Max", suggestIndex.suggest("iph", 5).get(0).name());
+    }
+
+    @Test
+    void shouldRemoveDeletedProducts() {
+        // Given
+        when(productChangeFeed.changesSince(0L, 2)).thenReturn(new ProductChangePage(
+                List.of(upsert(1L, 1L, "iPhone 15 Pro"), upsert(2L, 2L, "Samsung Galaxy S24")), 2L, false
+        ));
+        when(productChangeFeed.changesSince(2L, 2)).thenReturn(new ProductChangePage(
+                List.of(new ProductChange(1L, 3L, null, true, null)), 3L, false
+        ));
+        follower.afterSingletonsInstantiated();
+
+        // When
+        follower.refresh();
+
+        // Then
+        assertEquals(Set.of(2L), index.ids());
+        assertEquals(Set.of(2L), suggestIndex.ids());
+    }
+
+    @Test
+    void shouldDropProductsWhoseTombstonesWerePurged() {
+        // Given
+        when(productChangeFeed.changesSince(0L, 2))
+                .thenReturn(new ProductChangePage(
+                        List.of(upsert(1L, 1L, "iPhone 15 Pro"), upsert(2L, 2L, "Samsung Galaxy S24")), 2L, false
+                ))
+                .thenReturn(new ProductChangePage(List.of(upsert(2L, 40L, "Samsung Galaxy S24")), 40L, false));
+        when(productChangeFeed.changesSince(2L, 2)).thenThrow(new ChangeTokenExpiredException(2L));
+        follower.afterSingletonsInstantiated();
+
+        // When
+        follower.refresh();
+
+        // Then
+        assertEquals(Set.of(2L), index.ids());
+        assertEquals(Set.of(2L), suggestIndex.ids());
+    }
+
+    @Test
+    void shouldReadTheFeedFromThePrimaryInItsOwnTransaction() {
+        // Given
+        when(productChangeFeed.changesSince(0L, 2)).thenReturn(new ProductChangePage(List.of(), 0L, false));
+
+        // When
+        follower.catchUpAfterWrite();
+
+        // Then
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertEquals(TransactionDefinition.PROPAGATION_REQUIRES_NEW, definition.getValue().getPropagationBehavior());
+        assertTrue(definition.getValue().isReadOnly());
+        assertEquals(Constants.PRIMARY_READ_TRANSACTION, definition.getValue().getName());
+    }
+
+    @Test
+    void shouldNotFailTheWriteWhenCatchUpFails() {
+        // Given
+        when(productChangeFeed.changesSince(anyLong(), anyInt())).thenThrow(new QueryTimeoutException("timeout"));
+
+        // When & Then
+        assertDoesNotThrow(follower::catchUpAfterWrite);
+    }
+
+    private static ProductChange upsert(Long id, long sequence, String name) {
+        Product product = new Product(id, name, "Descripción", 1000.0, "Electronics", "Brand", null);
+        return new ProductChange(id, sequence, null, false, product);
+    }
+
+}
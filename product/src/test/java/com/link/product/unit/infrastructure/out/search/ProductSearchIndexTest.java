@@ -0,0 +1,96 @@
+package com.link.product.unit.infrastructure.out.search;
+
+import com.link.product.infrastructure.out.search.ProductSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProductSearchIndexTest {
+
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductSearchIndex(2.0);
+        index.put(1L, "iPhone 15 Pro", "Último modelo de Apple con chip A17 Pro");
+        index.put(2L, "Funda para celular", "Compatible con iPhone 15 Pro");
+        index.put(3L, "Samsung Galaxy S24", "Pantalla AMOLED de 6.2 pulgadas");
+    }
+
+    @Test
+    void shouldRankNameMatchesAboveDescriptionMatches() {
+        // When
+        ProductSearchIndex.Hits hits = index.search("iphone", 0, 10);
+
+        // Then
+        assertEquals(List.of(1L, 2L), hits.ids());
+        assertEquals(2, hits.total());
+    }
+
+    @Test
+    void shouldIgnoreCaseAndAccents() {
+        // When
+        ProductSearchIndex.Hits hits = index.search("ULTIMO", 0, 10);
+
+        // Then
+        assertEquals(List.of(1L), hits.ids());
+    }
+
+    @Test
+    void shouldRankDocumentsMatchingMoreTermsFirst() {
+        // When
+        ProductSearchIndex.Hits hits = index.search("galaxy pantalla chip", 0, 10);
+
+        // Then
+        assertEquals(List.of(3L, 1L), hits.ids());
+    }
+
+    @Test
+    void shouldReplaceTermsWhenProductIsUpdated() {
+        // When
+        index.put(3L, "Samsung Galaxy S25", "Pantalla AMOLED");
+
+        // Then
+        assertTrue(index.search("pulgadas", 0, 10).ids().isEmpty());
+        assertEquals(List.of(3L), index.search("s25", 0, 10).ids());
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void shouldNotFindRemovedProduct() {
+        // When
+        index.remove(1L);
+
+        // Then
+        assertEquals(List.of(2L), index.search("iphone", 0, 10).ids());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void shouldPageThroughHitsKeepingTotal() {
+        // When
+        ProductSearchIndex.Hits firstPage = index.search("iphone", 0, 1);
+        ProductSearchIndex.Hits secondPage = index.search("iphone", 1, 1);
+        ProductSearchIndex.Hits pastTheEnd = index.search("iphone", 2, 1);
+
+        // Then
+        assertEquals(List.of(1L), firstPage.ids());
+        assertEquals(List.of(2L), secondPage.ids());
+        assertTrue(pastTheEnd.ids().isEmpty());
+        assertEquals(2, pastTheEnd.total());
+    }
+
+    @Test
+    void shouldReturnNothingForQueryWithoutTerms() {
+        // When
+        ProductSearchIndex.Hits hits = index.search("  - ", 0, 10);
+
+        // Then
+        assertTrue(hits.ids().isEmpty());
+        assertEquals(0, hits.total());
+    }
+}
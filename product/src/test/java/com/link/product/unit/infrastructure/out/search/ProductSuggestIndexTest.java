@@ -0,0 +1,115 @@
+package com.link.product.unit.infrastructure.out.search;
+
+import com.link.product.infrastructure.out.search.ProductSuggestIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProductSuggestIndexTest {
+
+    private ProductSuggestIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductSuggestIndex(3);
+        index.put(1L, "iPhone 15 Pro");
+        index.put(2L, "iPhone 15 Pro Max");
+        index.put(3L, "iPad Air");
+        index.put(4L, "Samsung Galaxy S24");
+    }
+
+    @Test
+    void shouldSuggestShortestNamesFirstWithoutViews() {
+        // When
+        List<Long> ids = ids(index.suggest("ip", 10));
+
+        // Then
+        assertEquals(List.of(3L, 1L, 2L), ids);
+    }
+
+    @Test
+    void shouldMatchAnyWordStartIgnoringCaseAndAccents() {
+        // When
+        List<Long> galaxy = ids(index.suggest("GÁLAXY s", 10));
+        List<Long> pro = ids(index.suggest("pro", 10));
+
+        // Then
+        assertEquals(List.of(4L), galaxy);
+        assertEquals(List.of(1L, 2L), pro);
+    }
+
+    @Test
+    void shouldMatchPrefixEndingInsideCompressedEdge() {
+        // When
+        List<Long> ids = ids(index.suggest("iphone 15 pro m", 10));
+
+        // Then
+        assertEquals(List.of(2L), ids);
+    }
+
+    @Test
+    void shouldRankMostViewedFirst() {
+        // When
+        index.addScores(Map.of(2L, 5L, 3L, 1L));
+
+        // Then
+        assertEquals(List.of(2L, 3L, 1L), ids(index.suggest("ip", 10)));
+        assertEquals(5L, index.suggest("iphone 15 pro max", 1).get(0).score());
+    }
+
+    @Test
+    void shouldKeepScoreWhenProductIsRenamed() {
+        // Given
+        index.addScores(Map.of(1L, 7L));
+
+        // When
+        index.put(1L, "Apple iPhone 15 Pro");
+
+        // Then
+        assertEquals(List.of(1L), ids(index.suggest("apple", 10)));
+        assertEquals(7L, index.suggest("apple", 1).get(0).score());
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    void shouldForgetRemovedProduct() {
+        // When
+        index.remove(3L);
+        index.addScores(Map.of(3L, 10L));
+
+        // Then
+        assertEquals(List.of(1L, 2L), ids(index.suggest("ip", 10)));
+        assertTrue(index.suggest("air", 10).isEmpty());
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void shouldListEachProductOnceWhenSeveralWordsMatch() {
+        // When
+        index.put(5L, "Pro Pro");
+
+        // Then
+        assertEquals(List.of(5L, 1L, 2L), ids(index.suggest("pro", 10)));
+    }
+
+    @Test
+    void shouldHonourLimitAndMaximum() {
+        // Given
+        index.put(5L, "iPod Nano");
+
+        // When & Then
+        assertEquals(1, index.suggest("ip", 1).size());
+        assertEquals(3, index.suggest("ip", 10).size());
+        assertTrue(index.suggest("  ", 10).isEmpty());
+        assertTrue(index.suggest("xyz", 10).isEmpty());
+    }
+
+    private static List<Long> ids(List<ProductSuggestIndex.Suggestion> suggestions) {
+        return suggestions.stream().map(ProductSuggestIndex.Suggestion::id).toList();
+    }
+}
@@ -2,3 +2,5 @@ rootProject.name = "shop"
 
 include("inventory")
 include("product")
+include("benchmarks")
+include("loadtest")